@@ -0,0 +1,144 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml.benchmarks;
+
+import com.amihaiemil.eoyaml.SyntheticYaml;
+import com.amihaiemil.eoyaml.Yaml;
+import com.amihaiemil.eoyaml.YamlInput;
+import com.amihaiemil.eoyaml.YamlNode;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Reading and printing the realistic documents of
+ * {@link SyntheticYaml} (from eo-yaml's test-jar): Kubernetes-style
+ * streams, OpenAPI-style specifications and wide sequences, with
+ * comments, quoted keys and block scalars. Walking a big OpenAPI-style
+ * document is slow (each lookup in a read mapping is linear), so bigger
+ * sizes are not run by default: add them with e.g. -p size=10MB.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 6.0.2
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class CorpusBenchmark {
+
+    /**
+     * Size of the document.
+     */
+    @Param({"64KB", "1MB"})
+    private String size;
+
+    /**
+     * Shape of the document.
+     */
+    @Param({"KUBERNETES", "OPEN_API", "WIDE_SEQUENCE"})
+    private SyntheticYaml.Shape shape;
+
+    /**
+     * Seed of the document.
+     */
+    @Param("42")
+    private long seed;
+
+    /**
+     * The YAML text.
+     */
+    private String yaml;
+
+    /**
+     * The document, read once, for the print benchmark.
+     */
+    private YamlNode read;
+
+    /**
+     * Generate the document.
+     * @throws IOException If the document cannot be read.
+     */
+    @Setup
+    public void setup() throws IOException {
+        this.yaml = new SyntheticYaml(this.seed).ofSize(
+            this.shape, Documents.bytes(this.size)
+        );
+        this.read = this.read();
+    }
+
+    /**
+     * Read the document and visit every node of it.
+     * @param hole Blackhole.
+     * @throws IOException If the input cannot be read.
+     */
+    @Benchmark
+    public void readAll(final Blackhole hole) throws IOException {
+        Walk.walk(this.read(), hole);
+    }
+
+    /**
+     * Print the read document.
+     * @return Printed text.
+     */
+    @Benchmark
+    public String print() {
+        return this.read.toString();
+    }
+
+    /**
+     * Read the document.
+     * @return YamlNode.
+     * @throws IOException If the input cannot be read.
+     */
+    private YamlNode read() throws IOException {
+        final YamlInput input = Yaml.createYamlInput(this.yaml);
+        final YamlNode node;
+        if(this.shape == SyntheticYaml.Shape.KUBERNETES) {
+            node = input.readYamlStream();
+        } else if(this.shape == SyntheticYaml.Shape.WIDE_SEQUENCE) {
+            node = input.readYamlSequence();
+        } else {
+            node = input.readYamlMapping();
+        }
+        return node;
+    }
+}
@@ -0,0 +1,202 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml.benchmarks;
+
+import java.util.Locale;
+
+/**
+ * Deterministic YAML documents used as benchmark input. The same arguments
+ * always give the same text, so results of different runs and releases are
+ * comparable. Every top-level item is a record: a mapping with a name,
+ * a size, a sequence of tags and, if the depth allows it, a child record.
+ * The text is formatted the way RtYamlPrinter prints it.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 6.0.2
+ */
+final class Documents {
+
+    /**
+     * Number of records in each document of a stream.
+     */
+    private static final int PER_DOCUMENT = 16;
+
+    /**
+     * Hidden ctor.
+     */
+    private Documents() {
+    }
+
+    /**
+     * Parse a size such as "1KB", "64KB", "1MB" or "100MB" into bytes.
+     * @param size Size with unit.
+     * @return Number of bytes.
+     */
+    static long bytes(final String size) {
+        final String upper = size.trim().toUpperCase(Locale.ENGLISH);
+        final long bytes;
+        if(upper.endsWith("GB")) {
+            bytes = number(upper) << 30;
+        } else if(upper.endsWith("MB")) {
+            bytes = number(upper) << 20;
+        } else if(upper.endsWith("KB")) {
+            bytes = number(upper) << 10;
+        } else {
+            bytes = Long.parseLong(upper.replace("B", ""));
+        }
+        return bytes;
+    }
+
+    /**
+     * A mapping of records, at least as big as the given number of bytes.
+     * @param bytes Minimum size of the text.
+     * @param depth Nesting depth of each record.
+     * @return YAML text.
+     */
+    static String mapping(final long bytes, final int depth) {
+        final StringBuilder yaml = new StringBuilder();
+        for(int idx = 0; yaml.length() < bytes; ++idx) {
+            yaml.append("entry").append(idx).append(":\n");
+            record(yaml, 2, depth, idx);
+        }
+        return yaml.toString();
+    }
+
+    /**
+     * A sequence of records, at least as big as the given number of bytes.
+     * @param bytes Minimum size of the text.
+     * @param depth Nesting depth of each record.
+     * @return YAML text.
+     */
+    static String sequence(final long bytes, final int depth) {
+        final StringBuilder yaml = new StringBuilder();
+        for(int idx = 0; yaml.length() < bytes; ++idx) {
+            yaml.append("-\n");
+            record(yaml, 2, depth, idx);
+        }
+        return yaml.toString();
+    }
+
+    /**
+     * A stream of mappings, each holding a few records, at least as big as
+     * the given number of bytes.
+     * @param bytes Minimum size of the text.
+     * @param depth Nesting depth of each record.
+     * @return YAML text.
+     */
+    static String stream(final long bytes, final int depth) {
+        final StringBuilder yaml = new StringBuilder();
+        for(int idx = 0; yaml.length() < bytes; ++idx) {
+            if(idx % PER_DOCUMENT == 0) {
+                yaml.append("---\n");
+            }
+            yaml.append("entry").append(idx).append(":\n");
+            record(yaml, 2, depth, idx);
+        }
+        return yaml.toString();
+    }
+
+    /**
+     * A flat mapping with the keys key0, key1, ... key(count - 1).
+     * @param count Number of keys.
+     * @return YAML text.
+     */
+    static String keys(final int count) {
+        final StringBuilder yaml = new StringBuilder();
+        for(int idx = 0; idx < count; ++idx) {
+            yaml.append("key").append(idx)
+                .append(": value").append(idx).append('\n');
+        }
+        return yaml.toString();
+    }
+
+    /**
+     * A chain of nested mappings, level0 -&gt; level1 -&gt; ... with the
+     * scalar "leaf" at the bottom.
+     * @param depth Number of nested mappings.
+     * @return YAML text.
+     */
+    static String path(final int depth) {
+        final StringBuilder yaml = new StringBuilder();
+        for(int level = 0; level < depth; ++level) {
+            indent(yaml, level * 2);
+            yaml.append("level").append(level).append(":\n");
+        }
+        indent(yaml, depth * 2);
+        yaml.append("leaf: value\n");
+        return yaml.toString();
+    }
+
+    /**
+     * Append a record.
+     * @param yaml Where to append.
+     * @param indentation Indentation of the record's keys.
+     * @param depth Nesting depth, 1 means no child.
+     * @param idx Index of the record.
+     */
+    private static void record(
+        final StringBuilder yaml, final int indentation,
+        final int depth, final int idx
+    ) {
+        indent(yaml, indentation);
+        yaml.append("name: item").append(idx).append('\n');
+        indent(yaml, indentation);
+        yaml.append("size: ").append(idx).append('\n');
+        indent(yaml, indentation);
+        yaml.append("tags:\n");
+        indent(yaml, indentation + 2);
+        yaml.append("- red\n");
+        indent(yaml, indentation + 2);
+        yaml.append("- blue\n");
+        if(depth > 1) {
+            indent(yaml, indentation);
+            yaml.append("child:\n");
+            record(yaml, indentation + 2, depth - 1, idx);
+        }
+    }
+
+    /**
+     * Append spaces.
+     * @param yaml Where to append.
+     * @param spaces How many.
+     */
+    private static void indent(final StringBuilder yaml, final int spaces) {
+        for(int idx = 0; idx < spaces; ++idx) {
+            yaml.append(' ');
+        }
+    }
+
+    /**
+     * The number in front of the unit.
+     * @param size Size with a two-letter unit.
+     * @return Number.
+     */
+    private static long number(final String size) {
+        return Long.parseLong(size.substring(0, size.length() - 2).trim());
+    }
+}
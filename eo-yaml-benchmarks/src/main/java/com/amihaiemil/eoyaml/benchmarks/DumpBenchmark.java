@@ -0,0 +1,179 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml.benchmarks;
+
+import com.amihaiemil.eoyaml.Yaml;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Dumping a list of beans to YAML by reflection: either through the
+ * dumped YamlNode and the printer, or straight to a Writer.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 6.0.2
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class DumpBenchmark {
+
+    /**
+     * Number of beans.
+     */
+    @Param({"10", "1000", "100000"})
+    private int items;
+
+    /**
+     * Nesting depth of the beans.
+     */
+    @Param({"1", "4", "8"})
+    private int depth;
+
+    /**
+     * The beans.
+     */
+    private List<Item> beans;
+
+    /**
+     * Create the beans.
+     */
+    @Setup
+    public void setup() {
+        this.beans = new ArrayList<>(this.items);
+        for(int idx = 0; idx < this.items; ++idx) {
+            this.beans.add(new Item(idx, this.depth));
+        }
+    }
+
+    /**
+     * Dump to a YamlNode, then print it.
+     * @return The printed YAML.
+     * @throws IOException If something goes wrong while printing.
+     */
+    @Benchmark
+    public String tree() throws IOException {
+        final StringWriter writer = new StringWriter();
+        Yaml.createYamlPrinter(writer).print(
+            Yaml.createYamlDump(this.beans).dump()
+        );
+        return writer.toString();
+    }
+
+    /**
+     * Dump straight to a Writer.
+     * @return The printed YAML.
+     * @throws IOException If something goes wrong while writing.
+     */
+    @Benchmark
+    public String writer() throws IOException {
+        final StringWriter writer = new StringWriter();
+        Yaml.createYamlDump(this.beans).dump(writer);
+        return writer.toString();
+    }
+
+    /**
+     * Bean to dump, the counterpart of a record from {@link Documents}.
+     */
+    public static final class Item {
+
+        /**
+         * Index.
+         */
+        private final int index;
+
+        /**
+         * Child, or null.
+         */
+        private final Item child;
+
+        /**
+         * Ctor.
+         * @param index Index.
+         * @param depth Nesting depth, 1 means no child.
+         */
+        Item(final int index, final int depth) {
+            this.index = index;
+            if(depth > 1) {
+                this.child = new Item(index, depth - 1);
+            } else {
+                this.child = null;
+            }
+        }
+
+        /**
+         * Name.
+         * @return String.
+         */
+        public String getName() {
+            return "item" + this.index;
+        }
+
+        /**
+         * Size.
+         * @return Integer.
+         */
+        public int getSize() {
+            return this.index;
+        }
+
+        /**
+         * Tags.
+         * @return List of Strings.
+         */
+        public List<String> getTags() {
+            return Arrays.asList("red", "blue");
+        }
+
+        /**
+         * Child.
+         * @return Item or null.
+         */
+        public Item getChild() {
+            return this.child;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml.benchmarks;
+
+import com.amihaiemil.eoyaml.Yaml;
+import com.amihaiemil.eoyaml.YamlMapping;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.concurrent.TimeUnit;
+import javax.json.Json;
+import javax.json.stream.JsonGenerator;
+import javax.json.stream.JsonParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Converting JSON to YAML and YAML to JSON.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 6.0.2
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class JsonBenchmark {
+
+    /**
+     * Size of the YAML document.
+     */
+    @Param({"1KB", "64KB", "1MB", "16MB"})
+    private String size;
+
+    /**
+     * Nesting depth of the records.
+     */
+    @Param({"1", "4", "8"})
+    private int depth;
+
+    /**
+     * Where the YAML comes from: built or read.
+     */
+    @Param({"built", "read"})
+    private String source;
+
+    /**
+     * The YAML mapping.
+     */
+    private YamlMapping yaml;
+
+    /**
+     * The same content, as JSON text.
+     */
+    private String json;
+
+    /**
+     * Create the YAML and the JSON.
+     * @throws IOException If the YAML cannot be read.
+     */
+    @Setup
+    public void setup() throws IOException {
+        final YamlMapping read = Yaml.createYamlInput(
+            Documents.mapping(Documents.bytes(this.size), this.depth)
+        ).readYamlMapping();
+        if("read".equals(this.source)) {
+            this.yaml = read;
+        } else {
+            this.yaml = Trees.copy(read).asMapping();
+        }
+        this.json = this.toJson();
+    }
+
+    /**
+     * Convert the JSON text to YAML text.
+     * @return YAML.
+     * @throws IOException If something goes wrong while writing.
+     */
+    @Benchmark
+    public String fromJson() throws IOException {
+        final StringWriter writer = new StringWriter();
+        try (
+            JsonParser parser = Json.createParser(new StringReader(this.json))
+        ) {
+            Yaml.fromJson(parser, writer);
+        }
+        return writer.toString();
+    }
+
+    /**
+     * Convert the YAML mapping to JSON text.
+     * @return JSON.
+     */
+    @Benchmark
+    public String toJson() {
+        final StringWriter writer = new StringWriter();
+        try (JsonGenerator generator = Json.createGenerator(writer)) {
+            Yaml.toJson(this.yaml, generator);
+        }
+        return writer.toString();
+    }
+}
@@ -0,0 +1,127 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml.benchmarks;
+
+import com.amihaiemil.eoyaml.Yaml;
+import com.amihaiemil.eoyaml.YamlMapping;
+import com.amihaiemil.eoyaml.YamlMappingBuilder;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Looking up the first, middle or last key of a flat mapping, or a key
+ * which is missing from it. The read mapping is parsed once, in the setup,
+ * so only the lookup itself is measured.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 6.0.2
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class LookupBenchmark {
+
+    /**
+     * Number of keys in the mapping.
+     */
+    @Param({"10", "1000", "100000"})
+    private int keys;
+
+    /**
+     * Which key to look up: first, middle, last or miss.
+     */
+    @Param({"first", "middle", "last", "miss"})
+    private String position;
+
+    /**
+     * Where the mapping comes from: built or read.
+     */
+    @Param({"built", "read"})
+    private String source;
+
+    /**
+     * The mapping.
+     */
+    private YamlMapping mapping;
+
+    /**
+     * The key to look up.
+     */
+    private String key;
+
+    /**
+     * Create the mapping and choose the key.
+     * @throws IOException If the mapping cannot be read.
+     */
+    @Setup
+    public void setup() throws IOException {
+        if("read".equals(this.source)) {
+            this.mapping = Yaml.createYamlInput(
+                Documents.keys(this.keys)
+            ).readYamlMapping();
+        } else {
+            YamlMappingBuilder builder = Yaml.createYamlMappingBuilder();
+            for(int idx = 0; idx < this.keys; ++idx) {
+                builder = builder.add("key" + idx, "value" + idx);
+            }
+            this.mapping = builder.build();
+        }
+        if("first".equals(this.position)) {
+            this.key = "key0";
+        } else if("middle".equals(this.position)) {
+            this.key = "key" + this.keys / 2;
+        } else if("last".equals(this.position)) {
+            this.key = "key" + (this.keys - 1);
+        } else {
+            this.key = "missing";
+        }
+    }
+
+    /**
+     * Look the key up.
+     * @return The value, or null if the key is missing.
+     */
+    @Benchmark
+    public String lookup() {
+        return this.mapping.string(this.key);
+    }
+}
@@ -0,0 +1,194 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml.benchmarks;
+
+import com.amihaiemil.eoyaml.Yaml;
+import com.amihaiemil.eoyaml.YamlMapping;
+import com.amihaiemil.eoyaml.YamlMappingBuilder;
+import com.amihaiemil.eoyaml.YamlNode;
+import com.amihaiemil.eoyaml.YamlSequence;
+import com.amihaiemil.eoyaml.YamlSequenceBuilder;
+import com.amihaiemil.eoyaml.extensions.MergedYamlMapping;
+import com.amihaiemil.eoyaml.extensions.MergedYamlSequence;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Merging two mappings of records which share half of their keys, and
+ * two sequences of records keyed by name. The merged trees are walked,
+ * so the lazy parts of the merge are measured too.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 6.0.2
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class MergeBenchmark {
+
+    /**
+     * Number of records on each side.
+     */
+    @Param({"10", "1000", "10000"})
+    private int records;
+
+    /**
+     * Nesting depth of the records.
+     */
+    @Param({"1", "4"})
+    private int depth;
+
+    /**
+     * Where the trees come from: built or read.
+     */
+    @Param({"built", "read"})
+    private String source;
+
+    /**
+     * Original mapping.
+     */
+    private YamlMapping original;
+
+    /**
+     * Changed mapping, overlapping the second half of the original.
+     */
+    private YamlMapping changed;
+
+    /**
+     * Original sequence.
+     */
+    private YamlSequence first;
+
+    /**
+     * Changed sequence, overlapping the second half of the original.
+     */
+    private YamlSequence second;
+
+    /**
+     * Create the trees.
+     * @throws IOException If the trees cannot be read.
+     */
+    @Setup
+    public void setup() throws IOException {
+        final int half = this.records / 2;
+        this.original = this.source(this.mapping(0, this.records));
+        this.changed = this.source(this.mapping(half, half + this.records));
+        this.first = this.source(this.sequence(0, this.records));
+        this.second = this.source(this.sequence(half, half + this.records));
+    }
+
+    /**
+     * Merge the mappings, overriding the conflicts.
+     * @param hole Blackhole.
+     */
+    @Benchmark
+    public void mapping(final Blackhole hole) {
+        Walk.walk(
+            new MergedYamlMapping(this.original, this.changed, true), hole
+        );
+    }
+
+    /**
+     * Merge the sequences by the name of the records.
+     * @param hole Blackhole.
+     */
+    @Benchmark
+    public void sequence(final Blackhole hole) {
+        Walk.walk(
+            new MergedYamlSequence(this.first, this.second, "name"), hole
+        );
+    }
+
+    /**
+     * Records from..to, in a mapping.
+     * @param from First index, inclusive.
+     * @param to Last index, exclusive.
+     * @return Built YamlMapping.
+     */
+    private YamlMapping mapping(final int from, final int to) {
+        YamlMappingBuilder builder = Yaml.createYamlMappingBuilder();
+        for(int idx = from; idx < to; ++idx) {
+            builder = builder.add("entry" + idx, Trees.record(this.depth, idx));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Records from..to, in a sequence.
+     * @param from First index, inclusive.
+     * @param to Last index, exclusive.
+     * @return Built YamlSequence.
+     */
+    private YamlSequence sequence(final int from, final int to) {
+        YamlSequenceBuilder builder = Yaml.createYamlSequenceBuilder();
+        for(int idx = from; idx < to; ++idx) {
+            builder = builder.add(Trees.record(this.depth, idx));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Keep the built node or print it and read it back, as per the
+     * source parameter.
+     * @param node Built node.
+     * @param <T> Type of the node.
+     * @return YamlNode of the same type.
+     * @throws IOException If the node cannot be printed or read.
+     */
+    @SuppressWarnings("unchecked")
+    private <T extends YamlNode> T source(final T node) throws IOException {
+        final T result;
+        if("read".equals(this.source)) {
+            if(node instanceof YamlSequence) {
+                result = (T) Yaml.createYamlInput(node.toString())
+                    .readYamlSequence();
+            } else {
+                result = (T) Yaml.createYamlInput(node.toString())
+                    .readYamlMapping();
+            }
+        } else {
+            result = node;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,122 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml.benchmarks;
+
+import com.amihaiemil.eoyaml.Yaml;
+import com.amihaiemil.eoyaml.YamlMapping;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Navigating a path of nested mappings down to the leaf scalar,
+ * as in config.yamlMapping("level0").yamlMapping("level1")...
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 6.0.2
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class PathBenchmark {
+
+    /**
+     * Number of nested mappings.
+     */
+    @Param({"1", "8", "32", "128"})
+    private int depth;
+
+    /**
+     * Where the mapping comes from: built or read.
+     */
+    @Param({"built", "read"})
+    private String source;
+
+    /**
+     * The root mapping.
+     */
+    private YamlMapping root;
+
+    /**
+     * The keys on the path, precomputed.
+     */
+    private String[] path;
+
+    /**
+     * Create the nested mappings.
+     * @throws IOException If the mapping cannot be read.
+     */
+    @Setup
+    public void setup() throws IOException {
+        this.path = new String[this.depth];
+        for(int level = 0; level < this.depth; ++level) {
+            this.path[level] = "level" + level;
+        }
+        if("read".equals(this.source)) {
+            this.root = Yaml.createYamlInput(
+                Documents.path(this.depth)
+            ).readYamlMapping();
+        } else {
+            YamlMapping mapping = Yaml.createYamlMappingBuilder()
+                .add("leaf", "value")
+                .build();
+            for(int level = this.depth - 1; level >= 0; --level) {
+                mapping = Yaml.createYamlMappingBuilder()
+                    .add(this.path[level], mapping)
+                    .build();
+            }
+            this.root = mapping;
+        }
+    }
+
+    /**
+     * Walk the path down to the leaf.
+     * @return The leaf value.
+     */
+    @Benchmark
+    public String navigate() {
+        YamlMapping current = this.root;
+        for(final String key : this.path) {
+            current = current.yamlMapping(key);
+        }
+        return current.string("leaf");
+    }
+}
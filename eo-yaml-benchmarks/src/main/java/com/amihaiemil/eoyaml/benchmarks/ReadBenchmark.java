@@ -0,0 +1,147 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml.benchmarks;
+
+import com.amihaiemil.eoyaml.Yaml;
+import com.amihaiemil.eoyaml.YamlInput;
+import com.amihaiemil.eoyaml.YamlNode;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Reading mapping, sequence and stream documents of 1KB up to 100MB.
+ * The biggest sizes need a big heap and a lot of patience, narrow them
+ * with e.g. -p size=1KB,1MB.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 6.0.2
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ReadBenchmark {
+
+    /**
+     * Size of the document.
+     */
+    @Param({"1KB", "64KB", "1MB", "100MB"})
+    private String size;
+
+    /**
+     * Nesting depth of the records.
+     */
+    @Param({"1", "4", "8"})
+    private int depth;
+
+    /**
+     * Kind of document: mapping, sequence or stream.
+     */
+    @Param({"mapping", "sequence", "stream"})
+    private String kind;
+
+    /**
+     * The YAML text.
+     */
+    private String yaml;
+
+    /**
+     * Generate the document.
+     */
+    @Setup
+    public void setup() {
+        final long bytes = Documents.bytes(this.size);
+        if("sequence".equals(this.kind)) {
+            this.yaml = Documents.sequence(bytes, this.depth);
+        } else if("stream".equals(this.kind)) {
+            this.yaml = Documents.stream(bytes, this.depth);
+        } else {
+            this.yaml = Documents.mapping(bytes, this.depth);
+        }
+    }
+
+    /**
+     * Read the document and visit every node of it.
+     * @param hole Blackhole.
+     * @throws IOException If the input cannot be read.
+     */
+    @Benchmark
+    public void readAll(final Blackhole hole) throws IOException {
+        Walk.walk(this.read(), hole);
+    }
+
+    /**
+     * Read the document and only visit its top level: the keys of
+     * a mapping or the items of a sequence or stream.
+     * @param hole Blackhole.
+     * @throws IOException If the input cannot be read.
+     */
+    @Benchmark
+    public void readTop(final Blackhole hole) throws IOException {
+        final YamlNode node = this.read();
+        if("sequence".equals(this.kind)) {
+            hole.consume(node.asSequence().values().size());
+        } else if("stream".equals(this.kind)) {
+            hole.consume(node.asStream().values().size());
+        } else {
+            hole.consume(node.asMapping().keys().size());
+        }
+    }
+
+    /**
+     * Read the document.
+     * @return YamlNode.
+     * @throws IOException If the input cannot be read.
+     */
+    private YamlNode read() throws IOException {
+        final YamlInput input = Yaml.createYamlInput(this.yaml);
+        final YamlNode node;
+        if("sequence".equals(this.kind)) {
+            node = input.readYamlSequence();
+        } else if("stream".equals(this.kind)) {
+            node = input.readYamlStream();
+        } else {
+            node = input.readYamlMapping();
+        }
+        return node;
+    }
+}
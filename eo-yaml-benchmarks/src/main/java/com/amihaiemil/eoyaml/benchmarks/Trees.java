@@ -0,0 +1,129 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml.benchmarks;
+
+import com.amihaiemil.eoyaml.Yaml;
+import com.amihaiemil.eoyaml.YamlMapping;
+import com.amihaiemil.eoyaml.YamlMappingBuilder;
+import com.amihaiemil.eoyaml.YamlNode;
+import com.amihaiemil.eoyaml.YamlSequenceBuilder;
+import com.amihaiemil.eoyaml.YamlStreamBuilder;
+
+/**
+ * Built (in-memory) trees used as benchmark input, the counterpart of
+ * {@link Documents}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 6.0.2
+ */
+final class Trees {
+
+    /**
+     * Hidden ctor.
+     */
+    private Trees() {
+    }
+
+    /**
+     * Build a mapping of records, with the same content as
+     * {@link Documents#mapping(long, int)}.
+     * @param count Number of records.
+     * @param depth Nesting depth of each record.
+     * @return Built YamlMapping.
+     */
+    static YamlMapping records(final int count, final int depth) {
+        YamlMappingBuilder builder = Yaml.createYamlMappingBuilder();
+        for(int idx = 0; idx < count; ++idx) {
+            builder = builder.add("entry" + idx, record(depth, idx));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Build a single record.
+     * @param depth Nesting depth, 1 means no child.
+     * @param idx Index of the record.
+     * @return Built YamlMapping.
+     */
+    static YamlMapping record(final int depth, final int idx) {
+        YamlMappingBuilder builder = Yaml.createYamlMappingBuilder()
+            .add("name", "item" + idx)
+            .add("size", String.valueOf(idx))
+            .add(
+                "tags",
+                Yaml.createYamlSequenceBuilder()
+                    .add("red")
+                    .add("blue")
+                    .build()
+            );
+        if(depth > 1) {
+            builder = builder.add("child", record(depth - 1, idx));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Deep-copy any tree (e.g. a read one) into built nodes, so it can be
+     * benchmarked without the cost of the lazy reading.
+     * @param node YamlNode to copy.
+     * @return Built YamlNode.
+     */
+    static YamlNode copy(final YamlNode node) {
+        final YamlNode copy;
+        switch (node.type()) {
+            case SCALAR:
+                copy = Yaml.createYamlScalarBuilder()
+                    .addLine(node.asScalar().value())
+                    .buildPlainScalar();
+                break;
+            case MAPPING:
+                final YamlMapping mapping = node.asMapping();
+                YamlMappingBuilder map = Yaml.createYamlMappingBuilder();
+                for(final YamlNode key : mapping.keys()) {
+                    map = map.add(copy(key), copy(mapping.value(key)));
+                }
+                copy = map.build();
+                break;
+            case SEQUENCE:
+                YamlSequenceBuilder seq = Yaml.createYamlSequenceBuilder();
+                for(final YamlNode value : node.asSequence()) {
+                    seq = seq.add(copy(value));
+                }
+                copy = seq.build();
+                break;
+            default:
+                YamlStreamBuilder stream = Yaml.createYamlStreamBuilder();
+                for(final YamlNode value : node.asStream().values()) {
+                    stream = stream.add(copy(value));
+                }
+                copy = stream.build();
+                break;
+        }
+        return copy;
+    }
+}
@@ -0,0 +1,83 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml.benchmarks;
+
+import com.amihaiemil.eoyaml.YamlMapping;
+import com.amihaiemil.eoyaml.YamlNode;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Visits every node of a tree, feeding the scalars to a Blackhole. The read
+ * nodes are lazy, so a benchmark which only calls readYamlMapping() would
+ * measure nothing; walking the tree forces all the parsing.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 6.0.2
+ */
+final class Walk {
+
+    /**
+     * Hidden ctor.
+     */
+    private Walk() {
+    }
+
+    /**
+     * Walk the given node.
+     * @param node YamlNode.
+     * @param hole Blackhole consuming the scalars.
+     */
+    static void walk(final YamlNode node, final Blackhole hole) {
+        if(node == null) {
+            hole.consume(node);
+        } else {
+            switch (node.type()) {
+                case SCALAR:
+                    hole.consume(node.asScalar().value());
+                    break;
+                case MAPPING:
+                    final YamlMapping mapping = node.asMapping();
+                    for(final YamlNode key : mapping.keys()) {
+                        walk(key, hole);
+                        walk(mapping.value(key), hole);
+                    }
+                    break;
+                case SEQUENCE:
+                    for(final YamlNode value : node.asSequence()) {
+                        walk(value, hole);
+                    }
+                    break;
+                default:
+                    for(final YamlNode value : node.asStream().values()) {
+                        walk(value, hole);
+                    }
+                    break;
+            }
+        }
+    }
+}
@@ -30,6 +30,9 @@ package com.amihaiemil.eoyaml;
 import com.amihaiemil.eoyaml.exceptions.YamlReadingException;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.RandomAccess;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -81,12 +84,35 @@ final class AllYamlLines implements YamlLines {
      */
     private Collection<YamlLine> lines;
 
+    /**
+     * Were the comments kept when the lines were read? If not, the nodes
+     * read from these lines don't look for comments at all.
+     */
+    private final boolean comments;
+
+    /**
+     * The lines, if they can be searched by number: a random access List,
+     * ordered by line number. Null otherwise.
+     */
+    private final List<YamlLine> indexed;
+
     /**
      * Ctor.
      * @param lines Yaml lines collection.
      */
     AllYamlLines(final Collection<YamlLine> lines) {
+        this(lines, true);
+    }
+
+    /**
+     * Ctor.
+     * @param lines Yaml lines collection.
+     * @param comments Were the comments kept when the lines were read?
+     */
+    AllYamlLines(final Collection<YamlLine> lines, final boolean comments) {
         this.lines = lines;
+        this.comments = comments;
+        this.indexed = indexed(lines);
     }
 
     @Override
@@ -129,11 +155,74 @@ final class AllYamlLines implements YamlLines {
         return node;
     }
 
+    /**
+     * Were the comments kept when these lines were read?
+     * @return True or false.
+     */
+    boolean comments() {
+        return this.comments;
+    }
+
     @Override
     public Iterator<YamlLine> iterator() {
         return this.lines.iterator();
     }
 
+    @Override
+    public YamlLine line(final int number) {
+        YamlLine found = null;
+        if(this.indexed != null && number >= 0) {
+            final int idx = this.first(number);
+            if(idx < this.indexed.size()
+                && this.indexed.get(idx).number() == number) {
+                found = this.indexed.get(idx);
+            }
+        }
+        if(found == null) {
+            found = YamlLines.super.line(number);
+        }
+        return found;
+    }
+
+    /**
+     * The lines which come after the given one. A node read from these
+     * lines only iterates its own part of the document, instead of
+     * skipping all the lines in front of it, over and over again.
+     * @param previous Line just before the node.
+     * @return YamlLines.
+     */
+    YamlLines after(final YamlLine previous) {
+        return this.between(previous.number() + 1, Integer.MAX_VALUE);
+    }
+
+    /**
+     * The lines which come before the given line number, e.g. where
+     * the comment of a node is looked for.
+     * @param number Line number.
+     * @return YamlLines.
+     */
+    YamlLines before(final int number) {
+        return this.between(Integer.MIN_VALUE, number);
+    }
+
+    /**
+     * The lines with numbers in the given range. If the lines cannot be
+     * searched by number, all of them are returned, so callers still have
+     * to skip the lines which are out of the range.
+     * @param from First line number, inclusive.
+     * @param to Last line number, exclusive.
+     * @return YamlLines.
+     */
+    YamlLines between(final int from, final int to) {
+        final YamlLines between;
+        if(this.indexed == null) {
+            between = this;
+        } else {
+            between = new Between(this.first(from), this.first(to));
+        }
+        return between;
+    }
+
     /**
      * Try to figure out what YAML node (mapping, sequence or scalar) is found
      * after the given line.
@@ -148,7 +237,7 @@ final class AllYamlLines implements YamlLines {
     ) {
         YamlNode node = null;
         final YamlLine first = new Skip(
-            this,
+            this.after(prev),
             line -> line.number() <= prev.number(),
             line -> line.trimmed().startsWith("#"),
             line -> line.trimmed().startsWith("---"),
@@ -179,4 +268,113 @@ final class AllYamlLines implements YamlLines {
             return node;
         }
     }
+
+    /**
+     * Index of the first line with a number greater than or equal to
+     * the given one.
+     * @param number Line number.
+     * @return Index in the indexed lines.
+     */
+    private int first(final int number) {
+        int low = 0;
+        int high = this.indexed.size();
+        while(low < high) {
+            final int mid = (low + high) >>> 1;
+            if(this.indexed.get(mid).number() < number) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * The given lines as a List which can be searched by line number,
+     * or null if they are not one.
+     * @param lines Lines.
+     * @return List or null.
+     */
+    private static List<YamlLine> indexed(final Collection<YamlLine> lines) {
+        List<YamlLine> indexed = null;
+        if(lines instanceof List && lines instanceof RandomAccess) {
+            indexed = (List<YamlLine>) lines;
+            for(int idx = 1; idx < indexed.size(); ++idx) {
+                if(indexed.get(idx - 1).number() >= indexed.get(idx).number()) {
+                    indexed = null;
+                    break;
+                }
+            }
+        }
+        return indexed;
+    }
+
+    /**
+     * The lines between two indices.
+     */
+    private final class Between implements YamlLines {
+
+        /**
+         * Index of the first line, inclusive.
+         */
+        private final int start;
+
+        /**
+         * Index of the last line, exclusive.
+         */
+        private final int end;
+
+        /**
+         * Ctor.
+         * @param start Index of the first line, inclusive.
+         * @param end Index of the last line, exclusive.
+         */
+        Between(final int start, final int end) {
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        public Collection<YamlLine> original() {
+            return AllYamlLines.this.original();
+        }
+
+        @Override
+        public YamlNode toYamlNode(
+            final YamlLine prev,
+            final boolean guessIndentation
+        ) {
+            return AllYamlLines.this.toYamlNode(prev, guessIndentation);
+        }
+
+        @Override
+        public Iterator<YamlLine> iterator() {
+            return AllYamlLines.this.indexed.subList(
+                this.start, this.end
+            ).iterator();
+        }
+
+        @Override
+        public Iterator<YamlLine> backwards() {
+            final ListIterator<YamlLine> lines = AllYamlLines.this.indexed
+                .subList(this.start, this.end)
+                .listIterator(this.end - this.start);
+            return new Iterator<YamlLine>() {
+                @Override
+                public boolean hasNext() {
+                    return lines.hasPrevious();
+                }
+
+                @Override
+                public YamlLine next() {
+                    return lines.previous();
+                }
+            };
+        }
+
+        @Override
+        public YamlLine line(final int number) {
+            return AllYamlLines.this.line(number);
+        }
+    }
 }
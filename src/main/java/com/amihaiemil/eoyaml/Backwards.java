@@ -65,11 +65,11 @@ final class Backwards implements YamlLines {
 
     @Override
     public Iterator<YamlLine> iterator() {
-        final List<YamlLine> original = new ArrayList<>();
-        for(final YamlLine line : this.lines) {
-            original.add(line);
-        }
-        Collections.reverse(original);
-        return original.iterator();
+        return this.lines.backwards();
+    }
+
+    @Override
+    public Iterator<YamlLine> backwards() {
+        return this.lines.iterator();
     }
 }
@@ -0,0 +1,299 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Readable properties of a Java Bean class: its public, declared methods
+ * without parameters which return something. They are discovered once per
+ * class and cached in a ClassValue, each with a pre-resolved MethodHandle,
+ * so reflecting many instances of the same class does not scan its
+ * methods again. The properties of a record are only its components.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 6.0.2
+ */
+final class BeanProperties {
+
+    /**
+     * Properties of each class.
+     */
+    private static final ClassValue<BeanProperties> CACHE =
+        new ClassValue<BeanProperties>() {
+            @Override
+            protected BeanProperties computeValue(final Class<?> type) {
+                return new BeanProperties(type);
+            }
+        };
+
+    /**
+     * Keys of the reflected YamlMapping, in declaration order.
+     */
+    private final Set<YamlNode> keys;
+
+    /**
+     * Accessors by lower-case method name.
+     */
+    private final Map<String, Accessor> accessors;
+
+    /**
+     * Properties, in the same order as the keys, each with the accessor
+     * which {@link #read(Object, String)} would pick for it.
+     */
+    private final List<Property> properties;
+
+    /**
+     * Constructor.
+     * @param type Java Bean class.
+     */
+    private BeanProperties(final Class<?> type) {
+        final Set<YamlNode> names = new LinkedHashSet<>();
+        final Map<String, Accessor> byName = new HashMap<>();
+        final Method[] components = Records.accessors(type);
+        final Method[] methods;
+        if (components == null) {
+            methods = type.getDeclaredMethods();
+        } else {
+            methods = components;
+        }
+        for (int idx = 0; idx < methods.length; ++idx) {
+            final Method method = methods[idx];
+            if (Modifier.isPublic(method.getModifiers())
+                && method.getParameterCount() == 0
+                && !method.getReturnType().equals(Void.TYPE)
+            ) {
+                names.add(new ReflectedYamlMapping.MethodKey(method));
+                byName.put(
+                    method.getName().toLowerCase(Locale.ROOT),
+                    new Accessor(method, idx)
+                );
+            }
+        }
+        this.keys = Collections.unmodifiableSet(names);
+        this.accessors = byName;
+        final List<Property> props = new ArrayList<>(names.size());
+        for (final YamlNode key : names) {
+            final String name = ((Scalar) key).value();
+            props.add(new Property(name, this.accessor(name)));
+        }
+        this.properties = Collections.unmodifiableList(props);
+    }
+
+    /**
+     * Properties of the given class.
+     * @param type Java Bean class.
+     * @return Cached BeanProperties.
+     */
+    static BeanProperties of(final Class<?> type) {
+        return CACHE.get(type);
+    }
+
+    /**
+     * Keys of the reflected YamlMapping.
+     * @return Unmodifiable set of keys.
+     */
+    Set<YamlNode> keys() {
+        return this.keys;
+    }
+
+    /**
+     * Properties, in the same order as the keys.
+     * @return Unmodifiable list of properties.
+     */
+    List<Property> properties() {
+        return this.properties;
+    }
+
+    /**
+     * Read the property with the given key from a bean. The key matches,
+     * ignoring case, either the method's name or the method's name without
+     * the "get" prefix; if two methods match, the one declared last wins.
+     * @param bean Java Bean.
+     * @param key Key of the property.
+     * @return Value of the property or null if there is no such property.
+     */
+    Object read(final Object bean, final String key) {
+        final Accessor accessor = this.accessor(key);
+        final Object value;
+        if (accessor == null) {
+            value = null;
+        } else {
+            value = accessor.invoke(bean);
+        }
+        return value;
+    }
+
+    /**
+     * Accessor of the property with the given key.
+     * @param key Key of the property.
+     * @return Accessor or null if there is no such property.
+     */
+    private Accessor accessor(final String key) {
+        final String lower = key.toLowerCase(Locale.ROOT);
+        final Accessor plain = this.accessors.get(lower);
+        final Accessor getter = this.accessors.get("get" + lower);
+        final Accessor accessor;
+        if (plain == null) {
+            accessor = getter;
+        } else if (getter == null || plain.position > getter.position) {
+            accessor = plain;
+        } else {
+            accessor = getter;
+        }
+        return accessor;
+    }
+
+    /**
+     * A readable property of a bean.
+     * @author Mihai Andronache (amihaiemil@gmail.com)
+     * @version $Id$
+     * @since 6.0.2
+     */
+    static final class Property {
+
+        /**
+         * Name of the property, as it appears among the keys.
+         */
+        private final String name;
+
+        /**
+         * Its accessor.
+         */
+        private final Accessor accessor;
+
+        /**
+         * Constructor.
+         * @param name Name of the property.
+         * @param accessor Its accessor.
+         */
+        private Property(final String name, final Accessor accessor) {
+            this.name = name;
+            this.accessor = accessor;
+        }
+
+        /**
+         * Name of the property.
+         * @return String.
+         */
+        String name() {
+            return this.name;
+        }
+
+        /**
+         * Read the property from a bean.
+         * @param bean Java Bean.
+         * @return Value of the property.
+         */
+        Object read(final Object bean) {
+            return this.accessor.invoke(bean);
+        }
+    }
+
+    /**
+     * Pre-resolved accessor method.
+     * @author Mihai Andronache (amihaiemil@gmail.com)
+     * @version $Id$
+     * @since 6.0.2
+     */
+    private static final class Accessor {
+
+        /**
+         * The method.
+         */
+        private final Method method;
+
+        /**
+         * Handle of the method, typed (Object)Object, or null if it is
+         * not accessible from this package.
+         */
+        private final MethodHandle handle;
+
+        /**
+         * Position of the method among the declared ones.
+         */
+        private final int position;
+
+        /**
+         * Constructor.
+         * @param method The method.
+         * @param position Position among the declared methods.
+         */
+        Accessor(final Method method, final int position) {
+            this.method = method;
+            this.position = position;
+            MethodHandle resolved;
+            try {
+                resolved = MethodHandles.lookup().unreflect(method).asType(
+                    MethodType.methodType(Object.class, Object.class)
+                );
+            } catch (final IllegalAccessException ex) {
+                resolved = null;
+            }
+            this.handle = resolved;
+        }
+
+        /**
+         * Invoke the method on a bean.
+         * @param bean Java Bean.
+         * @return Result of the method.
+         * @checkstyle IllegalCatch (20 lines)
+         */
+        Object invoke(final Object bean) {
+            try {
+                final Object result;
+                if (this.handle == null) {
+                    result = this.method.invoke(bean);
+                } else {
+                    result = (Object) this.handle.invokeExact(bean);
+                }
+                return result;
+            } catch (final IllegalAccessException
+                | InvocationTargetException ex) {
+                throw new IllegalStateException(ex);
+            } catch (final Throwable ex) {
+                throw new IllegalStateException(
+                    new InvocationTargetException(ex)
+                );
+            }
+        }
+    }
+}
@@ -0,0 +1,796 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import com.amihaiemil.eoyaml.exceptions.YamlBindingException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Binds YamlMappings to instances of a Java class. The class is inspected
+ * only once and the Binder is cached in a ClassValue: its no-args
+ * constructor, setters and fields are resolved to MethodHandles and each
+ * property gets a conversion compiled for its (generic) type. Binding is
+ * then a single sweep over the mapping's pairs.<br><br>
+ * A key binds to the property with the same name, ignoring case, dashes
+ * and underscores (e.g. "max-connections" binds to "maxConnections").
+ * Setters are preferred over fields; unknown keys are ignored.<br><br>
+ * Records (on Java 16+) are bound to their components and created
+ * through their canonical constructor, once all the pairs are converted.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 6.0.2
+ * @param <T> Bound type.
+ */
+final class Binder<T> {
+
+    /**
+     * Binder of each class.
+     */
+    private static final ClassValue<Binder<?>> CACHE =
+        new ClassValue<Binder<?>>() {
+            @Override
+            protected Binder<?> computeValue(final Class<?> type) {
+                return new Binder<>(type);
+            }
+        };
+
+    /**
+     * Bound type.
+     */
+    private final Class<T> type;
+
+    /**
+     * No-args constructor, typed ()Object, or null if there is none.
+     */
+    private final MethodHandle constructor;
+
+    /**
+     * Properties by normalized name.
+     */
+    private final Map<String, Property> properties;
+
+    /**
+     * Canonical constructor of a record, typed (Object[])Object, or null
+     * if the type is not a record.
+     */
+    private final MethodHandle canonical;
+
+    /**
+     * Record components by normalized name.
+     */
+    private final Map<String, Component> components;
+
+    /**
+     * Constructor.
+     * @param type Bound type.
+     */
+    private Binder(final Class<T> type) {
+        this.type = type;
+        this.constructor = Binder.constructorOf(type);
+        final Map<String, Property> props = new HashMap<>();
+        for (Class<?> cls = type; cls != null && cls != Object.class;
+            cls = cls.getSuperclass()) {
+            for (final Field field : cls.getDeclaredFields()) {
+                final int mod = field.getModifiers();
+                if (!Modifier.isStatic(mod) && !Modifier.isFinal(mod)
+                    && !field.isSynthetic()) {
+                    final MethodHandle setter = Binder.setterOf(field);
+                    if (setter != null) {
+                        props.putIfAbsent(
+                            Binder.normalized(field.getName()),
+                            new Property(setter, field.getGenericType())
+                        );
+                    }
+                }
+            }
+        }
+        for (final Method method : type.getMethods()) {
+            final String name = method.getName();
+            if (name.length() > 3 && name.startsWith("set")
+                && method.getParameterCount() == 1
+                && !Modifier.isStatic(method.getModifiers())) {
+                final MethodHandle setter = Binder.setterOf(method);
+                if (setter != null) {
+                    props.put(
+                        Binder.normalized(name.substring(3)),
+                        new Property(
+                            setter, method.getGenericParameterTypes()[0]
+                        )
+                    );
+                }
+            }
+        }
+        this.properties = props;
+        final Method[] accessors = Records.accessors(type);
+        final Map<String, Component> comps = new HashMap<>();
+        if (accessors == null) {
+            this.canonical = null;
+        } else {
+            final Class<?>[] types = new Class<?>[accessors.length];
+            for (int idx = 0; idx < accessors.length; ++idx) {
+                types[idx] = accessors[idx].getReturnType();
+                comps.put(
+                    Binder.normalized(accessors[idx].getName()),
+                    new Component(
+                        idx, types[idx], accessors[idx].getGenericReturnType()
+                    )
+                );
+            }
+            this.canonical = Binder.canonicalOf(type, types);
+        }
+        this.components = comps;
+    }
+
+    /**
+     * Binder of the given class.
+     * @param type Class to bind to.
+     * @param <T> Bound type.
+     * @return Cached Binder.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> Binder<T> of(final Class<T> type) {
+        return (Binder<T>) CACHE.get(type);
+    }
+
+    /**
+     * Bind each element of a sequence to the given type.
+     * @param sequence YamlSequence to bind.
+     * @param type Type of the elements.
+     * @param <T> Type of the elements.
+     * @return List of bound elements.
+     */
+    static <T> List<T> list(final YamlSequence sequence, final Class<T> type) {
+        final Function<YamlNode, Object> conversion = Binder.conversion(type);
+        final List<T> list = new ArrayList<>();
+        for (final YamlNode node : sequence.values()) {
+            list.add(type.cast(Binder.box(conversion.apply(node), type)));
+        }
+        return list;
+    }
+
+    /**
+     * Create an instance and populate it from the mapping.
+     * @param mapping YamlMapping to bind.
+     * @return Bound instance.
+     */
+    T bind(final YamlMapping mapping) {
+        final T bound;
+        if (this.canonical != null) {
+            bound = this.record(mapping);
+        } else {
+            bound = this.bean(mapping);
+        }
+        return bound;
+    }
+
+    /**
+     * Create an instance through the no-args constructor and set its
+     * properties from the mapping.
+     * @param mapping YamlMapping to bind.
+     * @return Bound instance.
+     * @checkstyle IllegalCatch (30 lines)
+     */
+    private T bean(final YamlMapping mapping) {
+        if (this.constructor == null) {
+            throw new YamlBindingException(
+                "Cannot bind to " + this.type.getName()
+                + ", it has no accessible no-args constructor."
+            );
+        }
+        final Object target;
+        try {
+            target = (Object) this.constructor.invokeExact();
+        } catch (final Throwable ex) {
+            throw new YamlBindingException(
+                "Could not instantiate " + this.type.getName(), ex
+            );
+        }
+        Binder.pairs(
+            mapping,
+            (key, value) -> {
+                if (key instanceof Scalar && value != null) {
+                    final Property property = this.properties.get(
+                        Binder.normalized(((Scalar) key).value())
+                    );
+                    if (property != null) {
+                        property.set(target, value);
+                    }
+                }
+            }
+        );
+        return this.type.cast(target);
+    }
+
+    /**
+     * Create a record from the mapping, through its canonical constructor.
+     * Components missing from the mapping are null (or 0/false, if they
+     * are primitive).
+     * @param mapping YamlMapping to bind.
+     * @return Bound record.
+     * @checkstyle IllegalCatch (40 lines)
+     */
+    private T record(final YamlMapping mapping) {
+        final Object[] args = new Object[this.components.size()];
+        Binder.pairs(
+            mapping,
+            (key, value) -> {
+                if (key instanceof Scalar && value != null) {
+                    final Component component = this.components.get(
+                        Binder.normalized(((Scalar) key).value())
+                    );
+                    if (component != null) {
+                        args[component.index] = component.conversion.apply(
+                            value
+                        );
+                    }
+                }
+            }
+        );
+        for (final Component component : this.components.values()) {
+            args[component.index] = Binder.box(
+                args[component.index], component.type
+            );
+        }
+        final Object target;
+        try {
+            target = (Object) this.canonical.invokeExact(args);
+        } catch (final Throwable ex) {
+            throw new YamlBindingException(
+                "Could not instantiate " + this.type.getName(), ex
+            );
+        }
+        return this.type.cast(target);
+    }
+
+    /**
+     * Compile the conversion of YamlNodes to the given type.
+     * @param type Target type.
+     * @return Conversion.
+     * @checkstyle CyclomaticComplexity (100 lines)
+     * @checkstyle ExecutableStatementCount (100 lines)
+     * @checkstyle ReturnCount (100 lines)
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static Function<YamlNode, Object> conversion(final Type type) {
+        if (type instanceof ParameterizedType) {
+            final ParameterizedType generic = (ParameterizedType) type;
+            final Class<?> raw = (Class<?>) generic.getRawType();
+            final Type[] args = generic.getActualTypeArguments();
+            if (Map.class.isAssignableFrom(raw)) {
+                return Binder.mapConversion(
+                    Binder.conversion(args[0]), Binder.conversion(args[1])
+                );
+            } else if (Collection.class.isAssignableFrom(raw)) {
+                return Binder.collectionConversion(
+                    raw, Binder.conversion(args[0])
+                );
+            }
+            return Binder.conversion(raw);
+        } else if (type instanceof WildcardType) {
+            return Binder.conversion(((WildcardType) type).getUpperBounds()[0]);
+        } else if (type instanceof GenericArrayType) {
+            return Binder.arrayConversion(
+                Object.class,
+                Binder.conversion(
+                    ((GenericArrayType) type).getGenericComponentType()
+                )
+            );
+        } else if (!(type instanceof Class)) {
+            return Binder.conversion(Object.class);
+        }
+        final Class<?> cls = (Class<?>) type;
+        if (YamlNode.class.isAssignableFrom(cls)) {
+            return node -> Binder.expect(node, cls);
+        } else if (cls == Object.class) {
+            return Binder::natural;
+        } else if (cls == String.class) {
+            return Binder::scalar;
+        } else if (cls == Integer.class || cls == int.class) {
+            return Binder.parsing(Integer::valueOf);
+        } else if (cls == Long.class || cls == long.class) {
+            return Binder.parsing(Long::valueOf);
+        } else if (cls == Double.class || cls == double.class) {
+            return Binder.parsing(Double::valueOf);
+        } else if (cls == Float.class || cls == float.class) {
+            return Binder.parsing(Float::valueOf);
+        } else if (cls == Short.class || cls == short.class) {
+            return Binder.parsing(Short::valueOf);
+        } else if (cls == Byte.class || cls == byte.class) {
+            return Binder.parsing(Byte::valueOf);
+        } else if (cls == Boolean.class || cls == boolean.class) {
+            return Binder.parsing(Binder::bool);
+        } else if (cls == Character.class || cls == char.class) {
+            return Binder.parsing(Binder::character);
+        } else if (cls == BigDecimal.class) {
+            return Binder.parsing(BigDecimal::new);
+        } else if (cls == BigInteger.class) {
+            return Binder.parsing(BigInteger::new);
+        } else if (cls.isEnum()) {
+            return Binder.parsing(value -> Enum.valueOf((Class) cls, value));
+        } else if (cls.isArray()) {
+            return Binder.arrayConversion(
+                cls.getComponentType(),
+                Binder.conversion(cls.getComponentType())
+            );
+        } else if (Map.class.isAssignableFrom(cls)) {
+            return Binder.mapConversion(
+                Binder::natural, Binder::natural
+            );
+        } else if (Collection.class.isAssignableFrom(cls)) {
+            return Binder.collectionConversion(cls, Binder::natural);
+        }
+        return node -> Binder.of(cls).bind(
+            (YamlMapping) Binder.expect(node, YamlMapping.class)
+        );
+    }
+
+    /**
+     * Conversion of a Scalar through a parsing function. The values
+     * "null", "~" and the empty String are converted to null.
+     * @param parse Parsing function.
+     * @return Conversion.
+     */
+    private static Function<YamlNode, Object> parsing(
+        final Function<String, Object> parse
+    ) {
+        return node -> {
+            final String value = Binder.scalar(node);
+            final Object parsed;
+            if (value == null || value.isEmpty()
+                || "null".equals(value) || "~".equals(value)) {
+                parsed = null;
+            } else {
+                try {
+                    parsed = parse.apply(value);
+                } catch (final IllegalArgumentException ex) {
+                    throw new YamlBindingException(
+                        "Cannot convert scalar '" + value + "'", ex
+                    );
+                }
+            }
+            return parsed;
+        };
+    }
+
+    /**
+     * Conversion of a YamlSequence to a Collection.
+     * @param type Collection type.
+     * @param elements Conversion of the elements.
+     * @return Conversion.
+     */
+    private static Function<YamlNode, Object> collectionConversion(
+        final Class<?> type, final Function<YamlNode, Object> elements
+    ) {
+        return node -> {
+            final Collection<Object> collection;
+            if (Set.class.isAssignableFrom(type)) {
+                collection = new LinkedHashSet<>();
+            } else {
+                collection = new ArrayList<>();
+            }
+            for (final YamlNode element : Binder.elements(node)) {
+                collection.add(elements.apply(element));
+            }
+            return collection;
+        };
+    }
+
+    /**
+     * Conversion of a YamlSequence to an array.
+     * @param component Component type of the array.
+     * @param elements Conversion of the elements.
+     * @return Conversion.
+     */
+    private static Function<YamlNode, Object> arrayConversion(
+        final Class<?> component, final Function<YamlNode, Object> elements
+    ) {
+        return node -> {
+            final Collection<YamlNode> values = Binder.elements(node);
+            final Object array = Array.newInstance(component, values.size());
+            int idx = 0;
+            for (final YamlNode element : values) {
+                Array.set(
+                    array, idx, Binder.box(elements.apply(element), component)
+                );
+                idx = idx + 1;
+            }
+            return array;
+        };
+    }
+
+    /**
+     * Conversion of a YamlMapping to a Map.
+     * @param keys Conversion of the keys.
+     * @param values Conversion of the values.
+     * @return Conversion.
+     */
+    private static Function<YamlNode, Object> mapConversion(
+        final Function<YamlNode, Object> keys,
+        final Function<YamlNode, Object> values
+    ) {
+        return node -> {
+            final YamlMapping mapping = (YamlMapping) Binder.expect(
+                node, YamlMapping.class
+            );
+            final Map<Object, Object> map = new LinkedHashMap<>();
+            Binder.pairs(
+                mapping,
+                (key, value) -> {
+                    Object converted = null;
+                    if (value != null) {
+                        converted = values.apply(value);
+                    }
+                    map.put(keys.apply(key), converted);
+                }
+            );
+            return map;
+        };
+    }
+
+    /**
+     * Walk the pairs of a mapping, in order. The keys and the values are
+     * read once each: looking up every key would read the lines of a read
+     * mapping once per key.
+     * @param mapping YamlMapping.
+     * @param pair Consumer of each key and its value.
+     */
+    private static void pairs(
+        final YamlMapping mapping,
+        final BiConsumer<YamlNode, YamlNode> pair
+    ) {
+        final Iterator<YamlNode> values = mapping.values().iterator();
+        for (final YamlNode key : mapping.keys()) {
+            pair.accept(key, values.next());
+        }
+    }
+
+    /**
+     * Convert a node to its natural Java form: String, List or Map.
+     * @param node YamlNode.
+     * @return Object.
+     */
+    private static Object natural(final YamlNode node) {
+        final Object natural;
+        if (node instanceof YamlMapping) {
+            natural = Binder.mapConversion(Binder::natural, Binder::natural)
+                .apply(node);
+        } else if (node instanceof YamlSequence) {
+            natural = Binder.collectionConversion(List.class, Binder::natural)
+                .apply(node);
+        } else {
+            natural = Binder.scalar(node);
+        }
+        return natural;
+    }
+
+    /**
+     * Value of a Scalar.
+     * @param node YamlNode, expected to be a Scalar.
+     * @return String value.
+     */
+    private static String scalar(final YamlNode node) {
+        return ((Scalar) Binder.expect(node, Scalar.class)).value();
+    }
+
+    /**
+     * Elements of a YamlSequence.
+     * @param node YamlNode, expected to be a YamlSequence.
+     * @return Elements.
+     */
+    private static Collection<YamlNode> elements(final YamlNode node) {
+        return ((YamlSequence) Binder.expect(node, YamlSequence.class))
+            .values();
+    }
+
+    /**
+     * Check that a node has the expected type.
+     * @param node YamlNode.
+     * @param expected Expected type.
+     * @return The node.
+     */
+    private static YamlNode expect(
+        final YamlNode node, final Class<?> expected
+    ) {
+        if (!expected.isInstance(node)) {
+            throw new YamlBindingException(
+                "Expected a " + expected.getSimpleName() + " but found: "
+                + node
+            );
+        }
+        return node;
+    }
+
+    /**
+     * Parse a boolean strictly.
+     * @param value String value.
+     * @return Boolean.
+     */
+    private static Object bool(final String value) {
+        final Boolean bool;
+        if ("true".equalsIgnoreCase(value)) {
+            bool = Boolean.TRUE;
+        } else if ("false".equalsIgnoreCase(value)) {
+            bool = Boolean.FALSE;
+        } else {
+            throw new IllegalArgumentException("Not a boolean: " + value);
+        }
+        return bool;
+    }
+
+    /**
+     * Parse a single character.
+     * @param value String value.
+     * @return Character.
+     */
+    private static Object character(final String value) {
+        if (value.length() != 1) {
+            throw new IllegalArgumentException("Not a char: " + value);
+        }
+        return value.charAt(0);
+    }
+
+    /**
+     * Replace a null with the default value of a primitive type, which
+     * cannot hold it.
+     * @param value Converted value.
+     * @param type Target type.
+     * @return Value or the primitive default.
+     */
+    private static Object box(final Object value, final Class<?> type) {
+        Object boxed = value;
+        if (value == null && type.isPrimitive()) {
+            boxed = Array.get(Array.newInstance(type, 1), 0);
+        }
+        return boxed;
+    }
+
+    /**
+     * Normalized property name: lower case, without dashes and underscores.
+     * @param name Name.
+     * @return Normalized name.
+     */
+    private static String normalized(final String name) {
+        return name.replace("-", "").replace("_", "")
+            .toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Handle of the no-args constructor.
+     * @param type Class.
+     * @return Handle typed ()Object or null if there is none.
+     */
+    private static MethodHandle constructorOf(final Class<?> type) {
+        MethodHandle handle = null;
+        if (!type.isInterface() && !Modifier.isAbstract(type.getModifiers())) {
+            try {
+                final Constructor<?> ctor = type.getDeclaredConstructor();
+                Binder.open(ctor);
+                handle = MethodHandles.lookup().unreflectConstructor(ctor)
+                    .asType(MethodType.methodType(Object.class));
+            } catch (final NoSuchMethodException | IllegalAccessException ex) {
+                handle = null;
+            }
+        }
+        return handle;
+    }
+
+    /**
+     * Handle of the canonical constructor of a record, spreading an array
+     * of arguments.
+     * @param type Record class.
+     * @param components Types of the components.
+     * @return Handle typed (Object[])Object or null if inaccessible.
+     */
+    private static MethodHandle canonicalOf(
+        final Class<?> type, final Class<?>[] components
+    ) {
+        MethodHandle handle;
+        try {
+            final Constructor<?> ctor = type.getDeclaredConstructor(
+                components
+            );
+            Binder.open(ctor);
+            handle = MethodHandles.lookup().unreflectConstructor(ctor)
+                .asType(
+                    MethodType.methodType(Object.class, components)
+                )
+                .asSpreader(Object[].class, components.length);
+        } catch (final NoSuchMethodException | IllegalAccessException ex) {
+            handle = null;
+        }
+        return handle;
+    }
+
+    /**
+     * Handle of a setter method.
+     * @param method Setter.
+     * @return Handle typed (Object,Object)void or null if inaccessible.
+     */
+    private static MethodHandle setterOf(final Method method) {
+        MethodHandle handle;
+        try {
+            Binder.open(method);
+            handle = MethodHandles.lookup().unreflect(method).asType(
+                MethodType.methodType(void.class, Object.class, Object.class)
+            );
+        } catch (final IllegalAccessException ex) {
+            handle = null;
+        }
+        return handle;
+    }
+
+    /**
+     * Handle setting a field.
+     * @param field Field.
+     * @return Handle typed (Object,Object)void or null if inaccessible.
+     */
+    private static MethodHandle setterOf(final Field field) {
+        MethodHandle handle;
+        try {
+            Binder.open(field);
+            handle = MethodHandles.lookup().unreflectSetter(field).asType(
+                MethodType.methodType(void.class, Object.class, Object.class)
+            );
+        } catch (final IllegalAccessException ex) {
+            handle = null;
+        }
+        return handle;
+    }
+
+    /**
+     * Try to suppress the access checks of a member.
+     * @param member Constructor, method or field.
+     * @checkstyle IllegalCatch (10 lines)
+     */
+    private static void open(final AccessibleObject member) {
+        try {
+            member.setAccessible(true);
+        } catch (final RuntimeException ex) {
+            //not open to us, the handle lookup will tell
+        }
+    }
+
+    /**
+     * A writable property of the bound class.
+     * @author Mihai Andronache (amihaiemil@gmail.com)
+     * @version $Id$
+     * @since 6.0.2
+     */
+    private static final class Property {
+
+        /**
+         * Setter or field handle, typed (Object,Object)void.
+         */
+        private final MethodHandle setter;
+
+        /**
+         * Conversion to the property's type.
+         */
+        private final Function<YamlNode, Object> conversion;
+
+        /**
+         * Whether the property is of a primitive type.
+         */
+        private final boolean primitive;
+
+        /**
+         * Constructor.
+         * @param setter Setter or field handle.
+         * @param type Generic type of the property.
+         */
+        Property(final MethodHandle setter, final Type type) {
+            this.setter = setter;
+            this.conversion = Binder.conversion(type);
+            this.primitive = type instanceof Class
+                && ((Class<?>) type).isPrimitive();
+        }
+
+        /**
+         * Set the property on the target.
+         * @param target Bound instance.
+         * @param value YAML value.
+         * @checkstyle IllegalCatch (20 lines)
+         */
+        void set(final Object target, final YamlNode value) {
+            final Object converted = this.conversion.apply(value);
+            if (converted != null || !this.primitive) {
+                try {
+                    this.setter.invokeExact(target, converted);
+                } catch (final YamlBindingException ex) {
+                    throw ex;
+                } catch (final Throwable ex) {
+                    throw new YamlBindingException(
+                        "Could not set property to " + converted, ex
+                    );
+                }
+            }
+        }
+    }
+
+    /**
+     * A component of the bound record.
+     * @author Mihai Andronache (amihaiemil@gmail.com)
+     * @version $Id$
+     * @since 6.0.2
+     */
+    private static final class Component {
+
+        /**
+         * Position among the canonical constructor's parameters.
+         */
+        private final int index;
+
+        /**
+         * Raw type of the component.
+         */
+        private final Class<?> type;
+
+        /**
+         * Conversion to the component's type.
+         */
+        private final Function<YamlNode, Object> conversion;
+
+        /**
+         * Constructor.
+         * @param index Position of the component.
+         * @param type Raw type of the component.
+         * @param generic Generic type of the component.
+         */
+        Component(final int index, final Class<?> type, final Type generic) {
+            this.index = index;
+            this.type = type;
+            this.conversion = Binder.conversion(generic);
+        }
+    }
+}
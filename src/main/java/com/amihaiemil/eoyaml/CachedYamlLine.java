@@ -48,9 +48,10 @@ final class CachedYamlLine implements YamlLine {
     private String trimmed;
 
     /**
-     * Cached contents line.
+     * Cached contents line, with the previous indentation it was
+     * computed for.
      */
-    private String contents;
+    private Contents contents;
 
     /**
      * Cached indentation.
@@ -85,10 +86,14 @@ final class CachedYamlLine implements YamlLine {
 
     @Override
     public String contents(final int previousIndent) {
-        if(this.contents == null) {
-            this.contents = this.line.contents(previousIndent);
+        Contents cached = this.contents;
+        if(cached == null || cached.indent != previousIndent) {
+            cached = new Contents(
+                previousIndent, this.line.contents(previousIndent)
+            );
+            this.contents = cached;
         }
-        return this.contents;
+        return cached.text;
     }
 
     @Override
@@ -122,4 +127,35 @@ final class CachedYamlLine implements YamlLine {
         return this.line.toString();
     }
 
+    /**
+     * Contents of the line for a previous indentation. It is immutable
+     * and kept in one field, so a thread never sees the contents of one
+     * indentation paired with another indentation.
+     * @author Mihai Andronache (amihaiemil@gmail.com)
+     * @version $Id$
+     * @since 6.0.2
+     */
+    private static final class Contents {
+
+        /**
+         * Previous indentation.
+         */
+        private final int indent;
+
+        /**
+         * Contents of the line.
+         */
+        private final String text;
+
+        /**
+         * Ctor.
+         * @param indent Previous indentation.
+         * @param text Contents of the line.
+         */
+        Contents(final int indent, final String text) {
+            this.indent = indent;
+            this.text = text;
+        }
+    }
+
 }
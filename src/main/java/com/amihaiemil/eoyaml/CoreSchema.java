@@ -0,0 +1,123 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.util.regex.Pattern;
+
+/**
+ * Resolution of plain scalars as per the YAML 1.2 Core Schema: tells
+ * whether a plain value is a null, a boolean, an integer or a float.
+ * Anything else is a String.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 6.0.2
+ * @see <a href="https://yaml.org/spec/1.2.2/#1023-core-schema">Core Schema</a>
+ */
+final class CoreSchema {
+
+    /**
+     * Null values.
+     */
+    private static final Pattern NULL = Pattern.compile(
+        "null|Null|NULL|~|"
+    );
+
+    /**
+     * Boolean values.
+     */
+    private static final Pattern BOOL = Pattern.compile(
+        "true|True|TRUE|false|False|FALSE"
+    );
+
+    /**
+     * Integer values, decimal, octal or hexadecimal.
+     */
+    private static final Pattern INT = Pattern.compile(
+        "[-+]?[0-9]+|0o[0-7]+|0x[0-9a-fA-F]+"
+    );
+
+    /**
+     * Float values.
+     */
+    private static final Pattern FLOAT = Pattern.compile(
+        "[-+]?(\\.[0-9]+|[0-9]+(\\.[0-9]*)?)([eE][-+]?[0-9]+)?"
+        + "|[-+]?\\.(inf|Inf|INF)|\\.nan|\\.NaN|\\.NAN"
+    );
+
+    /**
+     * Hidden ctor.
+     */
+    private CoreSchema() {
+    }
+
+    /**
+     * Is the plain value a null?
+     * @param value Plain scalar value.
+     * @return True or false.
+     */
+    static boolean isNull(final String value) {
+        return value == null || NULL.matcher(value).matches();
+    }
+
+    /**
+     * Is the plain value a boolean?
+     * @param value Plain scalar value.
+     * @return True or false.
+     */
+    static boolean isBoolean(final String value) {
+        return BOOL.matcher(value).matches();
+    }
+
+    /**
+     * Is the plain value an integer?
+     * @param value Plain scalar value.
+     * @return True or false.
+     */
+    static boolean isInteger(final String value) {
+        return INT.matcher(value).matches();
+    }
+
+    /**
+     * Is the plain value a float?
+     * @param value Plain scalar value.
+     * @return True or false.
+     */
+    static boolean isFloat(final String value) {
+        return FLOAT.matcher(value).matches();
+    }
+
+    /**
+     * Would the plain value be resolved to anything other than a String?
+     * @param value Plain scalar value.
+     * @return True or false.
+     */
+    static boolean isTyped(final String value) {
+        return isNull(value) || isBoolean(value)
+            || isInteger(value) || isFloat(value);
+    }
+}
@@ -0,0 +1,75 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * The element at a given index of a sequence's values. A random access
+ * List (e.g. the values of a built YamlSequence) is indexed directly,
+ * any other Collection is iterated only up to the index, so a loop over
+ * all the indices of a built sequence stays linear.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 6.0.2
+ */
+final class ElementAt {
+
+    /**
+     * Hidden ctor.
+     */
+    private ElementAt() {
+    }
+
+    /**
+     * The element at the given index.
+     * @param values Values of a sequence.
+     * @param index Index of the element.
+     * @return YamlNode or null if the index is out of bounds.
+     */
+    static YamlNode of(final Collection<YamlNode> values, final int index) {
+        YamlNode element = null;
+        if(index >= 0 && index < values.size()) {
+            if(values instanceof List && values instanceof RandomAccess) {
+                element = ((List<YamlNode>) values).get(index);
+            } else {
+                int count = 0;
+                for(final YamlNode node : values) {
+                    if(count == index) {
+                        element = node;
+                        break;
+                    }
+                    count = count + 1;
+                }
+            }
+        }
+        return element;
+    }
+}
@@ -28,6 +28,7 @@
 package com.amihaiemil.eoyaml;
 
 import java.util.Arrays;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 /**
@@ -39,6 +40,11 @@ import java.util.stream.Collectors;
  */
 final class InlineComment implements Comment {
 
+    /**
+     * Line terminator.
+     */
+    private static final Pattern NEW_LINE = Pattern.compile("\\r?\\n");
+
     /**
      * Original Comment.
      */
@@ -59,8 +65,15 @@ final class InlineComment implements Comment {
 
     @Override
     public String value() {
-        return Arrays.stream(
-            this.original.value().split("\\r?\\n")
-        ).collect(Collectors.joining(" "));
+        final String value = this.original.value();
+        final String inline;
+        if(value.indexOf('\n') < 0) {
+            inline = value;
+        } else {
+            inline = Arrays.stream(
+                NEW_LINE.split(value)
+            ).collect(Collectors.joining(" "));
+        }
+        return inline;
     }
 }
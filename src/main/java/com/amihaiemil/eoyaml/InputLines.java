@@ -0,0 +1,210 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Lines of some YAML input, collected one by one as they are read.
+ * Blank lines are ignored and a line which starts with a sequence
+ * marker followed by a key:value pair is split in two lines.
+ * Optionally, comments are dropped as the lines are added: comment
+ * lines are skipped and inline comments are cut, except inside block
+ * scalars, where # is part of the text.
+ * This class is mutable and not thread-safe.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 6.0.2
+ */
+final class InputLines {
+
+    /**
+     * Collected YamlLines.
+     */
+    private final List<YamlLine> lines;
+
+    /**
+     * Number of the next line.
+     */
+    private int number;
+
+    /**
+     * Keep the comments?
+     */
+    private final boolean comments;
+
+    /**
+     * Indentation of the line which started the current block scalar,
+     * or -1 if we are not in a block scalar.
+     */
+    private int block;
+
+    /**
+     * Ctor.
+     */
+    InputLines() {
+        this(true);
+    }
+
+    /**
+     * Ctor.
+     * @param comments Keep the comments?
+     */
+    InputLines(final boolean comments) {
+        this.lines = new ArrayList<>();
+        this.comments = comments;
+        this.block = -1;
+    }
+
+    /**
+     * Add a line, as it was read from the input.
+     * @param read String line, without the line terminator.
+     * @return This.
+     */
+    InputLines add(final String read) {
+        final String line;
+        if (this.comments) {
+            line = read;
+        } else {
+            line = this.uncommented(read);
+        }
+        if (line.isEmpty()) {
+            this.number++;
+        } else {
+            this.addLine(line);
+        }
+        return this;
+    }
+
+    /**
+     * All the lines added so far.
+     * @return AllYamlLines.
+     */
+    AllYamlLines all() {
+        return new AllYamlLines(this.lines, this.comments);
+    }
+
+    /**
+     * Add a line, splitting it if it starts with a sequence marker
+     * followed by a key:value pair.
+     * @param line String line, without the line terminator.
+     */
+    private void addLine(final String line) {
+        if (this.mappingStartsAtDash(line)) {
+
+            // if line starts with a sequence ("-") and the first
+            // key:value is unescaped and on the same line with the
+            // sequence marker, then split the line by keeping the "-"
+            // on the same indentation and move the key:value on the
+            // next line with correct indentation relative to "-".
+            // see bug:
+            // https://github.com/decorators-squad/eo-yaml/issues/447
+
+            final String seqIndent = Stream.iterate(" ", s -> s)
+                .limit(new RtYamlLine(line, this.number).indentation())
+                .reduce((acc, space) -> acc + space)
+                .orElse("");
+            final YamlLine sequenceLine = new RtYamlLine(
+                seqIndent + "-",
+                this.number
+            );
+            this.lines.add(new CachedYamlLine(sequenceLine));
+
+            // 2 spaces offset
+            final String offset = "  ";
+            final String keyValueIndent = seqIndent + offset;
+            final YamlLine keyValueLine = new RtYamlLine(
+                keyValueIndent + line.split("-")[1].trim(),
+                ++this.number
+            );
+            if (!keyValueLine.toString().trim().isEmpty()) {
+                this.lines.add(new CachedYamlLine(keyValueLine));
+            }
+        } else {
+            final YamlLine current = new RtYamlLine(line, this.number);
+            if (!current.toString().trim().isEmpty()) {
+                this.lines.add(new CachedYamlLine(current));
+            }
+        }
+        this.number++;
+    }
+
+    /**
+     * The line without its comment. Lines of block scalars are kept as
+     * they are.
+     * @param line String line.
+     * @return Line without comment, empty if nothing is left.
+     */
+    private String uncommented(final String line) {
+        int indentation = 0;
+        while (indentation < line.length()
+            && line.charAt(indentation) == ' ') {
+            ++indentation;
+        }
+        final String uncommented;
+        if (this.block >= 0
+            && (indentation > this.block || line.trim().isEmpty())) {
+            uncommented = line;
+        } else {
+            this.block = -1;
+            final String trimmed = new RtYamlLine(line, 0).trimmed();
+            if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+                uncommented = "";
+            } else {
+                uncommented = line.substring(0, indentation) + trimmed;
+                if (trimmed.endsWith(Follows.LITERAL_BLOCK_SCALAR)
+                    || trimmed.endsWith(Follows.FOLDED_BLOCK_SCALAR)) {
+                    this.block = indentation;
+                }
+            }
+        }
+        return uncommented;
+    }
+
+    /**
+     * Is the <i>key:value</i> on the same line as the same sequence marker
+     * <i>-</i> ?.
+     * <br/>
+     * Example:
+     * <br/>
+     * <code>
+     *     - foo: bar
+     * </code>
+     * @param line Line.
+     * @return Boolean.
+     */
+    private boolean mappingStartsAtDash(final String line){
+        //line without indentation.
+        final String trimmed = line.trim();
+        final boolean escapedScalar = trimmed.matches("^[ ]*-[ ]*\".*\"$")
+            || trimmed.matches("^[ ]*-[ ]*'.*'$");
+        return trimmed.matches("^[ ]*-.*:.+$") && !escapedScalar;
+    }
+}
@@ -0,0 +1,58 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+/**
+ * {@link YamlMetrics} which commit Java Flight Recorder events. To enable
+ * them, list this class in
+ * {@code META-INF/services/com.amihaiemil.eoyaml.YamlMetrics}.<br><br>
+ * This is the Java 8 version, which does nothing: the events are
+ * committed by the Java 11+ version, packaged in the multi-release JAR.
+ * The events, in the "YAML" category, are:
+ * <ul>
+ *   <li>{@code com.amihaiemil.eoyaml.Read}: an input was read, with its
+ *   bytes, lines and reading time;</li>
+ *   <li>{@code com.amihaiemil.eoyaml.SlowLookup}: looking up a key in
+ *   a read YamlMapping took longer than the threshold given by the
+ *   system property {@value #SLOW_LOOKUP} (10 milliseconds by default),
+ *   with the key and the scanned lines;</li>
+ *   <li>{@code com.amihaiemil.eoyaml.Print}: a YamlNode was printed,
+ *   with the printed nodes, characters and printing time.</li>
+ * </ul>
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 6.0.2
+ */
+public final class JfrYamlMetrics implements YamlMetrics {
+
+    /**
+     * System property with the slow lookup threshold, in milliseconds.
+     */
+    public static final String SLOW_LOOKUP =
+        "com.amihaiemil.eoyaml.jfr.slowLookupMillis";
+}
@@ -0,0 +1,253 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+
+/**
+ * {@link YamlMetrics} kept in memory and published as an MXBean, named
+ * {@value #NAME} by default, in the platform MBeanServer. To enable it,
+ * list it in {@code META-INF/services/com.amihaiemil.eoyaml.YamlMetrics}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 6.0.2
+ * @checkstyle ClassDataAbstractionCoupling (200 lines)
+ */
+public final class JmxYamlMetrics implements YamlMetrics, YamlMetricsMXBean {
+
+    /**
+     * Default name of the MXBean.
+     */
+    public static final String NAME = "com.amihaiemil.eoyaml:type=YamlMetrics";
+
+    /**
+     * Read inputs.
+     */
+    private final LongAdder inputs = new LongAdder();
+
+    /**
+     * Read bytes.
+     */
+    private final LongAdder bytes = new LongAdder();
+
+    /**
+     * Read lines.
+     */
+    private final LongAdder lines = new LongAdder();
+
+    /**
+     * Reading time.
+     */
+    private final LongAdder reading = new LongAdder();
+
+    /**
+     * Key lookups.
+     */
+    private final LongAdder lookups = new LongAdder();
+
+    /**
+     * Keys not found.
+     */
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Lines scanned for keys.
+     */
+    private final LongAdder scanned = new LongAdder();
+
+    /**
+     * Lookup time.
+     */
+    private final LongAdder looking = new LongAdder();
+
+    /**
+     * Prints.
+     */
+    private final LongAdder prints = new LongAdder();
+
+    /**
+     * Printed nodes.
+     */
+    private final LongAdder nodes = new LongAdder();
+
+    /**
+     * Printed chars.
+     */
+    private final LongAdder chars = new LongAdder();
+
+    /**
+     * Printing time.
+     */
+    private final LongAdder printing = new LongAdder();
+
+    /**
+     * Ctor, publishing the metrics under the default name.
+     * @throws IllegalStateException If the MXBean cannot be registered.
+     */
+    public JmxYamlMetrics() {
+        this(JmxYamlMetrics.NAME);
+    }
+
+    /**
+     * Ctor, publishing the metrics under the given name. If an MXBean
+     * is already registered under it, these metrics are not published.
+     * @param name Name of the MXBean.
+     * @throws IllegalStateException If the MXBean cannot be registered.
+     */
+    public JmxYamlMetrics(final String name) {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(
+                this, new ObjectName(name)
+            );
+        } catch (final InstanceAlreadyExistsException ex) {
+            //already published, probably by another class loader.
+        } catch (final MalformedObjectNameException ex) {
+            throw new IllegalArgumentException(
+                "Invalid MXBean name: " + name, ex
+            );
+        } catch (final JMException ex) {
+            throw new IllegalStateException(
+                "Could not register the YamlMetrics MXBean.", ex
+            );
+        }
+    }
+
+    @Override
+    public void inputRead(
+        final long read, final int count, final long nanos
+    ) {
+        this.inputs.increment();
+        this.bytes.add(read);
+        this.lines.add(count);
+        this.reading.add(nanos);
+    }
+
+    @Override
+    public void keyLookedUp(
+        final YamlNode key, final int lines,
+        final boolean found, final long nanos
+    ) {
+        this.lookups.increment();
+        if(!found) {
+            this.misses.increment();
+        }
+        this.scanned.add(lines);
+        this.looking.add(nanos);
+    }
+
+    @Override
+    public void nodePrinted(
+        final int count, final long printed, final long nanos
+    ) {
+        this.prints.increment();
+        this.nodes.add(count);
+        this.chars.add(printed);
+        this.printing.add(nanos);
+    }
+
+    @Override
+    public long getInputsRead() {
+        return this.inputs.sum();
+    }
+
+    @Override
+    public long getBytesRead() {
+        return this.bytes.sum();
+    }
+
+    @Override
+    public long getLinesRead() {
+        return this.lines.sum();
+    }
+
+    @Override
+    public long getReadNanos() {
+        return this.reading.sum();
+    }
+
+    @Override
+    public long getKeyLookups() {
+        return this.lookups.sum();
+    }
+
+    @Override
+    public long getKeyMisses() {
+        return this.misses.sum();
+    }
+
+    @Override
+    public long getLinesScanned() {
+        return this.scanned.sum();
+    }
+
+    @Override
+    public long getLookupNanos() {
+        return this.looking.sum();
+    }
+
+    @Override
+    public long getPrints() {
+        return this.prints.sum();
+    }
+
+    @Override
+    public long getNodesPrinted() {
+        return this.nodes.sum();
+    }
+
+    @Override
+    public long getCharsPrinted() {
+        return this.chars.sum();
+    }
+
+    @Override
+    public long getPrintNanos() {
+        return this.printing.sum();
+    }
+
+    @Override
+    public void reset() {
+        this.inputs.reset();
+        this.bytes.reset();
+        this.lines.reset();
+        this.reading.reset();
+        this.lookups.reset();
+        this.misses.reset();
+        this.scanned.reset();
+        this.looking.reset();
+        this.prints.reset();
+        this.nodes.reset();
+        this.chars.reset();
+        this.printing.reset();
+    }
+}
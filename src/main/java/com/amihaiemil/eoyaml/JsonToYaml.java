@@ -0,0 +1,300 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import javax.json.stream.JsonParser;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Streaming conversion of JSON to YAML. It consumes the events of a
+ * {@link JsonParser} and writes the YAML straight to a {@link Writer},
+ * without building any intermediate JsonValue or YamlNode. The memory it
+ * uses depends only on the nesting depth of the document, not on its size.
+ * The output has the same layout as the one of {@link RtYamlPrinter}.
+ * @checkstyle CyclomaticComplexity (300 lines)
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 6.0.2
+ */
+final class JsonToYaml {
+
+    /**
+     * Characters which make a plain scalar ambiguous, so it has to be
+     * quoted. Same as in {@link RtYamlPrinter.Escaped}, plus a few
+     * indicators which may not start a plain scalar.
+     */
+    private static final String SPECIAL = "\\?-#:>|$%&{}[],!*@`'\"";
+
+    /**
+     * Source of JSON events.
+     */
+    private final JsonParser json;
+
+    /**
+     * Destination of the YAML.
+     */
+    private final Writer writer;
+
+    /**
+     * Constructor.
+     * @param json Source of JSON events.
+     * @param writer Destination of the YAML.
+     */
+    JsonToYaml(final JsonParser json, final Writer writer) {
+        this.json = json;
+        this.writer = writer;
+    }
+
+    /**
+     * Convert the JSON to YAML. The Writer is closed at the end.
+     * @throws IOException If something goes wrong while writing.
+     */
+    void convert() throws IOException {
+        try {
+            final Deque<Level> levels = new ArrayDeque<>();
+            while (this.json.hasNext()) {
+                final JsonParser.Event event = this.json.next();
+                final Level top = levels.peek();
+                switch (event) {
+                    case START_OBJECT:
+                    case START_ARRAY:
+                        final int indentation;
+                        if (top == null) {
+                            indentation = 0;
+                        } else {
+                            this.item(top);
+                            indentation = top.indentation + 2;
+                        }
+                        levels.push(
+                            new Level(
+                                event == JsonParser.Event.START_OBJECT,
+                                indentation,
+                                top == null
+                            )
+                        );
+                        break;
+                    case END_OBJECT:
+                    case END_ARRAY:
+                        this.close(levels.pop());
+                        break;
+                    case KEY_NAME:
+                        this.entry(top);
+                        this.writer
+                            .append(escaped(this.json.getString()))
+                            .append(':');
+                        break;
+                    default:
+                        this.scalar(top, this.value(event));
+                        break;
+                }
+            }
+        } finally {
+            this.writer.close();
+        }
+    }
+
+    /**
+     * Write a scalar value, in the given level.
+     * @param level Current level, null if the scalar is the whole document.
+     * @param value Value to write.
+     * @throws IOException If something goes wrong while writing.
+     */
+    private void scalar(final Level level, final String value)
+        throws IOException {
+        if (level == null) {
+            this.writer
+                .append("---").append(System.lineSeparator())
+                .append(value)
+                .append(System.lineSeparator()).append("...");
+        } else {
+            this.item(level);
+            this.writer.append(' ').append(value);
+        }
+    }
+
+    /**
+     * If the level is a sequence, start a new item in it ("-").
+     * Mapping entries are started by the key, so nothing to do for them.
+     * @param level Current level.
+     * @throws IOException If something goes wrong while writing.
+     */
+    private void item(final Level level) throws IOException {
+        if (!level.mapping) {
+            this.entry(level);
+            this.writer.append('-');
+        }
+    }
+
+    /**
+     * Start a new entry in the given level. If it's the first one, the
+     * level itself has to be started on a new line (unless it's the root).
+     * @param level Current level.
+     * @throws IOException If something goes wrong while writing.
+     */
+    private void entry(final Level level) throws IOException {
+        if (!level.empty || !level.root) {
+            this.writer.append(System.lineSeparator());
+        }
+        level.empty = false;
+        for (int idx = 0; idx < level.indentation; ++idx) {
+            this.writer.append(' ');
+        }
+    }
+
+    /**
+     * Close the given level. Only empty levels produce any output,
+     * in flow style ({} or []).
+     * @param level Closed level.
+     * @throws IOException If something goes wrong while writing.
+     */
+    private void close(final Level level) throws IOException {
+        if (level.empty) {
+            if (!level.root) {
+                this.writer.append(' ');
+            }
+            if (level.mapping) {
+                this.writer.append("{}");
+            } else {
+                this.writer.append("[]");
+            }
+        }
+    }
+
+    /**
+     * YAML representation of the current scalar event.
+     * @param event Scalar event.
+     * @return String.
+     */
+    private String value(final JsonParser.Event event) {
+        final String value;
+        switch (event) {
+            case VALUE_STRING:
+                value = escaped(this.json.getString());
+                break;
+            case VALUE_NUMBER:
+                value = this.json.getString();
+                break;
+            case VALUE_TRUE:
+                value = "true";
+                break;
+            case VALUE_FALSE:
+                value = "false";
+                break;
+            default:
+                value = "null";
+                break;
+        }
+        return value;
+    }
+
+    /**
+     * Escape a JSON String, so it stays a String when read as YAML.
+     * Values which contain special characters or which would be resolved
+     * as a different type (e.g. "123" or "true") are double-quoted.
+     * @param value JSON String.
+     * @return Plain or double-quoted YAML scalar.
+     */
+    private static String escaped(final String value) {
+        boolean quote = value.trim().length() != value.length()
+            || CoreSchema.isTyped(value);
+        for (int idx = 0; !quote && idx < value.length(); ++idx) {
+            final char chr = value.charAt(idx);
+            quote = chr < ' ' || SPECIAL.indexOf(chr) >= 0;
+        }
+        final String escaped;
+        if (quote) {
+            final StringBuilder quoted = new StringBuilder("\"");
+            for (int idx = 0; idx < value.length(); ++idx) {
+                final char chr = value.charAt(idx);
+                if (chr == '"' || chr == '\\') {
+                    quoted.append('\\').append(chr);
+                } else if (chr == '\n') {
+                    quoted.append("\\n");
+                } else if (chr == '\r') {
+                    quoted.append("\\r");
+                } else if (chr == '\t') {
+                    quoted.append("\\t");
+                } else if (chr < ' ') {
+                    quoted.append(String.format("\\u%04x", (int) chr));
+                } else {
+                    quoted.append(chr);
+                }
+            }
+            escaped = quoted.append('"').toString();
+        } else {
+            escaped = value;
+        }
+        return escaped;
+    }
+
+    /**
+     * A level of nesting: an open JSON object or array.
+     * @author Mihai Andronache (amihaiemil@gmail.com)
+     * @version $Id$
+     * @since 6.0.2
+     */
+    private static final class Level {
+
+        /**
+         * Is it a mapping (JSON object) or a sequence (JSON array)?
+         */
+        private final boolean mapping;
+
+        /**
+         * Indentation of the level's entries.
+         */
+        private final int indentation;
+
+        /**
+         * Is it the root of the document?
+         */
+        private final boolean root;
+
+        /**
+         * Has nothing been written in this level yet?
+         */
+        private boolean empty;
+
+        /**
+         * Constructor.
+         * @param mapping Is it a mapping?
+         * @param indentation Indentation of the entries.
+         * @param root Is it the root?
+         */
+        Level(final boolean mapping, final int indentation,
+            final boolean root) {
+            this.mapping = mapping;
+            this.indentation = indentation;
+            this.root = root;
+            this.empty = true;
+        }
+    }
+}
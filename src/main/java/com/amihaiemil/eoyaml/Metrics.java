@@ -0,0 +1,300 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ServiceLoader;
+
+/**
+ * The {@link YamlMetrics} in use, found with the {@link ServiceLoader}.
+ * If more are found, each one of them is notified.
+ * Callers check {@link #ENABLED} before measuring anything: it is a
+ * constant, so the checks are removed by the JIT when no metrics
+ * are provided.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 6.0.2
+ */
+final class Metrics {
+
+    /**
+     * Metrics in use, if any.
+     */
+    static final YamlMetrics CURRENT = Metrics.load();
+
+    /**
+     * Are metrics enabled?
+     */
+    static final boolean ENABLED = CURRENT != null;
+
+    /**
+     * Hidden ctor.
+     */
+    private Metrics() {
+    }
+
+    /**
+     * Count the characters written to the given Writer, if metrics
+     * are enabled.
+     * @param writer Writer.
+     * @return Counting Writer, or the same Writer if metrics are disabled.
+     */
+    static Writer counted(final Writer writer) {
+        final Writer counted;
+        if(ENABLED) {
+            counted = new Counting(writer);
+        } else {
+            counted = writer;
+        }
+        return counted;
+    }
+
+    /**
+     * Count the bytes read from the given InputStream, if metrics
+     * are enabled.
+     * @param input InputStream.
+     * @return Counting InputStream, or the same one if metrics are
+     *  disabled.
+     */
+    static InputStream counted(final InputStream input) {
+        final InputStream counted;
+        if(ENABLED) {
+            counted = new CountingInput(input);
+        } else {
+            counted = input;
+        }
+        return counted;
+    }
+
+    /**
+     * Number of bytes read from an InputStream returned by
+     * {@link #counted(InputStream)}.
+     * @param input InputStream.
+     * @return Number of bytes or -1 if they are not counted.
+     */
+    static long bytes(final InputStream input) {
+        final long bytes;
+        if(input instanceof CountingInput) {
+            bytes = ((CountingInput) input).bytes;
+        } else {
+            bytes = -1;
+        }
+        return bytes;
+    }
+
+    /**
+     * Number of characters written to a Writer returned by
+     * {@link #counted(Writer)}.
+     * @param writer Writer.
+     * @return Number of characters or -1 if they are not counted.
+     */
+    static long chars(final Writer writer) {
+        final long chars;
+        if(writer instanceof Counting) {
+            chars = ((Counting) writer).chars;
+        } else {
+            chars = -1;
+        }
+        return chars;
+    }
+
+    /**
+     * Load the provided YamlMetrics.
+     * @return YamlMetrics or null if none are provided.
+     */
+    private static YamlMetrics load() {
+        final List<YamlMetrics> provided = new ArrayList<>();
+        for(final YamlMetrics metrics
+            : ServiceLoader.load(YamlMetrics.class)) {
+            provided.add(metrics);
+        }
+        final YamlMetrics metrics;
+        if(provided.isEmpty()) {
+            metrics = null;
+        } else if(provided.size() == 1) {
+            metrics = provided.get(0);
+        } else {
+            metrics = new All(provided);
+        }
+        return metrics;
+    }
+
+    /**
+     * Several YamlMetrics, notified in turn.
+     * @author Mihai Andronache (amihaiemil@gmail.com)
+     * @version $Id$
+     * @since 6.0.2
+     */
+    private static final class All implements YamlMetrics {
+
+        /**
+         * Notified metrics.
+         */
+        private final YamlMetrics[] all;
+
+        /**
+         * Ctor.
+         * @param all Notified metrics.
+         */
+        All(final List<YamlMetrics> all) {
+            this.all = all.toArray(new YamlMetrics[0]);
+        }
+
+        @Override
+        public void inputRead(
+            final long bytes, final int lines, final long nanos
+        ) {
+            for(final YamlMetrics metrics : this.all) {
+                metrics.inputRead(bytes, lines, nanos);
+            }
+        }
+
+        @Override
+        public void keyLookedUp(
+            final YamlNode key, final int scanned,
+            final boolean found, final long nanos
+        ) {
+            for(final YamlMetrics metrics : this.all) {
+                metrics.keyLookedUp(key, scanned, found, nanos);
+            }
+        }
+
+        @Override
+        public void nodePrinted(
+            final int nodes, final long chars, final long nanos
+        ) {
+            for(final YamlMetrics metrics : this.all) {
+                metrics.nodePrinted(nodes, chars, nanos);
+            }
+        }
+    }
+
+    /**
+     * InputStream which counts the bytes read through it.
+     * @author Mihai Andronache (amihaiemil@gmail.com)
+     * @version $Id$
+     * @since 6.0.2
+     */
+    private static final class CountingInput extends FilterInputStream {
+
+        /**
+         * Bytes read so far.
+         */
+        private long bytes;
+
+        /**
+         * Ctor.
+         * @param origin Original InputStream.
+         */
+        CountingInput(final InputStream origin) {
+            super(origin);
+        }
+
+        @Override
+        public int read() throws IOException {
+            final int read = super.read();
+            if(read >= 0) {
+                ++this.bytes;
+            }
+            return read;
+        }
+
+        @Override
+        public int read(final byte[] bytes, final int off, final int len)
+            throws IOException {
+            final int read = super.read(bytes, off, len);
+            if(read > 0) {
+                this.bytes += read;
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(final long num) throws IOException {
+            final long skipped = super.skip(num);
+            this.bytes += skipped;
+            return skipped;
+        }
+    }
+
+    /**
+     * Writer which counts the characters written through it.
+     * @author Mihai Andronache (amihaiemil@gmail.com)
+     * @version $Id$
+     * @since 6.0.2
+     */
+    private static final class Counting extends Writer {
+
+        /**
+         * Original Writer.
+         */
+        private final Writer origin;
+
+        /**
+         * Characters written so far.
+         */
+        private long chars;
+
+        /**
+         * Ctor.
+         * @param origin Original Writer.
+         */
+        Counting(final Writer origin) {
+            this.origin = origin;
+        }
+
+        @Override
+        public void write(final char[] cbuf, final int off, final int len)
+            throws IOException {
+            this.origin.write(cbuf, off, len);
+            this.chars += len;
+        }
+
+        @Override
+        public void write(final String str, final int off, final int len)
+            throws IOException {
+            this.origin.write(str, off, len);
+            this.chars += len;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            this.origin.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            this.origin.close();
+        }
+    }
+}
@@ -0,0 +1,296 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.util.Arrays;
+
+/**
+ * Immutable hash array mapped trie (HAMT). Adding a key returns a new map
+ * which copies only the O(log32 N) nodes on the path to that key and shares
+ * everything else with this one. It does not keep the insertion order, it
+ * is meant to be paired with a {@link PersistentVector} of keys for that.
+ * Null values are allowed, null keys are not.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 6.0.2
+ * @param <K> Type of the keys.
+ * @param <V> Type of the values.
+ */
+final class PersistentHashMap<K, V> {
+
+    /**
+     * Root node.
+     */
+    private final Node root;
+
+    /**
+     * Number of keys.
+     */
+    private final int count;
+
+    /**
+     * Ctor for an empty map.
+     */
+    PersistentHashMap() {
+        this(new Node(0, new Object[0]), 0);
+    }
+
+    /**
+     * Constructor.
+     * @param root Root node.
+     * @param count Number of keys.
+     */
+    private PersistentHashMap(final Node root, final int count) {
+        this.root = root;
+        this.count = count;
+    }
+
+    /**
+     * Put a key, replacing its value if it is already present.
+     * @param key Key.
+     * @param value Value.
+     * @return New map, this one stays unchanged.
+     */
+    PersistentHashMap<K, V> with(final K key, final V value) {
+        final int size;
+        if (this.containsKey(key)) {
+            size = this.count;
+        } else {
+            size = this.count + 1;
+        }
+        return new PersistentHashMap<>(
+            this.root.with(new Entry(key, value, key.hashCode()), 0), size
+        );
+    }
+
+    /**
+     * Value of the given key.
+     * @param key Key.
+     * @return Value or null if the key is missing.
+     */
+    @SuppressWarnings("unchecked")
+    V get(final Object key) {
+        final Entry entry = this.root.find(key, key.hashCode(), 0);
+        final V value;
+        if (entry == null) {
+            value = null;
+        } else {
+            value = (V) entry.value;
+        }
+        return value;
+    }
+
+    /**
+     * Is the given key present?
+     * @param key Key.
+     * @return True or false.
+     */
+    boolean containsKey(final Object key) {
+        return this.root.find(key, key.hashCode(), 0) != null;
+    }
+
+    /**
+     * Number of keys.
+     * @return Integer.
+     */
+    int size() {
+        return this.count;
+    }
+
+    /**
+     * Key-value pair stored in the trie.
+     * @author Mihai Andronache (amihaiemil@gmail.com)
+     * @version $Id$
+     * @since 6.0.2
+     */
+    private static final class Entry {
+
+        /**
+         * Key.
+         */
+        private final Object key;
+
+        /**
+         * Value.
+         */
+        private final Object value;
+
+        /**
+         * Hash of the key.
+         */
+        private final int hash;
+
+        /**
+         * Constructor.
+         * @param key Key.
+         * @param value Value.
+         * @param hash Hash of the key.
+         */
+        Entry(final Object key, final Object value, final int hash) {
+            this.key = key;
+            this.value = value;
+            this.hash = hash;
+        }
+    }
+
+    /**
+     * Node of the trie. Each level consumes 5 bits of the hash; the bitmap
+     * tells which of the 32 slots are used and the array holds only those,
+     * each being either an Entry or a deeper Node. Once the hash bits are
+     * exhausted, the node is a plain bucket of colliding entries.
+     * @author Mihai Andronache (amihaiemil@gmail.com)
+     * @version $Id$
+     * @since 6.0.2
+     */
+    private static final class Node {
+
+        /**
+         * Shift from which the hash bits are exhausted.
+         */
+        private static final int BUCKET = 32;
+
+        /**
+         * Used slots.
+         */
+        private final int bitmap;
+
+        /**
+         * Entries or sub-nodes, one for each bit set in the bitmap.
+         */
+        private final Object[] slots;
+
+        /**
+         * Constructor.
+         * @param bitmap Used slots.
+         * @param slots Entries or sub-nodes.
+         */
+        Node(final int bitmap, final Object[] slots) {
+            this.bitmap = bitmap;
+            this.slots = slots;
+        }
+
+        /**
+         * Find the entry of a key.
+         * @param key Key.
+         * @param hash Hash of the key.
+         * @param shift Level of this node.
+         * @return Entry or null if the key is missing.
+         */
+        Entry find(final Object key, final int hash, final int shift) {
+            Entry found = null;
+            if (shift >= BUCKET) {
+                for (final Object slot : this.slots) {
+                    if (((Entry) slot).key.equals(key)) {
+                        found = (Entry) slot;
+                        break;
+                    }
+                }
+            } else {
+                final int bit = 1 << ((hash >>> shift) & 31);
+                if ((this.bitmap & bit) != 0) {
+                    final Object slot = this.slots[this.index(bit)];
+                    if (slot instanceof Node) {
+                        found = ((Node) slot).find(key, hash, shift + 5);
+                    } else if (((Entry) slot).key.equals(key)) {
+                        found = (Entry) slot;
+                    }
+                }
+            }
+            return found;
+        }
+
+        /**
+         * Copy of this node, with the given entry put into it.
+         * @param entry Entry to put.
+         * @param shift Level of this node.
+         * @return New node.
+         */
+        Node with(final Entry entry, final int shift) {
+            final Node node;
+            if (shift >= BUCKET) {
+                node = this.withColliding(entry);
+            } else {
+                final int bit = 1 << ((entry.hash >>> shift) & 31);
+                final int idx = this.index(bit);
+                if ((this.bitmap & bit) == 0) {
+                    final Object[] grown = new Object[this.slots.length + 1];
+                    System.arraycopy(this.slots, 0, grown, 0, idx);
+                    grown[idx] = entry;
+                    System.arraycopy(
+                        this.slots, idx, grown, idx + 1,
+                        this.slots.length - idx
+                    );
+                    node = new Node(this.bitmap | bit, grown);
+                } else {
+                    final Object slot = this.slots[idx];
+                    final Object replacement;
+                    if (slot instanceof Node) {
+                        replacement = ((Node) slot).with(entry, shift + 5);
+                    } else if (((Entry) slot).key.equals(entry.key)) {
+                        replacement = entry;
+                    } else {
+                        replacement = new Node(0, new Object[0])
+                            .with((Entry) slot, shift + 5)
+                            .with(entry, shift + 5);
+                    }
+                    final Object[] copy = this.slots.clone();
+                    copy[idx] = replacement;
+                    node = new Node(this.bitmap, copy);
+                }
+            }
+            return node;
+        }
+
+        /**
+         * Copy of this bucket, with the given entry put into it.
+         * @param entry Entry to put.
+         * @return New node.
+         */
+        private Node withColliding(final Entry entry) {
+            int idx = 0;
+            while (idx < this.slots.length
+                && !((Entry) this.slots[idx]).key.equals(entry.key)) {
+                idx = idx + 1;
+            }
+            final Object[] copy = Arrays.copyOf(
+                this.slots, Math.max(this.slots.length, idx + 1)
+            );
+            copy[idx] = entry;
+            return new Node(0, copy);
+        }
+
+        /**
+         * Position, in the slots array, of the given bit.
+         * @param bit Bit of the slot.
+         * @return Integer.
+         */
+        private int index(final int bit) {
+            return Integer.bitCount(this.bitmap & (bit - 1));
+        }
+    }
+}
@@ -0,0 +1,213 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+
+/**
+ * Immutable, append-only List backed by a 32-way trie with a tail buffer.
+ * Appending returns a new vector which shares all the full leaves and
+ * inner nodes with this one, so it costs O(1) amortized instead of
+ * copying the whole List. Used by the builders, which have to stay
+ * immutable while being called once per added element.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 6.0.2
+ * @param <E> Type of the elements.
+ */
+final class PersistentVector<E> extends AbstractList<E> {
+
+    /**
+     * Bits used by each level of the trie.
+     */
+    private static final int BITS = 5;
+
+    /**
+     * Maximum number of slots in a node.
+     */
+    private static final int WIDTH = 1 << BITS;
+
+    /**
+     * Mask selecting the slot of an index within a node.
+     */
+    private static final int MASK = WIDTH - 1;
+
+    /**
+     * Number of elements.
+     */
+    private final int count;
+
+    /**
+     * Shift of the root node.
+     */
+    private final int shift;
+
+    /**
+     * Root of the trie, holding all but the last, incomplete, leaf.
+     */
+    private final Object[] root;
+
+    /**
+     * Last leaf, not yet pushed into the trie.
+     */
+    private final Object[] tail;
+
+    /**
+     * Ctor for an empty vector.
+     */
+    PersistentVector() {
+        this(0, BITS, new Object[0], new Object[0]);
+    }
+
+    /**
+     * Constructor.
+     * @param count Number of elements.
+     * @param shift Shift of the root node.
+     * @param root Root of the trie.
+     * @param tail Last leaf.
+     * @checkstyle ParameterNumber (5 lines)
+     */
+    private PersistentVector(
+        final int count, final int shift,
+        final Object[] root, final Object[] tail
+    ) {
+        this.count = count;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    /**
+     * Append an element.
+     * @param element Element to append.
+     * @return New vector, this one stays unchanged.
+     */
+    PersistentVector<E> with(final E element) {
+        final PersistentVector<E> added;
+        if (this.count - this.tailOffset() < WIDTH) {
+            final Object[] leaf = Arrays.copyOf(
+                this.tail, this.tail.length + 1
+            );
+            leaf[this.tail.length] = element;
+            added = new PersistentVector<>(
+                this.count + 1, this.shift, this.root, leaf
+            );
+        } else {
+            final Object[] trie;
+            int level = this.shift;
+            if ((this.count >>> BITS) > (1 << this.shift)) {
+                trie = new Object[] {
+                    this.root, path(this.shift, this.tail),
+                };
+                level = level + BITS;
+            } else {
+                trie = this.pushTail(this.shift, this.root);
+            }
+            added = new PersistentVector<>(
+                this.count + 1, level, trie, new Object[] {element}
+            );
+        }
+        return added;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(final int index) {
+        if (index < 0 || index >= this.count) {
+            throw new IndexOutOfBoundsException(
+                "Index: " + index + ", Size: " + this.count
+            );
+        }
+        final E element;
+        if (index >= this.tailOffset()) {
+            element = (E) this.tail[index & MASK];
+        } else {
+            Object[] node = this.root;
+            for (int level = this.shift; level > 0; level = level - BITS) {
+                node = (Object[]) node[(index >>> level) & MASK];
+            }
+            element = (E) node[index & MASK];
+        }
+        return element;
+    }
+
+    @Override
+    public int size() {
+        return this.count;
+    }
+
+    /**
+     * Index of the first element kept in the tail.
+     * @return Integer.
+     */
+    private int tailOffset() {
+        final int offset;
+        if (this.count < WIDTH) {
+            offset = 0;
+        } else {
+            offset = ((this.count - 1) >>> BITS) << BITS;
+        }
+        return offset;
+    }
+
+    /**
+     * Copy the path to the rightmost leaf, adding the full tail to it.
+     * @param level Level of the given node.
+     * @param parent Node at that level.
+     * @return Copy of the node, with the tail pushed in.
+     */
+    private Object[] pushTail(final int level, final Object[] parent) {
+        final int slot = ((this.count - 1) >>> level) & MASK;
+        final Object[] copy = Arrays.copyOf(
+            parent, Math.max(parent.length, slot + 1)
+        );
+        if (level == BITS) {
+            copy[slot] = this.tail;
+        } else if (slot < parent.length) {
+            copy[slot] = this.pushTail(level - BITS, (Object[]) parent[slot]);
+        } else {
+            copy[slot] = path(level - BITS, this.tail);
+        }
+        return copy;
+    }
+
+    /**
+     * Build a new path of nodes, from the given level down to the leaf.
+     * @param level Level of the topmost node.
+     * @param leaf Leaf at the bottom.
+     * @return Topmost node.
+     */
+    private static Object[] path(final int level, final Object[] leaf) {
+        Object[] node = leaf;
+        for (int current = level; current > 0; current = current - BITS) {
+            node = new Object[] {node};
+        }
+        return node;
+    }
+}
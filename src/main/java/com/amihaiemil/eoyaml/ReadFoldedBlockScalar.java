@@ -28,6 +28,7 @@
 package com.amihaiemil.eoyaml;
 
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 
 /**
@@ -89,7 +90,7 @@ final class ReadFoldedBlockScalar extends BaseFoldedScalar {
         this.significant = new GreaterIndentation(
             previous,
             new Skip(
-                lines,
+                lines.after(previous),
                 line -> line.number() <= previous.number(),
                 line -> line.trimmed().endsWith(">"),
                 line -> line.trimmed().startsWith("---"),
@@ -106,8 +107,12 @@ final class ReadFoldedBlockScalar extends BaseFoldedScalar {
      * @return Boolean Whether builder do not end with newline char or not
      */
     private boolean doNotEndWithNewLine(final StringBuilder builder) {
+        final String newLine = System.lineSeparator();
         return builder.length() > 0
-                && !builder.toString().endsWith(System.lineSeparator());
+            && (builder.length() < newLine.length()
+                || !newLine.equals(
+                    builder.substring(builder.length() - newLine.length())
+                ));
     }
     /**
      * Value of this scalar.
@@ -116,12 +121,16 @@ final class ReadFoldedBlockScalar extends BaseFoldedScalar {
     public String value() {
         StringBuilder builder = new StringBuilder();
         final String newLine = System.lineSeparator();
+        int base = -1;
         for(final YamlLine line: this.significant) {
-            if(line.trimmed().length() == 0 || line.indentation() > 0) {
+            if(base < 0 && line.trimmed().length() > 0) {
+                base = line.indentation();
+            }
+            if(line.trimmed().length() == 0 || line.indentation() > base) {
                 if(this.doNotEndWithNewLine(builder)) {
                     builder.append(newLine);
                 }
-                int indentation = line.indentation();
+                int indentation = line.indentation() - Math.max(base, 0);
                 for(int i = 0; i < indentation; i++) {
                     builder.append(' ');
                 }
@@ -139,27 +148,39 @@ final class ReadFoldedBlockScalar extends BaseFoldedScalar {
 
     @Override
     public Comment comment() {
+        final Comment comment;
+        if(this.all.comments()) {
+            comment = this.readComment();
+        } else {
+            comment = new BuiltComment(this, "");
+        }
+        return comment;
+    }
+
+    /**
+     * Read the comment of this node from the YAML lines.
+     * @return Comment.
+     */
+    private Comment readComment() {
+        final int stop;
+        if(this.previous.number() < 0) {
+            final Iterator<YamlLine> first = this.significant.iterator();
+            if(first.hasNext()) {
+                stop = first.next().number();
+            } else {
+                stop = Integer.MAX_VALUE;
+            }
+        } else {
+            stop = this.previous.number();
+        }
         //@checkstyle LineLength (50 lines)
         return new ReadComment(
             new Backwards(
                 new FirstCommentFound(
                     new Backwards(
                         new Skip(
-                            this.all,
-                            line -> {
-                                final boolean skip;
-                                if(this.previous.number() < 0) {
-                                    if(this.significant.iterator().hasNext()) {
-                                        skip = line.number() >= this.significant
-                                                .iterator().next().number();
-                                    } else {
-                                        skip = false;
-                                    }
-                                } else {
-                                    skip = line.number() >= this.previous.number();
-                                }
-                                return skip;
-                            },
+                            this.all.before(stop),
+                            line -> line.number() >= stop,
                             line -> line.trimmed().startsWith("---"),
                             line -> line.trimmed().startsWith("..."),
                             line -> line.trimmed().startsWith("%"),
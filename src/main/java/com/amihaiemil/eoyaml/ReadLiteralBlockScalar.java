@@ -27,6 +27,8 @@
  */
 package com.amihaiemil.eoyaml;
 
+import java.util.Iterator;
+
 /**
  * Read Yaml literal block Scalar. This is a Scalar spanning multiple lines.
  * This Scalar's lines will be treated as separate lines and won't be folded
@@ -85,7 +87,7 @@ final class ReadLiteralBlockScalar extends BaseScalar {
         this.significant = new GreaterIndentation(
             previous,
             new Skip(
-                lines,
+                lines.after(previous),
                 line -> line.number() <= previous.number(),
                 line -> {
                     final YamlLine key = previous;
@@ -123,27 +125,39 @@ final class ReadLiteralBlockScalar extends BaseScalar {
 
     @Override
     public Comment comment() {
+        final Comment comment;
+        if(this.all.comments()) {
+            comment = this.readComment();
+        } else {
+            comment = new BuiltComment(this, "");
+        }
+        return comment;
+    }
+
+    /**
+     * Read the comment of this node from the YAML lines.
+     * @return Comment.
+     */
+    private Comment readComment() {
+        final int stop;
+        if(this.previous.number() < 0) {
+            final Iterator<YamlLine> first = this.significant.iterator();
+            if(first.hasNext()) {
+                stop = first.next().number();
+            } else {
+                stop = Integer.MAX_VALUE;
+            }
+        } else {
+            stop = this.previous.number();
+        }
         return new ReadComment(
             //@checkstyle LineLength (50 lines)
             new Backwards(
                 new FirstCommentFound(
                     new Backwards(
                         new Skip(
-                            this.all,
-                            line -> {
-                                final boolean skip;
-                                if(this.previous.number() < 0) {
-                                    if(this.significant.iterator().hasNext()) {
-                                        skip = line.number() >= this.significant
-                                                .iterator().next().number();
-                                    } else {
-                                        skip = false;
-                                    }
-                                } else {
-                                    skip = line.number() >= this.previous.number();
-                                }
-                                return skip;
-                            },
+                            this.all.before(stop),
+                            line -> line.number() >= stop,
                             line -> line.trimmed().startsWith("---"),
                             line -> line.trimmed().startsWith("..."),
                             line -> line.trimmed().startsWith("%"),
@@ -111,6 +111,33 @@ final class ReadPlainScalar extends BaseScalar {
      */
     @Override
     public String value() {
+        final String value = this.raw();
+        if("null".equals(value)) {
+            return null;
+        } else {
+            return this.unescape(value);
+        }
+    }
+
+    /**
+     * Was this scalar written between quotes or apostrophes? Quoted
+     * scalars are always Strings, they are not resolved as numbers,
+     * booleans or null.
+     * @return True or false.
+     */
+    boolean quoted() {
+        final String value = this.raw();
+        return value != null && value.length() > 1
+            && (value.startsWith("\"") && value.endsWith("\"")
+            || value.startsWith("'") && value.endsWith("'"));
+    }
+
+    /**
+     * The value of this scalar, as written in the YAML (with quotes,
+     * if any).
+     * @return String.
+     */
+    private String raw() {
         String value = this.scalar.trimmed();
         Matcher matcher = this.escapedSequenceScalar(this.scalar);
         if(matcher.matches()) {
@@ -122,15 +149,28 @@ final class ReadPlainScalar extends BaseScalar {
                 value = matcher.group(SEQUENCE_GROUP).trim();
             }
         }
-        if("null".equals(value)) {
-            return null;
-        } else {
-            return this.unescape(value);
-        }
+        return value;
     }
 
     @Override
     public Comment comment() {
+        final Comment comment;
+        if(this.all.comments()) {
+            comment = this.readComment();
+        } else {
+            comment = new Concatenated(
+                new BuiltComment(this, ""),
+                new BuiltComment(this, "")
+            );
+        }
+        return comment;
+    }
+
+    /**
+     * Read the comment of this node from the YAML lines.
+     * @return Comment.
+     */
+    private Comment readComment() {
         final Comment comment;
         if(this.scalar instanceof YamlLine.NullYamlLine) {
             comment = new Concatenated(
@@ -145,7 +185,7 @@ final class ReadPlainScalar extends BaseScalar {
                         new FirstCommentFound(
                             new Backwards(
                                 new Skip(
-                                    this.all,
+                                    this.all.before(lineNumber),
                                     line -> line.number() >= lineNumber,
                                     line -> line.trimmed().startsWith("..."),
                                     line -> line.trimmed().startsWith("%"),
@@ -159,7 +199,9 @@ final class ReadPlainScalar extends BaseScalar {
                 ),
                 new ReadComment(
                     new Skip(
-                        this.all,
+                        this.all.between(
+                            lineNumber, lineNumber + 1
+                        ),
                         line -> line.number() != lineNumber
                     ),
                     this
@@ -96,6 +96,23 @@ final class ReadSingleLineSequence extends BaseYamlSequence {
 
     @Override
     public Comment comment() {
+        final Comment comment;
+        if(this.all.comments()) {
+            comment = this.readComment();
+        } else {
+            comment = new Concatenated(
+                new BuiltComment(this, ""),
+                new BuiltComment(this, "")
+            );
+        }
+        return comment;
+    }
+
+    /**
+     * Read the comment of this node from the YAML lines.
+     * @return Comment.
+     */
+    private Comment readComment() {
         final Comment comment;
         if (nested) {
             comment = new BuiltComment(this, "");
@@ -107,7 +124,7 @@ final class ReadSingleLineSequence extends BaseYamlSequence {
                                     new FirstCommentFound(
                                             new Backwards(
                                                     new Skip(
-                                                            this.all,
+                                                            this.all.before(lineNumber),
                                                             line -> line.number() >= lineNumber,
                                                             line -> line.trimmed().startsWith("..."),
                                                             line -> line.trimmed().startsWith("%"),
@@ -121,7 +138,7 @@ final class ReadSingleLineSequence extends BaseYamlSequence {
                     ),
                     new ReadComment(
                             new Skip(
-                                    this.all,
+                                    this.all.between(lineNumber, lineNumber + 1),
                                     line -> line.number() != lineNumber
                             ),
                             this
@@ -126,7 +126,7 @@ final class ReadYamlMapping extends BaseYamlMapping {
         this.significant = new SameIndentationLevel(
             new WellIndented(
                 new Skip(
-                    lines,
+                    lines.after(previous),
                     line -> line.number() <= previous.number(),
                     line -> line.trimmed().startsWith("#"),
                     line -> line.trimmed().startsWith("---"),
@@ -159,33 +159,7 @@ final class ReadYamlMapping extends BaseYamlMapping {
                 if(!trimmed.contains(":")) {
                     continue;
                 }
-                String key;
-                int colonPos = trimmed.indexOf(":");
-                final int doubleQuotePos = indexOf(trimmed, "(?<!\\\\)\"", 0);
-                final int singleQuotePos = indexOf(trimmed, "(?<!\\|')'(?!')", 0);
-                if(doubleQuotePos >= 0 && doubleQuotePos < colonPos) {
-                    colonPos = trimmed.indexOf(
-                        ":", indexOf(trimmed, "(?<!\\\\)\"", doubleQuotePos + 1));
-                } else if(singleQuotePos >= 0 && singleQuotePos < colonPos) {
-                    colonPos = trimmed.indexOf(
-                        ":", indexOf(trimmed, "(?<!\\|')'(?!')", singleQuotePos + 1));
-                }
-                if(trimmed.startsWith("-")) {
-                    key = trimmed.substring(
-                        1, colonPos
-                    ).trim();
-                } else {
-                    key = trimmed.substring(
-                        0, colonPos
-                    ).trim();
-                }
-                if(trimmed.startsWith("\"")
-                    || trimmed.startsWith("'")
-                ) {
-                    key = key.substring(
-                        1, key.length() - 1
-                    );
-                } 
+                final String key = unquoted(trimmed, this.rawKey(trimmed));
                 if(!key.isEmpty()) {
                     keys.add(new PlainStringScalar(key));
                 }
@@ -195,11 +169,63 @@ final class ReadYamlMapping extends BaseYamlMapping {
         return keys;
     }
 
+    /**
+     * The values of this mapping, in the order of its keys. They are read
+     * in a single pass over the lines, together with the keys, instead of
+     * looking up every key, which would read the lines once per key.
+     * @return Collection of {@link YamlNode}
+     */
+    @Override
+    public Collection<YamlNode> values() {
+        final Map<YamlNode, YamlNode> pairs = new LinkedHashMap<>();
+        YamlLine prev = new YamlLine.NullYamlLine();
+        final Iterator<YamlLine> lines = this.significant.iterator();
+        while (lines.hasNext()) {
+            final YamlLine line = lines.next();
+            final String trimmed = line.trimmed();
+            if(trimmed.startsWith(":")
+                || (trimmed.startsWith("-")
+                        && !(prev instanceof YamlLine.NullYamlLine))
+            ) {
+                continue;
+            } else if ("?".equals(trimmed)) {
+                final YamlNode key = this.significant.toYamlNode(
+                    line, this.guessIndentation
+                );
+                if(!lines.hasNext()) {
+                    throw new YamlReadingException(
+                        "No value found for existing complex key: "
+                      + System.lineSeparator()
+                      + key.toString()
+                    );
+                }
+                pairs.putIfAbsent(
+                    key, this.valueOfColonLine(key, lines.next())
+                );
+            } else {
+                if(!trimmed.contains(":")) {
+                    continue;
+                }
+                final String raw = this.rawKey(trimmed);
+                final String key = unquoted(trimmed, raw);
+                if(!key.isEmpty()) {
+                    pairs.putIfAbsent(
+                        new PlainStringScalar(key), this.valueOfLine(line, raw)
+                    );
+                }
+            }
+            prev = line;
+        }
+        return new ArrayList<>(pairs.values());
+    }
+
     @Override
     public YamlNode value(final YamlNode key) {
         final YamlNode value;
-        if(key instanceof Scalar) {
-            value = this.valueOfStringKey(((Scalar) key).value());
+        if(Metrics.ENABLED) {
+            value = this.measuredValue(key);
+        } else if(key instanceof Scalar) {
+            value = this.valueOfStringKey(((Scalar) key).value(), null);
         } else {
             value = this.valueOfNodeKey(key);
         }
@@ -208,28 +234,40 @@ final class ReadYamlMapping extends BaseYamlMapping {
 
     @Override
     public Comment comment() {
+        final Comment comment;
+        if(this.all.comments()) {
+            comment = this.readComment();
+        } else {
+            comment = new BuiltComment(this, "");
+        }
+        return comment;
+    }
+
+    /**
+     * Read the comment of this node from the YAML lines.
+     * @return Comment.
+     */
+    private Comment readComment() {
         boolean documentComment = this.previous.number() < 0;
+        final int stop;
+        if(documentComment) {
+            final Iterator<YamlLine> first = this.significant.iterator();
+            if(first.hasNext()) {
+                stop = first.next().number();
+            } else {
+                stop = Integer.MAX_VALUE;
+            }
+        } else {
+            stop = this.commentStop;
+        }
         //@checkstyle LineLength (50 lines)
         return new ReadComment(
             new Backwards(
                 new FirstCommentFound(
                     new Backwards(
                         new Skip(
-                            this.all,
-                            line -> {
-                                final boolean skip;
-                                if(documentComment) {
-                                    if(this.significant.iterator().hasNext()) {
-                                        skip = line.number() >= this.significant
-                                                .iterator().next().number();
-                                    } else {
-                                        skip = false;
-                                    }
-                                } else {
-                                    skip = line.number() >= commentStop;
-                                }
-                                return skip;
-                            },
+                            this.all.before(stop),
+                            line -> line.number() >= stop,
                             line -> line.trimmed().startsWith("..."),
                             line -> line.trimmed().startsWith("%"),
                             line -> line.trimmed().startsWith("!!")
@@ -242,14 +280,34 @@ final class ReadYamlMapping extends BaseYamlMapping {
         );
     }
 
+    /**
+     * The value of the given key, reported to the {@link YamlMetrics}.
+     * @param key Key.
+     * @return YamlNode or null if the key is not found.
+     */
+    private YamlNode measuredValue(final YamlNode key) {
+        final long start = System.nanoTime();
+        final int[] scanned = new int[1];
+        final YamlNode value;
+        if(key instanceof Scalar) {
+            value = this.valueOfStringKey(((Scalar) key).value(), scanned);
+        } else {
+            value = this.valueOfNodeKey(key);
+        }
+        Metrics.CURRENT.keyLookedUp(
+            key, scanned[0], value != null, System.nanoTime() - start
+        );
+        return value;
+    }
+
     /**
      * The YamlNode value associated with a String (scalar) key.
      * @param key String key.
+     * @param scanned Counter of the scanned lines, null if not counted.
      * @return YamlNode.
      * @checkstyle ReturnCount (50 lines)
-     * @checkstyle LineLength (30 lines)
      */
-    private YamlNode valueOfStringKey(final String key) {
+    private YamlNode valueOfStringKey(final String key, final int[] scanned) {
         YamlNode value = null;
         final String[] keys = new String[] {
             key,
@@ -258,36 +316,13 @@ final class ReadYamlMapping extends BaseYamlMapping {
         };
         for(final String tryKey : keys) {
             for (final YamlLine line : this.significant) {
-                final String trimmed = line.trimmed();
-                if(trimmed.matches("^-?[ ]*" + Pattern.quote(tryKey) + ":")
-                    || trimmed.matches("^" + Pattern.quote(tryKey) + ":[ ]*>$")
-                    || trimmed.matches("^" + Pattern.quote(tryKey) + ":[ ]*\\|[+-]?$")
-                ) {
-                    value = this.significant.toYamlNode(
-                        line, this.guessIndentation
-                    );
-                } else if (trimmed.matches(tryKey + ":[ ]*\\{}")) {
-                    value = new EmptyYamlMapping(new ReadYamlMapping(
-                            line.number(),
-                            this.all.line(line.number()),
-                            this.all,
-                            this.guessIndentation
-                    ));
-                } else if (trimmed.matches(tryKey + ":[ ]*\\[]")) {
-                    value = new EmptyYamlSequence(new ReadYamlSequence(
-                            this.all.line(line.number()),
-                            this.all,
-                            this.guessIndentation
-                    ));
-                } else if (trimmed.matches(tryKey + ":[ ]+\\[.*\\]")) {
-                    value = new ReadSingleLineSequence(this.all, line, trimmed, false);
-                } else if((trimmed.startsWith(tryKey + ":")
-                        || trimmed.startsWith("- " + tryKey + ":"))
-                        && trimmed.length() > 1
-                ) {
-                    value = new ReadPlainScalar(this.all, line);
+                if(scanned != null) {
+                    ++scanned[0];
                 }
-
+                if(!line.trimmed().contains(tryKey)) {
+                    continue;
+                }
+                value = this.valueOfLine(line, tryKey);
                 if(value != null) {
                     return value;
                 }
@@ -313,25 +348,7 @@ final class ReadYamlMapping extends BaseYamlMapping {
                     line, this.guessIndentation
                 );
                 if(keyNode.equals(key)) {
-                    final YamlLine colonLine = linesIt.next();
-                    if(":".equals(colonLine.trimmed())
-                        || colonLine.trimmed().matches("^\\:[ ]*\\>$")
-                        || colonLine.trimmed().matches("^\\:[ ]*\\|$")
-                    ) {
-                        value = this.significant.toYamlNode(
-                            colonLine, this.guessIndentation
-                        );
-                    } else if(colonLine.trimmed().startsWith(":")
-                        && (colonLine.trimmed().length() > 1)
-                    ){
-                        value = new ReadPlainScalar(this.all, colonLine);
-                    } else {
-                        throw new YamlReadingException(
-                            "No value found for existing complex key: "
-                          + System.lineSeparator()
-                          + key.toString()
-                        );
-                    }
+                    value = this.valueOfColonLine(key, linesIt.next());
                     break;
                 }
             }
@@ -339,6 +356,122 @@ final class ReadYamlMapping extends BaseYamlMapping {
         return value;
     }
 
+    /**
+     * The value on the given line of a String (scalar) key, or below it.
+     * @param line Line of the key.
+     * @param tryKey The key, as it is written on the line (maybe quoted).
+     * @return YamlNode or null if the line does not hold the key.
+     * @checkstyle LineLength (30 lines)
+     */
+    private YamlNode valueOfLine(final YamlLine line, final String tryKey) {
+        final String trimmed = line.trimmed();
+        YamlNode value = null;
+        if(trimmed.matches("^-?[ ]*" + Pattern.quote(tryKey) + ":")
+            || trimmed.matches("^" + Pattern.quote(tryKey) + ":[ ]*>$")
+            || trimmed.matches("^" + Pattern.quote(tryKey) + ":[ ]*\\|[+-]?$")
+        ) {
+            value = this.significant.toYamlNode(
+                line, this.guessIndentation
+            );
+        } else if (trimmed.matches(Pattern.quote(tryKey) + ":[ ]*\\{}")) {
+            value = new EmptyYamlMapping(new ReadYamlMapping(
+                    line.number(),
+                    this.all.line(line.number()),
+                    this.all,
+                    this.guessIndentation
+            ));
+        } else if (trimmed.matches(Pattern.quote(tryKey) + ":[ ]*\\[]")) {
+            value = new EmptyYamlSequence(new ReadYamlSequence(
+                    this.all.line(line.number()),
+                    this.all,
+                    this.guessIndentation
+            ));
+        } else if (trimmed.matches(Pattern.quote(tryKey) + ":[ ]+\\[.*\\]")) {
+            value = new ReadSingleLineSequence(this.all, line, trimmed, false);
+        } else if((trimmed.startsWith(tryKey + ":")
+                || trimmed.startsWith("- " + tryKey + ":"))
+                && trimmed.length() > 1
+        ) {
+            value = new ReadPlainScalar(this.all, line);
+        }
+        return value;
+    }
+
+    /**
+     * The value of a YamlNode key (a "complex" key starting with '?'),
+     * which starts on the line right after the key.
+     * @param key YamlNode key.
+     * @param colonLine Line after the key, starting with ':'.
+     * @return YamlNode.
+     */
+    private YamlNode valueOfColonLine(
+        final YamlNode key, final YamlLine colonLine
+    ) {
+        final YamlNode value;
+        if(":".equals(colonLine.trimmed())
+            || colonLine.trimmed().matches("^\\:[ ]*\\>$")
+            || colonLine.trimmed().matches("^\\:[ ]*\\|$")
+        ) {
+            value = this.significant.toYamlNode(
+                colonLine, this.guessIndentation
+            );
+        } else if(colonLine.trimmed().startsWith(":")
+            && (colonLine.trimmed().length() > 1)
+        ){
+            value = new ReadPlainScalar(this.all, colonLine);
+        } else {
+            throw new YamlReadingException(
+                "No value found for existing complex key: "
+              + System.lineSeparator()
+              + key.toString()
+            );
+        }
+        return value;
+    }
+
+    /**
+     * The key written on a line of this mapping, as it is written
+     * (with its quotes, if any).
+     * @param trimmed Trimmed line, holding a ':'.
+     * @return Key.
+     * @checkstyle LineLength (20 lines)
+     */
+    private String rawKey(final String trimmed) {
+        int colonPos = trimmed.indexOf(":");
+        final int doubleQuotePos = indexOf(trimmed, "(?<!\\\\)\"", 0);
+        final int singleQuotePos = indexOf(trimmed, "(?<!\\|')'(?!')", 0);
+        if(doubleQuotePos >= 0 && doubleQuotePos < colonPos) {
+            colonPos = trimmed.indexOf(
+                ":", indexOf(trimmed, "(?<!\\\\)\"", doubleQuotePos + 1));
+        } else if(singleQuotePos >= 0 && singleQuotePos < colonPos) {
+            colonPos = trimmed.indexOf(
+                ":", indexOf(trimmed, "(?<!\\|')'(?!')", singleQuotePos + 1));
+        }
+        final String key;
+        if(trimmed.startsWith("-")) {
+            key = trimmed.substring(1, colonPos).trim();
+        } else {
+            key = trimmed.substring(0, colonPos).trim();
+        }
+        return key;
+    }
+
+    /**
+     * The key without its quotes, if the line starts with one.
+     * @param trimmed Trimmed line.
+     * @param key Key, as it is written on the line.
+     * @return Key.
+     */
+    private static String unquoted(final String trimmed, final String key) {
+        final String unquoted;
+        if(trimmed.startsWith("\"") || trimmed.startsWith("'")) {
+            unquoted = key.substring(1, key.length() - 1);
+        } else {
+            unquoted = key;
+        }
+        return unquoted;
+    }
+
     /**
      * Find the first occurrence of a regex pattern starting at a specified index
      * @param str The string to match against
@@ -28,6 +28,7 @@
 package com.amihaiemil.eoyaml;
 
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -119,7 +120,7 @@ final class ReadYamlSequence extends BaseYamlSequence {
         this.significant = new SameIndentationLevel(
             new WellIndented(
                 new Skip(
-                    lines,
+                    lines.after(previous),
                     line -> line.number() <= previous.number(),
                     line -> line.trimmed().startsWith("#"),
                     line -> line.trimmed().startsWith("---"),
@@ -187,28 +188,40 @@ final class ReadYamlSequence extends BaseYamlSequence {
 
     @Override
     public Comment comment() {
+        final Comment comment;
+        if(this.all.comments()) {
+            comment = this.readComment();
+        } else {
+            comment = new BuiltComment(this, "");
+        }
+        return comment;
+    }
+
+    /**
+     * Read the comment of this node from the YAML lines.
+     * @return Comment.
+     */
+    private Comment readComment() {
         boolean documentComment = this.previous.number() < 0;
+        final int stop;
+        if(documentComment) {
+            final Iterator<YamlLine> first = this.significant.iterator();
+            if(first.hasNext()) {
+                stop = first.next().number();
+            } else {
+                stop = Integer.MAX_VALUE;
+            }
+        } else {
+            stop = this.previous.number();
+        }
         //@checkstyle LineLength (50 lines)
         return new ReadComment(
             new Backwards(
                 new FirstCommentFound(
                     new Backwards(
                         new Skip(
-                            this.all,
-                            line -> {
-                                final boolean skip;
-                                if(documentComment) {
-                                    if(this.significant.iterator().hasNext()) {
-                                        skip = line.number() >= this.significant
-                                                .iterator().next().number();
-                                    } else {
-                                        skip = false;
-                                    }
-                                } else {
-                                    skip = line.number() >= this.previous.number();
-                                }
-                                return skip;
-                            },
+                            this.all.before(stop),
+                            line -> line.number() >= stop,
                             line -> line.trimmed().startsWith("..."),
                             line -> line.trimmed().startsWith("%"),
                             line -> line.trimmed().startsWith("!!")
@@ -44,6 +44,11 @@ final class ReadYamlStream extends BaseYamlStream {
      */
     private final YamlLines all;
 
+    /**
+     * The same lines, searchable by line number.
+     */
+    private final AllYamlLines lines;
+
     /**
      * Read lines of this YAML Stream.
      */
@@ -55,6 +60,11 @@ final class ReadYamlStream extends BaseYamlStream {
      */
     private final boolean guessIndentation;
 
+    /**
+     * Were the comments kept when the lines were read?
+     */
+    private final boolean comments;
+
     /**
      * Constructor.
      * @param lines All YAML lines as they are read from the input.
@@ -83,7 +93,9 @@ final class ReadYamlStream extends BaseYamlStream {
             lines,
             line -> line.trimmed().startsWith("%")
         );
+        this.lines = lines;
         this.guessIndentation = guessIndentation;
+        this.comments = lines.comments();
     }
 
     @Override
@@ -112,14 +124,22 @@ final class ReadYamlStream extends BaseYamlStream {
         final YamlLines docComment = new Backwards(
             new FirstCommentFound(
                 new Backwards(
-                    new Skip(this.all, (line) -> line.number() > start.number())
+                    new Skip(
+                        this.lines.before(start.number() + 1),
+                        line -> line.number() > start.number(),
+                        line -> line.trimmed().startsWith("%")
+                    )
                 ), true
             )
         );
         for (final YamlLine line: docComment){
             yamlDocLines.add(line);
         }
-        for(final YamlLine line : this.all) {
+        final YamlLines after = new Skip(
+            this.lines.after(start),
+            line -> line.trimmed().startsWith("%")
+        );
+        for(final YamlLine line : after) {
             if(line.number() > start.number()) {
                 final String current = line.trimmed();
                 if("---".equals(current) || "...".equals(current)) {
@@ -129,7 +149,7 @@ final class ReadYamlStream extends BaseYamlStream {
                 }
             }
         }
-        return new AllYamlLines(yamlDocLines);
+        return new AllYamlLines(yamlDocLines, this.comments);
     }
 
 }
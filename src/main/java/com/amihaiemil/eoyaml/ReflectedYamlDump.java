@@ -27,9 +27,10 @@
  */
 package com.amihaiemil.eoyaml;
 
-import java.util.Arrays;
+import java.io.IOException;
+import java.io.Writer;
 import java.util.Collection;
-import java.util.List;
+import java.util.Optional;
 
 /**
  * A YamlDump that works with the Reflection API.
@@ -40,14 +41,6 @@ import java.util.List;
  */
 final class ReflectedYamlDump implements YamlDump {
 
-    /**
-     * If the value is any of these types, it is a Scalar.
-     */
-    private static final List<Class> SCALAR_TYPES = Arrays.asList(
-        Integer.class, Long.class, Float.class, Double.class, Short.class,
-        String.class, Boolean.class, Character.class, Byte.class
-    );
-
     /**
      * Object to dump.
      */
@@ -58,13 +51,13 @@ final class ReflectedYamlDump implements YamlDump {
      * @param object Object to dump.
      */
     ReflectedYamlDump(final Object object){
-        this.object = object;
+        this.object = ReflectedYamlDump.unwrap(object);
     }
 
     @Override
     public YamlNode dump() {
         final YamlNode node;
-        if(this.object == null || SCALAR_TYPES.contains(this.object.getClass())) {
+        if(ReflectedYamlDump.isScalar(this.object)) {
             node = new ReflectedYamlScalar(this.object);
         } else if(this.object instanceof Collection || this.object.getClass().isArray()){
             node = new ReflectedYamlSequence(this.object);
@@ -73,4 +66,32 @@ final class ReflectedYamlDump implements YamlDump {
         }
         return node;
     }
+
+    @Override
+    public void dump(final Writer destination) throws IOException {
+        new ReflectedYamlWriter(destination).write(this.object);
+    }
+
+    /**
+     * Is the given Object dumped as a Scalar?
+     * @param object Object.
+     * @return True or false.
+     */
+    static boolean isScalar(final Object object) {
+        return ScalarConverters.isScalar(object);
+    }
+
+    /**
+     * Unwrap the given Object, if it is an Optional. An empty Optional
+     * is dumped as null.
+     * @param object Object.
+     * @return Unwrapped Object.
+     */
+    static Object unwrap(final Object object) {
+        Object unwrapped = object;
+        while (unwrapped instanceof Optional) {
+            unwrapped = ((Optional<?>) unwrapped).orElse(null);
+        }
+        return unwrapped;
+    }
 }
@@ -27,9 +27,7 @@
  */
 package com.amihaiemil.eoyaml;
 
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.lang.reflect.Modifier;
 import java.util.*;
 
 /**
@@ -46,6 +44,18 @@ final class ReflectedYamlMapping extends BaseYamlMapping {
      */
     private final Object bean;
 
+    /**
+     * Marks a YAML key which is not in the Map bean.
+     */
+    private static final Object ABSENT = new Object();
+
+    /**
+     * If the bean is a Map: its keys, by their YAML form, so lookups don't
+     * have to dump every key of the Map again. It is built again whenever
+     * it may be out of date with the Map.
+     */
+    private volatile Index index;
+
     /**
      * Constructor.
      * @param bean Serializable get/set Java Bean.
@@ -62,21 +72,11 @@ final class ReflectedYamlMapping extends BaseYamlMapping {
 
     @Override
     public Set<YamlNode> keys() {
-        final Set<YamlNode> keys = new LinkedHashSet<>();
+        final Set<YamlNode> keys;
         if(this.bean instanceof Map) {
-            for(final Object key : ((Map) this.bean).keySet()) {
-                keys.add(this.objectToYamlNode(key));
-            }
+            keys = Collections.unmodifiableSet(this.reindex().keys.keySet());
         } else {
-            final Method[] methods = this.bean.getClass().getDeclaredMethods();
-            for (final Method method : methods) {
-                if (Modifier.isPublic(method.getModifiers())
-                    && method.getParameterCount() == 0
-                    && !method.getReturnType().equals(Void.TYPE)
-                ) {
-                    keys.add(new MethodKey(method));
-                }
-            }
+            keys = BeanProperties.of(this.bean.getClass()).keys();
         }
         return keys;
     }
@@ -85,11 +85,9 @@ final class ReflectedYamlMapping extends BaseYamlMapping {
     public YamlNode value(final YamlNode key) {
         YamlNode node = null;
         if(this.bean instanceof Map) {
-            for(final Object mapKey : ((Map) bean).keySet()) {
-                if(key.equals(this.objectToYamlNode(mapKey))) {
-                    node = this.objectToYamlNode(((Map) bean).get(mapKey));
-                    break;
-                }
+            final Object found = this.javaKey(key);
+            if(found != ABSENT) {
+                node = this.objectToYamlNode(((Map) this.bean).get(found));
             }
         } else {
             if (key instanceof Scalar) {
@@ -128,25 +126,68 @@ final class ReflectedYamlMapping extends BaseYamlMapping {
      * @return Object, the result of the method's invocation.
      */
     private Object invokeMethod(final String keyName) {
-        Object value = null;
-        final Method[] methods = this.bean.getClass().getDeclaredMethods();
-        for(final Method method : methods) {
-            if (Modifier.isPublic(method.getModifiers())
-                && method.getParameterCount() == 0
-                && !method.getReturnType().equals(Void.TYPE)
-                && (method.getName().equalsIgnoreCase(keyName)
-                || method.getName().equalsIgnoreCase("get" + keyName))
-            ) {
-                try {
-                    value = method.invoke(this.bean);
-                } catch (final IllegalAccessException iae) {
-                    throw new IllegalStateException(iae);
-                } catch (final InvocationTargetException ite) {
-                    throw new IllegalStateException(ite);
-                }
+        return BeanProperties.of(this.bean.getClass())
+            .read(this.bean, keyName);
+    }
+
+    /**
+     * The key of the Map bean with the given YAML form. A String key equal
+     * to the value of a scalar is looked up directly in the Map; any other
+     * key is looked up in the index, which is built again if the Map
+     * changed size or the key is not found in it.
+     * @param key YAML key.
+     * @return Java key or ABSENT if the Map has no such key.
+     */
+    private Object javaKey(final YamlNode key) {
+        final Map<?, ?> map = (Map<?, ?>) this.bean;
+        Object found = ABSENT;
+        if(key instanceof Scalar) {
+            final String name = ((Scalar) key).value();
+            if(ReflectedYamlMapping.contains(map, name)
+                && key.equals(this.objectToYamlNode(name))) {
+                found = name;
+            }
+        }
+        if(found == ABSENT) {
+            Index current = this.index;
+            final boolean stale = current == null
+                || current.size != map.size();
+            if(stale) {
+                current = this.reindex();
+            }
+            found = current.javaKey(key, map);
+            if(found == ABSENT && !stale) {
+                found = this.reindex().javaKey(key, map);
             }
         }
-        return value;
+        return found;
+    }
+
+    /**
+     * Index the keys of the Map bean by their YAML form, again.
+     * @return Index.
+     */
+    private Index reindex() {
+        final Index current = new Index((Map<?, ?>) this.bean);
+        this.index = current;
+        return current;
+    }
+
+    /**
+     * Does the Map contain the given key? Maps which cannot hold it
+     * (e.g. a TreeMap of Integers asked for a String) don't.
+     * @param map Map.
+     * @param key Key.
+     * @return True or false.
+     */
+    private static boolean contains(final Map<?, ?> map, final Object key) {
+        boolean contains;
+        try {
+            contains = map.containsKey(key);
+        } catch (final ClassCastException | NullPointerException ex) {
+            contains = false;
+        }
+        return contains;
     }
 
     /**
@@ -158,6 +199,57 @@ final class ReflectedYamlMapping extends BaseYamlMapping {
         return Yaml.createYamlDump(value).dump();
     }
 
+    /**
+     * The keys of a Map, by their YAML form, and the size of the Map when
+     * they were indexed. If more keys have the same YAML form (e.g. 1 and
+     * "1"), the first one is kept. It is immutable, so it is safe to share.
+     * @author Mihai Andronache (amihaiemil@gmail.com)
+     * @version $Id$
+     * @since 6.0.2
+     */
+    private static final class Index {
+
+        /**
+         * YAML keys to Java keys.
+         */
+        private final Map<YamlNode, Object> keys;
+
+        /**
+         * Size of the Map when it was indexed.
+         */
+        private final int size;
+
+        /**
+         * Ctor.
+         * @param map Indexed Map.
+         */
+        Index(final Map<?, ?> map) {
+            final Map<YamlNode, Object> indexed = new LinkedHashMap<>();
+            for(final Object key : map.keySet()) {
+                indexed.putIfAbsent(Yaml.createYamlDump(key).dump(), key);
+            }
+            this.keys = indexed;
+            this.size = map.size();
+        }
+
+        /**
+         * The Java key with the given YAML form, if it is still in the Map.
+         * @param key YAML key.
+         * @param map Indexed Map.
+         * @return Java key or ABSENT.
+         */
+        Object javaKey(final YamlNode key, final Map<?, ?> map) {
+            Object found = ABSENT;
+            if(this.keys.containsKey(key)) {
+                final Object java = this.keys.get(key);
+                if(map.containsKey(java)) {
+                    found = java;
+                }
+            }
+            return found;
+        }
+    }
+
     /**
      * A YAML Scalar which will be the key in this reflected
      * YamlMapping.
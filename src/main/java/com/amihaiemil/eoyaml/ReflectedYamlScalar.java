@@ -50,13 +50,7 @@ final class ReflectedYamlScalar extends BaseScalar {
 
     @Override
     public String value() {
-        final String value;
-        if(this.scalar == null) {
-            value = null;
-        } else {
-            value = String.valueOf(scalar);
-        }
-        return value;
+        return ScalarConverters.value(this.scalar);
     }
 
     @Override
@@ -27,13 +27,20 @@
  */
 package com.amihaiemil.eoyaml;
 
-import java.util.ArrayList;
+import java.lang.reflect.Array;
+import java.util.AbstractCollection;
+import java.util.AbstractList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.RandomAccess;
 
 /**
- * YamlSequence reflected from a Collection or an array of Object.
+ * YamlSequence reflected from a Collection or an array. The values are
+ * a lazy view: elements are dumped only when accessed, and the elements
+ * of primitive arrays are read straight from the array, without being
+ * boxed.
  * @author Mihai Andronache (amihaiemil@gmail.com)
  * @version $Id$
  * @since 4.3.3
@@ -41,20 +48,24 @@ import java.util.List;
 final class ReflectedYamlSequence extends BaseYamlSequence {
 
     /**
-     * Object sequence.
+     * Lazy view of the reflected values.
      */
-    private final Collection<Object> sequence;
+    private final Collection<YamlNode> values;
 
     /**
      * Constructor.
-     * @param sequence Collection or array of Object.
+     * @param sequence Collection or array.
      */
+    @SuppressWarnings("unchecked")
     ReflectedYamlSequence(final Object sequence) {
-        if(sequence instanceof Collection) {
-            this.sequence = (Collection<Object>) sequence;
+        if(sequence instanceof List && sequence instanceof RandomAccess) {
+            this.values = new DumpedList((List<Object>) sequence);
+        } else if(sequence instanceof Collection) {
+            this.values = new DumpedCollection((Collection<Object>) sequence);
+        } else if(sequence instanceof Object[]) {
+            this.values = new DumpedList(Arrays.asList((Object[]) sequence));
         } else if(sequence.getClass().isArray()) {
-            final Object[] array = (Object[]) sequence;
-            this.sequence = Arrays.asList(array);
+            this.values = new PrimitiveList(sequence);
         } else {
             throw new IllegalArgumentException(
                 "YamlSequence can only be reflected "
@@ -65,11 +76,12 @@ final class ReflectedYamlSequence extends BaseYamlSequence {
 
     @Override
     public Collection<YamlNode> values() {
-        final List<YamlNode> values = new ArrayList<>();
-        for(final Object value : this.sequence) {
-            values.add(Yaml.createYamlDump(value).dump());
-        }
-        return values;
+        return this.values;
+    }
+
+    @Override
+    public int size() {
+        return this.values.size();
     }
 
     @Override
@@ -87,4 +99,196 @@ final class ReflectedYamlSequence extends BaseYamlSequence {
         };
     }
 
+    /**
+     * String value of an element of a primitive array, read without
+     * boxing it.
+     * @param array Primitive array.
+     * @param index Index of the element.
+     * @return String value.
+     * @checkstyle CyclomaticComplexity (40 lines)
+     */
+    static String primitive(final Object array, final int index) {
+        final String value;
+        if(array instanceof int[]) {
+            value = Integer.toString(((int[]) array)[index]);
+        } else if(array instanceof long[]) {
+            value = Long.toString(((long[]) array)[index]);
+        } else if(array instanceof double[]) {
+            value = Double.toString(((double[]) array)[index]);
+        } else if(array instanceof byte[]) {
+            value = Byte.toString(((byte[]) array)[index]);
+        } else if(array instanceof float[]) {
+            value = Float.toString(((float[]) array)[index]);
+        } else if(array instanceof short[]) {
+            value = Short.toString(((short[]) array)[index]);
+        } else if(array instanceof boolean[]) {
+            value = Boolean.toString(((boolean[]) array)[index]);
+        } else {
+            value = String.valueOf(((char[]) array)[index]);
+        }
+        return value;
+    }
+
+    /**
+     * Lazy view of a List or an array of Object: each element is dumped
+     * when it is accessed.
+     * @author Mihai Andronache (amihaiemil@gmail.com)
+     * @version $Id$
+     * @since 6.0.2
+     */
+    private static final class DumpedList extends AbstractList<YamlNode>
+        implements RandomAccess {
+
+        /**
+         * Reflected elements.
+         */
+        private final List<Object> elements;
+
+        /**
+         * Constructor.
+         * @param elements Reflected elements.
+         */
+        DumpedList(final List<Object> elements) {
+            this.elements = elements;
+        }
+
+        @Override
+        public YamlNode get(final int index) {
+            return Yaml.createYamlDump(this.elements.get(index)).dump();
+        }
+
+        @Override
+        public int size() {
+            return this.elements.size();
+        }
+    }
+
+    /**
+     * Lazy view of any other Collection: each element is dumped when the
+     * iteration reaches it.
+     * @author Mihai Andronache (amihaiemil@gmail.com)
+     * @version $Id$
+     * @since 6.0.2
+     */
+    private static final class DumpedCollection
+        extends AbstractCollection<YamlNode> {
+
+        /**
+         * Reflected elements.
+         */
+        private final Collection<Object> elements;
+
+        /**
+         * Constructor.
+         * @param elements Reflected elements.
+         */
+        DumpedCollection(final Collection<Object> elements) {
+            this.elements = elements;
+        }
+
+        @Override
+        public Iterator<YamlNode> iterator() {
+            final Iterator<Object> origin = this.elements.iterator();
+            return new Iterator<YamlNode>() {
+                @Override
+                public boolean hasNext() {
+                    return origin.hasNext();
+                }
+
+                @Override
+                public YamlNode next() {
+                    return Yaml.createYamlDump(origin.next()).dump();
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return this.elements.size();
+        }
+    }
+
+    /**
+     * Lazy view of a primitive array.
+     * @author Mihai Andronache (amihaiemil@gmail.com)
+     * @version $Id$
+     * @since 6.0.2
+     */
+    private static final class PrimitiveList extends AbstractList<YamlNode>
+        implements RandomAccess {
+
+        /**
+         * The primitive array.
+         */
+        private final Object array;
+
+        /**
+         * Its length.
+         */
+        private final int length;
+
+        /**
+         * Constructor.
+         * @param array Primitive array.
+         */
+        PrimitiveList(final Object array) {
+            this.array = array;
+            this.length = Array.getLength(array);
+        }
+
+        @Override
+        public YamlNode get(final int index) {
+            if(index < 0 || index >= this.length) {
+                throw new IndexOutOfBoundsException(
+                    "Index: " + index + ", Size: " + this.length
+                );
+            }
+            return new PrimitiveElement(this.array, index);
+        }
+
+        @Override
+        public int size() {
+            return this.length;
+        }
+    }
+
+    /**
+     * Scalar element of a primitive array, rendered when its
+     * value is asked for.
+     * @author Mihai Andronache (amihaiemil@gmail.com)
+     * @version $Id$
+     * @since 6.0.2
+     */
+    private static final class PrimitiveElement extends BaseScalar {
+
+        /**
+         * The primitive array.
+         */
+        private final Object array;
+
+        /**
+         * Index of the element.
+         */
+        private final int index;
+
+        /**
+         * Constructor.
+         * @param array Primitive array.
+         * @param index Index of the element.
+         */
+        PrimitiveElement(final Object array, final int index) {
+            this.array = array;
+            this.index = index;
+        }
+
+        @Override
+        public String value() {
+            return ReflectedYamlSequence.primitive(this.array, this.index);
+        }
+
+        @Override
+        public Comment comment() {
+            return new BuiltComment(this, "");
+        }
+    }
 }
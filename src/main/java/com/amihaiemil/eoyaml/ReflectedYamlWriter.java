@@ -0,0 +1,295 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Writes an Object graph as YAML, straight to a Writer. It walks the graph
+ * only once and doesn't create any YamlNode: the bean properties are read
+ * through the accessors cached in {@link BeanProperties}. The Objects are
+ * represented exactly like in {@link ReflectedYamlDump}, and the output
+ * has the layout of {@link RtYamlPrinter}, except that null values are
+ * written as null, empty Maps and beans as {} and empty Collections and
+ * arrays as [].
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 6.0.2
+ */
+final class ReflectedYamlWriter {
+
+    /**
+     * Destination of the YAML.
+     */
+    private final Writer writer;
+
+    /**
+     * Constructor.
+     * @param writer Destination of the YAML.
+     */
+    ReflectedYamlWriter(final Writer writer) {
+        this.writer = writer;
+    }
+
+    /**
+     * Write the given Object as a YAML document. The Writer is closed
+     * at the end.
+     * @param object Object to write.
+     * @throws IOException If something goes wrong while writing.
+     */
+    void write(final Object object) throws IOException {
+        try {
+            if (ReflectedYamlDump.isScalar(object)) {
+                this.writer
+                    .append("---").append(System.lineSeparator())
+                    .append(scalar(object))
+                    .append(System.lineSeparator()).append("...");
+            } else if (isEmpty(object)) {
+                this.writer.append(empty(object));
+            } else if (isSequence(object)) {
+                this.sequence(object, 0);
+            } else {
+                this.mapping(object, 0);
+            }
+        } finally {
+            this.writer.close();
+        }
+    }
+
+    /**
+     * Write a Map or a bean as a YAML mapping.
+     * @param object Map or bean, not empty.
+     * @param indentation Indentation of the entries.
+     * @throws IOException If something goes wrong while writing.
+     */
+    private void mapping(final Object object, final int indentation)
+        throws IOException {
+        boolean first = true;
+        if (object instanceof Map) {
+            for (final Map.Entry<?, ?> entry
+                : ((Map<?, ?>) object).entrySet()) {
+                if (!first) {
+                    this.writer.append(System.lineSeparator());
+                }
+                first = false;
+                this.indent(indentation);
+                this.key(entry.getKey(), indentation);
+                this.value(entry.getValue(), indentation);
+            }
+        } else {
+            for (final BeanProperties.Property property
+                : BeanProperties.of(object.getClass()).properties()) {
+                if (!first) {
+                    this.writer.append(System.lineSeparator());
+                }
+                first = false;
+                this.indent(indentation);
+                this.writer
+                    .append(RtYamlPrinter.Escaped.escape(property.name()))
+                    .append(':');
+                this.value(property.read(object), indentation);
+            }
+        }
+    }
+
+    /**
+     * Write a Collection or an array as a YAML sequence.
+     * @param object Collection or array, not empty.
+     * @param indentation Indentation of the items.
+     * @throws IOException If something goes wrong while writing.
+     */
+    private void sequence(final Object object, final int indentation)
+        throws IOException {
+        if (object instanceof Collection) {
+            final Iterator<?> items = ((Collection<?>) object).iterator();
+            while (items.hasNext()) {
+                this.item(items.next(), indentation);
+                if (items.hasNext()) {
+                    this.writer.append(System.lineSeparator());
+                }
+            }
+        } else if (object instanceof Object[]) {
+            final Object[] array = (Object[]) object;
+            for (int idx = 0; idx < array.length; ++idx) {
+                this.item(array[idx], indentation);
+                if (idx < array.length - 1) {
+                    this.writer.append(System.lineSeparator());
+                }
+            }
+        } else {
+            final int length = Array.getLength(object);
+            for (int idx = 0; idx < length; ++idx) {
+                this.indent(indentation);
+                this.writer.append("- ").append(
+                    RtYamlPrinter.Escaped.escape(
+                        ReflectedYamlSequence.primitive(object, idx)
+                    )
+                );
+                if (idx < length - 1) {
+                    this.writer.append(System.lineSeparator());
+                }
+            }
+        }
+    }
+
+    /**
+     * Write an item of a sequence.
+     * @param item The item.
+     * @param indentation Indentation of the sequence.
+     * @throws IOException If something goes wrong while writing.
+     */
+    private void item(final Object item, final int indentation)
+        throws IOException {
+        this.indent(indentation);
+        this.writer.append('-');
+        this.value(item, indentation);
+    }
+
+    /**
+     * Write the key of a Map entry. Complex keys are written as
+     * explicit keys ("?").
+     * @param object The key, maybe an Optional.
+     * @param indentation Indentation of the mapping.
+     * @throws IOException If something goes wrong while writing.
+     */
+    private void key(final Object object, final int indentation)
+        throws IOException {
+        final Object key = ReflectedYamlDump.unwrap(object);
+        if (ReflectedYamlDump.isScalar(key)) {
+            this.writer.append(scalar(key));
+        } else {
+            this.writer.append('?');
+            this.value(key, indentation);
+            this.writer.append(System.lineSeparator());
+            this.indent(indentation);
+        }
+        this.writer.append(':');
+    }
+
+    /**
+     * Write a value, after a key or a dash. Scalars and empty nodes go on
+     * the same line, anything else on the next line, further indented.
+     * @param object The value, maybe an Optional.
+     * @param indentation Indentation of the parent.
+     * @throws IOException If something goes wrong while writing.
+     */
+    private void value(final Object object, final int indentation)
+        throws IOException {
+        final Object value = ReflectedYamlDump.unwrap(object);
+        if (ReflectedYamlDump.isScalar(value)) {
+            this.writer.append(' ').append(scalar(value));
+        } else if (isEmpty(value)) {
+            this.writer.append(' ').append(empty(value));
+        } else {
+            this.writer.append(System.lineSeparator());
+            if (isSequence(value)) {
+                this.sequence(value, indentation + 2);
+            } else {
+                this.mapping(value, indentation + 2);
+            }
+        }
+    }
+
+    /**
+     * Write the indentation.
+     * @param indentation Number of spaces.
+     * @throws IOException If something goes wrong while writing.
+     */
+    private void indent(final int indentation) throws IOException {
+        for (int idx = 0; idx < indentation; ++idx) {
+            this.writer.append(' ');
+        }
+    }
+
+    /**
+     * YAML form of a scalar Object.
+     * @param scalar Scalar Object.
+     * @return String.
+     */
+    private static String scalar(final Object scalar) {
+        final String string = ScalarConverters.value(scalar);
+        final String value;
+        if (string == null) {
+            value = "null";
+        } else if (string.isEmpty()) {
+            value = "\"\"";
+        } else {
+            value = RtYamlPrinter.Escaped.escape(string);
+        }
+        return value;
+    }
+
+    /**
+     * Is the Object a Collection or an array?
+     * @param object Object, not null.
+     * @return True or false.
+     */
+    private static boolean isSequence(final Object object) {
+        return object instanceof Collection || object.getClass().isArray();
+    }
+
+    /**
+     * Is the Collection, array, Map or bean empty?
+     * @param object Object, not null.
+     * @return True or false.
+     */
+    private static boolean isEmpty(final Object object) {
+        final boolean empty;
+        if (object instanceof Collection) {
+            empty = ((Collection<?>) object).isEmpty();
+        } else if (object.getClass().isArray()) {
+            empty = Array.getLength(object) == 0;
+        } else if (object instanceof Map) {
+            empty = ((Map<?, ?>) object).isEmpty();
+        } else {
+            empty = BeanProperties.of(object.getClass())
+                .properties().isEmpty();
+        }
+        return empty;
+    }
+
+    /**
+     * Flow form of an empty Collection, array, Map or bean.
+     * @param object Empty Object.
+     * @return [] or {}.
+     */
+    private static String empty(final Object object) {
+        final String empty;
+        if (isSequence(object)) {
+            empty = "[]";
+        } else {
+            empty = "{}";
+        }
+        return empty;
+    }
+}
@@ -32,10 +32,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.Charset;
-import java.util.ArrayList;
 import java.util.Iterator;
-import java.util.List;
-import java.util.stream.Stream;
 
 /**
  * Implementation for {@link YamlInput}. "Rt" stands for "Runtime".
@@ -61,6 +58,12 @@ final class RtYamlInput implements YamlInput {
      */
     private final boolean guessIndentation;
 
+    /**
+     * Keep the comments? If not, they are dropped while reading the input
+     * and the read nodes don't look for them.
+     */
+    private final boolean comments;
+
     /**
      * Ctor.
      * @param source Given source.
@@ -87,9 +90,28 @@ final class RtYamlInput implements YamlInput {
      *  the correct indentation of misplaced lines.
      */
     RtYamlInput(final InputStream source, final Charset charset, final boolean guessIndentation) {
+        this(source, charset, guessIndentation, true);
+    }
+
+    /**
+     * Ctor.
+     * @param source Given source.
+     * @param charset Charset of the reader.
+     * @param guessIndentation If set to true, we will try to guess
+     *  the correct indentation of misplaced lines.
+     * @param comments Keep the comments?
+     * @checkstyle ParameterNumber (10 lines)
+     */
+    RtYamlInput(
+        final InputStream source,
+        final Charset charset,
+        final boolean guessIndentation,
+        final boolean comments
+    ) {
         this.source = source;
         this.charset = charset;
         this.guessIndentation = guessIndentation;
+        this.comments = comments;
     }
 
     @Override
@@ -144,75 +166,31 @@ final class RtYamlInput implements YamlInput {
      * @todo #447:60min Refactor solution for #447 by using lines iterators.
      */
     private AllYamlLines readInput() throws IOException {
-        final List<YamlLine> lines = new ArrayList<>();
+        final long start;
+        if(Metrics.ENABLED) {
+            start = System.nanoTime();
+        } else {
+            start = 0L;
+        }
+        final InputLines lines = new InputLines(this.comments);
+        final InputStream source = Metrics.counted(this.source);
+        int count = 0;
         try (
             BufferedReader reader = new BufferedReader(
-                new InputStreamReader(this.source, charset)
+                new InputStreamReader(source, charset)
             )
         ) {
             String line;
-            int number = 0;
             while ((line = reader.readLine()) != null) {
-
-                if (this.mappingStartsAtDash(line)) {
-
-                    // if line starts with a sequence ("-") and the first
-                    // key:value is unescaped and on the same line with the
-                    // sequence marker, then split the line by keeping the "-"
-                    // on the same indentation and move the key:value on the
-                    // next line with correct indentation relative to "-".
-                    // see bug:
-                    // https://github.com/decorators-squad/eo-yaml/issues/447
-
-                    final String seqIndent = Stream.iterate(" ", s -> s)
-                        .limit(new RtYamlLine(line, number).indentation())
-                        .reduce((acc, space) -> acc + space)
-                        .orElse("");
-                    final YamlLine sequenceLine = new RtYamlLine(
-                        seqIndent + "-",
-                        number
-                    );
-                    lines.add(sequenceLine);
-
-                    // 2 spaces offset
-                    final String offset = "  ";
-                    final String keyValueIndent = seqIndent + offset;
-                    final YamlLine keyValueLine = new RtYamlLine(
-                        keyValueIndent + line.split("-")[1].trim(),
-                        ++number
-                    );
-                    if (!keyValueLine.toString().trim().isEmpty()) {
-                        lines.add(keyValueLine);
-                    }
-                } else {
-                    final YamlLine current = new RtYamlLine(line, number);
-                    if (!current.toString().trim().isEmpty()) {
-                        lines.add(current);
-                    }
-                }
-                number++;
+                lines.add(line);
+                ++count;
             }
         }
-        return new AllYamlLines(lines);
-    }
-
-    /**
-     * Is the <i>key:value</i> on the same line as the same sequence marker
-     * <i>-</i> ?.
-     * <br/>
-     * Example:
-     * <br/>
-     * <code>
-     *     - foo: bar
-     * </code>
-     * @param line Line.
-     * @return Boolean.
-     */
-    private boolean mappingStartsAtDash(final String line){
-        //line without indentation.
-        final String trimmed = line.trim();
-        final boolean escapedScalar = trimmed.matches("^[ ]*-[ ]*\".*\"$")
-            || trimmed.matches("^[ ]*-[ ]*'.*'$");
-        return trimmed.matches("^[ ]*-.*:.+$") && !escapedScalar;
+        if(Metrics.ENABLED) {
+            Metrics.CURRENT.inputRead(
+                Metrics.bytes(source), count, System.nanoTime() - start
+            );
+        }
+        return lines.all();
     }
 }
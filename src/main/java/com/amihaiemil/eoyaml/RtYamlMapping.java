@@ -27,7 +27,14 @@
  */
 package com.amihaiemil.eoyaml;
 
-import java.util.*;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
 
 /**
  * YAML mapping implementation (rt means runtime).
@@ -38,16 +45,32 @@ import java.util.*;
  */
 final class RtYamlMapping extends BaseYamlMapping {
 
+    /**
+     * Up to this many keys, lookups simply scan the keys array and no
+     * hash index is allocated.
+     */
+    private static final int LINEAR = 8;
+
     /**
      * Comments referring to this mapping.
      */
     private Comment comment;
 
     /**
-     * Key:value linked map (maintains the order of insertion).
+     * Keys, in the order of insertion.
+     */
+    private final YamlNode[] keys;
+
+    /**
+     * Values, at the same positions as their keys.
      */
-    private final Map<YamlNode, YamlNode> mappings =
-        new LinkedHashMap<>();
+    private final YamlNode[] values;
+
+    /**
+     * Open-addressing hash index holding position + 1 of each key
+     * (0 marks a free slot), or null for small mappings.
+     */
+    private final int[] index;
 
     /**
      * Ctor.
@@ -66,20 +89,116 @@ final class RtYamlMapping extends BaseYamlMapping {
         final Map<YamlNode, YamlNode> entries,
         final String comment
     ) {
-        this.mappings.putAll(entries);
+        this(
+            entries.keySet().toArray(new YamlNode[entries.size()]),
+            entries.values().toArray(new YamlNode[entries.size()]),
+            comment
+        );
+    }
+
+    /**
+     * Ctor. The arrays are owned by this mapping from now on and the keys
+     * have to be unique.
+     * @param keys Keys, in order.
+     * @param values Values, at the same positions as their keys.
+     * @param comment Comment on top of this YamlMapping.
+     */
+    RtYamlMapping(
+        final YamlNode[] keys,
+        final YamlNode[] values,
+        final String comment
+    ) {
+        this(keys, values, RtYamlMapping.indexOf(keys), comment);
+    }
+
+    /**
+     * Ctor.
+     * @param keys Keys, in order.
+     * @param values Values, at the same positions as their keys.
+     * @param index Hash index of the keys.
+     * @param comment Comment on top of this YamlMapping.
+     * @checkstyle ParameterNumber (5 lines)
+     */
+    private RtYamlMapping(
+        final YamlNode[] keys, final YamlNode[] values,
+        final int[] index, final String comment
+    ) {
+        this.keys = keys;
+        this.values = values;
+        this.index = index;
         this.comment = new BuiltComment(this, comment);
     }
 
     @Override
     public Set<YamlNode> keys() {
-        final Set<YamlNode> keys = new LinkedHashSet<>();
-        keys.addAll(this.mappings.keySet());
-        return keys;
+        return new Keys();
     }
 
     @Override
     public YamlNode value(final YamlNode key) {
-        return this.mappings.get(key);
+        final int position = this.position(key);
+        final YamlNode value;
+        if (position < 0) {
+            value = null;
+        } else {
+            value = this.values[position];
+        }
+        return value;
+    }
+
+    @Override
+    public Collection<YamlNode> values() {
+        return Collections.unmodifiableList(Arrays.asList(this.values));
+    }
+
+    @Override
+    public YamlMapping with(final YamlNode key, final YamlNode value) {
+        if(key == null || key.isEmpty()) {
+            throw new IllegalArgumentException(
+                "The key in YamlMapping cannot be null or empty!"
+            );
+        }
+        final int position = this.position(key);
+        final YamlMapping with;
+        if (position < 0) {
+            final int size = this.keys.length;
+            final YamlNode[] keys = Arrays.copyOf(this.keys, size + 1);
+            final YamlNode[] values = Arrays.copyOf(this.values, size + 1);
+            keys[size] = key;
+            values[size] = value;
+            with = new RtYamlMapping(keys, values, this.comment.value());
+        } else {
+            final YamlNode[] values = this.values.clone();
+            values[position] = value;
+            with = new RtYamlMapping(
+                this.keys, values, this.index, this.comment.value()
+            );
+        }
+        return with;
+    }
+
+    @Override
+    public YamlMapping without(final YamlNode key) {
+        final int position = this.position(key);
+        YamlMapping without = this;
+        if (position >= 0) {
+            final int size = this.keys.length - 1;
+            final YamlNode[] keys = new YamlNode[size];
+            final YamlNode[] values = new YamlNode[size];
+            System.arraycopy(this.keys, 0, keys, 0, position);
+            System.arraycopy(this.values, 0, values, 0, position);
+            System.arraycopy(
+                this.keys, position + 1, keys, position, size - position
+            );
+            System.arraycopy(
+                this.values, position + 1, values, position, size - position
+            );
+            without = new RtYamlMapping(keys, values, this.comment.value());
+            if (size == 0) {
+                without = new EmptyYamlMapping(without);
+            }
+        }
+        return without;
     }
 
     @Override
@@ -87,4 +206,94 @@ final class RtYamlMapping extends BaseYamlMapping {
         return this.comment;
     }
 
+    /**
+     * Position of the given key.
+     * @param key Key to look for.
+     * @return Position in the arrays or -1 if the key is missing.
+     */
+    private int position(final Object key) {
+        int position = -1;
+        if (key != null) {
+            if (this.index == null) {
+                for (int idx = 0; idx < this.keys.length; ++idx) {
+                    if (this.keys[idx].equals(key)) {
+                        position = idx;
+                        break;
+                    }
+                }
+            } else {
+                final int mask = this.index.length - 1;
+                int slot = RtYamlMapping.spread(key.hashCode()) & mask;
+                while (this.index[slot] != 0) {
+                    if (this.keys[this.index[slot] - 1].equals(key)) {
+                        position = this.index[slot] - 1;
+                        break;
+                    }
+                    slot = (slot + 1) & mask;
+                }
+            }
+        }
+        return position;
+    }
+
+    /**
+     * Build the hash index of the given keys, with linear probing and
+     * at most 50% load.
+     * @param keys Keys to index.
+     * @return Index or null if there are too few keys to need one.
+     */
+    private static int[] indexOf(final YamlNode[] keys) {
+        int[] index = null;
+        if (keys.length > LINEAR) {
+            int capacity = 1;
+            while (capacity < keys.length * 2) {
+                capacity = capacity << 1;
+            }
+            index = new int[capacity];
+            final int mask = capacity - 1;
+            for (int idx = 0; idx < keys.length; ++idx) {
+                int slot = RtYamlMapping.spread(keys[idx].hashCode()) & mask;
+                while (index[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                index[slot] = idx + 1;
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Mix the high bits of a hash code into the low ones, which are the
+     * only ones used by the index.
+     * @param hash Hash code.
+     * @return Spread hash.
+     */
+    private static int spread(final int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Unmodifiable, ordered view of the keys.
+     * @author Mihai Andronache (amihaiemil@gmail.com)
+     * @version $Id$
+     * @since 6.0.2
+     */
+    private final class Keys extends AbstractSet<YamlNode> {
+
+        @Override
+        public Iterator<YamlNode> iterator() {
+            return Arrays.asList(RtYamlMapping.this.keys).iterator();
+        }
+
+        @Override
+        public int size() {
+            return RtYamlMapping.this.keys.length;
+        }
+
+        @Override
+        public boolean contains(final Object key) {
+            return RtYamlMapping.this.position(key) >= 0;
+        }
+    }
+
 }
@@ -27,9 +27,6 @@
  */
 package com.amihaiemil.eoyaml;
 
-import java.util.LinkedHashMap;
-import java.util.Map;
-
 /**
  * YamlMappingBuilder implementation. "Rt" stands for "Runtime".
  * This class is immutable and thread-safe.
@@ -40,23 +37,33 @@ import java.util.Map;
  */
 final class RtYamlMappingBuilder implements YamlMappingBuilder {
 
+    /**
+     * Added keys, in insertion order.
+     */
+    private final PersistentVector<YamlNode> keys;
+
     /**
      * Added pairs.
      */
-    private final Map<YamlNode, YamlNode> pairs;
+    private final PersistentHashMap<YamlNode, YamlNode> pairs;
 
     /**
      * Default ctor.
      */
     RtYamlMappingBuilder() {
-        this(new LinkedHashMap<>());
+        this(new PersistentVector<>(), new PersistentHashMap<>());
     }
 
     /**
      * Constructor.
+     * @param keys Keys in insertion order.
      * @param pairs Pairs used in building the YamlMapping.
      */
-    RtYamlMappingBuilder(final Map<YamlNode, YamlNode> pairs) {
+    private RtYamlMappingBuilder(
+        final PersistentVector<YamlNode> keys,
+        final PersistentHashMap<YamlNode, YamlNode> pairs
+    ) {
+        this.keys = keys;
         this.pairs = pairs;
     }
 
@@ -85,16 +92,28 @@ final class RtYamlMappingBuilder implements YamlMappingBuilder {
                 "The key in YamlMapping cannot be null or empty!"
             );
         }
-        final Map<YamlNode, YamlNode> withAdded = new LinkedHashMap<>();
-        withAdded.putAll(this.pairs);
-        withAdded.put(key, value);
-        return new RtYamlMappingBuilder(withAdded);
+        final PersistentHashMap<YamlNode, YamlNode> added =
+            this.pairs.with(key, value);
+        final PersistentVector<YamlNode> order;
+        if (added.size() > this.pairs.size()) {
+            order = this.keys.with(key);
+        } else {
+            order = this.keys;
+        }
+        return new RtYamlMappingBuilder(order, added);
     }
 
     @Override
     public YamlMapping build(final String comment) {
-        YamlMapping mapping = new RtYamlMapping(this.pairs, comment);
-        if (pairs.isEmpty()) {
+        final YamlNode[] keys = this.keys.toArray(
+            new YamlNode[this.keys.size()]
+        );
+        final YamlNode[] values = new YamlNode[keys.length];
+        for (int idx = 0; idx < keys.length; ++idx) {
+            values[idx] = this.pairs.get(keys[idx]);
+        }
+        YamlMapping mapping = new RtYamlMapping(keys, values, comment);
+        if (keys.length == 0) {
             mapping = new EmptyYamlMapping(mapping);
         }
         return mapping;
@@ -31,6 +31,7 @@ import java.io.IOException;
 import java.io.Writer;
 import java.util.Iterator;
 import java.util.List;
+import java.util.regex.Pattern;
 
 /**
  * Base implementation of YamlPrinter. "Rt" stands for "Runtime".
@@ -47,16 +48,28 @@ final class RtYamlPrinter implements YamlPrinter {
      */
     private final Writer writer;
 
+    /**
+     * Number of nodes printed so far by the current print.
+     */
+    private int nodes;
+
     /**
      * Constructor.
      * @param writer Destination writer.
      */
     RtYamlPrinter(final Writer writer) {
-        this.writer = writer;
+        this.writer = Metrics.counted(writer);
     }
 
     @Override
     public void print(final YamlNode node) throws IOException  {
+        final long start;
+        if(Metrics.ENABLED) {
+            start = System.nanoTime();
+        } else {
+            start = 0L;
+        }
+        this.nodes = 1;
         try {
             if (node instanceof Scalar) {
                 this.writer.append("---").append(System.lineSeparator());
@@ -80,6 +93,12 @@ final class RtYamlPrinter implements YamlPrinter {
             }
         } finally {
             this.writer.close();
+            if(Metrics.ENABLED) {
+                Metrics.CURRENT.nodePrinted(
+                    this.nodes, Metrics.chars(this.writer),
+                    System.nanoTime() - start
+                );
+            }
         }
     }
 
@@ -130,13 +149,15 @@ final class RtYamlPrinter implements YamlPrinter {
             alignment.append(" ");
             spaces--;
         }
+        final String aligned = alignment.toString();
         final Iterator<YamlNode> keysIt = mapping.keys().iterator();
         while(keysIt.hasNext()) {
             final YamlNode key = keysIt.next();
             final YamlNode value = mapping.value(key);
-            this.printPossibleComment(value, alignment.toString());
+            this.printPossibleComment(value, aligned);
             this.writer.append(alignment);
             if(key instanceof Scalar) {
+                ++this.nodes;
                 this.writer.append(
                     this.indent(
                         new Escaped((Scalar) key).value(),
@@ -187,10 +208,11 @@ final class RtYamlPrinter implements YamlPrinter {
             alignment.append(" ");
             spaces--;
         }
+        final String aligned = alignment.toString();
         final Iterator<YamlNode> valuesIt = sequence.values().iterator();
         while(valuesIt.hasNext()) {
             final YamlNode node = valuesIt.next();
-            this.printPossibleComment(node, alignment.toString());
+            this.printPossibleComment(node, aligned);
             if (node instanceof ReadSingleLineSequence.ReadSingleLineSequencePlainLiteralScalar) {
                 this.printNode(node, false, false, 0);
                 if (valuesIt.hasNext()) {
@@ -312,6 +334,7 @@ final class RtYamlPrinter implements YamlPrinter {
         final boolean prependSpace,
         final int indentation
     ) throws IOException {
+        ++this.nodes;
         if (node == null || node.isEmpty()) {
             if (node instanceof EmptyYamlSequence) {
                 this.writer.append(" ").append("[]");
@@ -385,8 +408,12 @@ final class RtYamlPrinter implements YamlPrinter {
      * @param value String to indent.
      * @param indentation Indentation level.
      * @return Indented String.
+     * @checkstyle ReturnCount (30 lines)
      */
     private String indent(final String value, final int indentation) {
+        if(indentation == 0 && !value.contains(System.lineSeparator())) {
+            return value;
+        }
         StringBuilder alignment = new StringBuilder();
         int spaces = indentation;
         while (spaces > 0) {
@@ -413,6 +440,26 @@ final class RtYamlPrinter implements YamlPrinter {
      */
     static class Escaped extends BaseScalar {
 
+        /**
+         * Values containing any of these characters, or only spaces,
+         * have to be quoted.
+         */
+        private static final Pattern SPECIAL = Pattern.compile(
+            ".*[\\\\?\\-#:>|$%&{}\\[\\]]+.*|[ ]+"
+        );
+
+        /**
+         * The space and the special characters, from {@link #SPECIAL}.
+         */
+        private static final String CHARS = " \\?-#:>|$%&{}[]";
+
+        /**
+         * Numbers don't have to be quoted.
+         */
+        private static final Pattern NUMBER = Pattern.compile(
+            "-?[0-9]+(?:\\.[0-9]+)?"
+        );
+
         /**
          * Original unescaped scalar.
          */
@@ -428,11 +475,26 @@ final class RtYamlPrinter implements YamlPrinter {
 
         @Override
         public String value() {
-            final String value = this.original.value();
+            return Escaped.escape(this.original.value());
+        }
+
+        @Override
+        public Comment comment() {
+            return this.original.comment();
+        }
+
+        /**
+         * Escape the given value, if it contains special characters.
+         * @param value Value to escape.
+         * @return Escaped value.
+         */
+        static String escape(final String value) {
             String escaped = value;
             boolean quoted = (value.startsWith("'") && value.endsWith("'"))
                     || (value.startsWith("\"") && value.endsWith("\""));
-            if (!quoted && value.matches(".*[\\\\?\\-#:>|$%&{}\\[\\]]+.*|[ ]+") && !value.matches("-?[0-9]+(?:\\.[0-9]+)?")) {
+            if (!quoted && Escaped.mayBeSpecial(value)
+                && SPECIAL.matcher(value).matches()
+                && !NUMBER.matcher(value).matches()) {
                 if(value.contains("\"")) {
                     escaped = "'" + value + "'";
                 } else {
@@ -442,9 +504,22 @@ final class RtYamlPrinter implements YamlPrinter {
             return escaped;
         }
 
-        @Override
-        public Comment comment() {
-            return this.original.comment();
+        /**
+         * Could the value need escaping? Only values with a space or one
+         * of the special characters can, so most values are told apart
+         * without running the regular expressions.
+         * @param value Value.
+         * @return False if the value surely needs no escaping.
+         */
+        private static boolean mayBeSpecial(final String value) {
+            boolean special = false;
+            for(int idx = 0; idx < value.length(); ++idx) {
+                if(CHARS.indexOf(value.charAt(idx)) >= 0) {
+                    special = true;
+                    break;
+                }
+            }
+            return special;
         }
     }
 }
@@ -0,0 +1,256 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Implementation for {@link YamlPushInput}. "Rt" stands for "Runtime".
+ * Bytes are decoded as they arrive (incomplete characters are kept until
+ * the next chunk), split into lines and grouped into documents. A document
+ * is complete when the next start marker (---), an end marker (...) or the
+ * end of input is met. This class is mutable and not thread-safe.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 6.0.2
+ */
+final class RtYamlPushInput implements YamlPushInput {
+
+    /**
+     * Where the read documents go.
+     */
+    private final Consumer<YamlNode> documents;
+
+    /**
+     * Decoder of the incoming bytes.
+     */
+    private final CharsetDecoder decoder;
+
+    /**
+     * If set to true, we will try to guess the correct indentation
+     * of misplaced lines.
+     */
+    private final boolean guessIndentation;
+
+    /**
+     * Bytes of a character which was split between two chunks.
+     */
+    private final ByteBuffer split;
+
+    /**
+     * Decoded characters, not yet split into lines.
+     */
+    private final CharBuffer chars;
+
+    /**
+     * Line which is currently being read.
+     */
+    private final StringBuilder line;
+
+    /**
+     * Lines of the document which is currently being read.
+     */
+    private final List<String> document;
+
+    /**
+     * Was the last read character a carriage return?
+     */
+    private boolean carriage;
+
+    /**
+     * Was the end of input signaled?
+     */
+    private boolean ended;
+
+    /**
+     * Ctor.
+     * @param documents Consumer of the read documents.
+     * @param charset Charset of the input.
+     * @param guessIndentation If set to true, we will try to guess
+     *  the correct indentation of misplaced lines.
+     */
+    RtYamlPushInput(
+        final Consumer<YamlNode> documents,
+        final Charset charset,
+        final boolean guessIndentation
+    ) {
+        this.documents = documents;
+        this.decoder = charset.newDecoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        this.guessIndentation = guessIndentation;
+        this.split = ByteBuffer.allocate(16);
+        this.chars = CharBuffer.allocate(8192);
+        this.line = new StringBuilder();
+        this.document = new ArrayList<>();
+    }
+
+    @Override
+    public YamlPushInput feed(final ByteBuffer chunk) {
+        if(this.ended) {
+            throw new IllegalStateException(
+                "The end of input was already signaled!"
+            );
+        }
+        while(this.split.position() > 0 && chunk.hasRemaining()) {
+            this.split.put(chunk.get());
+            this.split.flip();
+            this.decode(this.split, false);
+            this.split.compact();
+        }
+        this.decode(chunk, false);
+        while(chunk.hasRemaining()) {
+            this.split.put(chunk.get());
+        }
+        return this;
+    }
+
+    @Override
+    public void endOfInput() {
+        if(this.ended) {
+            throw new IllegalStateException(
+                "The end of input was already signaled!"
+            );
+        }
+        this.ended = true;
+        this.split.flip();
+        this.decode(this.split, true);
+        CoderResult result;
+        do {
+            result = this.decoder.flush(this.chars);
+            this.readChars();
+        } while (result.isOverflow());
+        if(this.line.length() > 0) {
+            this.readLine();
+        }
+        this.readDocument();
+    }
+
+    /**
+     * Decode the given bytes and read the resulting characters.
+     * @param bytes Bytes to decode.
+     * @param last Are these the last bytes of the input?
+     */
+    private void decode(final ByteBuffer bytes, final boolean last) {
+        CoderResult result;
+        do {
+            result = this.decoder.decode(bytes, this.chars, last);
+            this.readChars();
+        } while (result.isOverflow());
+    }
+
+    /**
+     * Split the decoded characters into lines.
+     */
+    private void readChars() {
+        this.chars.flip();
+        while(this.chars.hasRemaining()) {
+            final char current = this.chars.get();
+            if(current == '\n') {
+                if(!this.carriage) {
+                    this.readLine();
+                }
+                this.carriage = false;
+            } else if(current == '\r') {
+                this.readLine();
+                this.carriage = true;
+            } else {
+                this.line.append(current);
+                this.carriage = false;
+            }
+        }
+        this.chars.clear();
+    }
+
+    /**
+     * A line has been read completely. If it is a document marker,
+     * the current document is complete.
+     */
+    private void readLine() {
+        final String read = this.line.toString();
+        this.line.setLength(0);
+        final String trimmed = new RtYamlLine(read, 0).trimmed();
+        if("---".equals(trimmed)) {
+            final List<String> above = new ArrayList<>();
+            while(!this.document.isEmpty()) {
+                final String last = this.document.get(
+                    this.document.size() - 1
+                ).trim();
+                if(last.startsWith("#") || last.startsWith("%")
+                    || last.isEmpty()) {
+                    above.add(
+                        0, this.document.remove(this.document.size() - 1)
+                    );
+                } else {
+                    break;
+                }
+            }
+            this.readDocument();
+            this.document.addAll(above);
+            this.document.add(read);
+        } else if("...".equals(trimmed)) {
+            this.readDocument();
+        } else {
+            this.document.add(read);
+        }
+    }
+
+    /**
+     * The current document is complete, hand it over if it has any
+     * content.
+     */
+    private void readDocument() {
+        boolean content = false;
+        for(final String read : this.document) {
+            final String trimmed = new RtYamlLine(read, 0).trimmed();
+            if(!trimmed.isEmpty() && !"---".equals(trimmed)
+                && !trimmed.startsWith("#") && !trimmed.startsWith("%")) {
+                content = true;
+                break;
+            }
+        }
+        if(content) {
+            final InputLines lines = new InputLines();
+            for(final String read : this.document) {
+                lines.add(read);
+            }
+            new ReadYamlStream(
+                lines.all(), this.guessIndentation
+            ).values().forEach(this.documents);
+        }
+        this.document.clear();
+    }
+}
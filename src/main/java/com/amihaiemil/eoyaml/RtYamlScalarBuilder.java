@@ -28,7 +28,6 @@
 package com.amihaiemil.eoyaml;
 
 import java.util.ArrayList;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -44,29 +43,26 @@ final class RtYamlScalarBuilder implements YamlScalarBuilder {
     /**
      * Added lines.
      */
-    private final List<String> lines;
+    private final PersistentVector<String> lines;
 
     /**
      * Default ctor.
      */
     RtYamlScalarBuilder() {
-        this(new LinkedList<>());
+        this(new PersistentVector<>());
     }
 
     /**
      * Constructor.
      * @param lines String lines of the Scalar.
      */
-    RtYamlScalarBuilder(final List<String> lines) {
+    private RtYamlScalarBuilder(final PersistentVector<String> lines) {
         this.lines = lines;
     }
 
     @Override
     public YamlScalarBuilder addLine(final String value) {
-        final List<String> all = new LinkedList<>();
-        all.addAll(this.lines);
-        all.add(value);
-        return new RtYamlScalarBuilder(all);
+        return new RtYamlScalarBuilder(this.lines.with(value));
     }
 
     @Override
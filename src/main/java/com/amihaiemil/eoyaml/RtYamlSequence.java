@@ -27,7 +27,9 @@
  */
 package com.amihaiemil.eoyaml;
 
-import java.util.*;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 
 /**
  * YAML sequence implementation (rt means runtime).
@@ -46,7 +48,7 @@ final class RtYamlSequence extends BaseYamlSequence {
     /**
      * Nodes in this sequence.
      */
-    private final List<YamlNode> nodes = new LinkedList<>();
+    private final YamlNode[] nodes;
 
     /**
      * Ctor.
@@ -65,15 +67,61 @@ final class RtYamlSequence extends BaseYamlSequence {
         final Collection<YamlNode> elements,
         final String comment
     ) {
-        this.nodes.addAll(elements);
+        this(elements.toArray(new YamlNode[elements.size()]), comment);
+    }
+
+    /**
+     * Constructor.
+     * @param nodes Elements of this sequence, owned by it from now on.
+     * @param comment Comment referring to this sequence itself.
+     */
+    private RtYamlSequence(final YamlNode[] nodes, final String comment) {
+        this.nodes = nodes;
         this.comment = new BuiltComment(this, comment);
     }
 
     @Override
     public Collection<YamlNode> values() {
-        final List<YamlNode> children = new LinkedList<>();
-        children.addAll(this.nodes);
-        return children;
+        return Collections.unmodifiableList(Arrays.asList(this.nodes));
+    }
+
+    @Override
+    public YamlSequence with(final YamlNode node) {
+        final YamlNode[] nodes = Arrays.copyOf(
+            this.nodes, this.nodes.length + 1
+        );
+        nodes[this.nodes.length] = node;
+        return new RtYamlSequence(nodes, this.comment.value());
+    }
+
+    @Override
+    public YamlSequence withAt(final int index, final YamlNode node) {
+        if (index < 0 || index >= this.nodes.length) {
+            throw new IndexOutOfBoundsException(
+                "Index: " + index + ", Size: " + this.nodes.length
+            );
+        }
+        final YamlNode[] nodes = this.nodes.clone();
+        nodes[index] = node;
+        return new RtYamlSequence(nodes, this.comment.value());
+    }
+
+    @Override
+    public YamlSequence withoutAt(final int index) {
+        if (index < 0 || index >= this.nodes.length) {
+            throw new IndexOutOfBoundsException(
+                "Index: " + index + ", Size: " + this.nodes.length
+            );
+        }
+        final int size = this.nodes.length - 1;
+        final YamlNode[] nodes = new YamlNode[size];
+        System.arraycopy(this.nodes, 0, nodes, 0, index);
+        System.arraycopy(this.nodes, index + 1, nodes, index, size - index);
+        YamlSequence without = new RtYamlSequence(nodes, this.comment.value());
+        if (size == 0) {
+            without = new EmptyYamlSequence(without);
+        }
+        return without;
     }
 
     @Override
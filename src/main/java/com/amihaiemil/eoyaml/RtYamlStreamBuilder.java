@@ -28,8 +28,6 @@
 package com.amihaiemil.eoyaml;
 
 import java.util.Collection;
-import java.util.LinkedList;
-import java.util.List;
 
 /**
  * YamlStreamBuilder implementation. "Rt" stands for "Runtime".
@@ -43,29 +41,28 @@ final class RtYamlStreamBuilder implements YamlStreamBuilder {
     /**
      * Added nodes.
      */
-    private final List<YamlNode> documents;
+    private final PersistentVector<YamlNode> documents;
 
     /**
      * Default ctor.
      */
     RtYamlStreamBuilder() {
-        this(new LinkedList<YamlNode>());
+        this(new PersistentVector<>());
     }
 
     /**
      * Constructor.
      * @param documents YAML documents used in building the YamlStream.
      */
-    RtYamlStreamBuilder(final List<YamlNode> documents) {
+    private RtYamlStreamBuilder(
+        final PersistentVector<YamlNode> documents
+    ) {
         this.documents = documents;
     }
 
     @Override
     public YamlStreamBuilder add(final YamlNode document) {
-        final List<YamlNode> list = new LinkedList<>();
-        list.addAll(this.documents);
-        list.add(document);
-        return new RtYamlStreamBuilder(list);
+        return new RtYamlStreamBuilder(this.documents.with(document));
     }
 
     @Override
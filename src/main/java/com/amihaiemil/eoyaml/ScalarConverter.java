@@ -0,0 +1,60 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+/**
+ * Converter of Java Objects to YAML Scalars, used when dumping Objects
+ * (see {@link Yaml#createYamlDump(Object)}). Objects of a type which has
+ * a converter are dumped as plain Scalars, instead of being reflected as
+ * Java Beans.<br><br>
+ * Common value types (Strings, numbers, booleans, enums, UUID, java.time
+ * types etc) have built-in converters. Custom converters are provided as
+ * a service: list their fully qualified class names in the file
+ * {@code META-INF/services/com.amihaiemil.eoyaml.ScalarConverter}.
+ * They are consulted before the built-in ones, in the order in which
+ * they are found, and the first one handling a type is used for it.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 6.0.2
+ */
+public interface ScalarConverter {
+
+    /**
+     * Type of the converted Objects. Its subtypes are converted as well.
+     * @return Class.
+     */
+    Class<?> type();
+
+    /**
+     * Convert an Object of the handled type to the value of a Scalar.
+     * @param object Object to convert, never null.
+     * @return Value of the Scalar or null, if the Object represents
+     *  a null value.
+     */
+    String scalar(Object object);
+}
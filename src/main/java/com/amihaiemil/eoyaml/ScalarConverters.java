@@ -0,0 +1,230 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.io.File;
+import java.net.URI;
+import java.net.URL;
+import java.nio.file.Path;
+import java.time.ZoneId;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalAmount;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Currency;
+import java.util.List;
+import java.util.Locale;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.ServiceLoader;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Registry of {@link ScalarConverter}s: the custom ones, found with the
+ * {@link ServiceLoader}, followed by the built-in ones. The converter of
+ * each class is looked up once and cached in a ClassValue, so telling
+ * whether an Object is a Scalar is a single cached lookup per class.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 6.0.2
+ */
+final class ScalarConverters {
+
+    /**
+     * All converters, custom ones first.
+     */
+    private static final List<ScalarConverter> ALL = ScalarConverters.all();
+
+    /**
+     * Placeholder for the classes which are not Scalars.
+     */
+    private static final ScalarConverter NONE = new Builtin(
+        Void.class, String::valueOf
+    );
+
+    /**
+     * Converter of each class, or NONE if the class is not a Scalar.
+     */
+    private static final ClassValue<ScalarConverter> CACHE =
+        new ClassValue<ScalarConverter>() {
+            @Override
+            protected ScalarConverter computeValue(final Class<?> type) {
+                ScalarConverter found = NONE;
+                for (final ScalarConverter converter : ALL) {
+                    if (converter.type().isAssignableFrom(type)) {
+                        found = converter;
+                        break;
+                    }
+                }
+                return found;
+            }
+        };
+
+    /**
+     * Hidden ctor.
+     */
+    private ScalarConverters() {
+    }
+
+    /**
+     * Is the given Object dumped as a Scalar?
+     * @param object Object.
+     * @return True or false.
+     */
+    static boolean isScalar(final Object object) {
+        return object == null || CACHE.get(object.getClass()) != NONE;
+    }
+
+    /**
+     * Value of the Scalar which represents the given Object.
+     * @param object Object which is a Scalar (see {@link #isScalar(Object)}).
+     * @return String value or null.
+     */
+    static String value(final Object object) {
+        final String value;
+        if (object == null) {
+            value = null;
+        } else {
+            value = CACHE.get(object.getClass()).scalar(object);
+        }
+        return value;
+    }
+
+    /**
+     * Load the custom converters and add the built-in ones.
+     * @return Unmodifiable List of converters.
+     */
+    private static List<ScalarConverter> all() {
+        final List<ScalarConverter> all = new ArrayList<>();
+        for (final ScalarConverter custom
+            : ServiceLoader.load(ScalarConverter.class)) {
+            all.add(custom);
+        }
+        all.add(new Builtin(CharSequence.class, Object::toString));
+        all.add(new Builtin(Number.class, Object::toString));
+        all.add(new Builtin(Boolean.class, Object::toString));
+        all.add(new Builtin(Character.class, Object::toString));
+        all.add(new Builtin(Enum.class, obj -> ((Enum<?>) obj).name()));
+        all.add(new Builtin(UUID.class, Object::toString));
+        all.add(new Builtin(TemporalAccessor.class, Object::toString));
+        all.add(new Builtin(TemporalAmount.class, Object::toString));
+        all.add(new Builtin(ZoneId.class, Object::toString));
+        all.add(new Builtin(URI.class, Object::toString));
+        all.add(new Builtin(URL.class, Object::toString));
+        all.add(new Builtin(Path.class, Object::toString));
+        all.add(new Builtin(File.class, Object::toString));
+        all.add(new Builtin(Currency.class, Object::toString));
+        all.add(
+            new Builtin(Locale.class, obj -> ((Locale) obj).toLanguageTag())
+        );
+        all.add(
+            new Builtin(
+                OptionalInt.class,
+                obj -> {
+                    final OptionalInt opt = (OptionalInt) obj;
+                    String value = null;
+                    if (opt.isPresent()) {
+                        value = String.valueOf(opt.getAsInt());
+                    }
+                    return value;
+                }
+            )
+        );
+        all.add(
+            new Builtin(
+                OptionalLong.class,
+                obj -> {
+                    final OptionalLong opt = (OptionalLong) obj;
+                    String value = null;
+                    if (opt.isPresent()) {
+                        value = String.valueOf(opt.getAsLong());
+                    }
+                    return value;
+                }
+            )
+        );
+        all.add(
+            new Builtin(
+                OptionalDouble.class,
+                obj -> {
+                    final OptionalDouble opt = (OptionalDouble) obj;
+                    String value = null;
+                    if (opt.isPresent()) {
+                        value = String.valueOf(opt.getAsDouble());
+                    }
+                    return value;
+                }
+            )
+        );
+        return Collections.unmodifiableList(all);
+    }
+
+    /**
+     * Built-in converter.
+     * @author Mihai Andronache (amihaiemil@gmail.com)
+     * @version $Id$
+     * @since 6.0.2
+     */
+    private static final class Builtin implements ScalarConverter {
+
+        /**
+         * Converted type.
+         */
+        private final Class<?> type;
+
+        /**
+         * Conversion.
+         */
+        private final Function<Object, String> conversion;
+
+        /**
+         * Constructor.
+         * @param type Converted type.
+         * @param conversion Conversion.
+         */
+        Builtin(
+            final Class<?> type,
+            final Function<Object, String> conversion
+        ) {
+            this.type = type;
+            this.conversion = conversion;
+        }
+
+        @Override
+        public Class<?> type() {
+            return this.type;
+        }
+
+        @Override
+        public String scalar(final Object object) {
+            return this.conversion.apply(object);
+        }
+    }
+}
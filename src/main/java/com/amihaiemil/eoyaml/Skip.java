@@ -27,10 +27,9 @@
  */
 package com.amihaiemil.eoyaml;
 
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
-import java.util.List;
+import java.util.NoSuchElementException;
 
 /**
  * Decorator over some YamlLines which makes sure that lines
@@ -64,28 +63,17 @@ final class Skip implements YamlLines {
 
     @Override
     public Iterator<YamlLine> iterator() {
-        Iterator<YamlLine> iterator = this.yamlLines.iterator();
-        if (iterator.hasNext()) {
-            final List<YamlLine> notSkipped = new ArrayList<>();
-            YamlLine previous = new YamlLine.NullYamlLine();
-            while (iterator.hasNext()) {
-                boolean skip = false;
-                final YamlLine next = iterator.next();
-                final Skip.Line current = new Skip.Line(next, previous);
-                previous = current;
-                for(int idx = 0; idx < this.conditions.length; idx++) {
-                    if(this.conditions[idx].isMet(current)) {
-                        skip = true;
-                        break;
-                    }
-                }
-                if(!skip) {
-                    notSkipped.add(current.unwrap());
-                }
-            }
-            iterator = notSkipped.iterator();
-        }
-        return iterator;
+        return new NotSkipped(this.yamlLines.iterator());
+    }
+
+    /**
+     * Iterate backwards, lazily. Pay attention: the conditions which
+     * look at the previous or stored line see the lines in reverse order.
+     * @return Iterator of YamlLine.
+     */
+    @Override
+    public Iterator<YamlLine> backwards() {
+        return new NotSkipped(this.yamlLines.backwards());
     }
 
     @Override
@@ -101,6 +89,69 @@ final class Skip implements YamlLines {
         return this.yamlLines.toYamlNode(prev, guessIndentation);
     }
 
+    /**
+     * Iterator over the lines which are not skipped. The lines are checked
+     * as they are reached, so a caller which stops early does not pay for
+     * the rest of them.
+     */
+    private final class NotSkipped implements Iterator<YamlLine> {
+
+        /**
+         * All the lines.
+         */
+        private final Iterator<YamlLine> lines;
+
+        /**
+         * Previous line, skipped or not.
+         */
+        private YamlLine previous;
+
+        /**
+         * Next line which is not skipped, or null if not found yet.
+         */
+        private YamlLine next;
+
+        /**
+         * Ctor.
+         * @param lines All the lines.
+         */
+        NotSkipped(final Iterator<YamlLine> lines) {
+            this.lines = lines;
+            this.previous = new YamlLine.NullYamlLine();
+        }
+
+        @Override
+        public boolean hasNext() {
+            while(this.next == null && this.lines.hasNext()) {
+                final Skip.Line current = new Skip.Line(
+                    this.lines.next(), this.previous
+                );
+                this.previous = current;
+                boolean skip = false;
+                for(final Condition condition : Skip.this.conditions) {
+                    if(condition.isMet(current)) {
+                        skip = true;
+                        break;
+                    }
+                }
+                if(!skip) {
+                    this.next = current.unwrap();
+                }
+            }
+            return this.next != null;
+        }
+
+        @Override
+        public YamlLine next() {
+            if(!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final YamlLine line = this.next;
+            this.next = null;
+            return line;
+        }
+    }
+
     /**
      * Condition that a YamlLine has to satisfy in order to be
      * skipped/ignored from iteration.
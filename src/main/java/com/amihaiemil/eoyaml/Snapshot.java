@@ -0,0 +1,520 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import com.amihaiemil.eoyaml.exceptions.YamlReadingException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Binary snapshot of a YamlNode, as written by {@link SnapshotYamlPrinter}.
+ * <br><br>
+ * The snapshot starts with a header: the magic bytes "EOYS", the version of
+ * the format and a byte of flags (1 if the comments are included).
+ * After the header comes the root node. Every node is made of a type tag
+ * (1 byte), the length of its body (4 bytes) and the body itself:
+ * <pre>
+ * scalar:   value, [above comment, inline comment]
+ *           (folded scalars also have the count of lines and the lines)
+ * mapping:  count, count * position of key, slots, slots * key,
+ *           [comment], count * (key, value)
+ * sequence: count, count * position of node, [comment], count * node
+ * stream:   count, count * position of node, [comment], count * node
+ * </pre>
+ * The slots of a mapping are a hash table of its scalar keys: each slot
+ * holds the index of a key plus one, or 0 if it is empty. The number of
+ * slots is a power of two and at most three quarters of them are used,
+ * collisions go to the next slot. This way, a scalar key is looked up
+ * without reading the other keys.
+ * Strings are written as their length (4 bytes, -1 meaning null) followed
+ * by their UTF-8 bytes. The positions are absolute, from the start of the
+ * snapshot. This allows us to skip any node or jump straight to the
+ * n-th element of a sequence, without reading what comes before it.
+ * <br><br>
+ * This class only reads the given bytes using absolute positions, it never
+ * changes the state of the buffer, so it is immutable and thread-safe.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 6.0.2
+ */
+final class Snapshot {
+
+    /**
+     * Magic bytes at the start of the snapshot.
+     */
+    static final byte[] MAGIC = {'E', 'O', 'Y', 'S'};
+
+    /**
+     * Version of the format.
+     */
+    static final byte VERSION = 1;
+
+    /**
+     * Flag indicating that comments are included.
+     */
+    static final byte COMMENTS = 1;
+
+    /**
+     * Length of the header: magic, version and flags.
+     */
+    static final int HEADER = 6;
+
+    /**
+     * Length of the start of any node: tag and length of the body.
+     */
+    static final int NODE = 5;
+
+    /**
+     * Tag of a null node.
+     */
+    static final byte NULL = 0;
+
+    /**
+     * Tag of a plain scalar.
+     */
+    static final byte PLAIN = 1;
+
+    /**
+     * Tag of a folded block scalar.
+     */
+    static final byte FOLDED = 2;
+
+    /**
+     * Tag of a literal block scalar.
+     */
+    static final byte LITERAL = 3;
+
+    /**
+     * Tag of a mapping.
+     */
+    static final byte MAPPING = 4;
+
+    /**
+     * Tag of a sequence.
+     */
+    static final byte SEQUENCE = 5;
+
+    /**
+     * Tag of a stream.
+     */
+    static final byte STREAM = 6;
+
+    /**
+     * Bytes of the snapshot.
+     */
+    private final ByteBuffer bytes;
+
+    /**
+     * Ctor.
+     * @param bytes Bytes of the snapshot. They are read starting with the
+     *  current position of the buffer.
+     */
+    Snapshot(final ByteBuffer bytes) {
+        this.bytes = bytes.slice();
+    }
+
+    /**
+     * The root node of this snapshot.
+     * @return YamlNode or null if the snapshot is of a null node.
+     * @throws YamlReadingException If the bytes are not a snapshot.
+     */
+    YamlNode root() {
+        if(this.bytes.limit() < HEADER + NODE) {
+            throw new YamlReadingException(
+                "Not an eo-yaml snapshot, it is too short!"
+            );
+        }
+        for(int idx = 0; idx < MAGIC.length; idx++) {
+            if(this.bytes.get(idx) != MAGIC[idx]) {
+                throw new YamlReadingException(
+                    "Not an eo-yaml snapshot, wrong magic bytes!"
+                );
+            }
+        }
+        if(this.bytes.get(MAGIC.length) != VERSION) {
+            throw new YamlReadingException(
+                "Unsupported version of eo-yaml snapshot: "
+                + this.bytes.get(MAGIC.length)
+            );
+        }
+        return this.node(HEADER);
+    }
+
+    /**
+     * The node found at the given position.
+     * @param position Position of the node.
+     * @return YamlNode, null if it is a null node.
+     * @checkstyle ReturnCount (50 lines)
+     */
+    YamlNode node(final int position) {
+        final byte tag = this.bytes.get(position);
+        final YamlNode node;
+        if(tag == NULL) {
+            node = null;
+        } else if(tag == PLAIN) {
+            node = this.plain(position);
+        } else if(tag == FOLDED) {
+            node = new Folded(this, position);
+        } else if(tag == LITERAL) {
+            final String comment;
+            if(this.withComments()) {
+                comment = this.string(this.skip(position + NODE));
+            } else {
+                comment = "";
+            }
+            node = new RtYamlScalarBuilder.BuiltLiteralBlockScalar(
+                Collections.singletonList(this.string(position + NODE)),
+                comment
+            );
+        } else if(tag == MAPPING) {
+            final YamlMapping mapping = new SnapshotYamlMapping(
+                this, position
+            );
+            if(this.count(position) == 0) {
+                node = new EmptyYamlMapping(mapping);
+            } else {
+                node = mapping;
+            }
+        } else if(tag == SEQUENCE) {
+            final YamlSequence sequence = new SnapshotYamlSequence(
+                this, position
+            );
+            if(this.count(position) == 0) {
+                node = new EmptyYamlSequence(sequence);
+            } else {
+                node = sequence;
+            }
+        } else if(tag == STREAM) {
+            node = new SnapshotYamlStream(this, position);
+        } else {
+            throw new YamlReadingException(
+                "Unknown node tag " + tag + " at position " + position
+            );
+        }
+        return node;
+    }
+
+    /**
+     * Type tag of the node found at the given position.
+     * @param position Position of the node.
+     * @return Tag.
+     */
+    byte tag(final int position) {
+        return this.bytes.get(position);
+    }
+
+    /**
+     * Position right after the end of the node found at the given position.
+     * @param position Position of the node.
+     * @return Integer position.
+     */
+    int end(final int position) {
+        return position + NODE + this.bytes.getInt(position + 1);
+    }
+
+    /**
+     * Number of children of the complex node (mapping, sequence or stream)
+     * found at the given position.
+     * @param position Position of the node.
+     * @return Integer.
+     */
+    int count(final int position) {
+        return this.bytes.getInt(position + NODE);
+    }
+
+    /**
+     * Position of the index-th child of the complex node (mapping, sequence
+     * or stream) found at the given position. In the case of a mapping,
+     * it is the position of the index-th key.
+     * @param position Position of the node.
+     * @param index Index of the child.
+     * @return Integer position.
+     */
+    int child(final int position, final int index) {
+        return this.bytes.getInt(position + NODE + 4 + 4 * index);
+    }
+
+    /**
+     * Children of the complex node found at the given position: the nodes
+     * of a sequence or stream, the keys of a mapping. The returned List is
+     * an unmodifiable view, the children are read only when they are
+     * accessed.
+     * @param position Position of the node.
+     * @return List of YamlNode.
+     */
+    List<YamlNode> children(final int position) {
+        return new Children(this, position);
+    }
+
+    /**
+     * Comment of the complex node (mapping, sequence or stream)
+     * found at the given position.
+     * @param position Position of the node.
+     * @return String comment, empty if there is none.
+     */
+    String comment(final int position) {
+        final String comment;
+        if(this.withComments()) {
+            int start = position + NODE + 4 + 4 * this.count(position);
+            if(this.tag(position) == MAPPING) {
+                start = start + 4 + 4 * this.bytes.getInt(start);
+            }
+            comment = this.string(start);
+        } else {
+            comment = "";
+        }
+        return comment;
+    }
+
+    /**
+     * Position of the scalar key with the given value, in the mapping found
+     * at the given position. It is looked up in the hash table of the
+     * mapping, so only the keys in the same slots are compared.
+     * @param position Position of the mapping.
+     * @param value UTF-8 bytes of the key's value.
+     * @return Integer position of the key or -1 if there is no such key.
+     */
+    int key(final int position, final byte[] value) {
+        final int table = position + NODE + 4 + 4 * this.count(position);
+        final int slots = this.bytes.getInt(table);
+        int slot = Snapshot.slot(value, slots);
+        int entry = this.bytes.getInt(table + 4 + 4 * slot);
+        int found = -1;
+        for(int probe = 0; found < 0 && entry != 0 && probe < slots; ++probe) {
+            final int key = this.child(position, entry - 1);
+            if(this.hasValue(key, value)) {
+                found = key;
+            } else {
+                slot = (slot + 1) & (slots - 1);
+                entry = this.bytes.getInt(table + 4 + 4 * slot);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Slot of a scalar key in the hash table of a mapping.
+     * @param value UTF-8 bytes of the key's value.
+     * @param slots Number of slots, a power of two.
+     * @return Index of the slot.
+     */
+    static int slot(final byte[] value, final int slots) {
+        final int hash = Arrays.hashCode(value);
+        return (hash ^ hash >>> 16) & (slots - 1);
+    }
+
+    /**
+     * Does the scalar node found at the given position have the given
+     * value? The value is compared byte by byte, without decoding it.
+     * @param position Position of the node.
+     * @param value UTF-8 bytes of the value.
+     * @return True or false.
+     */
+    boolean hasValue(final int position, final byte[] value) {
+        final byte tag = this.bytes.get(position);
+        boolean result = (tag == PLAIN || tag == FOLDED || tag == LITERAL)
+            && this.bytes.getInt(position + NODE) == value.length;
+        final int start = position + NODE + 4;
+        for(int idx = 0; result && idx < value.length; idx++) {
+            result = this.bytes.get(start + idx) == value[idx];
+        }
+        return result;
+    }
+
+    /**
+     * Read the String found at the given position.
+     * @param position Position of the String.
+     * @return String or null.
+     */
+    String string(final int position) {
+        final int length = this.bytes.getInt(position);
+        final String value;
+        if(length < 0) {
+            value = null;
+        } else {
+            final byte[] read = new byte[length];
+            final ByteBuffer duplicate = this.bytes.duplicate();
+            duplicate.position(position + 4);
+            duplicate.get(read);
+            value = new String(read, StandardCharsets.UTF_8);
+        }
+        return value;
+    }
+
+    /**
+     * Position right after the String found at the given position.
+     * @param position Position of the String.
+     * @return Integer position.
+     */
+    int skip(final int position) {
+        return position + 4 + Math.max(0, this.bytes.getInt(position));
+    }
+
+    /**
+     * Are the comments included in this snapshot?
+     * @return True or false.
+     */
+    private boolean withComments() {
+        return (this.bytes.get(MAGIC.length + 1) & COMMENTS) != 0;
+    }
+
+    /**
+     * Read the plain scalar found at the given position.
+     * @param position Position of the scalar.
+     * @return Scalar.
+     */
+    private Scalar plain(final int position) {
+        final String value = this.string(position + NODE);
+        final Scalar plain;
+        if(this.withComments()) {
+            final int above = this.skip(position + NODE);
+            plain = new PlainStringScalar(
+                value, this.string(above), this.string(this.skip(above))
+            );
+        } else {
+            plain = new PlainStringScalar(value);
+        }
+        return plain;
+    }
+
+    /**
+     * A folded block scalar from a Snapshot.
+     * @author Mihai Andronache (amihaiemil@gmail.com)
+     * @version $Id$
+     * @since 6.0.2
+     */
+    static final class Folded extends BaseFoldedScalar {
+
+        /**
+         * Snapshot.
+         */
+        private final Snapshot snapshot;
+
+        /**
+         * Position of this scalar in the snapshot.
+         */
+        private final int position;
+
+        /**
+         * Ctor.
+         * @param snapshot Snapshot.
+         * @param position Position of the scalar.
+         */
+        Folded(final Snapshot snapshot, final int position) {
+            this.snapshot = snapshot;
+            this.position = position;
+        }
+
+        @Override
+        public String value() {
+            return this.snapshot.string(this.position + NODE);
+        }
+
+        @Override
+        public Comment comment() {
+            final String comment;
+            if(this.snapshot.withComments()) {
+                comment = this.snapshot.string(
+                    this.snapshot.skip(this.position + NODE)
+                );
+            } else {
+                comment = "";
+            }
+            return new BuiltComment(this, comment);
+        }
+
+        @Override
+        List<String> unfolded() {
+            int current = this.snapshot.skip(this.position + NODE);
+            if(this.snapshot.withComments()) {
+                current = this.snapshot.skip(current);
+            }
+            final int count = this.snapshot.bytes.getInt(current);
+            current = current + 4;
+            final List<String> lines = new ArrayList<>(count);
+            for(int idx = 0; idx < count; idx++) {
+                lines.add(this.snapshot.string(current));
+                current = this.snapshot.skip(current);
+            }
+            return lines;
+        }
+    }
+
+    /**
+     * Children of a sequence or stream, or keys of a mapping, from a
+     * Snapshot. The children are read only when they are accessed, by
+     * index, in constant time.
+     * @author Mihai Andronache (amihaiemil@gmail.com)
+     * @version $Id$
+     * @since 6.0.2
+     */
+    static final class Children extends AbstractList<YamlNode> {
+
+        /**
+         * Snapshot.
+         */
+        private final Snapshot snapshot;
+
+        /**
+         * Position of the parent node in the snapshot.
+         */
+        private final int position;
+
+        /**
+         * Ctor.
+         * @param snapshot Snapshot.
+         * @param position Position of the parent node.
+         */
+        Children(final Snapshot snapshot, final int position) {
+            this.snapshot = snapshot;
+            this.position = position;
+        }
+
+        @Override
+        public YamlNode get(final int index) {
+            if(index < 0 || index >= this.size()) {
+                throw new IndexOutOfBoundsException(
+                    "Index: " + index + ", Size: " + this.size()
+                );
+            }
+            return this.snapshot.node(
+                this.snapshot.child(this.position, index)
+            );
+        }
+
+        @Override
+        public int size() {
+            return this.snapshot.count(this.position);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import com.amihaiemil.eoyaml.exceptions.YamlReadingException;
+
+/**
+ * YamlInput from a binary {@link Snapshot}, as written by
+ * {@link SnapshotYamlPrinter}. No text is parsed, the returned nodes are
+ * views which read the snapshot only when they are accessed.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 6.0.2
+ */
+final class SnapshotYamlInput implements YamlInput {
+
+    /**
+     * The snapshot.
+     */
+    private final Snapshot snapshot;
+
+    /**
+     * Ctor.
+     * @param snapshot The snapshot.
+     */
+    SnapshotYamlInput(final Snapshot snapshot) {
+        this.snapshot = snapshot;
+    }
+
+    @Override
+    public YamlMapping readYamlMapping() {
+        return this.root().asMapping();
+    }
+
+    @Override
+    public YamlSequence readYamlSequence() {
+        return this.root().asSequence();
+    }
+
+    @Override
+    public YamlStream readYamlStream() {
+        return this.root().asStream();
+    }
+
+    @Override
+    public Scalar readPlainScalar() {
+        return this.root().asScalar();
+    }
+
+    @Override
+    public Scalar readFoldedBlockScalar() {
+        return this.root().asScalar();
+    }
+
+    @Override
+    public Scalar readLiteralBlockScalar() {
+        return this.root().asScalar();
+    }
+
+    /**
+     * The root node of the snapshot.
+     * @return YamlNode.
+     * @throws YamlReadingException If the snapshot is of a null node.
+     */
+    private YamlNode root() {
+        final YamlNode root = this.snapshot.root();
+        if(root == null) {
+            throw new YamlReadingException(
+                "The snapshot is of a null YamlNode!"
+            );
+        }
+        return root;
+    }
+}
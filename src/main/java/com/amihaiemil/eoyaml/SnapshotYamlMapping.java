@@ -0,0 +1,174 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * YamlMapping from a binary {@link Snapshot}. Nothing is read in advance,
+ * the keys and values are read from the snapshot only when they are needed.
+ * Scalar keys are looked up in the hash table of the mapping, comparing
+ * the raw bytes of the keys, without decoding them.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 6.0.2
+ */
+final class SnapshotYamlMapping extends BaseYamlMapping {
+
+    /**
+     * Snapshot where this mapping is found.
+     */
+    private final Snapshot snapshot;
+
+    /**
+     * Position of this mapping in the snapshot.
+     */
+    private final int position;
+
+    /**
+     * Ctor.
+     * @param snapshot Snapshot where this mapping is found.
+     * @param position Position of this mapping in the snapshot.
+     */
+    SnapshotYamlMapping(final Snapshot snapshot, final int position) {
+        this.snapshot = snapshot;
+        this.position = position;
+    }
+
+    @Override
+    public Set<YamlNode> keys() {
+        return new Keys(this);
+    }
+
+    @Override
+    public YamlNode value(final YamlNode key) {
+        final int found = this.find(key);
+        final YamlNode value;
+        if(found < 0) {
+            value = null;
+        } else {
+            value = this.snapshot.node(this.snapshot.end(found));
+        }
+        return value;
+    }
+
+    @Override
+    public Collection<YamlNode> values() {
+        final int count = this.snapshot.count(this.position);
+        final List<YamlNode> values = new ArrayList<>(count);
+        for(int idx = 0; idx < count; idx++) {
+            values.add(
+                this.snapshot.node(
+                    this.snapshot.end(
+                        this.snapshot.child(this.position, idx)
+                    )
+                )
+            );
+        }
+        return values;
+    }
+
+    @Override
+    public Comment comment() {
+        return new BuiltComment(this, this.snapshot.comment(this.position));
+    }
+
+    /**
+     * Position of the given key in the snapshot. Scalar keys are looked up
+     * in the hash table of the mapping; complex keys are compared with
+     * every key.
+     * @param key Key.
+     * @return Integer position or -1 if there is no such key.
+     */
+    private int find(final YamlNode key) {
+        int found = -1;
+        if(key instanceof Scalar && ((Scalar) key).value() != null) {
+            found = this.snapshot.key(
+                this.position,
+                ((Scalar) key).value().getBytes(StandardCharsets.UTF_8)
+            );
+        } else if(key != null) {
+            final int count = this.snapshot.count(this.position);
+            for(int idx = 0; found < 0 && idx < count; idx++) {
+                final int child = this.snapshot.child(this.position, idx);
+                if(key.equals(this.snapshot.node(child))) {
+                    found = child;
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Keys of a mapping from a Snapshot. The keys are read only when they
+     * are iterated and contains() looks them up like value() does, so the
+     * Set costs nothing to create.
+     * @author Mihai Andronache (amihaiemil@gmail.com)
+     * @version $Id$
+     * @since 6.0.2
+     */
+    private static final class Keys extends AbstractSet<YamlNode> {
+
+        /**
+         * Mapping.
+         */
+        private final SnapshotYamlMapping mapping;
+
+        /**
+         * Ctor.
+         * @param mapping Mapping.
+         */
+        Keys(final SnapshotYamlMapping mapping) {
+            this.mapping = mapping;
+        }
+
+        @Override
+        public Iterator<YamlNode> iterator() {
+            return this.mapping.snapshot.children(
+                this.mapping.position
+            ).iterator();
+        }
+
+        @Override
+        public int size() {
+            return this.mapping.snapshot.count(this.mapping.position);
+        }
+
+        @Override
+        public boolean contains(final Object key) {
+            return key instanceof YamlNode
+                && this.mapping.find((YamlNode) key) >= 0;
+        }
+    }
+}
@@ -0,0 +1,366 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * YamlPrinter which writes a binary {@link Snapshot} of the YamlNode,
+ * instead of its text. The snapshot can be read back, without parsing any
+ * text, via {@link Yaml#createYamlSnapshotInput(ByteBuffer)}.
+ * @checkstyle CyclomaticComplexity (300 lines)
+ * @checkstyle ExecutableStatementCount (300 lines)
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 6.0.2
+ */
+final class SnapshotYamlPrinter implements YamlPrinter {
+
+    /**
+     * Where the snapshot is written.
+     */
+    private final OutputStream destination;
+
+    /**
+     * Should the comments be included in the snapshot?
+     */
+    private final boolean comments;
+
+    /**
+     * Constructor.
+     * @param destination Where the snapshot is written.
+     * @param comments Should the comments be included in the snapshot?
+     */
+    SnapshotYamlPrinter(
+        final OutputStream destination,
+        final boolean comments
+    ) {
+        this.destination = destination;
+        this.comments = comments;
+    }
+
+    @Override
+    public void print(final YamlNode node) throws IOException {
+        try {
+            final Output output = new Output();
+            for(final byte magic : Snapshot.MAGIC) {
+                output.put(magic);
+            }
+            output.put(Snapshot.VERSION);
+            if(this.comments) {
+                output.put(Snapshot.COMMENTS);
+            } else {
+                output.put((byte) 0);
+            }
+            this.write(node, output);
+            output.writeTo(this.destination);
+        } finally {
+            this.destination.close();
+        }
+    }
+
+    /**
+     * Write a YamlNode.
+     * @param node YamlNode to write, it can be null.
+     * @param output Where to write it.
+     */
+    private void write(final YamlNode node, final Output output) {
+        final int start = output.position();
+        if(node == null) {
+            output.put(Snapshot.NULL);
+            output.putInt(0);
+        } else if(node instanceof Scalar) {
+            this.scalar((Scalar) node, output);
+        } else if(node instanceof YamlMapping) {
+            final YamlMapping mapping = (YamlMapping) node;
+            final Set<YamlNode> keys = mapping.keys();
+            output.put(Snapshot.MAPPING);
+            output.reserve(4);
+            final int table = SnapshotYamlPrinter.children(
+                keys.size(), output
+            );
+            SnapshotYamlPrinter.slots(keys, output);
+            this.comment(node, output);
+            int idx = 0;
+            for(final YamlNode key : keys) {
+                output.putInt(table + 4 * idx, output.position());
+                this.write(key, output);
+                this.write(mapping.value(key), output);
+                idx++;
+            }
+        } else {
+            final Collection<YamlNode> values;
+            if(node instanceof YamlSequence) {
+                output.put(Snapshot.SEQUENCE);
+                values = ((YamlSequence) node).values();
+            } else {
+                output.put(Snapshot.STREAM);
+                values = ((YamlStream) node).values();
+            }
+            output.reserve(4);
+            final int table = SnapshotYamlPrinter.children(
+                values.size(), output
+            );
+            this.comment(node, output);
+            int idx = 0;
+            for(final YamlNode value : values) {
+                output.putInt(table + 4 * idx, output.position());
+                this.write(value, output);
+                idx++;
+            }
+        }
+        output.putInt(start + 1, output.position() - start - Snapshot.NODE);
+    }
+
+    /**
+     * Write a Scalar, after the start of the node.
+     * @param scalar Scalar to write.
+     * @param output Where to write it.
+     */
+    private void scalar(final Scalar scalar, final Output output) {
+        final byte tag;
+        if(scalar instanceof BaseFoldedScalar) {
+            tag = Snapshot.FOLDED;
+        } else if(scalar instanceof RtYamlScalarBuilder.BuiltLiteralBlockScalar
+            || scalar instanceof ReadLiteralBlockScalar) {
+            tag = Snapshot.LITERAL;
+        } else {
+            tag = Snapshot.PLAIN;
+        }
+        output.put(tag);
+        output.reserve(4);
+        output.string(scalar.value());
+        if(this.comments) {
+            final Comment comment = scalar.comment();
+            if(tag != Snapshot.PLAIN) {
+                output.string(this.value(comment));
+            } else if(comment instanceof ScalarComment) {
+                output.string(this.value(((ScalarComment) comment).above()));
+                output.string(this.value(((ScalarComment) comment).inline()));
+            } else {
+                output.string(this.value(comment));
+                output.string("");
+            }
+        }
+        if(tag == Snapshot.FOLDED) {
+            final List<String> lines = ((BaseFoldedScalar) scalar).unfolded();
+            output.putInt(lines.size());
+            for(final String line : lines) {
+                output.string(line);
+            }
+        }
+    }
+
+    /**
+     * Write the count of children and reserve the table with their
+     * positions.
+     * @param count Count of children.
+     * @param output Where to write.
+     * @return Position of the table with the positions of the children.
+     */
+    private static int children(final int count, final Output output) {
+        output.putInt(count);
+        return output.reserve(4 * count);
+    }
+
+    /**
+     * Write the hash table of the scalar keys of a mapping: the number
+     * of slots and the slots, each with the index of a key plus one, or 0.
+     * @param keys Keys of the mapping, in the order they are written.
+     * @param output Where to write.
+     */
+    private static void slots(final Set<YamlNode> keys, final Output output) {
+        int hashed = 0;
+        for(final YamlNode key : keys) {
+            if(key instanceof Scalar && ((Scalar) key).value() != null) {
+                ++hashed;
+            }
+        }
+        int slots = 1;
+        while(slots * 3 < hashed * 4) {
+            slots = slots << 1;
+        }
+        final int[] table = new int[slots];
+        int idx = 0;
+        for(final YamlNode key : keys) {
+            if(key instanceof Scalar && ((Scalar) key).value() != null) {
+                int slot = Snapshot.slot(
+                    ((Scalar) key).value().getBytes(StandardCharsets.UTF_8),
+                    slots
+                );
+                while(table[slot] != 0) {
+                    slot = (slot + 1) & (slots - 1);
+                }
+                table[slot] = idx + 1;
+            }
+            ++idx;
+        }
+        output.putInt(slots);
+        for(final int entry : table) {
+            output.putInt(entry);
+        }
+    }
+
+    /**
+     * Write the comment of a complex node, if comments are included.
+     * @param node Complex node.
+     * @param output Where to write.
+     */
+    private void comment(final YamlNode node, final Output output) {
+        if(this.comments) {
+            output.string(this.value(node.comment()));
+        }
+    }
+
+    /**
+     * Value of a possibly null comment.
+     * @param comment Comment.
+     * @return String, empty if the comment is null.
+     */
+    private String value(final Comment comment) {
+        final String value;
+        if(comment == null) {
+            value = "";
+        } else {
+            value = comment.value();
+        }
+        return value;
+    }
+
+    /**
+     * Bytes written so far. Positions which are not known yet (lengths,
+     * positions of children) are reserved and written later.
+     * @author Mihai Andronache (amihaiemil@gmail.com)
+     * @version $Id$
+     * @since 6.0.2
+     */
+    private static final class Output {
+
+        /**
+         * Written bytes.
+         */
+        private ByteBuffer bytes = ByteBuffer.allocate(1024);
+
+        /**
+         * Current position.
+         * @return Integer.
+         */
+        int position() {
+            return this.bytes.position();
+        }
+
+        /**
+         * Write a byte.
+         * @param value Byte.
+         */
+        void put(final byte value) {
+            this.ensure(1);
+            this.bytes.put(value);
+        }
+
+        /**
+         * Write an integer.
+         * @param value Integer.
+         */
+        void putInt(final int value) {
+            this.ensure(4);
+            this.bytes.putInt(value);
+        }
+
+        /**
+         * Write an integer at a reserved position.
+         * @param position Reserved position.
+         * @param value Integer.
+         */
+        void putInt(final int position, final int value) {
+            this.bytes.putInt(position, value);
+        }
+
+        /**
+         * Write a String: its length and its UTF-8 bytes.
+         * @param value String, possibly null.
+         */
+        void string(final String value) {
+            if(value == null) {
+                this.putInt(-1);
+            } else {
+                final byte[] utf = value.getBytes(StandardCharsets.UTF_8);
+                this.putInt(utf.length);
+                this.ensure(utf.length);
+                this.bytes.put(utf);
+            }
+        }
+
+        /**
+         * Reserve some bytes, to be written later.
+         * @param length Number of bytes.
+         * @return Position of the reserved bytes.
+         */
+        int reserve(final int length) {
+            this.ensure(length);
+            final int position = this.bytes.position();
+            this.bytes.position(position + length);
+            return position;
+        }
+
+        /**
+         * Write everything to the given OutputStream.
+         * @param destination OutputStream.
+         * @throws IOException If something goes wrong.
+         */
+        void writeTo(final OutputStream destination) throws IOException {
+            destination.write(
+                this.bytes.array(), 0, this.bytes.position()
+            );
+        }
+
+        /**
+         * Make sure there is room for more bytes.
+         * @param length Number of bytes.
+         */
+        private void ensure(final int length) {
+            if(this.bytes.remaining() < length) {
+                final ByteBuffer larger = ByteBuffer.allocate(
+                    Math.max(
+                        this.bytes.capacity() * 2,
+                        this.bytes.position() + length
+                    )
+                );
+                this.bytes.flip();
+                larger.put(this.bytes);
+                this.bytes = larger;
+            }
+        }
+    }
+}
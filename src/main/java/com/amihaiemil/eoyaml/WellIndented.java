@@ -28,10 +28,8 @@
 package com.amihaiemil.eoyaml;
 
 import com.amihaiemil.eoyaml.exceptions.YamlIndentationException;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
-import java.util.List;
 
 /**
  * YamlLines decorator which iterates over them and verifies
@@ -108,57 +106,7 @@ final class WellIndented implements YamlLines {
      */
     @Override
     public Iterator<YamlLine> iterator() {
-        final Iterator<YamlLine> iterator = this.yamlLines.iterator();
-        final List<YamlLine> wellIndented = new ArrayList<>();
-        YamlLine previous;
-        if(iterator.hasNext()) {
-            previous = iterator.next();
-            wellIndented.add(previous);
-            while(iterator.hasNext()) {
-                YamlLine line = iterator.next();
-                if(!(previous instanceof YamlLine.NullYamlLine)) {
-                    int prevIndent = previous.indentation();
-                    if(previous.trimmed().matches("^[ ]*\\-.*\\:.*$")) {
-                        prevIndent += 2;
-                    }
-                    int lineIndent = line.indentation();
-                    if(previous.requireNestedIndentation()) {
-                        if(lineIndent != prevIndent + 2) {
-                            if(this.guessIndentation) {
-                                line = new Indented(line, prevIndent + 2);
-                            } else {
-                                throw new YamlIndentationException(
-                                    "Indentation of line " + (line.number() + 1)
-                                  + " [" + line.trimmed() + "]"
-                                  + " is not ok. It should be greater than the one"
-                                  + " of line " + (previous.number() + 1)
-                                  + " [" + previous.trimmed() + "]"
-                                  + " by 2 spaces."
-                                );
-                            }
-                        }
-                    } else {
-                        if(!"---".equals(previous.trimmed()) && lineIndent > prevIndent) {
-                            if(this.guessIndentation) {
-                                line = new Indented(line, prevIndent);
-                            } else {
-                                throw new YamlIndentationException(
-                                    "Indentation of line " + (line.number() + 1)
-                                  + " [" + line.trimmed() + "]"
-                                  + " is greater than the one of line "
-                                  + (previous.number() + 1)
-                                  + " [" + previous.trimmed() + "]. "
-                                  + "It should be less or equal."
-                                );
-                            }
-                        }
-                    }
-                }
-                previous = line;
-                wellIndented.add(line);
-            }
-        }
-        return wellIndented.iterator();
+        return new Checked(this.yamlLines.iterator());
     }
 
     @Override
@@ -166,6 +114,17 @@ final class WellIndented implements YamlLines {
         return this.yamlLines.original();
     }
 
+    /**
+     * Does the trimmed line start a mapping at the dash,
+     * e.g. "- key: value"? Checked without a regex, since it is done
+     * for every line.
+     * @param trimmed Trimmed line.
+     * @return True or false.
+     */
+    private static boolean dashKey(final String trimmed) {
+        return trimmed.startsWith("-") && trimmed.indexOf(':') > 0;
+    }
+
     @Override
     public YamlNode toYamlNode(
         final YamlLine prev,
@@ -174,4 +133,81 @@ final class WellIndented implements YamlLines {
         return this.yamlLines.toYamlNode(prev, guessIndent);
     }
 
+    /**
+     * Iterator which checks the indentation of each line as it goes, so
+     * callers which stop early (e.g. SameIndentationLevel) do not pay for
+     * the lines they never reach.
+     * @checkstyle LineLength (100 lines)
+     */
+    private final class Checked implements Iterator<YamlLine> {
+
+        /**
+         * Lines to check.
+         */
+        private final Iterator<YamlLine> lines;
+
+        /**
+         * Previous line, null before the first one.
+         */
+        private YamlLine previous;
+
+        /**
+         * Ctor.
+         * @param lines Lines to check.
+         */
+        Checked(final Iterator<YamlLine> lines) {
+            this.lines = lines;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.lines.hasNext();
+        }
+
+        @Override
+        public YamlLine next() {
+            YamlLine line = this.lines.next();
+            final YamlLine prev = this.previous;
+            if(prev != null && !(prev instanceof YamlLine.NullYamlLine)) {
+                int prevIndent = prev.indentation();
+                if(WellIndented.dashKey(prev.trimmed())) {
+                    prevIndent += 2;
+                }
+                int lineIndent = line.indentation();
+                if(prev.requireNestedIndentation()) {
+                    if(lineIndent != prevIndent + 2) {
+                        if(WellIndented.this.guessIndentation) {
+                            line = new Indented(line, prevIndent + 2);
+                        } else {
+                            throw new YamlIndentationException(
+                                "Indentation of line " + (line.number() + 1)
+                              + " [" + line.trimmed() + "]"
+                              + " is not ok. It should be greater than the one"
+                              + " of line " + (prev.number() + 1)
+                              + " [" + prev.trimmed() + "]"
+                              + " by 2 spaces."
+                            );
+                        }
+                    }
+                } else {
+                    if(!"---".equals(prev.trimmed()) && lineIndent > prevIndent) {
+                        if(WellIndented.this.guessIndentation) {
+                            line = new Indented(line, prevIndent);
+                        } else {
+                            throw new YamlIndentationException(
+                                "Indentation of line " + (line.number() + 1)
+                              + " [" + line.trimmed() + "]"
+                              + " is greater than the one of line "
+                              + (prev.number() + 1)
+                              + " [" + prev.trimmed() + "]. "
+                              + "It should be less or equal."
+                            );
+                        }
+                    }
+                }
+            }
+            this.previous = line;
+            return line;
+        }
+    }
 }
@@ -29,8 +29,14 @@ package com.amihaiemil.eoyaml;
 
 import javax.json.JsonArray;
 import javax.json.JsonObject;
+import javax.json.stream.JsonGenerator;
+import javax.json.stream.JsonParser;
 import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
 
 /**
  * Yaml.
@@ -149,6 +155,34 @@ public final class Yaml {
         );
     }
 
+    /**
+     * Create a {@link YamlInput} from a File.
+     * @return YamlInput, reader of Yaml.
+     * @param input File to read from.
+     * @param charset Charset to use.
+     * @param guessIndentation If set to true, we will try to guess the correct
+     *  indentation of misplaced lines. The default value is false
+     *  and an exception is thrown if indentation is not correct.
+     * @param readComments If set to false, comments are dropped while
+     *  reading and all the read nodes have empty comments. This saves
+     *  memory and time when the comments are not needed. Default is true.
+     * @throws FileNotFoundException If the file is not found.
+     * @checkstyle ParameterNumber (10 lines)
+     */
+    public static YamlInput createYamlInput(
+        final File input,
+        final Charset charset,
+        final boolean guessIndentation,
+        final boolean readComments
+    ) throws FileNotFoundException {
+        return Yaml.createYamlInput(
+            new FileInputStream(input),
+            charset,
+            guessIndentation,
+            readComments
+        );
+    }
+
     /**
      * Create a {@link YamlInput} from a String.
      * @param input String to read from.
@@ -215,6 +249,33 @@ public final class Yaml {
         );
     }
 
+    /**
+     * Create a {@link YamlInput} from a String.
+     * @param input String to read from.
+     * @param charset Charset to use.
+     * @param guessIndentation If set to true, we will try to guess the correct
+     *  indentation of misplaced lines. The default value is false
+     *  and an exception is thrown if indentation is not correct.
+     * @param readComments If set to false, comments are dropped while
+     *  reading and all the read nodes have empty comments. This saves
+     *  memory and time when the comments are not needed. Default is true.
+     * @return YamlInput, reader of Yaml.
+     * @checkstyle ParameterNumber (10 lines)
+     */
+    public static YamlInput createYamlInput(
+        final String input,
+        final Charset charset,
+        final boolean guessIndentation,
+        final boolean readComments
+    ) {
+        return Yaml.createYamlInput(
+            new ByteArrayInputStream(input.getBytes(charset)),
+            charset,
+            guessIndentation,
+            readComments
+        );
+    }
+
     /**
      * Create a {@link YamlInput} from an InputStream.
      * @param input InputStream to read from.
@@ -273,6 +334,79 @@ public final class Yaml {
         return new RtYamlInput(input, charset, guessIndentation);
     }
 
+    /**
+     * Create a {@link YamlInput} from an InputStream.
+     * @param input InputStream to read from.
+     * @param charset Charset to use.
+     * @param guessIndentation If set to true, we will try to guess the correct
+     *  indentation of misplaced lines. The default value is false
+     *  and an exception is thrown if indentation is not correct.
+     * @param readComments If set to false, comments are dropped while
+     *  reading and all the read nodes have empty comments. This saves
+     *  memory and time when the comments are not needed. Default is true.
+     * @return YamlInput, reader of Yaml.
+     * @checkstyle ParameterNumber (10 lines)
+     */
+    public static YamlInput createYamlInput(
+        final InputStream input,
+        final Charset charset,
+        final boolean guessIndentation,
+        final boolean readComments
+    ) {
+        return new RtYamlInput(input, charset, guessIndentation, readComments);
+    }
+
+    /**
+     * Create a {@link YamlPushInput}, which reads the YAML documents
+     * from chunks of bytes, as they are pushed to it.
+     * @param documents Consumer of the read documents. Each document
+     *  is handed over as soon as it is complete.
+     * @return YamlPushInput.
+     */
+    public static YamlPushInput createYamlPushInput(
+        final Consumer<YamlNode> documents
+    ) {
+        return Yaml.createYamlPushInput(
+            documents,
+            Charset.defaultCharset(),
+            Boolean.FALSE
+        );
+    }
+
+    /**
+     * Create a {@link YamlPushInput}, which reads the YAML documents
+     * from chunks of bytes, as they are pushed to it.
+     * @param documents Consumer of the read documents. Each document
+     *  is handed over as soon as it is complete.
+     * @param charset Charset of the pushed bytes.
+     * @return YamlPushInput.
+     */
+    public static YamlPushInput createYamlPushInput(
+        final Consumer<YamlNode> documents,
+        final Charset charset
+    ) {
+        return Yaml.createYamlPushInput(documents, charset, Boolean.FALSE);
+    }
+
+    /**
+     * Create a {@link YamlPushInput}, which reads the YAML documents
+     * from chunks of bytes, as they are pushed to it.
+     * @param documents Consumer of the read documents. Each document
+     *  is handed over as soon as it is complete.
+     * @param charset Charset of the pushed bytes.
+     * @param guessIndentation If set to true, we will try to guess the correct
+     *  indentation of misplaced lines. The default value is false
+     *  and an exception is thrown if indentation is not correct.
+     * @return YamlPushInput.
+     */
+    public static YamlPushInput createYamlPushInput(
+        final Consumer<YamlNode> documents,
+        final Charset charset,
+        final boolean guessIndentation
+    ) {
+        return new RtYamlPushInput(documents, charset, guessIndentation);
+    }
+
     /**
      * Create a YamlPrinter to write a YamlNode somewhere. If you want to
      * print a YamlNode to String, just use YamlNode.toString() -- it is a
@@ -290,6 +424,71 @@ public final class Yaml {
         return new RtYamlPrinter(destination);
     }
 
+    /**
+     * Create a YamlPrinter which writes a compact, binary snapshot of
+     * a YamlNode (comments included). The snapshot can be read back,
+     * without parsing any text, via {@link #createYamlSnapshotInput(File)}
+     * or {@link #createYamlSnapshotInput(ByteBuffer)}.
+     * @param destination OutputStream where the snapshot will be written.
+     * @return YamlPrinter.
+     */
+    public static YamlPrinter createYamlSnapshotPrinter(
+        final OutputStream destination
+    ) {
+        return Yaml.createYamlSnapshotPrinter(destination, Boolean.TRUE);
+    }
+
+    /**
+     * Create a YamlPrinter which writes a compact, binary snapshot of
+     * a YamlNode. The snapshot can be read back, without parsing any text,
+     * via {@link #createYamlSnapshotInput(File)} or
+     * {@link #createYamlSnapshotInput(ByteBuffer)}.
+     * @param destination OutputStream where the snapshot will be written.
+     * @param comments Should the comments be included in the snapshot?
+     * @return YamlPrinter.
+     */
+    public static YamlPrinter createYamlSnapshotPrinter(
+        final OutputStream destination,
+        final boolean comments
+    ) {
+        return new SnapshotYamlPrinter(destination, comments);
+    }
+
+    /**
+     * Create a {@link YamlInput} from a binary snapshot, which has been
+     * written by the printer given by {@link #createYamlSnapshotPrinter}.
+     * The file is memory-mapped and the read nodes are views over it, which
+     * read only what is accessed.
+     * @param snapshot File containing the snapshot.
+     * @return YamlInput, reader of the snapshot.
+     * @throws IOException If the file cannot be mapped.
+     */
+    public static YamlInput createYamlSnapshotInput(final File snapshot)
+        throws IOException {
+        try (
+            FileChannel channel = FileChannel.open(
+                snapshot.toPath(), StandardOpenOption.READ
+            )
+        ) {
+            return Yaml.createYamlSnapshotInput(
+                channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size())
+            );
+        }
+    }
+
+    /**
+     * Create a {@link YamlInput} from a binary snapshot, which has been
+     * written by the printer given by {@link #createYamlSnapshotPrinter}.
+     * The read nodes are views over the given bytes, which read only
+     * what is accessed.
+     * @param snapshot Bytes of the snapshot, starting with the buffer's
+     *  current position. They should not be changed afterwards.
+     * @return YamlInput, reader of the snapshot.
+     */
+    public static YamlInput createYamlSnapshotInput(final ByteBuffer snapshot) {
+        return new SnapshotYamlInput(new Snapshot(snapshot));
+    }
+
     /**
      * Create a YAML dump to represent the given object as YAML.
      * @param object Object to dump.
@@ -316,4 +515,30 @@ public final class Yaml {
     public static YamlSequence fromJsonArray(final JsonArray array){
         return new JsonYamlSequence(array);
     }
+
+    /**
+     * Convert JSON to YAML in a streaming fashion: the events of the
+     * given {@link JsonParser} are written straight to the Writer as YAML,
+     * without reading the whole JSON in memory. The Writer is closed at the
+     * end, the parser is left to the caller.
+     * @param json Parser of the JSON to convert.
+     * @param yaml Writer where the YAML is written.
+     * @throws IOException If something goes wrong while writing.
+     */
+    public static void fromJson(final JsonParser json, final Writer yaml)
+        throws IOException {
+        new JsonToYaml(json, yaml).convert();
+    }
+
+    /**
+     * Convert YAML to JSON: the given YamlNode is walked and written
+     * straight through the {@link JsonGenerator}. Plain scalars are typed
+     * as per the YAML 1.2 Core Schema (numbers, booleans and null), the
+     * rest are JSON Strings. The generator is not closed.
+     * @param yaml YamlNode to convert.
+     * @param json Generator where the JSON is written.
+     */
+    public static void toJson(final YamlNode yaml, final JsonGenerator json) {
+        new YamlToJson(json).write(yaml);
+    }
 }
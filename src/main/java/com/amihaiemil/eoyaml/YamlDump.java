@@ -27,6 +27,13 @@
  */
 package com.amihaiemil.eoyaml;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+
 /**
  * In YAML, "dumping" means representing the state of an Object as YAML.
  * @author Mihai Andronache (amihaiemil@gmail.com)
@@ -75,4 +82,41 @@ public interface YamlDump {
         return (Scalar) this.dump();
     }
 
+    /**
+     * Dump the Object straight to the given Writer, as a YAML document.
+     * Implementations may write it directly, without building the
+     * YamlNode first. The Writer is closed at the end.
+     * @param destination Writer where the YAML is written.
+     * @throws IOException If something goes wrong while writing.
+     */
+    default void dump(final Writer destination) throws IOException {
+        Yaml.createYamlPrinter(destination).print(this.dump());
+    }
+
+    /**
+     * Dump the Object straight to the given OutputStream, as a YAML
+     * document, using the default charset. The stream is closed at the end.
+     * @param destination OutputStream where the YAML is written.
+     * @throws IOException If something goes wrong while writing.
+     */
+    default void dump(final OutputStream destination) throws IOException {
+        this.dump(destination, Charset.defaultCharset());
+    }
+
+    /**
+     * Dump the Object straight to the given OutputStream, as a YAML
+     * document. The stream is closed at the end.
+     * @param destination OutputStream where the YAML is written.
+     * @param charset Charset of the written YAML.
+     * @throws IOException If something goes wrong while writing.
+     */
+    default void dump(
+        final OutputStream destination,
+        final Charset charset
+    ) throws IOException {
+        this.dump(
+            new BufferedWriter(new OutputStreamWriter(destination, charset))
+        );
+    }
+
 }
@@ -27,8 +27,11 @@
  */
 package com.amihaiemil.eoyaml;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 
 /**
  * Iterable yaml lines.
@@ -63,6 +66,21 @@ interface YamlLines extends Iterable<YamlLine> {
      */
     Iterator<YamlLine> iterator();
 
+    /**
+     * Iterator over these lines, from the last one to the first one.
+     * By default, all the lines are copied and reversed; implementations
+     * which can do better (e.g. walk a List backwards) should.
+     * @return Iterator of YamlLine.
+     */
+    default Iterator<YamlLine> backwards() {
+        final List<YamlLine> lines = new ArrayList<>();
+        for(final YamlLine line : this) {
+            lines.add(line);
+        }
+        Collections.reverse(lines);
+        return lines.iterator();
+    }
+
     /**
      * Get a certain YamlLine.
      * @checkstyle ReturnCount (50 lines)
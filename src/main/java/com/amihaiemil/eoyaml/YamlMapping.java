@@ -27,6 +27,7 @@
  */
 package com.amihaiemil.eoyaml;
 
+import com.amihaiemil.eoyaml.exceptions.YamlBindingException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeParseException;
@@ -67,6 +68,128 @@ public interface YamlMapping extends YamlNode {
         }
         return values;
     }
+
+    /**
+     * Copy of this mapping with the given key pointing to the given value.
+     * If the key is already present, its value is replaced in place,
+     * otherwise the pair is added at the end. This mapping stays unchanged
+     * and the new one shares all the other keys and values with it.
+     * @param key String key.
+     * @param value String value.
+     * @return New YamlMapping.
+     */
+    default YamlMapping with(final String key, final String value) {
+        return this.with(
+            key,
+            Yaml.createYamlScalarBuilder().addLine(value).buildPlainScalar()
+        );
+    }
+
+    /**
+     * Copy of this mapping with the given key pointing to the given value.
+     * @param key String key.
+     * @param value YamlNode value.
+     * @return New YamlMapping.
+     * @see #with(YamlNode, YamlNode)
+     */
+    default YamlMapping with(final String key, final YamlNode value) {
+        return this.with(
+            Yaml.createYamlScalarBuilder().addLine(key).buildPlainScalar(),
+            value
+        );
+    }
+
+    /**
+     * Copy of this mapping with the given key pointing to the given value.
+     * If the key is already present, its value is replaced in place,
+     * otherwise the pair is added at the end. This mapping stays unchanged
+     * and the new one shares all the other keys and values with it.
+     * @param key YamlNode key.
+     * @param value YamlNode value.
+     * @return New YamlMapping.
+     */
+    default YamlMapping with(final YamlNode key, final YamlNode value) {
+        if(key == null || key.isEmpty()) {
+            throw new IllegalArgumentException(
+                "The key in YamlMapping cannot be null or empty!"
+            );
+        }
+        final List<YamlNode> keys = new ArrayList<>(this.keys());
+        final List<YamlNode> values = new ArrayList<>(this.values());
+        final int position = keys.indexOf(key);
+        if(position < 0) {
+            keys.add(key);
+            values.add(value);
+        } else {
+            values.set(position, value);
+        }
+        return new RtYamlMapping(
+            keys.toArray(new YamlNode[keys.size()]),
+            values.toArray(new YamlNode[values.size()]),
+            this.comment().value()
+        );
+    }
+
+    /**
+     * Copy of this mapping without the given key.
+     * @param key String key.
+     * @return New YamlMapping.
+     * @see #without(YamlNode)
+     */
+    default YamlMapping without(final String key) {
+        return this.without(
+            Yaml.createYamlScalarBuilder().addLine(key).buildPlainScalar()
+        );
+    }
+
+    /**
+     * Copy of this mapping without the given key. This mapping stays
+     * unchanged and the new one shares all the remaining keys and values
+     * with it. If the key is missing, this mapping is returned as is.
+     * @param key YamlNode key.
+     * @return New YamlMapping.
+     */
+    default YamlMapping without(final YamlNode key) {
+        final List<YamlNode> keys = new ArrayList<>(this.keys());
+        final int position = keys.indexOf(key);
+        final YamlMapping without;
+        if(position < 0) {
+            without = this;
+        } else {
+            final List<YamlNode> values = new ArrayList<>(this.values());
+            keys.remove(position);
+            values.remove(position);
+            final YamlMapping rest = new RtYamlMapping(
+                keys.toArray(new YamlNode[keys.size()]),
+                values.toArray(new YamlNode[values.size()]),
+                this.comment().value()
+            );
+            if(keys.isEmpty()) {
+                without = new EmptyYamlMapping(rest);
+            } else {
+                without = rest;
+            }
+        }
+        return without;
+    }
+
+    /**
+     * Bind this mapping to a new instance of the given class, which must
+     * have a no-args constructor. Each key is set on the property with the
+     * same name (ignoring case, dashes and underscores), through its setter
+     * or field; nested mappings and sequences are bound recursively, as per
+     * the properties' generic types. Unknown keys are ignored.
+     * The class is inspected only once, the first time it is bound.
+     * @param type Class to bind to.
+     * @param <T> Type of the result.
+     * @return Bound instance.
+     * @throws YamlBindingException If the class cannot be instantiated
+     *  or the YAML does not fit its properties.
+     */
+    default <T> T bindTo(final Class<T> type) {
+        return Binder.of(type).bind(this);
+    }
+
     /**
      * Get the Yaml mapping associated with the given key.
      * @param key String key
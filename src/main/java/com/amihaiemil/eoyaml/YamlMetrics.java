@@ -0,0 +1,86 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+/**
+ * Listener of the work done while reading, querying and printing YAML.
+ * Metrics are disabled by default and cost nothing then. They are enabled
+ * by providing an implementation as a service: list its fully qualified
+ * class name in the file
+ * {@code META-INF/services/com.amihaiemil.eoyaml.YamlMetrics}. Only the
+ * implementations found are all used. They are called from any thread
+ * which uses eo-yaml, so they have to be thread-safe.<br><br>
+ * Two implementations are provided: {@link JmxYamlMetrics}, kept in
+ * memory and published over JMX, and {@link JfrYamlMetrics}, which
+ * commits Java Flight Recorder events.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 6.0.2
+ */
+public interface YamlMetrics {
+
+    /**
+     * An input was read by a {@link YamlInput}.
+     * @param bytes Number of bytes read.
+     * @param lines Number of lines read.
+     * @param nanos Time it took to read them, in nanoseconds.
+     */
+    default void inputRead(
+        final long bytes, final int lines, final long nanos
+    ) {
+        //nothing to record by default.
+    }
+
+    /**
+     * A key was looked up in a read YamlMapping.
+     * @param key The key.
+     * @param scanned Number of lines scanned for the key.
+     * @param found Whether the key was found or not.
+     * @param nanos Time the lookup took, in nanoseconds.
+     * @checkstyle ParameterNumber (5 lines)
+     */
+    default void keyLookedUp(
+        final YamlNode key, final int scanned,
+        final boolean found, final long nanos
+    ) {
+        //nothing to record by default.
+    }
+
+    /**
+     * A YamlNode was printed by a {@link YamlPrinter}.
+     * @param nodes Number of printed nodes: the YamlNode and all
+     *  the nodes in it (keys included).
+     * @param chars Number of printed characters.
+     * @param nanos Time it took to print them, in nanoseconds.
+     */
+    default void nodePrinted(
+        final int nodes, final long chars, final long nanos
+    ) {
+        //nothing to record by default.
+    }
+}
@@ -0,0 +1,115 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+/**
+ * Management interface of {@link JmxYamlMetrics}. All counters are
+ * cumulative, since the metrics were created or last reset.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 6.0.2
+ */
+public interface YamlMetricsMXBean {
+
+    /**
+     * Number of read inputs.
+     * @return Long.
+     */
+    long getInputsRead();
+
+    /**
+     * Number of bytes read, from all inputs.
+     * @return Long.
+     */
+    long getBytesRead();
+
+    /**
+     * Number of lines read, from all inputs.
+     * @return Long.
+     */
+    long getLinesRead();
+
+    /**
+     * Time spent reading inputs.
+     * @return Nanoseconds.
+     */
+    long getReadNanos();
+
+    /**
+     * Number of keys looked up in read YamlMappings.
+     * @return Long.
+     */
+    long getKeyLookups();
+
+    /**
+     * Number of keys looked up in read YamlMappings, but not found.
+     * @return Long.
+     */
+    long getKeyMisses();
+
+    /**
+     * Number of lines scanned while looking up keys.
+     * @return Long.
+     */
+    long getLinesScanned();
+
+    /**
+     * Time spent looking up keys.
+     * @return Nanoseconds.
+     */
+    long getLookupNanos();
+
+    /**
+     * Number of prints.
+     * @return Long.
+     */
+    long getPrints();
+
+    /**
+     * Number of printed YamlNodes, from all prints.
+     * @return Long.
+     */
+    long getNodesPrinted();
+
+    /**
+     * Number of printed characters.
+     * @return Long.
+     */
+    long getCharsPrinted();
+
+    /**
+     * Time spent printing.
+     * @return Nanoseconds.
+     */
+    long getPrintNanos();
+
+    /**
+     * Set all the counters back to zero.
+     */
+    void reset();
+}
@@ -0,0 +1,73 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Yaml input which is pushed to the reader in chunks of bytes, as they
+ * arrive (e.g. from a non-blocking socket). Every YAML document is handed
+ * over as soon as it is complete, without waiting for the rest of the
+ * input. Use it like this:
+ * <pre>
+ *     final YamlPushInput input = Yaml.createYamlPushInput(
+ *         document -&gt; {
+ *             //each read document, as soon as it is complete.
+ *         }
+ *     );
+ *     input.feed(chunk);
+ *     input.feed(anotherChunk);
+ *     ...
+ *     input.endOfInput();
+ * </pre>
+ * Implementations are usually mutable and not thread-safe.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 6.0.2
+ */
+public interface YamlPushInput {
+
+    /**
+     * Feed the next chunk of bytes. The chunk may end anywhere, even in the
+     * middle of a line or of a multi-byte character. All the remaining
+     * bytes of the given buffer are consumed.
+     * @param chunk Next chunk of the input.
+     * @return This input.
+     * @throws IllegalStateException If the end of input was already
+     *  signaled.
+     */
+    YamlPushInput feed(final ByteBuffer chunk);
+
+    /**
+     * Signal that there is no more input. The last document,
+     * if any, is handed over.
+     * @throws IllegalStateException If the end of input was already
+     *  signaled.
+     */
+    void endOfInput();
+}
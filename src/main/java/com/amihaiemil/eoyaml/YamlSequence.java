@@ -27,12 +27,15 @@
  */
 package com.amihaiemil.eoyaml;
 
+import com.amihaiemil.eoyaml.exceptions.YamlBindingException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
 
 /**
  * A Yaml sequence.
@@ -67,6 +70,92 @@ public interface YamlSequence extends YamlNode, Iterable<YamlNode> {
         return this.values().size();
     }
 
+    /**
+     * Copy of this sequence with the given value appended.
+     * @param value String value.
+     * @return New YamlSequence.
+     * @see #with(YamlNode)
+     */
+    default YamlSequence with(final String value) {
+        return this.with(
+            Yaml.createYamlScalarBuilder().addLine(value).buildPlainScalar()
+        );
+    }
+
+    /**
+     * Copy of this sequence with the given node appended. This sequence
+     * stays unchanged and the new one shares all its elements.
+     * @param node YamlNode to append.
+     * @return New YamlSequence.
+     */
+    default YamlSequence with(final YamlNode node) {
+        final List<YamlNode> nodes = new ArrayList<>(this.values());
+        nodes.add(node);
+        return new RtYamlSequence(nodes, this.comment().value());
+    }
+
+    /**
+     * Copy of this sequence with the element at the given index replaced.
+     * @param index Index of the element to replace.
+     * @param value String value.
+     * @return New YamlSequence.
+     * @see #withAt(int, YamlNode)
+     */
+    default YamlSequence withAt(final int index, final String value) {
+        return this.withAt(
+            index,
+            Yaml.createYamlScalarBuilder().addLine(value).buildPlainScalar()
+        );
+    }
+
+    /**
+     * Copy of this sequence with the element at the given index replaced.
+     * This sequence stays unchanged and the new one shares all the other
+     * elements with it.
+     * @param index Index of the element to replace.
+     * @param node New YamlNode at that index.
+     * @return New YamlSequence.
+     * @throws IndexOutOfBoundsException If the index is out of range.
+     */
+    default YamlSequence withAt(final int index, final YamlNode node) {
+        final List<YamlNode> nodes = new ArrayList<>(this.values());
+        nodes.set(index, node);
+        return new RtYamlSequence(nodes, this.comment().value());
+    }
+
+    /**
+     * Copy of this sequence without the element at the given index.
+     * This sequence stays unchanged and the new one shares all the other
+     * elements with it.
+     * @param index Index of the element to remove.
+     * @return New YamlSequence.
+     * @throws IndexOutOfBoundsException If the index is out of range.
+     */
+    default YamlSequence withoutAt(final int index) {
+        final List<YamlNode> nodes = new ArrayList<>(this.values());
+        nodes.remove(index);
+        YamlSequence without = new RtYamlSequence(
+            nodes, this.comment().value()
+        );
+        if(nodes.isEmpty()) {
+            without = new EmptyYamlSequence(without);
+        }
+        return without;
+    }
+
+    /**
+     * Bind each element of this sequence to the given type: scalars to
+     * Strings, numbers, booleans or enums, mappings to instances of the
+     * class, as in {@link YamlMapping#bindTo(Class)}.
+     * @param type Type of the elements.
+     * @param <T> Type of the elements.
+     * @return List of bound elements.
+     * @throws YamlBindingException If an element does not fit the type.
+     */
+    default <T> List<T> bindToList(final Class<T> type) {
+        return Binder.list(this, type);
+    }
+
     /**
      * Get the Yaml mapping  from the given index.
      * @param index Integer index.
@@ -74,13 +163,10 @@ public interface YamlSequence extends YamlNode, Iterable<YamlNode> {
      */
 
     default YamlMapping yamlMapping(final int index) {
+        final YamlNode node = ElementAt.of(this.values(), index);
         YamlMapping mapping = null;
-        int count = 0;
-        for (final YamlNode node : this.values()) {
-            if (count == index && node instanceof YamlMapping) {
-                mapping = (YamlMapping) node;
-            }
-            count = count + 1;
+        if (node instanceof YamlMapping) {
+            mapping = (YamlMapping) node;
         }
         return mapping;
     }
@@ -90,13 +176,10 @@ public interface YamlSequence extends YamlNode, Iterable<YamlNode> {
      * @return Yaml sequence.
      */
     default YamlSequence yamlSequence(final int index) {
+        final YamlNode node = ElementAt.of(this.values(), index);
         YamlSequence sequence = null;
-        int count = 0;
-        for (final YamlNode node : this.values()) {
-            if (count == index && node instanceof YamlSequence) {
-                sequence = (YamlSequence) node;
-            }
-            count = count + 1;
+        if (node instanceof YamlSequence) {
+            sequence = (YamlSequence) node;
         }
         return sequence;
     }
@@ -108,14 +191,10 @@ public interface YamlSequence extends YamlNode, Iterable<YamlNode> {
      * @return String.
      */
     default String string(final int index) {
+        final YamlNode node = ElementAt.of(this.values(), index);
         String value = null;
-        int count = 0;
-        for (final YamlNode node : this.values()) {
-            if(count == index && (node instanceof Scalar)) {
-                value = ((Scalar) node).value();
-                break;
-            }
-            count++;
+        if(node instanceof Scalar) {
+            value = ((Scalar) node).value();
         }
         return value;
     }
@@ -126,14 +205,10 @@ public interface YamlSequence extends YamlNode, Iterable<YamlNode> {
      * @return The folded block scalar as String.
      */
     default String foldedBlockScalar(final int index) {
+        final YamlNode node = ElementAt.of(this.values(), index);
         String value = null;
-        int count = 0;
-        for (final YamlNode node : this.values()) {
-            if(count == index && (node instanceof Scalar)) {
-                value = ((Scalar) node).value();
-                break;
-            }
-            count++;
+        if(node instanceof Scalar) {
+            value = ((Scalar) node).value();
         }
         return value;
     }
@@ -144,17 +219,12 @@ public interface YamlSequence extends YamlNode, Iterable<YamlNode> {
      * @return The folded block scalar as String.
      */
     default Collection<String> literalBlockScalar(final int index) {
+        final YamlNode node = ElementAt.of(this.values(), index);
         Collection<String> value = null;
-        int count = 0;
-        for (final YamlNode node : this.values()) {
-            if(count == index && (node instanceof Scalar)) {
-                value = Arrays.asList(
-                    ((Scalar) node)
-                        .value().split(System.lineSeparator())
-                );
-                break;
-            }
-            count++;
+        if(node instanceof Scalar) {
+            value = Arrays.asList(
+                ((Scalar) node).value().split(System.lineSeparator())
+            );
         }
         return value;
     }
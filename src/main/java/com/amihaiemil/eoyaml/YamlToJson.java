@@ -0,0 +1,157 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import javax.json.stream.JsonGenerator;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Iterator;
+
+/**
+ * Conversion of YAML to JSON. It walks the given YamlNode and writes
+ * it straight through a {@link JsonGenerator}, without building any
+ * intermediate JsonValue. Plain scalars are typed as per the YAML 1.2
+ * Core Schema, so they become JSON numbers, booleans or null where
+ * appropriate. Quoted and block scalars are always JSON Strings, and so
+ * are .inf and .nan, which have no JSON representation.
+ * A YamlStream is written as a JSON array of its documents.
+ * The keys and the values of a mapping are read once each, never by
+ * looking up the keys one by one, which is linear per key on a read
+ * mapping.
+ * @checkstyle CyclomaticComplexity (300 lines)
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 6.0.2
+ */
+final class YamlToJson {
+
+    /**
+     * Where the JSON is written.
+     */
+    private final JsonGenerator json;
+
+    /**
+     * Constructor.
+     * @param json Where the JSON is written.
+     */
+    YamlToJson(final JsonGenerator json) {
+        this.json = json;
+    }
+
+    /**
+     * Write the given YamlNode as JSON.
+     * @param node YamlNode to write.
+     */
+    void write(final YamlNode node) {
+        if (node == null) {
+            this.json.writeNull();
+        } else if (node instanceof Scalar) {
+            this.scalar((Scalar) node);
+        } else if (node instanceof YamlMapping) {
+            final YamlMapping mapping = (YamlMapping) node;
+            this.json.writeStartObject();
+            final Iterator<YamlNode> values = mapping.values().iterator();
+            for (final YamlNode key : mapping.keys()) {
+                this.json.writeKey(name(key));
+                this.write(values.next());
+            }
+            this.json.writeEnd();
+        } else {
+            final Iterable<YamlNode> children;
+            if (node instanceof YamlSequence) {
+                children = (YamlSequence) node;
+            } else {
+                children = ((YamlStream) node).values();
+            }
+            this.json.writeStartArray();
+            for (final YamlNode child : children) {
+                this.write(child);
+            }
+            this.json.writeEnd();
+        }
+    }
+
+    /**
+     * Write a Scalar, typed as per the Core Schema.
+     * @param scalar Scalar to write.
+     */
+    private void scalar(final Scalar scalar) {
+        final String value = scalar.value();
+        if (scalar instanceof BaseFoldedScalar
+            || scalar instanceof ReadPlainScalar
+            && ((ReadPlainScalar) scalar).quoted()) {
+            this.json.write(value);
+        } else if (CoreSchema.isNull(value)) {
+            this.json.writeNull();
+        } else if (CoreSchema.isBoolean(value)) {
+            this.json.write(Boolean.parseBoolean(value.toLowerCase()));
+        } else if (CoreSchema.isInteger(value)) {
+            this.json.write(integer(value));
+        } else if (CoreSchema.isFloat(value)
+            && !Character.isLetter(value.charAt(value.length() - 1))) {
+            this.json.write(new BigDecimal(value));
+        } else {
+            this.json.write(value);
+        }
+    }
+
+    /**
+     * JSON name of a key. Scalar keys are used as they are, complex keys
+     * are printed as YAML.
+     * @param key Key.
+     * @return String.
+     */
+    private static String name(final YamlNode key) {
+        final String name;
+        if (key instanceof Scalar) {
+            name = String.valueOf(((Scalar) key).value());
+        } else {
+            name = key.toString();
+        }
+        return name;
+    }
+
+    /**
+     * Parse a Core Schema integer: decimal, octal (0o) or hexadecimal (0x).
+     * @param value Integer value.
+     * @return BigInteger.
+     */
+    private static BigInteger integer(final String value) {
+        final BigInteger integer;
+        if (value.startsWith("0o")) {
+            integer = new BigInteger(value.substring(2), 8);
+        } else if (value.startsWith("0x")) {
+            integer = new BigInteger(value.substring(2), 16);
+        } else if (value.startsWith("+")) {
+            integer = new BigInteger(value.substring(1));
+        } else {
+            integer = new BigInteger(value);
+        }
+        return integer;
+    }
+}
@@ -0,0 +1,190 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml.extensions;
+
+import com.amihaiemil.eoyaml.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A YamlNode together with the structural hashes of all its subtrees,
+ * computed in one pass (a Merkle tree). Equal subtrees have equal hashes,
+ * so comparing two trees only has to descend where the hashes differ.
+ * Comments are ignored and so is the order of the keys in a mapping.
+ * The mapping's children are indexed by key, for O(1) lookups. They are
+ * read through keys() and values(), never with a lookup per key, which
+ * would read the lines of a read mapping once per key.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 6.0.2
+ */
+final class HashedNode {
+
+    /**
+     * Multiplier used to combine hashes.
+     */
+    private static final long PRIME = 0x100000001b3L;
+
+    /**
+     * The hashed node, may be null.
+     */
+    private final YamlNode node;
+
+    /**
+     * Structural hash of the node.
+     */
+    private final long hash;
+
+    /**
+     * Children of a mapping, by key. Empty for other nodes.
+     */
+    private final Map<YamlNode, HashedNode> entries;
+
+    /**
+     * Children of a sequence or stream, in order. Empty for other nodes.
+     */
+    private final List<HashedNode> elements;
+
+    /**
+     * Constructor.
+     * @param node YamlNode to hash, may be null.
+     * @checkstyle CyclomaticComplexity (50 lines)
+     */
+    HashedNode(final YamlNode node) {
+        this.node = node;
+        if (node instanceof YamlMapping) {
+            final YamlMapping mapping = (YamlMapping) node;
+            final Map<YamlNode, HashedNode> children = new LinkedHashMap<>();
+            final Iterator<YamlNode> values = mapping.values().iterator();
+            long sum = Node.MAPPING.ordinal();
+            for (final YamlNode key : mapping.keys()) {
+                final HashedNode child = new HashedNode(values.next());
+                children.put(key, child);
+                sum = sum + HashedNode.mix(
+                    new HashedNode(key).hash * PRIME + child.hash
+                );
+            }
+            this.entries = children;
+            this.elements = Collections.emptyList();
+            this.hash = HashedNode.mix(sum);
+        } else if (node instanceof YamlSequence || node instanceof YamlStream) {
+            final Iterable<YamlNode> values;
+            long combined;
+            if (node instanceof YamlSequence) {
+                values = ((YamlSequence) node).values();
+                combined = Node.SEQUENCE.ordinal();
+            } else {
+                values = ((YamlStream) node).values();
+                combined = Node.STREAM.ordinal();
+            }
+            final List<HashedNode> children = new ArrayList<>();
+            for (final YamlNode value : values) {
+                final HashedNode child = new HashedNode(value);
+                children.add(child);
+                combined = combined * PRIME + child.hash;
+            }
+            this.entries = Collections.emptyMap();
+            this.elements = children;
+            this.hash = HashedNode.mix(combined);
+        } else {
+            this.entries = Collections.emptyMap();
+            this.elements = Collections.emptyList();
+            if (node instanceof Scalar) {
+                this.hash = HashedNode.mix(
+                    HashedNode.fnv(((Scalar) node).value())
+                    + Node.SCALAR.ordinal()
+                );
+            } else {
+                this.hash = 0L;
+            }
+        }
+    }
+
+    /**
+     * The hashed node.
+     * @return YamlNode, may be null.
+     */
+    YamlNode node() {
+        return this.node;
+    }
+
+    /**
+     * Structural hash of the node.
+     * @return Long.
+     */
+    long hash() {
+        return this.hash;
+    }
+
+    /**
+     * Children of a mapping, by key.
+     * @return Map, empty if the node is not a mapping.
+     */
+    Map<YamlNode, HashedNode> entries() {
+        return this.entries;
+    }
+
+    /**
+     * Children of a sequence or stream.
+     * @return List, empty if the node is neither.
+     */
+    List<HashedNode> elements() {
+        return this.elements;
+    }
+
+    /**
+     * 64-bit FNV-1a hash of a String.
+     * @param value String, may be null.
+     * @return Long.
+     */
+    private static long fnv(final String value) {
+        long fnv = 0xcbf29ce484222325L;
+        if (value != null) {
+            for (int idx = 0; idx < value.length(); ++idx) {
+                fnv = (fnv ^ value.charAt(idx)) * PRIME;
+            }
+        }
+        return fnv;
+    }
+
+    /**
+     * Scramble the bits of a hash (SplitMix64 finalizer).
+     * @param hash Hash to scramble.
+     * @return Long.
+     */
+    private static long mix(final long hash) {
+        long mixed = (hash ^ (hash >>> 30)) * 0xbf58476d1ce4e5b9L;
+        mixed = (mixed ^ (mixed >>> 27)) * 0x94d049bb133111ebL;
+        return mixed ^ (mixed >>> 31);
+    }
+}
@@ -29,6 +29,13 @@ package com.amihaiemil.eoyaml.extensions;
 
 import com.amihaiemil.eoyaml.*;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Supplier;
 
@@ -161,7 +168,9 @@ public final class MergedYamlMapping extends BaseYamlMapping {
     }
 
     /**
-     * Recursively merge to mappings.
+     * Recursively merge to mappings. Both mappings are read only once, into
+     * hash maps, and the keys are joined through them; sequences are
+     * deduplicated through the structural hashes of their elements.
      * @param original Original mapping.
      * @param changed Changed mapping.
      * @param overrideConflicts Should conflicting keys be overridden or not?
@@ -174,15 +183,17 @@ public final class MergedYamlMapping extends BaseYamlMapping {
         final YamlMapping changed,
         final boolean overrideConflicts
     ) {
-        YamlMappingBuilder originalBuilder = this
-            .yamlMappingBuilderFrom(original);
-        final Set<YamlNode> changedKeys = changed.keys();
-        for(final YamlNode key : changedKeys) {
-            final YamlNode originalValue = original.value(key);
-            final YamlNode changedValue = changed.value(key);
+        final Map<YamlNode, YamlNode> originalPairs = this.pairs(original);
+        final Map<YamlNode, YamlNode> mergedPairs =
+            new LinkedHashMap<>(originalPairs);
+        for(final Map.Entry<YamlNode, YamlNode> pair
+            : this.pairs(changed).entrySet()) {
+            final YamlNode key = pair.getKey();
+            final YamlNode originalValue = originalPairs.get(key);
+            final YamlNode changedValue = pair.getValue();
             if (changedValue instanceof YamlMapping
                 && originalValue instanceof YamlMapping) {
-                originalBuilder = originalBuilder.add(
+                mergedPairs.put(
                     key,
                     this.recursiveMerge(
                         (YamlMapping) originalValue,
@@ -193,24 +204,12 @@ public final class MergedYamlMapping extends BaseYamlMapping {
             } else if(overrideConflicts
                 && changedValue instanceof YamlSequence
                 && originalValue instanceof YamlSequence){
-                final YamlSequence originalSeq = (YamlSequence) originalValue;
-                final YamlSequence changedSeq = (YamlSequence) changedValue;
-                YamlSequenceBuilder originalSeqBuilder = this
-                    .yamlSequenceBuilderFrom(originalSeq);
-                for (final YamlNode node : changedSeq.values()) {
-                    if (!originalSeq.values().contains(node)) {
-                        originalSeqBuilder = originalSeqBuilder.add(node);
-                    }
-                }
-                final Comment newComment;
-                if(!changedSeq.comment().value().isEmpty()){
-                    newComment = changedSeq.comment();
-                }else{
-                    newComment = originalSeq.comment();
-                }
-                originalBuilder = originalBuilder.add(
+                mergedPairs.put(
                     key,
-                    originalSeqBuilder.build(newComment.value())
+                    this.mergeSequences(
+                        (YamlSequence) originalValue,
+                        (YamlSequence) changedValue
+                    )
                 );
             } else {
                 final YamlNode newValue;
@@ -223,7 +222,7 @@ public final class MergedYamlMapping extends BaseYamlMapping {
                 } else {
                     newValue = changedValue;
                 }
-                originalBuilder = originalBuilder.add(key, newValue);
+                mergedPairs.put(key, newValue);
             }
         }
         final Comment newComment;
@@ -232,37 +231,63 @@ public final class MergedYamlMapping extends BaseYamlMapping {
         }else{
             newComment = original.comment();
         }
-        return originalBuilder.build(newComment.value());
+        YamlMappingBuilder builder = Yaml.createYamlMappingBuilder();
+        for(final Map.Entry<YamlNode, YamlNode> pair
+            : mergedPairs.entrySet()) {
+            builder = builder.add(pair.getKey(), pair.getValue());
+        }
+        return builder.build(newComment.value());
     }
 
     /**
-     * Create a {@link YamlSequenceBuilder} from a {@link YamlSequence} source.
-     * @param source YamlMapping source.
-     * @return Builder of YamlSequence.
+     * Append to the original sequence the changed elements which it does
+     * not already contain. The elements are looked up by their structural
+     * hash and only the hash matches are confirmed with equals().
+     * @param original Original sequence.
+     * @param changed Changed sequence.
+     * @return Merged sequence.
      */
-    private YamlSequenceBuilder yamlSequenceBuilderFrom(
-        final YamlSequence source
+    private YamlSequence mergeSequences(
+        final YamlSequence original,
+        final YamlSequence changed
     ) {
+        final Map<Long, List<YamlNode>> existing = new HashMap<>();
         YamlSequenceBuilder builder = Yaml.createYamlSequenceBuilder();
-        for (final YamlNode node : source.values()) {
+        for (final YamlNode node : original.values()) {
+            existing.computeIfAbsent(
+                new HashedNode(node).hash(), hash -> new ArrayList<>(1)
+            ).add(node);
             builder = builder.add(node);
         }
-        return builder;
+        for (final YamlNode node : changed.values()) {
+            final List<YamlNode> candidates = existing.getOrDefault(
+                new HashedNode(node).hash(), Collections.emptyList()
+            );
+            if (!candidates.contains(node)) {
+                builder = builder.add(node);
+            }
+        }
+        final Comment newComment;
+        if(!changed.comment().value().isEmpty()){
+            newComment = changed.comment();
+        }else{
+            newComment = original.comment();
+        }
+        return builder.build(newComment.value());
     }
 
     /**
-     * Create a {@link YamlMappingBuilder} from a {@link YamlMapping} source.
+     * Read the pairs of a mapping, in order, walking its keys and values
+     * only once.
      * @param source YamlMapping source.
-     * @return Builder of YamlMapping.
+     * @return Map of the pairs.
      */
-    private YamlMappingBuilder yamlMappingBuilderFrom(
-        final YamlMapping source
-    ) {
-        YamlMappingBuilder builder = Yaml
-            .createYamlMappingBuilder();
+    private Map<YamlNode, YamlNode> pairs(final YamlMapping source) {
+        final Map<YamlNode, YamlNode> pairs = new LinkedHashMap<>();
+        final Iterator<YamlNode> values = source.values().iterator();
         for (final YamlNode key : source.keys()) {
-            builder = builder.add(key, source.value(key));
+            pairs.put(key, values.next());
         }
-        return builder;
+        return pairs;
     }
 }
@@ -29,8 +29,12 @@ package com.amihaiemil.eoyaml.extensions;
 
 import com.amihaiemil.eoyaml.*;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Supplier;
 
 /**
@@ -51,6 +55,14 @@ import java.util.function.Supplier;
  *         true|false
  *     );
  * </pre>
+ * Sequences of mappings can also be merged by an identity key (e.g.
+ * containers by "name"): elements with the same identity are merged
+ * recursively, the other ones are appended, preserving the order.
+ * <pre>
+ *     final YamlSequence merged = new MergedYamlSequence(
+ *         original, changed, "name"
+ *     );
+ * </pre>
  * @author Mihai Andronache (amihaiemil@gmail.com)
  * @version $Id$
  * @since 4.1.0
@@ -123,6 +135,52 @@ public final class MergedYamlSequence extends BaseYamlSequence {
         }
     }
 
+    /**
+     * Constructor for a keyed merge. Mappings of the changed sequence are
+     * merged into the mappings of the original which have the same value
+     * under the given identity key, as if by a {@link MergedYamlMapping}
+     * which overrides conflicts. All the other elements of changed are
+     * appended, in order.
+     * @param original YamlSequence in which the changes will be merged.
+     * @param changed Supplier of YamlSequence containing the differences.
+     * @param identity Key identifying the mappings, e.g. "name".
+     */
+    public MergedYamlSequence(
+        final YamlSequence original,
+        final Supplier<YamlSequence> changed,
+        final String identity
+    ) {
+        this(original, changed.get(), identity);
+    }
+
+    /**
+     * Constructor for a keyed merge. Mappings of the changed sequence are
+     * merged into the mappings of the original which have the same value
+     * under the given identity key, as if by a {@link MergedYamlMapping}
+     * which overrides conflicts. All the other elements of changed are
+     * appended, in order.
+     * @param original YamlSequence in which the changes will be merged.
+     * @param changed YamlSequence containing the differences.
+     * @param identity Key identifying the mappings, e.g. "name".
+     */
+    public MergedYamlSequence(
+        final YamlSequence original,
+        final YamlSequence changed,
+        final String identity
+    ) {
+        if(original == null && changed == null) {
+            throw new IllegalArgumentException(
+                "Both sequences cannot be null!"
+            );
+        } else if(identity == null || identity.isEmpty()) {
+            throw new IllegalArgumentException(
+                "The identity key cannot be null or empty!"
+            );
+        } else {
+            this.merged = mergeByKey(original, changed, identity);
+        }
+    }
+
     @Override
     public Collection<YamlNode> values() {
         return this.merged.values();
@@ -191,4 +249,81 @@ public final class MergedYamlSequence extends BaseYamlSequence {
         }
         return merged;
     }
+
+    /**
+     * Merge the two sequences by identity key, through a hash index of the
+     * original elements' identities.
+     * @param original Original sequence.
+     * @param changed Changed sequence.
+     * @param identity Key identifying the mappings.
+     * @return Merged YamlSequence.
+     */
+    private static YamlSequence mergeByKey(
+        final YamlSequence original,
+        final YamlSequence changed,
+        final String identity
+    ) {
+        final YamlSequence merged;
+        if(original == null || original.size() == 0) {
+            merged = changed;
+        } else if (changed == null || changed.size() == 0) {
+            merged = original;
+        } else {
+            final List<YamlNode> elements = new ArrayList<>(original.values());
+            final Map<YamlNode, Integer> positions = new HashMap<>();
+            for (int idx = 0; idx < elements.size(); ++idx) {
+                final YamlNode id = identityOf(elements.get(idx), identity);
+                if (id != null) {
+                    positions.putIfAbsent(id, idx);
+                }
+            }
+            for (final YamlNode node : changed) {
+                final YamlNode id = identityOf(node, identity);
+                final Integer position;
+                if (id == null) {
+                    position = null;
+                } else {
+                    position = positions.get(id);
+                }
+                if (position == null) {
+                    if (id != null) {
+                        positions.put(id, elements.size());
+                    }
+                    elements.add(node);
+                } else {
+                    elements.set(
+                        position,
+                        new MergedYamlMapping(
+                            (YamlMapping) elements.get(position),
+                            (YamlMapping) node,
+                            true
+                        )
+                    );
+                }
+            }
+            YamlSequenceBuilder builder = Yaml.createYamlSequenceBuilder();
+            for (final YamlNode node : elements) {
+                builder = builder.add(node);
+            }
+            merged = builder.build();
+        }
+        return merged;
+    }
+
+    /**
+     * Identity of an element.
+     * @param node Element of a sequence.
+     * @param identity Key identifying the mappings.
+     * @return Value under the identity key or null if the element is not
+     *  a mapping or has no such key.
+     */
+    private static YamlNode identityOf(
+        final YamlNode node, final String identity
+    ) {
+        YamlNode id = null;
+        if (node instanceof YamlMapping) {
+            id = ((YamlMapping) node).value(identity);
+        }
+        return id;
+    }
 }
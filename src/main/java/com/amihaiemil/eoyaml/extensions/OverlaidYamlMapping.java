@@ -0,0 +1,173 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml.extensions;
+
+import com.amihaiemil.eoyaml.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Lazy overlay of several YAML Mappings, each layer overriding the ones
+ * before it. Useful for configuration stacks:
+ * <pre>
+ *     final YamlMapping config = new OverlaidYamlMapping(
+ *         defaults, region, cluster, service, overrides
+ *     );
+ * </pre>
+ * Nothing is merged upfront: a key is resolved when it is first read, by
+ * looking it up from the top layer down. If the top-most value is a
+ * mapping, the value is itself an OverlaidYamlMapping of the mappings
+ * found under that key, down to the first layer where the key holds
+ * something else. Any other value (scalar, sequence) simply overrides the
+ * lower layers. Resolved keys are cached, so each one is looked up in
+ * the layers only once. The comment is the top-most non-empty one.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 6.0.2
+ */
+public final class OverlaidYamlMapping extends BaseYamlMapping {
+
+    /**
+     * Layers, from the lowest to the highest priority.
+     */
+    private final List<YamlMapping> layers;
+
+    /**
+     * Values resolved so far, empty for the keys found in no layer.
+     */
+    private final Map<YamlNode, Optional<YamlNode>> resolved;
+
+    /**
+     * Keys of all the layers, computed on first use.
+     */
+    private volatile Set<YamlNode> keys;
+
+    /**
+     * Constructor.
+     * @param layers Layers, from the lowest to the highest priority.
+     *  Null layers are ignored.
+     */
+    public OverlaidYamlMapping(final YamlMapping... layers) {
+        this(Arrays.asList(layers));
+    }
+
+    /**
+     * Constructor.
+     * @param layers Layers, from the lowest to the highest priority.
+     *  Null layers are ignored.
+     */
+    public OverlaidYamlMapping(final List<YamlMapping> layers) {
+        final List<YamlMapping> present = new ArrayList<>(layers.size());
+        for (final YamlMapping layer : layers) {
+            if (layer != null) {
+                present.add(layer);
+            }
+        }
+        if (present.isEmpty()) {
+            throw new IllegalArgumentException(
+                "At least one layer must not be null!"
+            );
+        }
+        this.layers = Collections.unmodifiableList(present);
+        this.resolved = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public Set<YamlNode> keys() {
+        Set<YamlNode> all = this.keys;
+        if (all == null) {
+            all = new LinkedHashSet<>();
+            for (final YamlMapping layer : this.layers) {
+                all.addAll(layer.keys());
+            }
+            all = Collections.unmodifiableSet(all);
+            this.keys = all;
+        }
+        return all;
+    }
+
+    @Override
+    public YamlNode value(final YamlNode key) {
+        final YamlNode value;
+        if (key == null) {
+            value = null;
+        } else {
+            value = this.resolved.computeIfAbsent(key, this::resolve)
+                .orElse(null);
+        }
+        return value;
+    }
+
+    @Override
+    public Comment comment() {
+        Comment comment = this.layers.get(0).comment();
+        for (int idx = this.layers.size() - 1; idx > 0; --idx) {
+            final Comment candidate = this.layers.get(idx).comment();
+            if (!candidate.value().isEmpty()) {
+                comment = candidate;
+                break;
+            }
+        }
+        return comment;
+    }
+
+    /**
+     * Look up a key from the top layer down.
+     * @param key Key to resolve.
+     * @return Resolved value, empty if no layer has it.
+     */
+    private Optional<YamlNode> resolve(final YamlNode key) {
+        final List<YamlMapping> nested = new ArrayList<>();
+        YamlNode found = null;
+        for (int idx = this.layers.size() - 1; idx >= 0; --idx) {
+            final YamlNode value = this.layers.get(idx).value(key);
+            if (value instanceof YamlMapping) {
+                nested.add(0, (YamlMapping) value);
+            } else if (value != null) {
+                if (nested.isEmpty()) {
+                    found = value;
+                }
+                break;
+            }
+        }
+        if (nested.size() == 1) {
+            found = nested.get(0);
+        } else if (nested.size() > 1) {
+            found = new OverlaidYamlMapping(nested);
+        }
+        return Optional.ofNullable(found);
+    }
+}
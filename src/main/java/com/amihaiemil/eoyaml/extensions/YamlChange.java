@@ -0,0 +1,84 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml.extensions;
+
+import com.amihaiemil.eoyaml.YamlNode;
+
+/**
+ * A change found by {@link YamlDiff}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 6.0.2
+ */
+public interface YamlChange {
+
+    /**
+     * Type of this change.
+     * @return Type.
+     */
+    Type type();
+
+    /**
+     * Path of the changed node, as a JSON Pointer (RFC 6901): keys and
+     * sequence indexes separated by "/", the root being "".
+     * @return String path.
+     */
+    String path();
+
+    /**
+     * Node before the change.
+     * @return YamlNode, null if the node was added.
+     */
+    YamlNode before();
+
+    /**
+     * Node after the change.
+     * @return YamlNode, null if the node was removed.
+     */
+    YamlNode after();
+
+    /**
+     * Types of changes.
+     */
+    enum Type {
+        /**
+         * Node present only in the second tree.
+         */
+        ADDED,
+
+        /**
+         * Node present only in the first tree.
+         */
+        REMOVED,
+
+        /**
+         * Node present in both trees, with a different value or type.
+         */
+        MODIFIED
+    }
+}
@@ -0,0 +1,259 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml.extensions;
+
+import com.amihaiemil.eoyaml.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Structural diff of two YAML nodes. Use it like this:
+ * <pre>
+ *     final YamlNode actual = ...;
+ *     final YamlNode desired = ...;
+ *     for(final YamlChange change : new YamlDiff(actual, desired).changes()) {
+ *         //change.type(), change.path(), change.before(), change.after()
+ *     }
+ * </pre>
+ * Each tree is hashed once, bottom-up, then the diff only descends into
+ * the subtrees whose hashes differ, so the work after hashing depends on
+ * the number of changes, not on the size of the documents. Mappings are
+ * matched by key, regardless of order, and sequences by index. Comments
+ * are ignored.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 6.0.2
+ */
+public final class YamlDiff {
+
+    /**
+     * Node before.
+     */
+    private final YamlNode before;
+
+    /**
+     * Node after.
+     */
+    private final YamlNode after;
+
+    /**
+     * Constructor.
+     * @param before Node before the changes.
+     * @param after Node after the changes.
+     */
+    public YamlDiff(final YamlNode before, final YamlNode after) {
+        this.before = before;
+        this.after = after;
+    }
+
+    /**
+     * Compute the changes, ordered as the paths appear in the documents.
+     * @return List of changes, empty if the nodes are equal.
+     */
+    public List<YamlChange> changes() {
+        final List<YamlChange> changes = new ArrayList<>();
+        YamlDiff.diff(
+            "", new HashedNode(this.before), new HashedNode(this.after),
+            changes
+        );
+        return changes;
+    }
+
+    /**
+     * Compare two hashed subtrees.
+     * @param path Path of the subtrees.
+     * @param first Subtree before.
+     * @param second Subtree after.
+     * @param changes Found changes.
+     * @checkstyle ParameterNumber (10 lines)
+     * @checkstyle CyclomaticComplexity (50 lines)
+     */
+    private static void diff(
+        final String path,
+        final HashedNode first,
+        final HashedNode second,
+        final List<YamlChange> changes
+    ) {
+        if (first.hash() != second.hash()) {
+            final YamlNode one = first.node();
+            final YamlNode two = second.node();
+            if (one instanceof YamlMapping && two instanceof YamlMapping) {
+                final Map<YamlNode, HashedNode> others = second.entries();
+                for (final Map.Entry<YamlNode, HashedNode> entry
+                    : first.entries().entrySet()) {
+                    final String child = YamlDiff.child(path, entry.getKey());
+                    final HashedNode other = others.get(entry.getKey());
+                    if (other == null) {
+                        changes.add(
+                            new Change(
+                                YamlChange.Type.REMOVED, child,
+                                entry.getValue().node(), null
+                            )
+                        );
+                    } else {
+                        YamlDiff.diff(child, entry.getValue(), other, changes);
+                    }
+                }
+                for (final Map.Entry<YamlNode, HashedNode> entry
+                    : others.entrySet()) {
+                    if (!first.entries().containsKey(entry.getKey())) {
+                        changes.add(
+                            new Change(
+                                YamlChange.Type.ADDED,
+                                YamlDiff.child(path, entry.getKey()),
+                                null, entry.getValue().node()
+                            )
+                        );
+                    }
+                }
+            } else if (one != null && two != null
+                && one.type() == two.type()
+                && (one instanceof YamlSequence || one instanceof YamlStream)) {
+                final List<HashedNode> left = first.elements();
+                final List<HashedNode> right = second.elements();
+                final int common = Math.min(left.size(), right.size());
+                for (int idx = 0; idx < common; ++idx) {
+                    YamlDiff.diff(
+                        path + "/" + idx, left.get(idx), right.get(idx),
+                        changes
+                    );
+                }
+                for (int idx = common; idx < left.size(); ++idx) {
+                    changes.add(
+                        new Change(
+                            YamlChange.Type.REMOVED, path + "/" + idx,
+                            left.get(idx).node(), null
+                        )
+                    );
+                }
+                for (int idx = common; idx < right.size(); ++idx) {
+                    changes.add(
+                        new Change(
+                            YamlChange.Type.ADDED, path + "/" + idx,
+                            null, right.get(idx).node()
+                        )
+                    );
+                }
+            } else {
+                changes.add(
+                    new Change(YamlChange.Type.MODIFIED, path, one, two)
+                );
+            }
+        }
+    }
+
+    /**
+     * Path of a mapping's child, escaped as per RFC 6901.
+     * @param path Path of the mapping.
+     * @param key Key of the child.
+     * @return String path.
+     */
+    private static String child(final String path, final YamlNode key) {
+        final String name;
+        if (key instanceof Scalar) {
+            name = ((Scalar) key).value();
+        } else {
+            name = key.toString();
+        }
+        return path + "/" + name.replace("~", "~0").replace("/", "~1");
+    }
+
+    /**
+     * A found change.
+     * @author Mihai Andronache (amihaiemil@gmail.com)
+     * @version $Id$
+     * @since 6.0.2
+     */
+    private static final class Change implements YamlChange {
+
+        /**
+         * Type of the change.
+         */
+        private final Type type;
+
+        /**
+         * Path of the changed node.
+         */
+        private final String path;
+
+        /**
+         * Node before.
+         */
+        private final YamlNode before;
+
+        /**
+         * Node after.
+         */
+        private final YamlNode after;
+
+        /**
+         * Constructor.
+         * @param type Type of the change.
+         * @param path Path of the changed node.
+         * @param before Node before.
+         * @param after Node after.
+         * @checkstyle ParameterNumber (10 lines)
+         */
+        Change(
+            final Type type, final String path,
+            final YamlNode before, final YamlNode after
+        ) {
+            this.type = type;
+            this.path = path;
+            this.before = before;
+            this.after = after;
+        }
+
+        @Override
+        public Type type() {
+            return this.type;
+        }
+
+        @Override
+        public String path() {
+            return this.path;
+        }
+
+        @Override
+        public YamlNode before() {
+            return this.before;
+        }
+
+        @Override
+        public YamlNode after() {
+            return this.after;
+        }
+
+        @Override
+        public String toString() {
+            return this.type + " " + this.path;
+        }
+    }
+}
@@ -0,0 +1,248 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * {@link YamlMetrics} which commit Java Flight Recorder events, Java 11+
+ * version. It is packaged in the multi-release JAR and replaces the
+ * Java 8 version, which has no Flight Recorder to report to.<br><br>
+ * The module descriptor is compiled for Java 9, so it cannot require
+ * jdk.jfr: on the module path, the module reads jdk.jfr at runtime, if
+ * jdk.jfr is in the boot layer. Otherwise, no events are committed.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 6.0.2
+ */
+public final class JfrYamlMetrics implements YamlMetrics {
+
+    /**
+     * System property with the slow lookup threshold, in milliseconds.
+     */
+    public static final String SLOW_LOOKUP =
+        "com.amihaiemil.eoyaml.jfr.slowLookupMillis";
+
+    /**
+     * Lookups taking longer than this are slow, in nanoseconds.
+     */
+    private final long slow;
+
+    /**
+     * Can the events be committed?
+     */
+    private final boolean available;
+
+    /**
+     * Ctor.
+     */
+    public JfrYamlMetrics() {
+        this.slow = TimeUnit.MILLISECONDS.toNanos(
+            Long.getLong(SLOW_LOOKUP, 10L)
+        );
+        this.available = JfrYamlMetrics.readsJfr();
+    }
+
+    @Override
+    public void inputRead(
+        final long bytes, final int lines, final long nanos
+    ) {
+        if(this.available) {
+            final Read event = new Read();
+            if(event.isEnabled()) {
+                event.bytes = bytes;
+                event.lines = lines;
+                event.elapsed = nanos;
+                event.commit();
+            }
+        }
+    }
+
+    @Override
+    public void keyLookedUp(
+        final YamlNode key, final int scanned,
+        final boolean found, final long nanos
+    ) {
+        if(this.available && nanos >= this.slow) {
+            final SlowLookup event = new SlowLookup();
+            if(event.isEnabled()) {
+                if(key instanceof Scalar) {
+                    event.key = ((Scalar) key).value();
+                } else {
+                    event.key = String.valueOf(key);
+                }
+                event.scanned = scanned;
+                event.found = found;
+                event.elapsed = nanos;
+                event.commit();
+            }
+        }
+    }
+
+    @Override
+    public void nodePrinted(
+        final int nodes, final long chars, final long nanos
+    ) {
+        if(this.available) {
+            final Print event = new Print();
+            if(event.isEnabled()) {
+                event.nodes = nodes;
+                event.chars = chars;
+                event.elapsed = nanos;
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * Make sure this module reads jdk.jfr.
+     * @return True if jdk.jfr can be used, false otherwise.
+     */
+    private static boolean readsJfr() {
+        final Optional<Module> jfr = ModuleLayer.boot().findModule("jdk.jfr");
+        final Module own = JfrYamlMetrics.class.getModule();
+        if(jfr.isPresent() && own.isNamed()) {
+            own.addReads(jfr.get());
+        }
+        return jfr.isPresent();
+    }
+
+    /**
+     * An input was read.
+     * @author Mihai Andronache (amihaiemil@gmail.com)
+     * @version $Id$
+     * @since 6.0.2
+     * @checkstyle VisibilityModifier (30 lines)
+     */
+    @Name("com.amihaiemil.eoyaml.Read")
+    @Label("YAML Read")
+    @Category("YAML")
+    @Description("A YAML input was read")
+    static final class Read extends Event {
+
+        /**
+         * Read bytes.
+         */
+        @Label("Bytes")
+        @DataAmount
+        long bytes;
+
+        /**
+         * Read lines.
+         */
+        @Label("Lines")
+        int lines;
+
+        /**
+         * Reading time.
+         */
+        @Label("Reading Time")
+        @Timespan
+        long elapsed;
+    }
+
+    /**
+     * A key was looked up slowly.
+     * @author Mihai Andronache (amihaiemil@gmail.com)
+     * @version $Id$
+     * @since 6.0.2
+     * @checkstyle VisibilityModifier (40 lines)
+     */
+    @Name("com.amihaiemil.eoyaml.SlowLookup")
+    @Label("YAML Slow Lookup")
+    @Category("YAML")
+    @Description("Looking up a key in a read YAML mapping was slow")
+    static final class SlowLookup extends Event {
+
+        /**
+         * Looked up key.
+         */
+        @Label("Key")
+        String key;
+
+        /**
+         * Lines scanned for the key.
+         */
+        @Label("Scanned Lines")
+        int scanned;
+
+        /**
+         * Was the key found?
+         */
+        @Label("Found")
+        boolean found;
+
+        /**
+         * Lookup time.
+         */
+        @Label("Lookup Time")
+        @Timespan
+        long elapsed;
+    }
+
+    /**
+     * A YamlNode was printed.
+     * @author Mihai Andronache (amihaiemil@gmail.com)
+     * @version $Id$
+     * @since 6.0.2
+     * @checkstyle VisibilityModifier (30 lines)
+     */
+    @Name("com.amihaiemil.eoyaml.Print")
+    @Label("YAML Print")
+    @Category("YAML")
+    @Description("A YAML node was printed")
+    static final class Print extends Event {
+
+        /**
+         * Printed nodes.
+         */
+        @Label("Nodes")
+        int nodes;
+
+        /**
+         * Printed characters.
+         */
+        @Label("Characters")
+        long chars;
+
+        /**
+         * Printing time.
+         */
+        @Label("Printing Time")
+        @Timespan
+        long elapsed;
+    }
+}
@@ -2,4 +2,7 @@ module com.amihaiemil.eoyaml {
     exports com.amihaiemil.eoyaml;
     exports com.amihaiemil.eoyaml.exceptions;
     exports com.amihaiemil.eoyaml.extensions;
+    requires java.management;
+    uses com.amihaiemil.eoyaml.ScalarConverter;
+    uses com.amihaiemil.eoyaml.YamlMetrics;
 }
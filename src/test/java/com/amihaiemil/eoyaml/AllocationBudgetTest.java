@@ -0,0 +1,256 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.Callable;
+
+/**
+ * Allocation budget tests. Each operation is warmed up, then run many
+ * times and the bytes it allocates on average, as counted by the JVM for
+ * the current thread, must stay within the operation's budget. Unlike
+ * running times, allocated bytes do not depend on the machine, so the
+ * budgets are tight: about twice the measured allocation, which leaves
+ * room for different JVMs, but not for an extra copy of the document
+ * or an extra object per line.<br><br>
+ * If a change legitimately needs more memory, raise the budget in the
+ * same commit and explain why.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 6.0.2
+ */
+public final class AllocationBudgetTest {
+
+    /**
+     * Warm-up runs, before measuring.
+     */
+    private static final int WARMUP = 2_000;
+
+    /**
+     * Measured runs.
+     */
+    private static final int RUNS = 500;
+
+    /**
+     * Measurements per operation, only the smallest one counts.
+     */
+    private static final int ATTEMPTS = 3;
+
+    /**
+     * Results are stored here, so the JIT cannot discard the work.
+     */
+    private static volatile Object sink;
+
+    /**
+     * JVM's allocation counter for threads.
+     */
+    private com.sun.management.ThreadMXBean threads;
+
+    /**
+     * The tests are skipped on JVMs which do not count allocations.
+     */
+    @Before
+    public void countsAllocations() {
+        final java.lang.management.ThreadMXBean bean =
+            ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue(
+            bean instanceof com.sun.management.ThreadMXBean
+        );
+        this.threads = (com.sun.management.ThreadMXBean) bean;
+        Assume.assumeTrue(this.threads.isThreadAllocatedMemorySupported());
+        this.threads.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    /**
+     * Looking up a key in a read YamlMapping of 100 keys.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void looksUpKeyOfReadMapping() throws Exception {
+        final YamlMapping read = Yaml.createYamlInput(
+            AllocationBudgetTest.keys(100)
+        ).readYamlMapping();
+        this.assertBudget(() -> read.string("key99"), 32_000L);
+    }
+
+    /**
+     * Value of a read plain Scalar.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void readsScalarValue() throws Exception {
+        final Scalar scalar = Yaml.createYamlInput(
+            AllocationBudgetTest.keys(100)
+        ).readYamlMapping().yamlMapping("key50").value("key").asScalar();
+        this.assertBudget(scalar::value, 1_024L);
+    }
+
+    /**
+     * Value of a built Scalar.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void readsBuiltScalarValue() throws Exception {
+        final Scalar scalar = Yaml.createYamlScalarBuilder()
+            .addLine("value").buildPlainScalar();
+        this.assertBudget(scalar::value, 64L);
+    }
+
+    /**
+     * Printing a built tree of 1000 nodes.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void printsThousandNodes() throws Exception {
+        YamlMappingBuilder root = Yaml.createYamlMappingBuilder();
+        for(int idx = 0; idx < 100; ++idx) {
+            YamlSequenceBuilder seq = Yaml.createYamlSequenceBuilder();
+            for(int jdx = 0; jdx < 9; ++jdx) {
+                seq = seq.add("value" + jdx);
+            }
+            root = root.add("key" + idx, seq.build());
+        }
+        final YamlMapping tree = root.build();
+        this.assertBudget(
+            () -> {
+                Yaml.createYamlPrinter(new Discarded()).print(tree);
+                return tree;
+            },
+            100_000L
+        );
+    }
+
+    /**
+     * Building a YamlMapping of 1000 entries.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void buildsThousandEntries() throws Exception {
+        final String[] keys = new String[1000];
+        for(int idx = 0; idx < keys.length; ++idx) {
+            keys[idx] = "key" + idx;
+        }
+        this.assertBudget(
+            () -> {
+                YamlMappingBuilder builder = Yaml.createYamlMappingBuilder();
+                for(final String key : keys) {
+                    builder = builder.add(key, "value");
+                }
+                return builder.build();
+            },
+            1_500_000L
+        );
+    }
+
+    /**
+     * Check that the given operation allocates, on average, no more
+     * than the given number of bytes.
+     * @param operation Operation.
+     * @param budget Budget, in bytes per operation.
+     * @throws Exception If something goes wrong.
+     */
+    private void assertBudget(
+        final Callable<?> operation, final long budget
+    ) throws Exception {
+        for(int idx = 0; idx < WARMUP; ++idx) {
+            sink = operation.call();
+        }
+        long allocated = Long.MAX_VALUE;
+        for(int attempt = 0; attempt < ATTEMPTS; ++attempt) {
+            final long thread = Thread.currentThread().getId();
+            final long start = this.threads.getThreadAllocatedBytes(thread);
+            for(int idx = 0; idx < RUNS; ++idx) {
+                sink = operation.call();
+            }
+            allocated = Math.min(
+                allocated,
+                (this.threads.getThreadAllocatedBytes(thread) - start) / RUNS
+            );
+        }
+        MatcherAssert.assertThat(
+            "Bytes allocated per operation",
+            allocated, Matchers.lessThanOrEqualTo(budget)
+        );
+    }
+
+    /**
+     * A YamlMapping of the given number of nested mappings.
+     * @param keys Number of keys.
+     * @return YAML text.
+     */
+    private static String keys(final int keys) {
+        final StringBuilder yaml = new StringBuilder();
+        for(int idx = 0; idx < keys; ++idx) {
+            yaml.append("key").append(idx).append(":\n")
+                .append("  key: value").append(idx).append('\n');
+        }
+        return yaml.toString();
+    }
+
+    /**
+     * Writer which discards everything, so only the printer's own
+     * allocations are counted.
+     * @author Mihai Andronache (amihaiemil@gmail.com)
+     * @version $Id$
+     * @since 6.0.2
+     */
+    private static final class Discarded extends Writer {
+        @Override
+        public void write(final char[] cbuf, final int off, final int len) {
+            //discarded.
+        }
+
+        @Override
+        public void write(final String str, final int off, final int len) {
+            //discarded.
+        }
+
+        @Override
+        public Writer append(final CharSequence csq) {
+            return this;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            //nothing to flush.
+        }
+
+        @Override
+        public void close() throws IOException {
+            //nothing to close.
+        }
+    }
+}
@@ -0,0 +1,144 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link BeanProperties}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 6.0.2
+ */
+public final class BeanPropertiesTest {
+
+    /**
+     * The properties of a class are discovered only once.
+     */
+    @Test
+    public void cachesPropertiesPerClass() {
+        MatcherAssert.assertThat(
+            BeanProperties.of(Server.class),
+            Matchers.sameInstance(BeanProperties.of(Server.class))
+        );
+    }
+
+    /**
+     * BeanProperties finds the readable properties.
+     */
+    @Test
+    public void findsKeys() {
+        MatcherAssert.assertThat(
+            BeanProperties.of(Server.class).keys(),
+            Matchers.containsInAnyOrder(
+                new PlainStringScalar("host"),
+                new PlainStringScalar("port"),
+                new PlainStringScalar("secure"),
+                new PlainStringScalar("failing")
+            )
+        );
+    }
+
+    /**
+     * BeanProperties reads the properties by key, ignoring case and
+     * with or without the "get" prefix.
+     */
+    @Test
+    public void readsProperties() {
+        final Server server = new Server();
+        final BeanProperties props = BeanProperties.of(Server.class);
+        MatcherAssert.assertThat(
+            props.read(server, "host"), Matchers.equalTo("localhost")
+        );
+        MatcherAssert.assertThat(
+            props.read(server, "PORT"), Matchers.equalTo(8080)
+        );
+        MatcherAssert.assertThat(
+            props.read(server, "secure"), Matchers.equalTo(true)
+        );
+        MatcherAssert.assertThat(
+            props.read(server, "missing"), Matchers.nullValue()
+        );
+    }
+
+    /**
+     * Exceptions thrown by the accessors are wrapped.
+     */
+    @Test(expected = IllegalStateException.class)
+    public void wrapsExceptions() {
+        BeanProperties.of(Server.class).read(new Server(), "failing");
+    }
+
+    /**
+     * Simple bean for tests.
+     */
+    static final class Server {
+
+        /**
+         * Host.
+         * @return String.
+         */
+        public String getHost() {
+            return "localhost";
+        }
+
+        /**
+         * Port.
+         * @return Integer.
+         */
+        public int getPort() {
+            return 8080;
+        }
+
+        /**
+         * Is it secure?
+         * @return Boolean.
+         */
+        public boolean secure() {
+            return true;
+        }
+
+        /**
+         * Always fails.
+         * @return Nothing.
+         */
+        public String failing() {
+            throw new UnsupportedOperationException("failing");
+        }
+
+        /**
+         * Not a property, it has parameters.
+         * @param value Value.
+         */
+        public void setHost(final String value) {
+            //nothing
+        }
+    }
+}
@@ -0,0 +1,238 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import com.amihaiemil.eoyaml.exceptions.YamlBindingException;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link Binder}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 6.0.2
+ * @checkstyle JavadocVariable (500 lines)
+ * @checkstyle VisibilityModifier (500 lines)
+ */
+public final class BinderTest {
+
+    /**
+     * A Binder is created only once per class.
+     */
+    @Test
+    public void cachesBinders() {
+        MatcherAssert.assertThat(
+            Binder.of(Server.class),
+            Matchers.sameInstance(Binder.of(Server.class))
+        );
+    }
+
+    /**
+     * YamlMapping can be bound to a POJO with nested objects, collections,
+     * maps, enums and numbers.
+     * @throws IOException If something goes wrong.
+     */
+    @Test
+    public void bindsNestedObjects() throws IOException {
+        final Server server = Yaml.createYamlInput(
+            "host: localhost\n"
+            + "port: 8080\n"
+            + "max-connections: 200\n"
+            + "ratio: 0.75\n"
+            + "secure: true\n"
+            + "mode: ACTIVE\n"
+            + "tags:\n"
+            + "  - web\n"
+            + "  - web\n"
+            + "  - api\n"
+            + "limits:\n"
+            + "  cpu: 2\n"
+            + "  memory: 4\n"
+            + "owner:\n"
+            + "  name: ops\n"
+            + "  email: ops@example.com\n"
+            + "backups:\n"
+            + "  - name: first\n"
+            + "  - name: second\n"
+            + "unknown: ignored\n"
+        ).readYamlMapping().bindTo(Server.class);
+        MatcherAssert.assertThat(server.host, Matchers.is("localhost"));
+        MatcherAssert.assertThat(server.port, Matchers.is(8080));
+        MatcherAssert.assertThat(server.maxConnections, Matchers.is(200L));
+        MatcherAssert.assertThat(
+            server.ratio, Matchers.is(new BigDecimal("0.75"))
+        );
+        MatcherAssert.assertThat(server.isSecure(), Matchers.is(true));
+        MatcherAssert.assertThat(server.mode, Matchers.is(Mode.ACTIVE));
+        MatcherAssert.assertThat(
+            server.tags, Matchers.contains("web", "api")
+        );
+        MatcherAssert.assertThat(server.limits.get("cpu"), Matchers.is(2));
+        MatcherAssert.assertThat(server.owner.name, Matchers.is("ops"));
+        MatcherAssert.assertThat(
+            server.owner.email, Matchers.is("ops@example.com")
+        );
+        MatcherAssert.assertThat(server.backups, Matchers.hasSize(2));
+        MatcherAssert.assertThat(
+            server.backups.get(1).name, Matchers.is("second")
+        );
+    }
+
+    /**
+     * A big read YamlMapping can be bound to a POJO with a Map property.
+     * @throws IOException If something goes wrong.
+     */
+    @Test
+    public void bindsBigReadMapping() throws IOException {
+        final StringBuilder yaml = new StringBuilder("host: localhost\n")
+            .append("limits:\n");
+        for (int idx = 0; idx < 4000; ++idx) {
+            yaml.append("  key").append(idx).append(": ").append(idx)
+                .append('\n');
+        }
+        final Server server = Yaml.createYamlInput(yaml.toString())
+            .readYamlMapping().bindTo(Server.class);
+        MatcherAssert.assertThat(server.host, Matchers.is("localhost"));
+        MatcherAssert.assertThat(server.limits.size(), Matchers.is(4000));
+        MatcherAssert.assertThat(
+            server.limits.get("key3999"), Matchers.is(3999)
+        );
+    }
+
+    /**
+     * YamlSequence can be bound to a List.
+     */
+    @Test
+    public void bindsSequences() {
+        final List<Owner> owners = Yaml.createYamlSequenceBuilder()
+            .add(Yaml.createYamlMappingBuilder().add("name", "a").build())
+            .add(Yaml.createYamlMappingBuilder().add("name", "b").build())
+            .build()
+            .bindToList(Owner.class);
+        MatcherAssert.assertThat(owners, Matchers.hasSize(2));
+        MatcherAssert.assertThat(owners.get(1).name, Matchers.is("b"));
+        MatcherAssert.assertThat(
+            Yaml.createYamlSequenceBuilder().add("1").add("2").build()
+                .bindToList(Integer.class),
+            Matchers.contains(1, 2)
+        );
+    }
+
+    /**
+     * Binding complains if the YAML does not fit the properties.
+     */
+    @Test(expected = YamlBindingException.class)
+    public void complainsOnWrongValue() {
+        Yaml.createYamlMappingBuilder().add("port", "not a number").build()
+            .bindTo(Server.class);
+    }
+
+    /**
+     * Binding complains if the class has no no-args constructor.
+     */
+    @Test(expected = YamlBindingException.class)
+    public void complainsOnMissingConstructor() {
+        Yaml.createYamlMappingBuilder().add("value", "x").build()
+            .bindTo(Immutable.class);
+    }
+
+    /**
+     * Operating modes.
+     */
+    enum Mode {
+        /**
+         * Active.
+         */
+        ACTIVE,
+        /**
+         * Passive.
+         */
+        PASSIVE
+    }
+
+    /**
+     * Server configuration.
+     */
+    static final class Server {
+        String host;
+        int port;
+        long maxConnections;
+        BigDecimal ratio;
+        Mode mode;
+        Set<String> tags;
+        Map<String, Integer> limits;
+        Owner owner;
+        List<Owner> backups;
+        private boolean secured;
+
+        /**
+         * Set through a setter.
+         * @param secure Secure or not.
+         */
+        public void setSecure(final boolean secure) {
+            this.secured = secure;
+        }
+
+        /**
+         * Secure or not.
+         * @return Boolean.
+         */
+        boolean isSecure() {
+            return this.secured;
+        }
+    }
+
+    /**
+     * Owner.
+     */
+    static final class Owner {
+        String name;
+        String email;
+    }
+
+    /**
+     * Class without a no-args constructor.
+     */
+    static final class Immutable {
+        private final String value;
+
+        /**
+         * Constructor.
+         * @param value Value.
+         */
+        Immutable(final String value) {
+            this.value = value;
+        }
+    }
+}
@@ -32,6 +32,13 @@ import org.hamcrest.Matchers;
 import org.junit.Test;
 import org.mockito.Mockito;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 /**
  * Unit Tests for {@link CachedYamlLine}.
  * @author Sherif Waly (sherifwaly95@gmail.com)
@@ -93,4 +100,52 @@ public final class CachedYamlLineTest {
         MatcherAssert.assertThat(line.contents(12), Matchers.is("this line"));
         MatcherAssert.assertThat(line.contents(12), Matchers.is("this line"));
     }
+
+    /**
+     * CachedIndentedLine computes the contents again for another
+     * previous indentation.
+     */
+    @Test
+    public void cachesContentPerIndentation() {
+        YamlLine line = new CachedYamlLine(new RtYamlLine("    value", 1));
+        MatcherAssert.assertThat(line.contents(2), Matchers.is(
+            new RtYamlLine("    value", 1).contents(2)
+        ));
+        MatcherAssert.assertThat(line.contents(0), Matchers.is(
+            new RtYamlLine("    value", 1).contents(0)
+        ));
+    }
+
+    /**
+     * CachedIndentedLine never returns the contents of another previous
+     * indentation, even if it is shared by threads asking for different
+     * indentations.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void cachesContentPerIndentationAcrossThreads() throws Exception {
+        final YamlLine origin = new RtYamlLine("    value", 1);
+        final YamlLine line = new CachedYamlLine(origin);
+        final ExecutorService threads = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<Boolean>> results = new ArrayList<>();
+            for(int thread = 0; thread < 4; ++thread) {
+                final int indent = thread % 2 * 2;
+                final String expected = origin.contents(indent);
+                final Callable<Boolean> reads = () -> {
+                    boolean same = true;
+                    for(int idx = 0; idx < 100_000 && same; ++idx) {
+                        same = expected.equals(line.contents(indent));
+                    }
+                    return same;
+                };
+                results.add(threads.submit(reads));
+            }
+            for(final Future<Boolean> result : results) {
+                MatcherAssert.assertThat(result.get(), Matchers.is(true));
+            }
+        } finally {
+            threads.shutdownNow();
+        }
+    }
 }
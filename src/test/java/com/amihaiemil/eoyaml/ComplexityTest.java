@@ -0,0 +1,801 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import com.amihaiemil.eoyaml.extensions.MergedYamlMapping;
+import com.amihaiemil.eoyaml.extensions.YamlDiff;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.lang.management.ManagementFactory;
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.Set;
+import javax.json.Json;
+import javax.json.stream.JsonGenerator;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Assume;
+import org.junit.Test;
+
+/**
+ * Asymptotic complexity regression tests. Each operation runs on inputs
+ * of size n and 8n and the work it does is counted, not timed, so the
+ * tests are exact and fast: a linear operation does about 8 times more
+ * work on the big input, an n&middot;log n one about 11 times more and
+ * a quadratic one 64 times more. The work is counted where it happens:
+ * <ul>
+ *   <li>read nodes are read from lines which count every call, so
+ *   a lookup counts the lines it scans;</li>
+ *   <li>built nodes hold scalars which count every call, so hashing,
+ *   comparing and printing them is counted;</li>
+ *   <li>dumped Maps count the entries they give.</li>
+ * </ul>
+ * Building a sequence touches none of its elements, so there the bytes
+ * allocated by the builder are counted instead.<br><br>
+ * Pay attention: looking up a key in a read YamlMapping is linear, by
+ * design (nothing is cached), so iterating over its keys and looking up
+ * each of them is quadratic; values() reads all the values in one pass.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 6.0.2
+ */
+public final class ComplexityTest {
+
+    /**
+     * Maximum growth of the work when the input is 8 times bigger.
+     */
+    private static final long BOUND = 16;
+
+    /**
+     * Size of the small input.
+     */
+    private static final int SIZE = 128;
+
+    /**
+     * Reading the keys of a YamlMapping is linear.
+     */
+    @Test
+    public void readsMappingKeysInLinearTime() {
+        assertLinear(
+            (n, counter) -> new ReadYamlMapping(lines(keys(n), counter))
+                .keys()
+        );
+    }
+
+    /**
+     * Looking up the last key of a read YamlMapping is linear.
+     */
+    @Test
+    public void looksUpLastKeyInLinearTime() {
+        assertLinear(
+            (n, counter) -> new ReadYamlMapping(lines(keys(n), counter))
+                .string("key" + (n - 1))
+        );
+    }
+
+    /**
+     * Iterating over the keys and values of a read YamlMapping is linear.
+     */
+    @Test
+    public void iteratesReadMappingInLinearTime() {
+        assertLinear(
+            (n, counter) -> {
+                final YamlMapping mapping = new ReadYamlMapping(
+                    lines(keys(n), counter)
+                );
+                final Map<YamlNode, YamlNode> pairs = new LinkedHashMap<>();
+                final Iterator<YamlNode> values = mapping.values().iterator();
+                for(final YamlNode key : mapping.keys()) {
+                    pairs.put(key, values.next());
+                }
+                return pairs;
+            }
+        );
+    }
+
+    /**
+     * Editing a read YamlMapping with with() and without() is linear.
+     */
+    @Test
+    public void editsReadMappingInLinearTime() {
+        assertLinear(
+            (n, counter) -> new ReadYamlMapping(lines(keys(n), counter))
+                .with("added", "value").without("key0")
+        );
+    }
+
+    /**
+     * Reading the comment of a YamlMapping with many commented keys
+     * is linear.
+     */
+    @Test
+    public void readsMappingCommentInLinearTime() {
+        assertLinear(
+            (n, counter) -> {
+                final StringBuilder yaml = new StringBuilder("# document\n");
+                for(int idx = 0; idx < n; ++idx) {
+                    yaml.append("# comment ").append(idx).append('\n')
+                        .append("key").append(idx).append(": value\n");
+                }
+                return new ReadYamlMapping(lines(yaml.toString(), counter))
+                    .comment().value();
+            }
+        );
+    }
+
+    /**
+     * Walking a read YamlSequence of mappings is linear.
+     */
+    @Test
+    public void walksReadSequenceInLinearTime() {
+        assertLinear(
+            (n, counter) -> {
+                final List<String> sizes = new ArrayList<>();
+                for(final YamlNode node : new ReadYamlSequence(
+                    lines(sequence(n), counter)
+                )) {
+                    sizes.add(node.asMapping().string("size"));
+                }
+                return sizes;
+            }
+        );
+    }
+
+    /**
+     * Printing a read YamlSequence of mappings, with all their comments,
+     * is linear.
+     */
+    @Test
+    public void printsReadSequenceInLinearTime() {
+        assertLinear(
+            (n, counter) -> new ReadYamlSequence(lines(sequence(n), counter))
+                .toString()
+        );
+    }
+
+    /**
+     * Reading all the documents of a YamlStream is linear.
+     */
+    @Test
+    public void readsStreamInLinearTime() {
+        assertLinear(
+            (n, counter) -> {
+                final StringBuilder yaml = new StringBuilder();
+                for(int idx = 0; idx < n; ++idx) {
+                    yaml.append("---\nname: item").append(idx)
+                        .append("\nsize: ").append(idx).append('\n');
+                }
+                final List<String> sizes = new ArrayList<>();
+                for(final YamlNode doc : new ReadYamlStream(
+                    lines(yaml.toString(), counter)
+                ).values()) {
+                    sizes.add(doc.asMapping().string("size"));
+                }
+                return sizes;
+            }
+        );
+    }
+
+    /**
+     * Merging two read YamlMappings which share half of their keys,
+     * then reading all the merged values, is linear.
+     */
+    @Test
+    public void mergesReadMappingsInLinearTime() {
+        assertLinear(
+            (n, counter) -> {
+                final StringBuilder changed = new StringBuilder();
+                for(int idx = n / 2; idx < n + n / 2; ++idx) {
+                    changed.append("key").append(idx)
+                        .append(": changed").append(idx).append('\n');
+                }
+                return new MergedYamlMapping(
+                    new ReadYamlMapping(lines(keys(n), counter)),
+                    new ReadYamlMapping(lines(changed.toString(), counter)),
+                    true
+                ).values();
+            }
+        );
+    }
+
+    /**
+     * Diffing two read YamlMappings is linear.
+     */
+    @Test
+    public void diffsReadMappingsInLinearTime() {
+        assertLinear(
+            (n, counter) -> new YamlDiff(
+                new ReadYamlMapping(lines(sequences(n, 0), counter)),
+                new ReadYamlMapping(lines(sequences(n, n / 2), counter))
+            ).changes()
+        );
+    }
+
+    /**
+     * Converting a read YamlMapping to JSON is linear.
+     */
+    @Test
+    public void convertsReadMappingToJsonInLinearTime() {
+        assertLinear(
+            (n, counter) -> {
+                final StringWriter json = new StringWriter();
+                try (JsonGenerator generator = Json.createGenerator(json)) {
+                    Yaml.toJson(
+                        new ReadYamlMapping(lines(sequences(n, 0), counter)),
+                        generator
+                    );
+                }
+                return json.toString();
+            }
+        );
+    }
+
+    /**
+     * Binding a read YamlMapping to a Map property is linear.
+     */
+    @Test
+    public void bindsReadMappingInLinearTime() {
+        assertLinear(
+            (n, counter) -> new ReadYamlMapping(
+                lines("entries:\n" + keys(n).replaceAll("(?m)^", "  "), counter)
+            ).bindTo(Entries.class)
+        );
+    }
+
+    /**
+     * Building a YamlMapping key by key is linear.
+     */
+    @Test
+    public void buildsMappingInLinearTime() {
+        assertLinear(ComplexityTest::built);
+    }
+
+    /**
+     * Building a YamlSequence element by element is linear.
+     */
+    @Test
+    public void buildsSequenceInLinearTime() {
+        final java.lang.management.ThreadMXBean bean =
+            ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue(
+            bean instanceof com.sun.management.ThreadMXBean
+            && ((com.sun.management.ThreadMXBean) bean)
+                .isThreadAllocatedMemorySupported()
+        );
+        final com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) bean;
+        final long thread = Thread.currentThread().getId();
+        assertLinear(
+            (n, counter) -> {
+                final List<YamlNode> elements = new ArrayList<>(n);
+                for(int idx = 0; idx < n; ++idx) {
+                    elements.add(new CountedScalar("element" + idx, counter));
+                }
+                final long start = threads.getThreadAllocatedBytes(thread);
+                YamlSequenceBuilder builder = Yaml.createYamlSequenceBuilder();
+                for(final YamlNode element : elements) {
+                    builder = builder.add(element);
+                }
+                final YamlSequence built = builder.build();
+                counter.add(threads.getThreadAllocatedBytes(thread) - start);
+                return built;
+            }
+        );
+    }
+
+    /**
+     * Getting every element of a YamlSequence by index is linear.
+     */
+    @Test
+    public void indexesSequenceInLinearTime() {
+        assertLinear(
+            (n, counter) -> {
+                final List<YamlNode> elements = new ArrayList<>(n);
+                for(int idx = 0; idx < n; ++idx) {
+                    elements.add(
+                        Yaml.createYamlMappingBuilder()
+                            .add("name", "item" + idx).build()
+                    );
+                }
+                final YamlSequence sequence = new Listed(elements, counter);
+                final List<YamlMapping> all = new ArrayList<>();
+                for(int idx = 0; idx < n; ++idx) {
+                    all.add(sequence.yamlMapping(idx));
+                }
+                return all;
+            }
+        );
+    }
+
+    /**
+     * Printing a built YamlMapping is linear.
+     */
+    @Test
+    public void printsBuiltMappingInLinearTime() {
+        assertLinear((n, counter) -> built(n, counter).toString());
+    }
+
+    /**
+     * Merging two built YamlMappings which share half of their keys,
+     * then reading all the merged values, is linear.
+     */
+    @Test
+    public void mergesMappingsInLinearTime() {
+        assertLinear(
+            (n, counter) -> {
+                YamlMappingBuilder builder = Yaml.createYamlMappingBuilder();
+                for(int idx = n / 2; idx < n + n / 2; ++idx) {
+                    builder = builder.add(
+                        new CountedScalar("key" + idx, counter),
+                        new CountedScalar("changed" + idx, counter)
+                    );
+                }
+                return new MergedYamlMapping(
+                    built(n, counter), builder.build(), true
+                ).values();
+            }
+        );
+    }
+
+    /**
+     * Dumping a List of Maps straight to a Writer is linear.
+     */
+    @Test
+    public void dumpsInLinearTime() {
+        assertLinear(
+            (n, counter) -> {
+                final List<Map<String, Object>> items = new ArrayList<>();
+                for(int idx = 0; idx < n; ++idx) {
+                    final Map<String, Object> item = new LinkedHashMap<>();
+                    item.put("name", "item" + idx);
+                    item.put("size", idx);
+                    items.add(new CountedMap(item, counter));
+                }
+                final StringWriter writer = new StringWriter();
+                try {
+                    Yaml.createYamlDump(items).dump(writer);
+                } catch (final IOException ex) {
+                    throw new IllegalStateException(ex);
+                }
+                return writer.toString();
+            }
+        );
+    }
+
+    /**
+     * Assert that the work of the given operation grows at most
+     * n&middot;log n.
+     * @param operation Operation on an input of the given size, which
+     *  counts its work with the given Counter.
+     */
+    private static void assertLinear(final Operation operation) {
+        final Counter small = new Counter();
+        operation.run(SIZE, small);
+        final Counter big = new Counter();
+        operation.run(SIZE * 8, big);
+        MatcherAssert.assertThat(
+            "No work was counted", small.count(), Matchers.greaterThan(0L)
+        );
+        MatcherAssert.assertThat(
+            "Work grew from " + small.count() + " to " + big.count()
+            + " for a " + SIZE + " -> " + SIZE * 8 + " input",
+            big.count(),
+            Matchers.lessThanOrEqualTo(small.count() * BOUND)
+        );
+    }
+
+    /**
+     * Counted lines of the given YAML.
+     * @param yaml YAML text.
+     * @param counter Counter of the calls to the lines.
+     * @return AllYamlLines.
+     */
+    private static AllYamlLines lines(
+        final String yaml, final Counter counter
+    ) {
+        final List<YamlLine> lines = new ArrayList<>();
+        final String[] texts = yaml.split("\n");
+        for(int idx = 0; idx < texts.length; ++idx) {
+            lines.add(
+                new CountedLine(new RtYamlLine(texts[idx], idx), counter)
+            );
+        }
+        return new AllYamlLines(lines);
+    }
+
+    /**
+     * A flat mapping with n keys.
+     * @param size Number of keys.
+     * @return YAML text.
+     */
+    private static String keys(final int size) {
+        final StringBuilder yaml = new StringBuilder();
+        for(int idx = 0; idx < size; ++idx) {
+            yaml.append("key").append(idx)
+                .append(": value").append(idx).append('\n');
+        }
+        return yaml.toString();
+    }
+
+    /**
+     * A mapping with n keys, each mapped to a small sequence.
+     * @param size Number of keys.
+     * @param changed Index of the first key with a different sequence.
+     * @return YAML text.
+     */
+    private static String sequences(final int size, final int changed) {
+        final StringBuilder yaml = new StringBuilder();
+        for(int idx = 0; idx < size; ++idx) {
+            yaml.append("key").append(idx).append(":\n  - ").append(idx);
+            if(idx >= changed) {
+                yaml.append("\n  - changed");
+            }
+            yaml.append('\n');
+        }
+        return yaml.toString();
+    }
+
+    /**
+     * A sequence of n small mappings.
+     * @param size Number of mappings.
+     * @return YAML text.
+     */
+    private static String sequence(final int size) {
+        final StringBuilder yaml = new StringBuilder();
+        for(int idx = 0; idx < size; ++idx) {
+            yaml.append("-\n  name: item").append(idx)
+                .append("\n  size: ").append(idx).append('\n');
+        }
+        return yaml.toString();
+    }
+
+    /**
+     * A built mapping with n counted keys, each mapped to a small mapping.
+     * @param size Number of keys.
+     * @param counter Counter of the calls to the scalars.
+     * @return Built YamlMapping.
+     */
+    private static YamlMapping built(final int size, final Counter counter) {
+        YamlMappingBuilder builder = Yaml.createYamlMappingBuilder();
+        for(int idx = 0; idx < size; ++idx) {
+            builder = builder.add(
+                new CountedScalar("key" + idx, counter),
+                Yaml.createYamlMappingBuilder()
+                    .add(
+                        new CountedScalar("name", counter),
+                        new CountedScalar("item" + idx, counter)
+                    )
+                    .build()
+            );
+        }
+        return builder.build();
+    }
+
+    /**
+     * An operation on an input of a given size.
+     */
+    private interface Operation {
+
+        /**
+         * Run the operation.
+         * @param size Size of the input.
+         * @param counter Counter of the work.
+         * @return Result, which should be consumed.
+         */
+        Object run(int size, Counter counter);
+    }
+
+    /**
+     * Counter of the work done.
+     */
+    private static final class Counter {
+
+        /**
+         * Work counted so far.
+         */
+        private long work;
+
+        /**
+         * Count one unit of work.
+         */
+        void tick() {
+            this.add(1);
+        }
+
+        /**
+         * Count some units of work.
+         * @param units Units of work.
+         */
+        void add(final long units) {
+            this.work = this.work + units;
+        }
+
+        /**
+         * The work counted so far.
+         * @return Units of work.
+         */
+        long count() {
+            return this.work;
+        }
+    }
+
+    /**
+     * YamlLine which counts the calls to it.
+     */
+    private static final class CountedLine implements YamlLine {
+
+        /**
+         * Original line.
+         */
+        private final YamlLine line;
+
+        /**
+         * Counter of the calls.
+         */
+        private final Counter counter;
+
+        /**
+         * Constructor.
+         * @param line Original line.
+         * @param counter Counter of the calls.
+         */
+        CountedLine(final YamlLine line, final Counter counter) {
+            this.line = line;
+            this.counter = counter;
+        }
+
+        @Override
+        public String trimmed() {
+            this.counter.tick();
+            return this.line.trimmed();
+        }
+
+        @Override
+        public String contents(final int previousIndent) {
+            this.counter.tick();
+            return this.line.contents(previousIndent);
+        }
+
+        @Override
+        public String comment() {
+            this.counter.tick();
+            return this.line.comment();
+        }
+
+        @Override
+        public int number() {
+            this.counter.tick();
+            return this.line.number();
+        }
+
+        @Override
+        public int indentation() {
+            this.counter.tick();
+            return this.line.indentation();
+        }
+
+        @Override
+        public boolean requireNestedIndentation() {
+            this.counter.tick();
+            return this.line.requireNestedIndentation();
+        }
+
+        @Override
+        public int compareTo(final YamlLine other) {
+            this.counter.tick();
+            return this.line.compareTo(other);
+        }
+    }
+
+    /**
+     * Scalar which counts the calls to it.
+     */
+    private static final class CountedScalar extends BaseScalar {
+
+        /**
+         * Value.
+         */
+        private final String value;
+
+        /**
+         * Counter of the calls.
+         */
+        private final Counter counter;
+
+        /**
+         * Constructor.
+         * @param value Value.
+         * @param counter Counter of the calls.
+         */
+        CountedScalar(final String value, final Counter counter) {
+            this.value = value;
+            this.counter = counter;
+        }
+
+        @Override
+        public String value() {
+            this.counter.tick();
+            return this.value;
+        }
+
+        @Override
+        public Comment comment() {
+            this.counter.tick();
+            return new BuiltComment(this, "");
+        }
+    }
+
+    /**
+     * YamlSequence over a List which counts the elements it gives.
+     */
+    private static final class Listed extends BaseYamlSequence {
+
+        /**
+         * Elements.
+         */
+        private final List<YamlNode> elements;
+
+        /**
+         * Counter of the elements given.
+         */
+        private final Counter counter;
+
+        /**
+         * Constructor.
+         * @param elements Elements.
+         * @param counter Counter of the elements given.
+         */
+        Listed(final List<YamlNode> elements, final Counter counter) {
+            this.elements = elements;
+            this.counter = counter;
+        }
+
+        @Override
+        public Collection<YamlNode> values() {
+            return new Counted(this.elements, this.counter);
+        }
+
+        @Override
+        public Comment comment() {
+            return new BuiltComment(this, "");
+        }
+    }
+
+    /**
+     * Random access List which counts the elements it gives.
+     */
+    private static final class Counted extends AbstractList<YamlNode>
+        implements RandomAccess {
+
+        /**
+         * Elements.
+         */
+        private final List<YamlNode> elements;
+
+        /**
+         * Counter of the elements given.
+         */
+        private final Counter counter;
+
+        /**
+         * Constructor.
+         * @param elements Elements.
+         * @param counter Counter of the elements given.
+         */
+        Counted(final List<YamlNode> elements, final Counter counter) {
+            this.elements = elements;
+            this.counter = counter;
+        }
+
+        @Override
+        public YamlNode get(final int index) {
+            this.counter.tick();
+            return this.elements.get(index);
+        }
+
+        @Override
+        public int size() {
+            return this.elements.size();
+        }
+    }
+
+    /**
+     * Map which counts the entries it gives.
+     */
+    private static final class CountedMap extends AbstractMap<String, Object> {
+
+        /**
+         * Entries.
+         */
+        private final Map<String, Object> entries;
+
+        /**
+         * Counter of the entries given.
+         */
+        private final Counter counter;
+
+        /**
+         * Constructor.
+         * @param entries Entries.
+         * @param counter Counter of the entries given.
+         */
+        CountedMap(final Map<String, Object> entries, final Counter counter) {
+            this.entries = entries;
+            this.counter = counter;
+        }
+
+        @Override
+        public Set<Entry<String, Object>> entrySet() {
+            final Set<Entry<String, Object>> origin = this.entries.entrySet();
+            final Counter count = this.counter;
+            return new AbstractSet<Entry<String, Object>>() {
+                @Override
+                public Iterator<Entry<String, Object>> iterator() {
+                    final Iterator<Entry<String, Object>> entries =
+                        origin.iterator();
+                    return new Iterator<Entry<String, Object>>() {
+                        @Override
+                        public boolean hasNext() {
+                            return entries.hasNext();
+                        }
+
+                        @Override
+                        public Entry<String, Object> next() {
+                            count.tick();
+                            return entries.next();
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return origin.size();
+                }
+            };
+        }
+    }
+
+    /**
+     * Entries bound from a mapping.
+     */
+    static final class Entries {
+
+        /**
+         * Entries.
+         */
+        private Map<String, String> entries;
+    }
+}
@@ -0,0 +1,68 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link JfrYamlMetrics}. The tests run against the Java 8
+ * version; the Java 11+ one, which commits the events, is only used from
+ * the multi-release JAR.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 6.0.2
+ */
+public final class JfrYamlMetricsTest {
+
+    /**
+     * JfrYamlMetrics are YamlMetrics which can be provided as a service.
+     */
+    @Test
+    public void isProvidedAsService() {
+        MatcherAssert.assertThat(
+            new JfrYamlMetrics(), Matchers.instanceOf(YamlMetrics.class)
+        );
+    }
+
+    /**
+     * The Java 8 version ignores all the notifications.
+     */
+    @Test
+    public void ignoresNotificationsOnJava8() {
+        final YamlMetrics metrics = new JfrYamlMetrics();
+        metrics.inputRead(10L, 1, 1_000L);
+        metrics.keyLookedUp(new PlainStringScalar("key"), 3, false, 1_000L);
+        metrics.nodePrinted(3, 12L, 1_000L);
+        MatcherAssert.assertThat(
+            JfrYamlMetrics.SLOW_LOOKUP,
+            Matchers.equalTo("com.amihaiemil.eoyaml.jfr.slowLookupMillis")
+        );
+    }
+}
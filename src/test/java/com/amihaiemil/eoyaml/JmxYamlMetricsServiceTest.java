@@ -0,0 +1,157 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.lang.management.ManagementFactory;
+import javax.management.JMX;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+
+/**
+ * Unit tests for {@link JmxYamlMetrics}. They run in their own JVM, where
+ * the metrics are provided as a service listed in src/test/services; the
+ * other tests run with the metrics disabled.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 6.0.2
+ */
+public final class JmxYamlMetricsServiceTest {
+
+    /**
+     * Metrics, as seen over JMX.
+     */
+    private YamlMetricsMXBean metrics;
+
+    /**
+     * Look up the published metrics and reset them. They are published
+     * once they are loaded, the first time metrics are checked.
+     * @throws MalformedObjectNameException If the name is wrong.
+     */
+    @Before
+    public void published() throws MalformedObjectNameException {
+        MatcherAssert.assertThat(Metrics.ENABLED, Matchers.is(true));
+        this.metrics = JMX.newMXBeanProxy(
+            ManagementFactory.getPlatformMBeanServer(),
+            new ObjectName(JmxYamlMetrics.NAME),
+            YamlMetricsMXBean.class
+        );
+        this.metrics.reset();
+    }
+
+    /**
+     * The provided metrics are the ones in use.
+     */
+    @Test
+    public void areEnabledAsService() {
+        MatcherAssert.assertThat(Metrics.ENABLED, Matchers.is(true));
+        MatcherAssert.assertThat(
+            Metrics.CURRENT, Matchers.instanceOf(JmxYamlMetrics.class)
+        );
+    }
+
+    /**
+     * Reading an input is counted.
+     * @throws IOException If something goes wrong.
+     */
+    @Test
+    public void countsReadInputs() throws IOException {
+        Yaml.createYamlInput("a: 1\nb: 2\n# comment\n").readYamlMapping();
+        MatcherAssert.assertThat(
+            this.metrics.getInputsRead(), Matchers.is(1L)
+        );
+        MatcherAssert.assertThat(this.metrics.getLinesRead(), Matchers.is(3L));
+        MatcherAssert.assertThat(this.metrics.getBytesRead(), Matchers.is(20L));
+        MatcherAssert.assertThat(
+            this.metrics.getReadNanos(), Matchers.greaterThanOrEqualTo(0L)
+        );
+    }
+
+    /**
+     * Looking up keys in a read YamlMapping is counted.
+     * @throws IOException If something goes wrong.
+     */
+    @Test
+    public void countsKeyLookups() throws IOException {
+        final YamlMapping read = Yaml.createYamlInput(
+            "a: 1\nb: 2\nc: 3\n"
+        ).readYamlMapping();
+        MatcherAssert.assertThat(read.string("c"), Matchers.equalTo("3"));
+        MatcherAssert.assertThat(read.string("x"), Matchers.nullValue());
+        MatcherAssert.assertThat(
+            this.metrics.getKeyLookups(), Matchers.is(2L)
+        );
+        MatcherAssert.assertThat(this.metrics.getKeyMisses(), Matchers.is(1L));
+        MatcherAssert.assertThat(
+            this.metrics.getLinesScanned(),
+            Matchers.greaterThanOrEqualTo(3L)
+        );
+    }
+
+    /**
+     * Printing is counted, node by node and character by character.
+     * @throws IOException If something goes wrong.
+     */
+    @Test
+    public void countsPrintedChars() throws IOException {
+        final StringWriter writer = new StringWriter();
+        Yaml.createYamlPrinter(writer).print(
+            Yaml.createYamlMappingBuilder()
+                .add("key", "value")
+                .add("other", "value")
+                .build()
+        );
+        MatcherAssert.assertThat(this.metrics.getPrints(), Matchers.is(1L));
+        MatcherAssert.assertThat(
+            this.metrics.getNodesPrinted(), Matchers.is(5L)
+        );
+        MatcherAssert.assertThat(
+            this.metrics.getCharsPrinted(),
+            Matchers.is((long) writer.toString().length())
+        );
+    }
+
+    /**
+     * The metrics can be reset.
+     * @throws IOException If something goes wrong.
+     */
+    @Test
+    public void resets() throws IOException {
+        Yaml.createYamlInput("a: 1").readYamlMapping().string("a");
+        this.metrics.reset();
+        MatcherAssert.assertThat(this.metrics.getInputsRead(), Matchers.is(0L));
+        MatcherAssert.assertThat(this.metrics.getKeyLookups(), Matchers.is(0L));
+        MatcherAssert.assertThat(this.metrics.getLinesRead(), Matchers.is(0L));
+    }
+}
@@ -0,0 +1,183 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+import javax.json.Json;
+import javax.json.JsonObject;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+
+/**
+ * Unit tests for {@link JsonToYaml}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 6.0.2
+ */
+public final class JsonToYamlTest {
+
+    /**
+     * The streamed YAML looks exactly like the printed YamlMapping
+     * made from the same JsonObject.
+     * @throws IOException If something goes wrong.
+     */
+    @Test
+    public void convertsLikeThePrinter() throws IOException {
+        final JsonObject json = Json.createObjectBuilder()
+            .add("architect", "mihai")
+            .add("developers",
+                Json.createArrayBuilder()
+                    .add("rultor")
+                    .add(Json.createObjectBuilder()
+                        .add("name", "salikjan")
+                        .add("roles", Json.createArrayBuilder()
+                            .add("dev").add("reviewer")
+                        )
+                    )
+                    .add(Json.createArrayBuilder().add("a").add("b"))
+            )
+            .add("lib",
+                Json.createObjectBuilder()
+                    .add("name", "eo-yaml")
+                    .add("version", 5)
+                    .add("rating", 9.5)
+            )
+            .add("latest", false)
+            .add("license", javax.json.JsonValue.NULL)
+            .build();
+        final StringWriter printed = new StringWriter();
+        Yaml.createYamlPrinter(printed).print(Yaml.fromJsonObject(json));
+        MatcherAssert.assertThat(
+            this.convert(json.toString()),
+            Matchers.equalTo(printed.toString())
+        );
+    }
+
+    /**
+     * Strings which would be read as other types, or which contain
+     * special characters, are double-quoted and escaped.
+     * @throws IOException If something goes wrong.
+     */
+    @Test
+    public void quotesAmbiguousStrings() throws IOException {
+        MatcherAssert.assertThat(
+            this.convert(
+                "{\"a\": \"123\", \"b\": \"true\", \"c\": 123, \"d\": \"\","
+                + " \"e\": \"two\\nlines \\\"quoted\\\"\", \"f\": \" x\","
+                + " \"key: x\": \"~\", \"g\": \"plain text\"}"
+            ),
+            Matchers.equalTo(
+                new StringBuilder()
+                    .append("a: \"123\"").append(System.lineSeparator())
+                    .append("b: \"true\"").append(System.lineSeparator())
+                    .append("c: 123").append(System.lineSeparator())
+                    .append("d: \"\"").append(System.lineSeparator())
+                    .append("e: \"two\\nlines \\\"quoted\\\"\"")
+                    .append(System.lineSeparator())
+                    .append("f: \" x\"").append(System.lineSeparator())
+                    .append("\"key: x\": \"~\"")
+                    .append(System.lineSeparator())
+                    .append("g: plain text")
+                    .toString()
+            )
+        );
+    }
+
+    /**
+     * Top-level arrays, scalars and empty containers are converted.
+     * @throws IOException If something goes wrong.
+     */
+    @Test
+    public void convertsTopLevelValues() throws IOException {
+        MatcherAssert.assertThat(
+            this.convert("[1, [], {}, [[2]]]"),
+            Matchers.equalTo(
+                new StringBuilder()
+                    .append("- 1").append(System.lineSeparator())
+                    .append("- []").append(System.lineSeparator())
+                    .append("- {}").append(System.lineSeparator())
+                    .append("-").append(System.lineSeparator())
+                    .append("  -").append(System.lineSeparator())
+                    .append("    - 2")
+                    .toString()
+            )
+        );
+        MatcherAssert.assertThat(
+            this.convert("{}"), Matchers.equalTo("{}")
+        );
+        MatcherAssert.assertThat(
+            this.convert("[]"), Matchers.equalTo("[]")
+        );
+        MatcherAssert.assertThat(
+            this.convert("\"value\""),
+            Matchers.equalTo(
+                "---" + System.lineSeparator() + "value"
+                + System.lineSeparator() + "..."
+            )
+        );
+    }
+
+    /**
+     * The converted YAML can be read back.
+     * @throws IOException If something goes wrong.
+     */
+    @Test
+    public void convertedYamlCanBeRead() throws IOException {
+        final YamlMapping read = Yaml.createYamlInput(
+            this.convert(
+                "{\"name\": \"eo-yaml\", \"tags\": [\"java\", \"yaml\"],"
+                + " \"owner\": {\"login\": \"amihaiemil\", \"id\": 42}}"
+            )
+        ).readYamlMapping();
+        MatcherAssert.assertThat(
+            read.string("name"), Matchers.equalTo("eo-yaml")
+        );
+        MatcherAssert.assertThat(
+            read.yamlSequence("tags").string(1), Matchers.equalTo("yaml")
+        );
+        MatcherAssert.assertThat(
+            read.yamlMapping("owner").integer("id"), Matchers.equalTo(42)
+        );
+    }
+
+    /**
+     * Convert the given JSON to YAML.
+     * @param json JSON.
+     * @return YAML.
+     * @throws IOException If something goes wrong.
+     */
+    private String convert(final String json) throws IOException {
+        final StringWriter yaml = new StringWriter();
+        Yaml.fromJson(Json.createParser(new StringReader(json)), yaml);
+        return yaml.toString();
+    }
+}
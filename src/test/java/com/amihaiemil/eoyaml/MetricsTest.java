@@ -0,0 +1,73 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.io.Writer;
+
+/**
+ * Unit tests for {@link Metrics}, without any YamlMetrics provided.
+ * The provided ones are tested in {@link JmxYamlMetricsServiceTest}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 6.0.2
+ */
+public final class MetricsTest {
+
+    /**
+     * Metrics are disabled if no YamlMetrics are provided.
+     */
+    @Test
+    public void areDisabledWithoutProviders() {
+        MatcherAssert.assertThat(Metrics.ENABLED, Matchers.is(false));
+        MatcherAssert.assertThat(Metrics.CURRENT, Matchers.nullValue());
+    }
+
+    /**
+     * Inputs and Writers are not wrapped if metrics are disabled.
+     */
+    @Test
+    public void countsNothingWhenDisabled() {
+        final InputStream input = new ByteArrayInputStream(new byte[0]);
+        final Writer writer = new StringWriter();
+        MatcherAssert.assertThat(
+            Metrics.counted(input), Matchers.sameInstance(input)
+        );
+        MatcherAssert.assertThat(
+            Metrics.counted(writer), Matchers.sameInstance(writer)
+        );
+        MatcherAssert.assertThat(Metrics.bytes(input), Matchers.is(-1L));
+        MatcherAssert.assertThat(Metrics.chars(writer), Matchers.is(-1L));
+    }
+}
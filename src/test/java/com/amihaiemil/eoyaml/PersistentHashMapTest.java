@@ -0,0 +1,103 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link PersistentHashMap}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 6.0.2
+ */
+public final class PersistentHashMapTest {
+
+    /**
+     * PersistentHashMap can store and find many keys.
+     */
+    @Test
+    public void storesManyKeys() {
+        PersistentHashMap<String, Integer> map = new PersistentHashMap<>();
+        for (int idx = 0; idx < 20000; ++idx) {
+            map = map.with("key" + idx, idx);
+        }
+        MatcherAssert.assertThat(map.size(), Matchers.equalTo(20000));
+        for (int idx = 0; idx < 20000; ++idx) {
+            MatcherAssert.assertThat(
+                map.get("key" + idx), Matchers.equalTo(idx)
+            );
+        }
+        MatcherAssert.assertThat(map.get("missing"), Matchers.nullValue());
+    }
+
+    /**
+     * PersistentHashMap replaces the value of an existing key, leaving
+     * the original map unchanged.
+     */
+    @Test
+    public void replacesValues() {
+        final PersistentHashMap<String, String> map =
+            new PersistentHashMap<String, String>().with("key", "old");
+        final PersistentHashMap<String, String> replaced =
+            map.with("key", "new");
+        MatcherAssert.assertThat(replaced.size(), Matchers.equalTo(1));
+        MatcherAssert.assertThat(replaced.get("key"), Matchers.equalTo("new"));
+        MatcherAssert.assertThat(map.get("key"), Matchers.equalTo("old"));
+    }
+
+    /**
+     * PersistentHashMap can hold null values.
+     */
+    @Test
+    public void holdsNullValues() {
+        final PersistentHashMap<String, String> map =
+            new PersistentHashMap<String, String>().with("key", null);
+        MatcherAssert.assertThat(map.containsKey("key"), Matchers.is(true));
+        MatcherAssert.assertThat(map.get("key"), Matchers.nullValue());
+        MatcherAssert.assertThat(map.size(), Matchers.equalTo(1));
+    }
+
+    /**
+     * PersistentHashMap tells apart keys with the same hash code.
+     */
+    @Test
+    public void handlesCollisions() {
+        PersistentHashMap<String, Integer> map = new PersistentHashMap<>();
+        map = map.with("Aa", 1).with("BB", 2).with("AaAa", 3).with("BBBB", 4);
+        map = map.with("AaBB", 5).with("BB", 6);
+        MatcherAssert.assertThat(map.size(), Matchers.equalTo(5));
+        MatcherAssert.assertThat(map.get("Aa"), Matchers.equalTo(1));
+        MatcherAssert.assertThat(map.get("BB"), Matchers.equalTo(6));
+        MatcherAssert.assertThat(map.get("AaAa"), Matchers.equalTo(3));
+        MatcherAssert.assertThat(map.get("BBBB"), Matchers.equalTo(4));
+        MatcherAssert.assertThat(map.get("AaBB"), Matchers.equalTo(5));
+        MatcherAssert.assertThat(map.containsKey("BBAa"), Matchers.is(false));
+    }
+}
@@ -0,0 +1,103 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link PersistentVector}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 6.0.2
+ */
+public final class PersistentVectorTest {
+
+    /**
+     * An empty PersistentVector has no elements.
+     */
+    @Test
+    public void isEmptyByDefault() {
+        MatcherAssert.assertThat(
+            new PersistentVector<String>(), Matchers.emptyIterable()
+        );
+    }
+
+    /**
+     * PersistentVector keeps the appended elements in order, across
+     * several levels of the trie.
+     */
+    @Test
+    public void appendsManyElements() {
+        final List<Integer> expected = new ArrayList<>();
+        PersistentVector<Integer> vector = new PersistentVector<>();
+        for (int idx = 0; idx < 40000; ++idx) {
+            vector = vector.with(idx);
+            expected.add(idx);
+        }
+        MatcherAssert.assertThat(vector.size(), Matchers.equalTo(40000));
+        MatcherAssert.assertThat(vector, Matchers.equalTo(expected));
+        MatcherAssert.assertThat(vector.get(1055), Matchers.equalTo(1055));
+    }
+
+    /**
+     * Appending leaves the original PersistentVector unchanged.
+     */
+    @Test
+    public void appendingDoesNotChangeOriginal() {
+        PersistentVector<Integer> vector = new PersistentVector<>();
+        for (int idx = 0; idx < 64; ++idx) {
+            vector = vector.with(idx);
+        }
+        final PersistentVector<Integer> first = vector.with(-1);
+        final PersistentVector<Integer> second = vector.with(-2);
+        MatcherAssert.assertThat(vector.size(), Matchers.equalTo(64));
+        MatcherAssert.assertThat(first.get(64), Matchers.equalTo(-1));
+        MatcherAssert.assertThat(second.get(64), Matchers.equalTo(-2));
+        MatcherAssert.assertThat(first.get(63), Matchers.equalTo(63));
+    }
+
+    /**
+     * PersistentVector complains about indexes out of bounds.
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void complainsOnIndexOutOfBounds() {
+        new PersistentVector<String>().with("a").get(1);
+    }
+
+    /**
+     * PersistentVector cannot be modified through the List interface.
+     */
+    @Test(expected = UnsupportedOperationException.class)
+    public void isUnmodifiable() {
+        new PersistentVector<String>().add("a");
+    }
+}
@@ -227,4 +227,20 @@ public final class ReadFoldedBlockScalarTest {
             )
         );
     }
+
+    /**
+     * A folded block scalar nested in a mapping is folded, regardless of
+     * its indentation.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void foldsNestedScalar() throws Exception {
+        final YamlMapping info = Yaml.createYamlInput(
+            "info:\n  description: >\n    first line\n    second line\n"
+        ).readYamlMapping().yamlMapping("info");
+        MatcherAssert.assertThat(
+            info.foldedBlockScalar("description"),
+            Matchers.equalTo("first line second line")
+        );
+    }
 }
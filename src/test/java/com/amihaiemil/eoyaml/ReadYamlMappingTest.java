@@ -27,6 +27,7 @@
  */
 package com.amihaiemil.eoyaml;
 
+import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -1170,4 +1171,105 @@ public final class ReadYamlMappingTest {
         MatcherAssert.assertThat(copy.string("key2"), Matchers
             .equalTo("Some other value."));
     }
+
+    /**
+     * ReadYamlMapping can be edited through with() and without(), sharing
+     * the unchanged subtrees and leaving the original unchanged.
+     */
+    @Test
+    public void editsWithSharedSubtrees() {
+        final List<YamlLine> lines = new ArrayList<>();
+        lines.add(new RtYamlLine("first: somethingElse", 0));
+        lines.add(new RtYamlLine("second: ", 1));
+        lines.add(new RtYamlLine("  fourth: some", 2));
+        lines.add(new RtYamlLine("  fifth: values", 3));
+        lines.add(new RtYamlLine("third: something", 4));
+        final YamlMapping map = new ReadYamlMapping(new AllYamlLines(lines));
+        final YamlMapping second = map.yamlMapping("second");
+        final YamlMapping edited = map
+            .with("first", "changed")
+            .with("sixth", "added")
+            .without("third");
+        MatcherAssert.assertThat(
+            edited.string("first"), Matchers.equalTo("changed")
+        );
+        MatcherAssert.assertThat(
+            edited.string("sixth"), Matchers.equalTo("added")
+        );
+        MatcherAssert.assertThat(edited.value("third"), Matchers.nullValue());
+        MatcherAssert.assertThat(
+            edited.yamlMapping("second"),
+            Matchers.allOf(
+                Matchers.instanceOf(ReadYamlMapping.class),
+                Matchers.equalTo(second)
+            )
+        );
+        MatcherAssert.assertThat(edited.keys().size(), Matchers.equalTo(3));
+        MatcherAssert.assertThat(
+            map.string("first"), Matchers.equalTo("somethingElse")
+        );
+        MatcherAssert.assertThat(
+            map.string("third"), Matchers.equalTo("something")
+        );
+    }
+
+    /**
+     * ReadYamlMapping reads its values in one pass, in the order of its keys
+     * and exactly as they are looked up one by one.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void returnsValuesAsLookedUp() throws Exception {
+        final List<YamlInput> inputs = new ArrayList<>();
+        inputs.add(
+            Yaml.createYamlInput(
+                "plain: value\n\"quoted\": one\n'single': two\n"
+                + "empty: {}\nnone: []\nflow: [a, b]\nfolded: >\n"
+                + "  some\n  text\nliteral: |\n  line\nnested:\n"
+                + "  key: value\n"
+            )
+        );
+        final String[] files = {
+            "complexMapping.yml",
+            "indentedComplexMapping.yml",
+            "commentedMapping.yml",
+            "quotedKeysMin.yml",
+            "issue_447_bug_mapping_case_2.yml",
+        };
+        for(final String file : files) {
+            inputs.add(
+                Yaml.createYamlInput(new File("src/test/resources/" + file))
+            );
+        }
+        for(final YamlInput input : inputs) {
+            final YamlMapping map = input.readYamlMapping();
+            final List<YamlNode> expected = new ArrayList<>();
+            for(final YamlNode key : map.keys()) {
+                expected.add(map.value(key));
+            }
+            MatcherAssert.assertThat(
+                new ArrayList<>(map.values()),
+                Matchers.equalTo(expected)
+            );
+        }
+    }
+
+    /**
+     * ReadYamlMapping can return the values of keys with characters
+     * which are special in regular expressions.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void returnsValuesOfKeysWithRegexCharacters() throws Exception {
+        final YamlMapping paths = Yaml.createYamlInput(
+            "\"/items/{id}\": one\n\"/items/(all)+\": []\n"
+        ).readYamlMapping();
+        MatcherAssert.assertThat(
+            paths.string("/items/{id}"), Matchers.equalTo("one")
+        );
+        MatcherAssert.assertThat(
+            paths.yamlSequence("/items/(all)+").values(),
+            Matchers.emptyIterable()
+        );
+    }
 }
@@ -419,4 +419,29 @@ public final class ReadYamlSequenceTest {
         );
         MatcherAssert.assertThat(sequence.toString(), Matchers.isEmptyString());
     }
+
+    /**
+     * ReadYamlSequence can be edited through with(), withAt() and
+     * withoutAt(), leaving the original unchanged.
+     */
+    @Test
+    public void editsWithSharedElements() {
+        final List<YamlLine> lines = new ArrayList<>();
+        lines.add(new RtYamlLine("- first", 0));
+        lines.add(new RtYamlLine("- second", 1));
+        lines.add(new RtYamlLine("- third", 2));
+        final YamlSequence seq = new ReadYamlSequence(new AllYamlLines(lines));
+        final YamlSequence edited = seq
+            .withAt(0, "changed")
+            .withoutAt(1)
+            .with("fourth");
+        MatcherAssert.assertThat(edited.size(), Matchers.equalTo(3));
+        MatcherAssert.assertThat(
+            edited.string(0), Matchers.equalTo("changed")
+        );
+        MatcherAssert.assertThat(edited.string(1), Matchers.equalTo("third"));
+        MatcherAssert.assertThat(edited.string(2), Matchers.equalTo("fourth"));
+        MatcherAssert.assertThat(seq.size(), Matchers.equalTo(3));
+        MatcherAssert.assertThat(seq.string(0), Matchers.equalTo("first"));
+    }
 }
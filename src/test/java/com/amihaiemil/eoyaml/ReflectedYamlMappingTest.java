@@ -115,6 +115,64 @@ public final class ReflectedYamlMappingTest {
         new ReflectedYamlMapping(new String[] {"wrong"});
     }
 
+    /**
+     * A mapping reflected from a large Map finds every key and keeps the
+     * Map's order.
+     */
+    @Test
+    public void looksUpKeysOfLargeMap() {
+        final Map<Object, Object> map = new LinkedHashMap<>();
+        for (int idx = 0; idx < 20000; ++idx) {
+            map.put("key" + idx, idx);
+        }
+        map.put(7, "seven");
+        final YamlMapping mapping = new ReflectedYamlMapping(map);
+        for (int idx = 0; idx < 20000; ++idx) {
+            MatcherAssert.assertThat(
+                mapping.integer("key" + idx), Matchers.is(idx)
+            );
+        }
+        MatcherAssert.assertThat(mapping.string("7"), Matchers.is("seven"));
+        MatcherAssert.assertThat(mapping.value("missing"), Matchers.nullValue());
+        MatcherAssert.assertThat(
+            mapping.keys().size(), Matchers.is(20001)
+        );
+        MatcherAssert.assertThat(
+            mapping.keys().iterator().next(),
+            Matchers.equalTo(new PlainStringScalar("key0"))
+        );
+    }
+
+    /**
+     * A mapping reflected from a Map sees the changes of the Map made
+     * after it was first read.
+     */
+    @Test
+    public void seesChangesOfTheMap() {
+        final Map<Object, Object> map = new LinkedHashMap<>();
+        map.put("x", "1");
+        final YamlMapping mapping = new ReflectedYamlMapping(map);
+        MatcherAssert.assertThat(mapping.string("x"), Matchers.is("1"));
+        map.put("y", "2");
+        MatcherAssert.assertThat(
+            mapping.keys(),
+            Matchers.contains(
+                new PlainStringScalar("x"), new PlainStringScalar("y")
+            )
+        );
+        MatcherAssert.assertThat(mapping.string("y"), Matchers.is("2"));
+        map.remove("x");
+        map.put(5, "five");
+        MatcherAssert.assertThat(mapping.string("x"), Matchers.nullValue());
+        MatcherAssert.assertThat(mapping.string("5"), Matchers.is("five"));
+        MatcherAssert.assertThat(
+            mapping.keys(),
+            Matchers.contains(
+                new PlainStringScalar("y"), new PlainStringScalar("5")
+            )
+        );
+    }
+
     /**
      * Simple student pojo for test.
      * @checkstyle JavadocVariable (100 lines)
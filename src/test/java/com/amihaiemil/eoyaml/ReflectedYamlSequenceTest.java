@@ -32,6 +32,7 @@ import org.hamcrest.Matchers;
 import org.junit.Test;
 import org.mockito.Mockito;
 
+import java.io.StringWriter;
 import java.util.*;
 
 /**
@@ -186,4 +187,87 @@ public final class ReflectedYamlSequenceTest {
     public void throwsExceptionWhenWrongObject() {
         new ReflectedYamlSequence("wrong");
     }
+
+    /**
+     * ReflectedYamlSequence can reflect primitive arrays.
+     */
+    @Test
+    public void reflectsPrimitiveArrays() {
+        MatcherAssert.assertThat(
+            new ReflectedYamlSequence(new int[] {1, -2, 3}).integer(1),
+            Matchers.equalTo(-2)
+        );
+        MatcherAssert.assertThat(
+            new ReflectedYamlSequence(new long[] {10L, 20L}).longNumber(1),
+            Matchers.equalTo(20L)
+        );
+        MatcherAssert.assertThat(
+            new ReflectedYamlSequence(new double[] {0.5, 1.25}).doubleNumber(1),
+            Matchers.equalTo(1.25)
+        );
+        final YamlSequence bytes = new ReflectedYamlSequence(
+            new byte[] {7, 8, 9}
+        );
+        MatcherAssert.assertThat(bytes.size(), Matchers.equalTo(3));
+        MatcherAssert.assertThat(bytes.string(2), Matchers.equalTo("9"));
+        MatcherAssert.assertThat(
+            new ReflectedYamlSequence(new char[] {'a', 'b'}).string(0),
+            Matchers.equalTo("a")
+        );
+        MatcherAssert.assertThat(
+            new ReflectedYamlSequence(new int[0]).isEmpty(),
+            Matchers.is(true)
+        );
+    }
+
+    /**
+     * A reflected primitive array is printed and dumped like the
+     * corresponding array of Objects.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void printsPrimitiveArrays() throws Exception {
+        final StringWriter printed = new StringWriter();
+        Yaml.createYamlPrinter(printed).print(
+            Yaml.createYamlDump(new double[] {1.5, -2.0, 3e-7}).dump()
+        );
+        final StringWriter boxed = new StringWriter();
+        Yaml.createYamlPrinter(boxed).print(
+            Yaml.createYamlDump(new Double[] {1.5, -2.0, 3e-7}).dump()
+        );
+        MatcherAssert.assertThat(
+            printed.toString(), Matchers.equalTo(boxed.toString())
+        );
+        final StringWriter written = new StringWriter();
+        Yaml.createYamlDump(new double[] {1.5, -2.0, 3e-7}).dump(written);
+        MatcherAssert.assertThat(
+            written.toString(), Matchers.equalTo(boxed.toString())
+        );
+    }
+
+    /**
+     * The values are a view of the reflected array or Collection, not a
+     * copy of it.
+     */
+    @Test
+    public void valuesAreLiveViews() {
+        final long[] array = {1L, 2L};
+        final YamlSequence primitive = new ReflectedYamlSequence(array);
+        array[1] = 42L;
+        MatcherAssert.assertThat(
+            primitive.longNumber(1), Matchers.equalTo(42L)
+        );
+        final List<String> list = new ArrayList<>();
+        final YamlSequence reflected = new ReflectedYamlSequence(list);
+        list.add("one");
+        MatcherAssert.assertThat(
+            reflected.values(), Matchers.sameInstance(reflected.values())
+        );
+        MatcherAssert.assertThat(reflected.string(0), Matchers.equalTo("one"));
+        final Set<Integer> set = new LinkedHashSet<>();
+        final YamlSequence fromSet = new ReflectedYamlSequence(set);
+        set.add(5);
+        MatcherAssert.assertThat(fromSet.size(), Matchers.equalTo(1));
+        MatcherAssert.assertThat(fromSet.integer(0), Matchers.equalTo(5));
+    }
 }
@@ -0,0 +1,303 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Unit tests for {@link ReflectedYamlWriter}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 6.0.2
+ */
+public final class ReflectedYamlWriterTest {
+
+    /**
+     * The written YAML is the same as the printed dump.
+     * @throws IOException If something goes wrong.
+     */
+    @Test
+    public void writesLikeThePrinter() throws IOException {
+        final Map<String, Object> grades = new LinkedHashMap<>();
+        grades.put("Math", 9);
+        grades.put("CS", 10);
+        grades.put("notes", Arrays.asList("good", "needs: practice"));
+        final Team team = new Team(
+            "eo-yaml",
+            new Member[] {
+                new Member("Mihai", 33, grades),
+                new Member("Sherif", 28, Collections.singletonMap("a", 1)),
+            },
+            Arrays.asList(Arrays.asList(1, 2), Arrays.asList("x"))
+        );
+        final StringWriter printed = new StringWriter();
+        Yaml.createYamlPrinter(printed).print(
+            Yaml.createYamlDump(team).dump()
+        );
+        final StringWriter written = new StringWriter();
+        Yaml.createYamlDump(team).dump(written);
+        MatcherAssert.assertThat(
+            written.toString(), Matchers.equalTo(printed.toString())
+        );
+    }
+
+    /**
+     * Nulls and empty nodes are written in flow style.
+     * @throws IOException If something goes wrong.
+     */
+    @Test
+    public void writesNullsAndEmptyNodes() throws IOException {
+        final Map<String, Object> map = new LinkedHashMap<>();
+        map.put("missing", null);
+        map.put("blank", "");
+        map.put("list", new ArrayList<>());
+        map.put("array", new int[0]);
+        map.put("map", new LinkedHashMap<>());
+        map.put("items", Arrays.asList(null, "a"));
+        final StringWriter written = new StringWriter();
+        Yaml.createYamlDump(map).dump(written);
+        MatcherAssert.assertThat(
+            written.toString(),
+            Matchers.equalTo(
+                new StringBuilder()
+                    .append("missing: null").append(System.lineSeparator())
+                    .append("blank: \"\"").append(System.lineSeparator())
+                    .append("list: []").append(System.lineSeparator())
+                    .append("array: []").append(System.lineSeparator())
+                    .append("map: {}").append(System.lineSeparator())
+                    .append("items:").append(System.lineSeparator())
+                    .append("  - null").append(System.lineSeparator())
+                    .append("  - a")
+                    .toString()
+            )
+        );
+    }
+
+    /**
+     * Scalars, sequences and empty Objects are written as documents.
+     * @throws IOException If something goes wrong.
+     */
+    @Test
+    public void writesTopLevelNodes() throws IOException {
+        final StringWriter scalar = new StringWriter();
+        Yaml.createYamlDump(12).dump(scalar);
+        MatcherAssert.assertThat(
+            scalar.toString(),
+            Matchers.equalTo(
+                "---" + System.lineSeparator() + "12"
+                + System.lineSeparator() + "..."
+            )
+        );
+        final StringWriter sequence = new StringWriter();
+        Yaml.createYamlDump(new int[] {1, 2}).dump(sequence);
+        MatcherAssert.assertThat(
+            sequence.toString(),
+            Matchers.equalTo("- 1" + System.lineSeparator() + "- 2")
+        );
+        final StringWriter empty = new StringWriter();
+        Yaml.createYamlDump(new ArrayList<>()).dump(empty);
+        MatcherAssert.assertThat(empty.toString(), Matchers.equalTo("[]"));
+    }
+
+    /**
+     * Complex keys of Maps are written as explicit keys.
+     * @throws IOException If something goes wrong.
+     */
+    @Test
+    public void writesComplexKeys() throws IOException {
+        final Map<Object, Object> map = new LinkedHashMap<>();
+        map.put(Arrays.asList("a", "b"), "value");
+        final StringWriter written = new StringWriter();
+        Yaml.createYamlDump(map).dump(written);
+        MatcherAssert.assertThat(
+            written.toString(),
+            Matchers.equalTo(
+                new StringBuilder()
+                    .append("?").append(System.lineSeparator())
+                    .append("  - a").append(System.lineSeparator())
+                    .append("  - b").append(System.lineSeparator())
+                    .append(": value")
+                    .toString()
+            )
+        );
+    }
+
+    /**
+     * The dump can be written to an OutputStream and read back.
+     * @throws IOException If something goes wrong.
+     */
+    @Test
+    public void dumpsToOutputStream() throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Yaml.createYamlDump(
+            new Member("\u0218tefan", 40, Collections.singletonMap("Math", 8))
+        ).dump(out, StandardCharsets.UTF_8);
+        final YamlMapping read = Yaml.createYamlInput(
+            new ByteArrayInputStream(out.toByteArray()),
+            StandardCharsets.UTF_8
+        ).readYamlMapping();
+        MatcherAssert.assertThat(
+            read.string("name"), Matchers.equalTo("\u0218tefan")
+        );
+        MatcherAssert.assertThat(
+            read.integer("age"), Matchers.equalTo(40)
+        );
+        MatcherAssert.assertThat(
+            read.yamlMapping("grades").integer("Math"), Matchers.equalTo(8)
+        );
+    }
+
+    /**
+     * A team, for testing.
+     */
+    public static final class Team {
+
+        /**
+         * Name.
+         */
+        private final String name;
+
+        /**
+         * Members.
+         */
+        private final Member[] members;
+
+        /**
+         * Matrix.
+         */
+        private final List<List<?>> matrix;
+
+        /**
+         * Ctor.
+         * @param name Name.
+         * @param members Members.
+         * @param matrix Matrix.
+         */
+        Team(final String name, final Member[] members,
+            final List<List<?>> matrix) {
+            this.name = name;
+            this.members = members;
+            this.matrix = matrix;
+        }
+
+        /**
+         * Name.
+         * @return String.
+         */
+        public String getName() {
+            return this.name;
+        }
+
+        /**
+         * Members.
+         * @return Array.
+         */
+        public Member[] getMembers() {
+            return this.members;
+        }
+
+        /**
+         * Matrix.
+         * @return List.
+         */
+        public List<List<?>> matrix() {
+            return this.matrix;
+        }
+    }
+
+    /**
+     * A team member, for testing.
+     */
+    public static final class Member {
+
+        /**
+         * Name.
+         */
+        private final String name;
+
+        /**
+         * Age.
+         */
+        private final int age;
+
+        /**
+         * Grades.
+         */
+        private final Map<String, ?> grades;
+
+        /**
+         * Ctor.
+         * @param name Name.
+         * @param age Age.
+         * @param grades Grades.
+         */
+        Member(final String name, final int age, final Map<String, ?> grades) {
+            this.name = name;
+            this.age = age;
+            this.grades = grades;
+        }
+
+        /**
+         * Name.
+         * @return String.
+         */
+        public String getName() {
+            return this.name;
+        }
+
+        /**
+         * Age.
+         * @return Integer.
+         */
+        public int getAge() {
+            return this.age;
+        }
+
+        /**
+         * Grades.
+         * @return Map.
+         */
+        public Map<String, ?> getGrades() {
+            return this.grades;
+        }
+    }
+}
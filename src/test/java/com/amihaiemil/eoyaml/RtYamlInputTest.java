@@ -28,6 +28,8 @@
 package com.amihaiemil.eoyaml;
 
 import java.io.*;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.Set;
@@ -879,6 +881,84 @@ public final class RtYamlInputTest {
         );
     }
 
+    /**
+     * Comments can be dropped while reading: the read nodes are the same,
+     * but they have no comments.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void readsWithoutComments() throws Exception {
+        for (final String file : new String[] {
+            "commentedMapping.yml", "scalarCommentsInMapping.yml",
+            "multilineCommentedMapping.yml",
+        }) {
+            final YamlMapping commented = Yaml.createYamlInput(
+                new File("src/test/resources/" + file)
+            ).readYamlMapping();
+            final YamlMapping uncommented = Yaml.createYamlInput(
+                new File("src/test/resources/" + file),
+                Charset.defaultCharset(), false, false
+            ).readYamlMapping();
+            MatcherAssert.assertThat(
+                file, uncommented, Matchers.equalTo(commented)
+            );
+            MatcherAssert.assertThat(
+                uncommented.toString(),
+                Matchers.not(Matchers.containsString("#"))
+            );
+            for (final YamlNode key : uncommented.keys()) {
+                MatcherAssert.assertThat(
+                    uncommented.value(key).comment().value(),
+                    Matchers.isEmptyString()
+                );
+            }
+        }
+    }
+
+    /**
+     * Inline comments are cut and comment lines are skipped, but
+     * block scalars are kept as they are.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void keepsBlockScalarsWhenDroppingComments() throws Exception {
+        final String yaml = new StringBuilder()
+            .append("# document comment").append(System.lineSeparator())
+            .append("name: eo-yaml # inline").append(System.lineSeparator())
+            .append("quoted: 'a # b'").append(System.lineSeparator())
+            .append("script: |").append(System.lineSeparator())
+            .append("  # not a comment").append(System.lineSeparator())
+            .append("  echo 1 # still text").append(System.lineSeparator())
+            .append("tags:").append(System.lineSeparator())
+            .append("  # above").append(System.lineSeparator())
+            .append("  - java # inline").append(System.lineSeparator())
+            .append("  - yaml").append(System.lineSeparator())
+            .toString();
+        final YamlMapping read = Yaml.createYamlInput(
+            yaml, StandardCharsets.UTF_8, false, false
+        ).readYamlMapping();
+        MatcherAssert.assertThat(
+            read.string("name"), Matchers.equalTo("eo-yaml")
+        );
+        MatcherAssert.assertThat(
+            read.string("quoted"), Matchers.equalTo("a # b")
+        );
+        MatcherAssert.assertThat(
+            read.literalBlockScalar("script"),
+            Matchers.contains("# not a comment", "echo 1 # still text")
+        );
+        MatcherAssert.assertThat(
+            read.yamlSequence("tags").string(0), Matchers.equalTo("java")
+        );
+        MatcherAssert.assertThat(
+            read.comment().value(), Matchers.isEmptyString()
+        );
+        MatcherAssert.assertThat(
+            read.yamlSequence("tags").comment().value(),
+            Matchers.isEmptyString()
+        );
+    }
+
     /**
      * Read a test resource file's contents.
      * @param fileName File to read.
@@ -143,6 +143,53 @@ public final class RtYamlMappingBuilderTest {
         );
     }
 
+    /**
+     * RtYamlMappingBuilder keeps the insertion order and replaces the value
+     * of a duplicate key in place, like a LinkedHashMap would.
+     */
+    @Test
+    public void keepsOrderAndReplacesDuplicateKeys() {
+        final YamlMapping mapping = new RtYamlMappingBuilder()
+            .add("first", "1")
+            .add("second", "2")
+            .add("first", "one")
+            .add("third", "3")
+            .build();
+        MatcherAssert.assertThat(
+            mapping.keys().size(), Matchers.equalTo(3)
+        );
+        MatcherAssert.assertThat(
+            mapping.keys().iterator().next().asScalar().value(),
+            Matchers.equalTo("first")
+        );
+        MatcherAssert.assertThat(
+            mapping.string("first"), Matchers.equalTo("one")
+        );
+    }
+
+    /**
+     * Builders branched from the same RtYamlMappingBuilder do not see
+     * each other's pairs.
+     */
+    @Test
+    public void branchesAreIndependent() {
+        final YamlMappingBuilder base = new RtYamlMappingBuilder()
+            .add("shared", "value");
+        final YamlMapping left = base.add("left", "l").build();
+        final YamlMapping right = base.add("shared", "other").build();
+        MatcherAssert.assertThat(left.keys().size(), Matchers.equalTo(2));
+        MatcherAssert.assertThat(
+            left.string("shared"), Matchers.equalTo("value")
+        );
+        MatcherAssert.assertThat(right.keys().size(), Matchers.equalTo(1));
+        MatcherAssert.assertThat(
+            right.string("shared"), Matchers.equalTo("other")
+        );
+        MatcherAssert.assertThat(
+            base.build().string("shared"), Matchers.equalTo("value")
+        );
+    }
+
     /**
      * RtYamlMappingBuilder should complain when a null key is provided.
      */
@@ -548,4 +548,114 @@ public final class RtYamlMappingTest {
         );
     }
 
+    /**
+     * RtYamlMapping finds every key of a mapping large enough to be
+     * hash-indexed, keeping the insertion order.
+     */
+    @Test
+    public void looksUpKeysOfLargeMapping() {
+        final Map<YamlNode, YamlNode> entries = new LinkedHashMap<>();
+        for (int idx = 0; idx < 1000; ++idx) {
+            entries.put(
+                new PlainStringScalar("key" + idx),
+                new PlainStringScalar("value" + idx)
+            );
+        }
+        final YamlMapping map = new RtYamlMapping(entries);
+        for (int idx = 0; idx < 1000; ++idx) {
+            MatcherAssert.assertThat(
+                map.string("key" + idx), Matchers.equalTo("value" + idx)
+            );
+        }
+        MatcherAssert.assertThat(map.value("missing"), Matchers.nullValue());
+        MatcherAssert.assertThat(
+            new ArrayList<>(map.keys()),
+            Matchers.equalTo(new ArrayList<>(entries.keySet()))
+        );
+        MatcherAssert.assertThat(
+            new ArrayList<>(map.values()),
+            Matchers.equalTo(new ArrayList<>(entries.values()))
+        );
+        MatcherAssert.assertThat(
+            map.keys().contains(new PlainStringScalar("key999")),
+            Matchers.is(true)
+        );
+    }
+
+    /**
+     * The keys of an RtYamlMapping cannot be modified.
+     */
+    @Test(expected = UnsupportedOperationException.class)
+    public void keysAreUnmodifiable() {
+        final Map<YamlNode, YamlNode> entries = new LinkedHashMap<>();
+        entries.put(new PlainStringScalar("key"), new PlainStringScalar("v"));
+        new RtYamlMapping(entries).keys().clear();
+    }
+
+    /**
+     * The values of an RtYamlMapping cannot be modified.
+     */
+    @Test(expected = UnsupportedOperationException.class)
+    public void valuesAreUnmodifiable() {
+        final Map<YamlNode, YamlNode> entries = new LinkedHashMap<>();
+        entries.put(new PlainStringScalar("key"), new PlainStringScalar("v"));
+        new RtYamlMapping(entries).values().clear();
+    }
+
+    /**
+     * RtYamlMapping.with() replaces values in place, adds new keys at the
+     * end and shares the unchanged values.
+     */
+    @Test
+    public void editsWithSharedValues() {
+        final YamlSequence shared = Yaml.createYamlSequenceBuilder()
+            .add("element").build();
+        YamlMapping map = Yaml.createYamlMappingBuilder()
+            .add("seq", shared)
+            .build("comment");
+        for (int idx = 0; idx < 20; ++idx) {
+            map = map.with("key" + idx, "value" + idx);
+        }
+        final YamlMapping replaced = map.with("key3", "three");
+        MatcherAssert.assertThat(
+            replaced.string("key3"), Matchers.equalTo("three")
+        );
+        MatcherAssert.assertThat(
+            map.string("key3"), Matchers.equalTo("value3")
+        );
+        MatcherAssert.assertThat(
+            replaced.yamlSequence("seq"), Matchers.sameInstance(shared)
+        );
+        MatcherAssert.assertThat(
+            new ArrayList<>(replaced.keys()),
+            Matchers.equalTo(new ArrayList<>(map.keys()))
+        );
+        MatcherAssert.assertThat(
+            replaced.comment().value(), Matchers.equalTo("comment")
+        );
+        MatcherAssert.assertThat(
+            replaced.comment().yamlNode(), Matchers.is(replaced)
+        );
+    }
+
+    /**
+     * RtYamlMapping.without() removes a key and becomes an empty mapping
+     * when the last key is removed.
+     */
+    @Test
+    public void editsWithout() {
+        final YamlMapping map = Yaml.createYamlMappingBuilder()
+            .add("first", "1")
+            .add("second", "2")
+            .build();
+        final YamlMapping first = map.without("second");
+        MatcherAssert.assertThat(first.keys().size(), Matchers.equalTo(1));
+        MatcherAssert.assertThat(first.string("first"), Matchers.equalTo("1"));
+        MatcherAssert.assertThat(
+            map.without("missing"), Matchers.sameInstance(map)
+        );
+        MatcherAssert.assertThat(
+            first.without("first"), Matchers.instanceOf(EmptyYamlMapping.class)
+        );
+    }
 }
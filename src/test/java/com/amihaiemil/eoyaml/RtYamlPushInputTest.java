@@ -0,0 +1,245 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.commons.io.IOUtils;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link RtYamlPushInput}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 6.0.2
+ */
+public final class RtYamlPushInputTest {
+
+    /**
+     * RtYamlPushInput can read a single mapping, fed byte by byte.
+     */
+    @Test
+    public void readsMappingByteByByte() {
+        final List<YamlNode> read = new ArrayList<>();
+        final YamlPushInput input = new RtYamlPushInput(
+            read::add, StandardCharsets.UTF_8, false
+        );
+        final byte[] bytes = "architect: mihai\ndevelopers:\n  - rultor\n"
+            .getBytes(StandardCharsets.UTF_8);
+        for(final byte current : bytes) {
+            input.feed(ByteBuffer.wrap(new byte[] {current}));
+        }
+        MatcherAssert.assertThat(read, Matchers.emptyIterable());
+        input.endOfInput();
+        MatcherAssert.assertThat(read, Matchers.iterableWithSize(1));
+        final YamlMapping mapping = read.get(0).asMapping();
+        MatcherAssert.assertThat(
+            mapping.string("architect"), Matchers.equalTo("mihai")
+        );
+        MatcherAssert.assertThat(
+            mapping.yamlSequence("developers").string(0),
+            Matchers.equalTo("rultor")
+        );
+    }
+
+    /**
+     * RtYamlPushInput can decode multi-byte characters which are split
+     * between two chunks.
+     */
+    @Test
+    public void readsCharactersSplitBetweenChunks() {
+        final List<YamlNode> read = new ArrayList<>();
+        final YamlPushInput input = new RtYamlPushInput(
+            read::add, StandardCharsets.UTF_8, false
+        );
+        final byte[] bytes = "name: é€😀"
+            .getBytes(StandardCharsets.UTF_8);
+        input.feed(ByteBuffer.wrap(bytes, 0, 7))
+            .feed(ByteBuffer.wrap(bytes, 7, 2))
+            .feed(ByteBuffer.wrap(bytes, 9, 3))
+            .feed(ByteBuffer.wrap(bytes, 12, bytes.length - 12));
+        input.endOfInput();
+        MatcherAssert.assertThat(
+            read.get(0).asMapping().string("name"),
+            Matchers.equalTo("é€😀")
+        );
+    }
+
+    /**
+     * RtYamlPushInput hands over each document as soon as it is complete,
+     * without waiting for the end of input.
+     */
+    @Test
+    public void handsOverDocumentsAsSoonAsComplete() {
+        final List<YamlNode> read = new ArrayList<>();
+        final YamlPushInput input = new RtYamlPushInput(
+            read::add, StandardCharsets.UTF_8, false
+        );
+        input.feed(this.bytes("---\nfirst: 1\nsecond: 2\n"));
+        MatcherAssert.assertThat(read, Matchers.emptyIterable());
+        input.feed(this.bytes("---\n- a\n"));
+        MatcherAssert.assertThat(read, Matchers.iterableWithSize(1));
+        MatcherAssert.assertThat(
+            read.get(0).asMapping().integer("second"), Matchers.is(2)
+        );
+        input.feed(this.bytes("- b\n...\n"));
+        MatcherAssert.assertThat(read, Matchers.iterableWithSize(2));
+        MatcherAssert.assertThat(
+            read.get(1).asSequence().string(1), Matchers.equalTo("b")
+        );
+        input.endOfInput();
+        MatcherAssert.assertThat(read, Matchers.iterableWithSize(2));
+    }
+
+    /**
+     * RtYamlPushInput understands Windows line endings, even if
+     * the CR and LF characters come in different chunks.
+     */
+    @Test
+    public void readsWindowsLineEndings() {
+        final List<YamlNode> read = new ArrayList<>();
+        final YamlPushInput input = new RtYamlPushInput(
+            read::add, StandardCharsets.UTF_8, false
+        );
+        input.feed(this.bytes("key: value\r"))
+            .feed(this.bytes("\nother: value2\r\n"));
+        input.endOfInput();
+        final YamlMapping mapping = read.get(0).asMapping();
+        MatcherAssert.assertThat(mapping.keys(), Matchers.iterableWithSize(2));
+        MatcherAssert.assertThat(
+            mapping.string("other"), Matchers.equalTo("value2")
+        );
+    }
+
+    /**
+     * RtYamlPushInput keeps the comment above a start marker
+     * as the comment of the next document.
+     */
+    @Test
+    public void keepsDocumentComments() {
+        final List<YamlNode> read = new ArrayList<>();
+        final YamlPushInput input = new RtYamlPushInput(
+            read::add, StandardCharsets.UTF_8, false
+        );
+        input.feed(
+            this.bytes("first: 1\n# second document\n---\nsecond: 2\n")
+        );
+        input.endOfInput();
+        MatcherAssert.assertThat(read, Matchers.iterableWithSize(2));
+        MatcherAssert.assertThat(
+            read.get(0).asMapping().keys(), Matchers.iterableWithSize(1)
+        );
+        MatcherAssert.assertThat(
+            read.get(1).comment().value(),
+            Matchers.equalTo("second document")
+        );
+    }
+
+    /**
+     * RtYamlPushInput reads the same documents as
+     * RtYamlInput.readYamlStream().
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void readsSameDocumentsAsYamlStream() throws Exception {
+        final String[] files = {
+            "streamOfMappings.yml",
+            "streamOfSequences.yml",
+            "streamMixed.yml",
+            "streamWithoutFirstStartMarker.yml",
+        };
+        for(final String file : files) {
+            final byte[] bytes = this.readTestResource(file);
+            final List<YamlNode> read = new ArrayList<>();
+            final YamlPushInput input = new RtYamlPushInput(
+                read::add, StandardCharsets.UTF_8, false
+            );
+            for(int idx = 0; idx < bytes.length; idx = idx + 5) {
+                input.feed(
+                    ByteBuffer.wrap(
+                        bytes, idx, Math.min(5, bytes.length - idx)
+                    )
+                );
+            }
+            input.endOfInput();
+            MatcherAssert.assertThat(
+                read,
+                Matchers.contains(
+                    new RtYamlInput(
+                        new FileInputStream(
+                            new File("src/test/resources/" + file)
+                        )
+                    ).readYamlStream().values().toArray()
+                )
+            );
+        }
+    }
+
+    /**
+     * RtYamlPushInput cannot be fed after the end of input.
+     */
+    @Test(expected = IllegalStateException.class)
+    public void complainsIfFedAfterEndOfInput() {
+        final YamlPushInput input = new RtYamlPushInput(
+            node -> { }, StandardCharsets.UTF_8, false
+        );
+        input.endOfInput();
+        input.feed(this.bytes("key: value"));
+    }
+
+    /**
+     * Wrap a String's bytes.
+     * @param text String.
+     * @return ByteBuffer.
+     */
+    private ByteBuffer bytes(final String text) {
+        return ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Read a test resource file's contents.
+     * @param fileName File to read.
+     * @return File's contents as bytes.
+     * @throws IOException If something is wrong.
+     */
+    private byte[] readTestResource(final String fileName)
+        throws IOException {
+        return IOUtils.toByteArray(
+            new FileInputStream(
+                new File("src/test/resources/" + fileName)
+            )
+        );
+    }
+}
@@ -109,4 +109,26 @@ public final class RtYamlSequenceBuilderTest {
             Matchers.equalTo("some test sequence")
         );
     }
+
+    /**
+     * Builders branched from the same RtYamlSequenceBuilder do not see
+     * each other's elements.
+     */
+    @Test
+    public void branchesAreIndependent() {
+        YamlSequenceBuilder base = new RtYamlSequenceBuilder();
+        for (int idx = 0; idx < 100; ++idx) {
+            base = base.add(String.valueOf(idx));
+        }
+        final YamlSequence left = base.add("left").build();
+        final YamlSequence right = base.add("right").add("more").build();
+        MatcherAssert.assertThat(left.size(), Matchers.equalTo(101));
+        MatcherAssert.assertThat(left.string(100), Matchers.equalTo("left"));
+        MatcherAssert.assertThat(right.size(), Matchers.equalTo(102));
+        MatcherAssert.assertThat(
+            right.string(100), Matchers.equalTo("right")
+        );
+        MatcherAssert.assertThat(base.build().size(), Matchers.equalTo(100));
+        MatcherAssert.assertThat(right.string(42), Matchers.equalTo("42"));
+    }
 }
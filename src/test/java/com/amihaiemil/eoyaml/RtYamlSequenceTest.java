@@ -353,4 +353,50 @@ public final class RtYamlSequenceTest {
             )
         );
     }
+
+    /**
+     * The values of an RtYamlSequence cannot be modified.
+     */
+    @Test(expected = UnsupportedOperationException.class)
+    public void valuesAreUnmodifiable() {
+        final List<YamlNode> elements = new ArrayList<>();
+        elements.add(new PlainStringScalar("test"));
+        new RtYamlSequence(elements).values().add(
+            new PlainStringScalar("more")
+        );
+    }
+
+    /**
+     * RtYamlSequence can be edited, sharing the unchanged elements.
+     */
+    @Test
+    public void editsWithSharedElements() {
+        final YamlMapping shared = Yaml.createYamlMappingBuilder()
+            .add("key", "value").build();
+        final YamlSequence seq = Yaml.createYamlSequenceBuilder()
+            .add(shared)
+            .add("second")
+            .build();
+        final YamlSequence edited = seq.withAt(1, "changed").with("third");
+        MatcherAssert.assertThat(edited.size(), Matchers.equalTo(3));
+        MatcherAssert.assertThat(
+            edited.yamlMapping(0), Matchers.sameInstance(shared)
+        );
+        MatcherAssert.assertThat(
+            edited.string(1), Matchers.equalTo("changed")
+        );
+        MatcherAssert.assertThat(seq.string(1), Matchers.equalTo("second"));
+        MatcherAssert.assertThat(
+            seq.withoutAt(0).withoutAt(0),
+            Matchers.instanceOf(EmptyYamlSequence.class)
+        );
+    }
+
+    /**
+     * RtYamlSequence.withAt() complains about indexes out of range.
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void complainsOnEditOutOfRange() {
+        Yaml.createYamlSequenceBuilder().add("one").build().withAt(1, "two");
+    }
 }
@@ -0,0 +1,140 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Tests for the custom {@link ScalarConverter}s found with the
+ * ServiceLoader. They run in the "services" execution of surefire, which
+ * registers {@link MoneyConverter} through src/test/services, so the
+ * other tests run with the built-in converters only.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 6.0.2
+ */
+public final class ScalarConverterServiceTest {
+
+    /**
+     * Custom converters are found with the ServiceLoader.
+     */
+    @Test
+    public void usesCustomConverters() {
+        MatcherAssert.assertThat(
+            Yaml.createYamlDump(new Money("EUR", 3)).dumpScalar().value(),
+            Matchers.equalTo("EUR 3")
+        );
+    }
+
+    /**
+     * Properties of a custom type are dumped through its converter, both
+     * in the YamlNode and in the streamed dump.
+     * @throws IOException If something goes wrong.
+     */
+    @Test
+    public void dumpsCustomProperties() throws IOException {
+        MatcherAssert.assertThat(
+            Yaml.createYamlDump(new Order()).dumpMapping().string("price"),
+            Matchers.equalTo("EUR 3")
+        );
+        final StringWriter written = new StringWriter();
+        Yaml.createYamlDump(new Order()).dump(written);
+        MatcherAssert.assertThat(
+            written.toString(), Matchers.containsString("price: EUR 3")
+        );
+    }
+
+    /**
+     * An order, for testing.
+     */
+    public static final class Order {
+
+        /**
+         * Price.
+         * @return Money.
+         */
+        public Money getPrice() {
+            return new Money("EUR", 3);
+        }
+    }
+
+    /**
+     * Money, a custom value type.
+     */
+    public static final class Money {
+
+        /**
+         * Currency.
+         */
+        private final String currency;
+
+        /**
+         * Amount.
+         */
+        private final int amount;
+
+        /**
+         * Ctor.
+         * @param currency Currency.
+         * @param amount Amount.
+         */
+        Money(final String currency, final int amount) {
+            this.currency = currency;
+            this.amount = amount;
+        }
+
+        /**
+         * Currency.
+         * @return String.
+         */
+        public String getCurrency() {
+            return this.currency;
+        }
+    }
+
+    /**
+     * Converter of Money, registered in src/test/services.
+     */
+    public static final class MoneyConverter implements ScalarConverter {
+
+        @Override
+        public Class<?> type() {
+            return Money.class;
+        }
+
+        @Override
+        public String scalar(final Object object) {
+            final Money money = (Money) object;
+            return money.currency + " " + money.amount;
+        }
+    }
+}
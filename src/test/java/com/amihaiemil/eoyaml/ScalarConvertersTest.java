@@ -0,0 +1,185 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Unit tests for {@link ScalarConverters}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 6.0.2
+ */
+public final class ScalarConvertersTest {
+
+    /**
+     * Common value types are Scalars, beans and Collections are not.
+     */
+    @Test
+    public void recognizesScalars() {
+        MatcherAssert.assertThat(
+            ScalarConverters.isScalar(null), Matchers.is(true)
+        );
+        for (final Object scalar : Arrays.asList(
+            "text", 1, 2L, 1.5, 'c', true, new BigDecimal("1.10"),
+            TimeUnit.SECONDS, UUID.randomUUID(), LocalDate.now(),
+            Duration.ofMinutes(1), new StringBuilder("sb")
+        )) {
+            MatcherAssert.assertThat(
+                scalar.getClass().getName(),
+                ScalarConverters.isScalar(scalar), Matchers.is(true)
+            );
+        }
+        MatcherAssert.assertThat(
+            ScalarConverters.isScalar(new Object()), Matchers.is(false)
+        );
+        MatcherAssert.assertThat(
+            ScalarConverters.isScalar(Arrays.asList(1, 2)),
+            Matchers.is(false)
+        );
+    }
+
+    /**
+     * Scalars are converted to their natural String form.
+     */
+    @Test
+    public void convertsScalars() {
+        MatcherAssert.assertThat(
+            ScalarConverters.value(new BigDecimal("1.10")),
+            Matchers.equalTo("1.10")
+        );
+        MatcherAssert.assertThat(
+            ScalarConverters.value(TimeUnit.SECONDS),
+            Matchers.equalTo("SECONDS")
+        );
+        MatcherAssert.assertThat(
+            ScalarConverters.value(LocalDate.of(2020, 1, 31)),
+            Matchers.equalTo("2020-01-31")
+        );
+        MatcherAssert.assertThat(
+            ScalarConverters.value(Duration.ofMinutes(2)),
+            Matchers.equalTo("PT2M")
+        );
+        MatcherAssert.assertThat(
+            ScalarConverters.value(OptionalInt.of(3)), Matchers.equalTo("3")
+        );
+        MatcherAssert.assertThat(
+            ScalarConverters.value(OptionalInt.empty()),
+            Matchers.nullValue()
+        );
+        MatcherAssert.assertThat(
+            ScalarConverters.value(null), Matchers.nullValue()
+        );
+    }
+
+    /**
+     * Value types are dumped as Scalars and Optionals are unwrapped,
+     * both in the YamlNode and in the streamed dump.
+     * @throws IOException If something goes wrong.
+     */
+    @Test
+    public void dumpsValueTypes() throws IOException {
+        final Invoice invoice = new Invoice();
+        final YamlMapping dumped = Yaml.createYamlDump(invoice).dumpMapping();
+        MatcherAssert.assertThat(
+            dumped.string("total"), Matchers.equalTo("12.50")
+        );
+        MatcherAssert.assertThat(
+            dumped.string("unit"), Matchers.equalTo("DAYS")
+        );
+        MatcherAssert.assertThat(
+            dumped.string("note"), Matchers.equalTo("paid")
+        );
+        MatcherAssert.assertThat(
+            dumped.value("missing"),
+            Matchers.instanceOf(ReflectedYamlScalar.class)
+        );
+        final StringWriter written = new StringWriter();
+        Yaml.createYamlDump(invoice).dump(written);
+        MatcherAssert.assertThat(
+            written.toString(),
+            Matchers.allOf(
+                Matchers.containsString("total: 12.50"),
+                Matchers.containsString("unit: DAYS"),
+                Matchers.containsString("note: paid"),
+                Matchers.containsString("missing: null")
+            )
+        );
+    }
+
+    /**
+     * An invoice, for testing.
+     */
+    public static final class Invoice {
+
+        /**
+         * Total.
+         * @return BigDecimal.
+         */
+        public BigDecimal getTotal() {
+            return new BigDecimal("12.50");
+        }
+
+        /**
+         * Unit.
+         * @return Enum.
+         */
+        public TimeUnit getUnit() {
+            return TimeUnit.DAYS;
+        }
+
+        /**
+         * Note.
+         * @return Optional.
+         */
+        public Optional<String> getNote() {
+            return Optional.of("paid");
+        }
+
+        /**
+         * Missing.
+         * @return Empty Optional.
+         */
+        public Optional<String> getMissing() {
+            return Optional.empty();
+        }
+    }
+}
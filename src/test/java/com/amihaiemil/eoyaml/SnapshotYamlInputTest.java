@@ -0,0 +1,121 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import com.amihaiemil.eoyaml.exceptions.YamlReadingException;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.nio.ByteBuffer;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Unit tests for {@link SnapshotYamlInput}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 6.0.2
+ */
+public final class SnapshotYamlInputTest {
+
+    /**
+     * Temporary folder for the snapshot files.
+     */
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    /**
+     * A snapshot can be written to a file and read back, memory-mapped.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void readsMemoryMappedFile() throws Exception {
+        final YamlMapping read = Yaml.createYamlInput(
+            new File("src/test/resources/complexMapping.yml")
+        ).readYamlMapping();
+        final File snapshot = this.folder.newFile("complex.eoys");
+        Yaml.createYamlSnapshotPrinter(new FileOutputStream(snapshot))
+            .print(read);
+        final YamlMapping mapped = Yaml.createYamlSnapshotInput(snapshot)
+            .readYamlMapping();
+        MatcherAssert.assertThat(mapped, Matchers.equalTo(read));
+        MatcherAssert.assertThat(
+            mapped.toString(), Matchers.equalTo(read.toString())
+        );
+    }
+
+    /**
+     * The snapshot is read starting with the buffer's position.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void readsFromBufferPosition() throws Exception {
+        final YamlSequence built = Yaml.createYamlSequenceBuilder()
+            .add("first")
+            .add("second")
+            .build();
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        bytes.write(new byte[] {1, 2, 3});
+        Yaml.createYamlSnapshotPrinter(bytes).print(built);
+        final ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+        buffer.position(3);
+        final YamlSequence read = Yaml.createYamlSnapshotInput(buffer)
+            .readYamlSequence();
+        MatcherAssert.assertThat(read.size(), Matchers.is(2));
+        MatcherAssert.assertThat(read.string(1), Matchers.equalTo("second"));
+    }
+
+    /**
+     * SnapshotYamlInput complains if the root node is not of the
+     * requested type.
+     * @throws Exception If something goes wrong.
+     */
+    @Test(expected = YamlReadingException.class)
+    public void complainsOnWrongType() throws Exception {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        Yaml.createYamlSnapshotPrinter(bytes).print(
+            Yaml.createYamlSequenceBuilder().add("element").build()
+        );
+        Yaml.createYamlSnapshotInput(ByteBuffer.wrap(bytes.toByteArray()))
+            .readYamlMapping();
+    }
+
+    /**
+     * SnapshotYamlInput complains if the bytes are not a snapshot.
+     * @throws Exception If something goes wrong.
+     */
+    @Test(expected = YamlReadingException.class)
+    public void complainsOnWrongMagicBytes() throws Exception {
+        Yaml.createYamlSnapshotInput(
+            ByteBuffer.wrap("key: value".getBytes())
+        ).readYamlMapping();
+    }
+}
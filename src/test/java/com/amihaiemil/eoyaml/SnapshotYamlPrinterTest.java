@@ -0,0 +1,246 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.nio.ByteBuffer;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link SnapshotYamlPrinter}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 6.0.2
+ */
+public final class SnapshotYamlPrinterTest {
+
+    /**
+     * A read YamlMapping with comments is the same after going
+     * through a snapshot.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void keepsReadMappingWithComments() throws Exception {
+        final String[] files = {
+            "commentedMapping.yml",
+            "complexMapping.yml",
+            "scalarCommentsInMapping.yml",
+            "multilineCommentedMapping.yml",
+        };
+        for(final String file : files) {
+            final YamlMapping read = Yaml.createYamlInput(
+                new File("src/test/resources/" + file)
+            ).readYamlMapping();
+            MatcherAssert.assertThat(
+                this.snapshot(read, true).readYamlMapping().toString(),
+                Matchers.equalTo(read.toString())
+            );
+        }
+    }
+
+    /**
+     * A read YamlSequence is the same after going through a snapshot.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void keepsReadSequence() throws Exception {
+        final YamlSequence read = Yaml.createYamlInput(
+            new File("src/test/resources/complexSequence.yml")
+        ).readYamlSequence();
+        final YamlSequence snapshot = this.snapshot(read, true)
+            .readYamlSequence();
+        MatcherAssert.assertThat(snapshot, Matchers.equalTo(read));
+        MatcherAssert.assertThat(
+            snapshot.toString(), Matchers.equalTo(read.toString())
+        );
+    }
+
+    /**
+     * A read YamlStream is the same after going through a snapshot.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void keepsReadStream() throws Exception {
+        final YamlStream read = Yaml.createYamlInput(
+            new File("src/test/resources/streamMixed.yml")
+        ).readYamlStream();
+        final YamlStream snapshot = this.snapshot(read, true)
+            .readYamlStream();
+        MatcherAssert.assertThat(snapshot, Matchers.equalTo(read));
+        MatcherAssert.assertThat(
+            snapshot.toString(), Matchers.equalTo(read.toString())
+        );
+    }
+
+    /**
+     * Built block scalars, empty nodes and null values are the same
+     * after going through a snapshot.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void keepsBuiltMapping() throws Exception {
+        final YamlMapping built = Yaml.createYamlMappingBuilder()
+            .add("folded", Yaml.createYamlScalarBuilder()
+                .addLine("some folded")
+                .addLine("block scalar")
+                .buildFoldedBlockScalar("folded comment"))
+            .add("literal", Yaml.createYamlScalarBuilder()
+                .addLine("line1")
+                .addLine("line2")
+                .buildLiteralBlockScalar())
+            .add("emptyMap", Yaml.createYamlMappingBuilder().build())
+            .add("emptySeq", Yaml.createYamlSequenceBuilder().build())
+            .add("nothing", (YamlNode) null)
+            .add(
+                Yaml.createYamlSequenceBuilder().add("complex").build(),
+                "key"
+            )
+            .build("mapping comment");
+        final YamlMapping snapshot = this.snapshot(built, true)
+            .readYamlMapping();
+        MatcherAssert.assertThat(
+            snapshot.toString(), Matchers.equalTo(built.toString())
+        );
+        MatcherAssert.assertThat(
+            snapshot.string("folded"),
+            Matchers.equalTo(built.string("folded"))
+        );
+        MatcherAssert.assertThat(
+            snapshot.value(
+                Yaml.createYamlSequenceBuilder().add("complex").build()
+            ).asScalar().value(),
+            Matchers.equalTo("key")
+        );
+        MatcherAssert.assertThat(
+            snapshot.value("nothing"), Matchers.nullValue()
+        );
+        MatcherAssert.assertThat(
+            snapshot.value("missing"), Matchers.nullValue()
+        );
+    }
+
+    /**
+     * The scalar keys of a big mapping are looked up in its hash table,
+     * the complex ones one by one, with or without comments. The keys()
+     * are a view of them, in order.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void looksUpKeysOfBigMapping() throws Exception {
+        YamlMappingBuilder builder = Yaml.createYamlMappingBuilder();
+        for(int idx = 0; idx < 5000; ++idx) {
+            builder = builder.add("key" + idx, String.valueOf(idx));
+        }
+        final YamlMapping built = builder
+            .add(
+                Yaml.createYamlSequenceBuilder().add("complex").build(),
+                "key"
+            )
+            .add("ключ", "unicode")
+            .build("big mapping");
+        for(final boolean comments : new boolean[] {true, false}) {
+            final YamlMapping snapshot = this.snapshot(built, comments)
+                .readYamlMapping();
+            int idx = 0;
+            for(final YamlNode key : snapshot.keys()) {
+                if(idx < 5000) {
+                    MatcherAssert.assertThat(
+                        key.asScalar().value(),
+                        Matchers.equalTo("key" + idx)
+                    );
+                    MatcherAssert.assertThat(
+                        snapshot.integer(key.asScalar().value()),
+                        Matchers.is(idx)
+                    );
+                }
+                ++idx;
+            }
+            MatcherAssert.assertThat(snapshot.keys().size(), Matchers.is(5002));
+            MatcherAssert.assertThat(
+                snapshot.keys(),
+                Matchers.hasItem(new PlainStringScalar("key4999"))
+            );
+            MatcherAssert.assertThat(
+                snapshot.keys().contains(new PlainStringScalar("key5000")),
+                Matchers.is(false)
+            );
+            MatcherAssert.assertThat(
+                snapshot.value(
+                    Yaml.createYamlSequenceBuilder().add("complex").build()
+                ).asScalar().value(),
+                Matchers.equalTo("key")
+            );
+            MatcherAssert.assertThat(
+                snapshot.string("ключ"), Matchers.equalTo("unicode")
+            );
+            MatcherAssert.assertThat(snapshot, Matchers.equalTo(built));
+        }
+    }
+
+    /**
+     * The comments can be left out of the snapshot.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void leavesCommentsOut() throws Exception {
+        final YamlMapping read = Yaml.createYamlInput(
+            new File("src/test/resources/commentedMapping.yml")
+        ).readYamlMapping();
+        final YamlMapping snapshot = this.snapshot(read, false)
+            .readYamlMapping();
+        MatcherAssert.assertThat(snapshot, Matchers.equalTo(read));
+        MatcherAssert.assertThat(
+            snapshot.comment().value(), Matchers.isEmptyString()
+        );
+        for(final YamlNode value : snapshot.values()) {
+            MatcherAssert.assertThat(
+                value.comment().value(), Matchers.isEmptyString()
+            );
+        }
+    }
+
+    /**
+     * Write the snapshot of a node and read it back.
+     * @param node YamlNode.
+     * @param comments Should the comments be included?
+     * @return YamlInput reading the snapshot.
+     * @throws Exception If something goes wrong.
+     */
+    private YamlInput snapshot(
+        final YamlNode node, final boolean comments
+    ) throws Exception {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        new SnapshotYamlPrinter(bytes, comments).print(node);
+        return new SnapshotYamlInput(
+            new Snapshot(ByteBuffer.wrap(bytes.toByteArray()))
+        );
+    }
+}
@@ -0,0 +1,445 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Generator of large, realistic YAML documents, for benchmarks and soak
+ * tests. The text depends only on the seed and the arguments: the same
+ * call always gives the same text, on any JVM, so results are
+ * reproducible.<br><br>
+ * The documents use what eo-yaml reads and prints: comments, quoted keys,
+ * literal and folded block scalars, sequences of scalars and sequences of
+ * mappings, with the "- key: value" shortcut. Shapes:
+ * <ul>
+ *   <li>{@link Shape#KUBERNETES}: a stream of Deployments, Services and
+ *   ConfigMaps, each one a document;</li>
+ *   <li>{@link Shape#OPEN_API}: one deep mapping, with paths and nested
+ *   component schemas;</li>
+ *   <li>{@link Shape#WIDE_SEQUENCE}: one flat sequence of mixed,
+ *   sometimes commented, scalars.</li>
+ * </ul>
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 6.0.2
+ */
+public final class SyntheticYaml {
+
+    /**
+     * Shapes of the generated documents.
+     */
+    public enum Shape {
+        /**
+         * Stream of Kubernetes-style resources.
+         */
+        KUBERNETES,
+
+        /**
+         * OpenAPI-style specification.
+         */
+        OPEN_API,
+
+        /**
+         * Wide sequence of scalars.
+         */
+        WIDE_SEQUENCE
+    }
+
+    /**
+     * Words used in names and text.
+     */
+    private static final String[] WORDS = {
+        "alpha", "bravo", "cart", "delta", "echo", "order", "payment",
+        "search", "stock", "user", "web", "worker",
+    };
+
+    /**
+     * Seed.
+     */
+    private final long seed;
+
+    /**
+     * Ctor.
+     * @param seed Seed of the generated documents.
+     */
+    public SyntheticYaml(final long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * A document of the given shape, at least as big as the given number
+     * of characters (it stops after the first unit - resource, path or
+     * item - which reaches the size).
+     * @param shape Shape.
+     * @param chars Minimum size.
+     * @return YAML text.
+     */
+    public String ofSize(final Shape shape, final long chars) {
+        final String yaml;
+        if(shape == Shape.KUBERNETES) {
+            yaml = this.kubernetes(Integer.MAX_VALUE, chars);
+        } else if(shape == Shape.OPEN_API) {
+            yaml = this.openApi(Integer.MAX_VALUE, 3, chars);
+        } else {
+            yaml = this.wideSequence(Integer.MAX_VALUE, chars);
+        }
+        return yaml;
+    }
+
+    /**
+     * A stream of Kubernetes-style resources.
+     * @param documents Number of documents (resources).
+     * @return YAML text.
+     */
+    public String kubernetes(final int documents) {
+        return this.kubernetes(documents, Long.MAX_VALUE);
+    }
+
+    /**
+     * An OpenAPI-style specification.
+     * @param paths Number of paths, each with a schema.
+     * @param depth Nesting depth of the schemas' properties.
+     * @return YAML text.
+     */
+    public String openApi(final int paths, final int depth) {
+        return this.openApi(paths, depth, Long.MAX_VALUE);
+    }
+
+    /**
+     * A flat sequence of scalars.
+     * @param items Number of items.
+     * @return YAML text.
+     */
+    public String wideSequence(final int items) {
+        return this.wideSequence(items, Long.MAX_VALUE);
+    }
+
+    /**
+     * Kubernetes-style stream.
+     * @param documents Maximum number of documents.
+     * @param chars Size at which to stop.
+     * @return YAML text.
+     */
+    private String kubernetes(final int documents, final long chars) {
+        final Text yaml = new Text(this.seed);
+        for(int idx = 0; idx < documents && yaml.length() < chars; ++idx) {
+            yaml.line(0, "---");
+            final int kind = yaml.random.nextInt(4);
+            if(kind < 2) {
+                SyntheticYaml.deployment(yaml, idx);
+            } else if(kind == 2) {
+                SyntheticYaml.service(yaml, idx);
+            } else {
+                SyntheticYaml.configMap(yaml, idx);
+            }
+        }
+        return yaml.toString();
+    }
+
+    /**
+     * OpenAPI-style specification, with at least one path.
+     * @param paths Maximum number of paths.
+     * @param depth Nesting depth of the schemas' properties.
+     * @param chars Size at which to stop.
+     * @return YAML text.
+     */
+    private String openApi(final int paths, final int depth, final long chars) {
+        final Text yaml = new Text(this.seed);
+        yaml.line(0, "# Synthetic API, seed " + this.seed);
+        yaml.line(0, "openapi: 3.0.3");
+        yaml.line(0, "info:");
+        yaml.line(2, "title: Synthetic API");
+        yaml.line(2, "version: 1." + yaml.random.nextInt(10) + ".0");
+        yaml.line(2, "description: >");
+        yaml.line(4, "Generated specification, used to measure");
+        yaml.line(4, "how eo-yaml scales with deep mappings.");
+        yaml.line(0, "paths:");
+        final Text components = new Text(this.seed + 1);
+        int idx = 0;
+        while(idx < paths && (idx == 0
+            || yaml.length() + components.length() < chars)) {
+            final String name = yaml.word() + idx;
+            yaml.line(2, "\"/" + name + "s/{id}\":");
+            yaml.line(4, "get:");
+            yaml.line(6, "summary: Read one " + name);
+            yaml.line(6, "operationId: get" + name);
+            yaml.line(6, "parameters:");
+            yaml.line(8, "- name: id");
+            yaml.line(10, "in: path");
+            yaml.line(10, "required: true");
+            yaml.line(6, "responses:");
+            yaml.line(8, "\"200\":");
+            yaml.line(10, "description: The " + name);
+            yaml.line(10, "content:");
+            yaml.line(12, "application/json:");
+            yaml.line(14, "schema:");
+            yaml.line(16, "$ref: \"#/components/schemas/" + name + "\"");
+            yaml.line(8, "\"404\": # missing");
+            yaml.line(10, "description: Not found");
+            components.line(4, "# Schema of " + name);
+            components.line(4, name + ":");
+            SyntheticYaml.schema(components, 6, depth);
+            ++idx;
+        }
+        yaml.line(0, "components:");
+        yaml.line(2, "schemas:");
+        return yaml.toString() + components;
+    }
+
+    /**
+     * Wide sequence.
+     * @param items Maximum number of items.
+     * @param chars Size at which to stop.
+     * @return YAML text.
+     */
+    private String wideSequence(final int items, final long chars) {
+        final Text yaml = new Text(this.seed);
+        for(int idx = 0; idx < items && yaml.length() < chars; ++idx) {
+            final int kind = yaml.random.nextInt(8);
+            if(kind == 0) {
+                yaml.line(0, "# item " + idx);
+                yaml.line(0, "- " + yaml.word() + idx);
+            } else if(kind < 3) {
+                yaml.line(0, "- " + yaml.random.nextInt(100_000));
+            } else if(kind == 3) {
+                yaml.line(0, "- \"" + yaml.word() + ": " + idx + "\"");
+            } else if(kind == 4) {
+                yaml.line(
+                    0, "- " + yaml.word() + " " + yaml.word() + " # note"
+                );
+            } else {
+                yaml.line(0, "- " + yaml.word() + "-" + idx);
+            }
+        }
+        return yaml.toString();
+    }
+
+    /**
+     * Append a Deployment.
+     * @param yaml Text.
+     * @param idx Index of the document.
+     */
+    private static void deployment(final Text yaml, final int idx) {
+        final String name = yaml.word() + "-" + idx;
+        yaml.line(0, "# Deployment of " + name);
+        yaml.line(0, "apiVersion: apps/v1");
+        yaml.line(0, "kind: Deployment");
+        SyntheticYaml.metadata(yaml, name);
+        yaml.line(0, "spec:");
+        yaml.line(2, "replicas: " + (1 + yaml.random.nextInt(5)));
+        yaml.line(2, "selector:");
+        yaml.line(4, "matchLabels:");
+        yaml.line(6, "app: " + name);
+        yaml.line(2, "template:");
+        yaml.line(4, "metadata:");
+        yaml.line(6, "labels:");
+        yaml.line(8, "app: " + name);
+        yaml.line(4, "spec:");
+        yaml.line(6, "containers:");
+        final int containers = 1 + yaml.random.nextInt(2);
+        for(int cnt = 0; cnt < containers; ++cnt) {
+            yaml.line(8, "- name: " + name + "-" + cnt);
+            yaml.line(
+                10, "image: \"registry.example.com/" + yaml.word()
+                + ":1." + yaml.random.nextInt(20) + "\""
+            );
+            yaml.line(10, "ports:");
+            yaml.line(12, "- containerPort: " + (8000 + cnt));
+            yaml.line(14, "protocol: TCP");
+            yaml.line(10, "env:");
+            final int vars = 1 + yaml.random.nextInt(4);
+            for(int var = 0; var < vars; ++var) {
+                yaml.line(
+                    12, "- name: " + yaml.word().toUpperCase(Locale.ENGLISH)
+                    + "_" + var
+                );
+                yaml.line(14, "value: \"" + yaml.random.nextInt(1000) + "\"");
+            }
+            yaml.line(10, "args:");
+            yaml.line(12, "- run");
+            yaml.line(12, "- \"--port=" + (8000 + cnt) + "\"");
+            yaml.line(10, "resources:");
+            yaml.line(12, "limits:");
+            yaml.line(14, "cpu: " + (100 + yaml.random.nextInt(900)) + "m");
+            yaml.line(14, "memory: " + (64 << yaml.random.nextInt(5)) + "Mi");
+        }
+    }
+
+    /**
+     * Append a Service.
+     * @param yaml Text.
+     * @param idx Index of the document.
+     */
+    private static void service(final Text yaml, final int idx) {
+        final String name = yaml.word() + "-" + idx;
+        yaml.line(0, "apiVersion: v1");
+        yaml.line(0, "kind: Service");
+        SyntheticYaml.metadata(yaml, name);
+        yaml.line(0, "spec:");
+        yaml.line(2, "type: ClusterIP # internal only");
+        yaml.line(2, "selector:");
+        yaml.line(4, "app: " + name);
+        yaml.line(2, "ports:");
+        yaml.line(4, "- name: http");
+        yaml.line(6, "port: 80");
+        yaml.line(6, "targetPort: " + (8000 + yaml.random.nextInt(100)));
+    }
+
+    /**
+     * Append a ConfigMap.
+     * @param yaml Text.
+     * @param idx Index of the document.
+     */
+    private static void configMap(final Text yaml, final int idx) {
+        final String name = yaml.word() + "-config-" + idx;
+        yaml.line(0, "apiVersion: v1");
+        yaml.line(0, "kind: ConfigMap");
+        SyntheticYaml.metadata(yaml, name);
+        yaml.line(0, "data:");
+        yaml.line(2, "application.properties: |");
+        final int props = 2 + yaml.random.nextInt(6);
+        for(int prop = 0; prop < props; ++prop) {
+            yaml.line(
+                4, yaml.word() + "." + yaml.word() + "="
+                + yaml.random.nextInt(10_000)
+            );
+        }
+        yaml.line(2, "motd: >");
+        yaml.line(4, "Welcome to " + name + ",");
+        yaml.line(4, "a generated configuration.");
+        yaml.line(2, "level: " + yaml.word());
+    }
+
+    /**
+     * Append the metadata of a resource.
+     * @param yaml Text.
+     * @param name Name of the resource.
+     */
+    private static void metadata(final Text yaml, final String name) {
+        yaml.line(0, "metadata:");
+        yaml.line(2, "name: " + name);
+        yaml.line(2, "namespace: team-" + yaml.random.nextInt(8));
+        yaml.line(2, "labels:");
+        yaml.line(4, "\"app.kubernetes.io/name\": " + name);
+        yaml.line(4, "\"app.kubernetes.io/part-of\": " + yaml.word());
+        yaml.line(2, "annotations:");
+        yaml.line(4, "owner: " + yaml.word() + "@example.com");
+    }
+
+    /**
+     * Append an object schema with nested properties.
+     * @param yaml Text.
+     * @param indentation Indentation of the schema's keys.
+     * @param depth Levels of nested objects.
+     */
+    private static void schema(
+        final Text yaml, final int indentation, final int depth
+    ) {
+        yaml.line(indentation, "type: object");
+        yaml.line(indentation, "required:");
+        yaml.line(indentation + 2, "- id");
+        yaml.line(indentation, "properties:");
+        yaml.line(indentation + 2, "id:");
+        yaml.line(indentation + 4, "type: integer");
+        yaml.line(indentation + 4, "format: int64");
+        final int fields = 1 + yaml.random.nextInt(4);
+        for(int field = 0; field < fields; ++field) {
+            yaml.line(indentation + 2, yaml.word() + field + ":");
+            yaml.line(indentation + 4, "type: string");
+            yaml.line(
+                indentation + 4, "maxLength: " + yaml.random.nextInt(256)
+            );
+        }
+        if(depth > 1) {
+            yaml.line(indentation + 2, "nested:");
+            SyntheticYaml.schema(yaml, indentation + 4, depth - 1);
+        }
+    }
+
+    /**
+     * Text being generated.
+     * @author Mihai Andronache (amihaiemil@gmail.com)
+     * @version $Id$
+     * @since 6.0.2
+     */
+    private static final class Text {
+
+        /**
+         * Random numbers, from the seed.
+         */
+        private final Random random;
+
+        /**
+         * Generated text.
+         */
+        private final StringBuilder text = new StringBuilder();
+
+        /**
+         * Ctor.
+         * @param seed Seed.
+         */
+        Text(final long seed) {
+            this.random = new Random(seed);
+        }
+
+        /**
+         * Append a line.
+         * @param indentation Indentation.
+         * @param line Line, without the line terminator.
+         */
+        void line(final int indentation, final String line) {
+            for(int idx = 0; idx < indentation; ++idx) {
+                this.text.append(' ');
+            }
+            this.text.append(line).append('\n');
+        }
+
+        /**
+         * A random word.
+         * @return Word.
+         */
+        String word() {
+            return WORDS[this.random.nextInt(WORDS.length)];
+        }
+
+        /**
+         * Generated characters so far.
+         * @return Length.
+         */
+        int length() {
+            return this.text.length();
+        }
+
+        @Override
+        public String toString() {
+            return this.text.toString();
+        }
+    }
+}
@@ -0,0 +1,177 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+import java.io.IOException;
+
+/**
+ * Unit tests for {@link SyntheticYaml}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 6.0.2
+ */
+public final class SyntheticYamlTest {
+
+    /**
+     * The same seed gives the same documents, another seed gives
+     * other documents.
+     */
+    @Test
+    public void isDeterministic() {
+        for(final SyntheticYaml.Shape shape : SyntheticYaml.Shape.values()) {
+            MatcherAssert.assertThat(
+                new SyntheticYaml(7).ofSize(shape, 10_000),
+                Matchers.allOf(
+                    Matchers.equalTo(
+                        new SyntheticYaml(7).ofSize(shape, 10_000)
+                    ),
+                    Matchers.not(
+                        Matchers.equalTo(
+                            new SyntheticYaml(8).ofSize(shape, 10_000)
+                        )
+                    )
+                )
+            );
+        }
+    }
+
+    /**
+     * Documents are at least as big as asked, but not much bigger.
+     */
+    @Test
+    public void generatesDocumentsOfSize() {
+        for(final SyntheticYaml.Shape shape : SyntheticYaml.Shape.values()) {
+            MatcherAssert.assertThat(
+                (long) new SyntheticYaml(1).ofSize(shape, 1 << 20).length(),
+                Matchers.allOf(
+                    Matchers.greaterThanOrEqualTo(1L << 20),
+                    Matchers.lessThan((1L << 20) + 4096)
+                )
+            );
+        }
+    }
+
+    /**
+     * A tiny OpenAPI-style specification still has one path, so it can
+     * be read.
+     * @throws IOException If something goes wrong.
+     */
+    @Test
+    public void generatesTinyOpenApi() throws IOException {
+        final YamlMapping spec = Yaml.createYamlInput(
+            new SyntheticYaml(42).ofSize(SyntheticYaml.Shape.OPEN_API, 100)
+        ).readYamlMapping();
+        MatcherAssert.assertThat(
+            spec.yamlMapping("paths").keys(), Matchers.iterableWithSize(1)
+        );
+        MatcherAssert.assertThat(
+            spec.yamlMapping("components").yamlMapping("schemas").keys(),
+            Matchers.iterableWithSize(1)
+        );
+    }
+
+    /**
+     * The Kubernetes-style stream is read and printed back the same.
+     * @throws IOException If something goes wrong.
+     */
+    @Test
+    public void readsAndPrintsKubernetesStream() throws IOException {
+        final YamlStream stream = Yaml.createYamlInput(
+            new SyntheticYaml(42).kubernetes(40)
+        ).readYamlStream();
+        MatcherAssert.assertThat(
+            stream.values(), Matchers.iterableWithSize(40)
+        );
+        for(final YamlNode doc : stream.values()) {
+            final YamlMapping resource = doc.asMapping();
+            MatcherAssert.assertThat(
+                resource.string("kind"),
+                Matchers.isOneOf("Deployment", "Service", "ConfigMap")
+            );
+            MatcherAssert.assertThat(
+                resource.yamlMapping("metadata").yamlMapping("labels")
+                    .string("app.kubernetes.io/name"),
+                Matchers.equalTo(
+                    resource.yamlMapping("metadata").string("name")
+                )
+            );
+            if("ConfigMap".equals(resource.string("kind"))) {
+                MatcherAssert.assertThat(
+                    resource.yamlMapping("data").foldedBlockScalar("motd"),
+                    Matchers.endsWith(", a generated configuration.")
+                );
+            }
+        }
+        MatcherAssert.assertThat(
+            Yaml.createYamlInput(stream.toString()).readYamlStream(),
+            Matchers.equalTo(stream)
+        );
+    }
+
+    /**
+     * The OpenAPI-style specification is read and printed back the same.
+     * @throws IOException If something goes wrong.
+     */
+    @Test
+    public void readsAndPrintsOpenApi() throws IOException {
+        final YamlMapping api = Yaml.createYamlInput(
+            new SyntheticYaml(42).openApi(20, 4)
+        ).readYamlMapping();
+        MatcherAssert.assertThat(
+            api.yamlMapping("paths").keys(), Matchers.iterableWithSize(20)
+        );
+        MatcherAssert.assertThat(
+            api.yamlMapping("components").yamlMapping("schemas").keys(),
+            Matchers.iterableWithSize(20)
+        );
+        MatcherAssert.assertThat(
+            Yaml.createYamlInput(api.toString()).readYamlMapping(),
+            Matchers.equalTo(api)
+        );
+    }
+
+    /**
+     * The wide sequence is read and printed back the same.
+     * @throws IOException If something goes wrong.
+     */
+    @Test
+    public void readsAndPrintsWideSequence() throws IOException {
+        final YamlSequence seq = Yaml.createYamlInput(
+            new SyntheticYaml(42).wideSequence(500)
+        ).readYamlSequence();
+        MatcherAssert.assertThat(seq.values(), Matchers.iterableWithSize(500));
+        MatcherAssert.assertThat(
+            Yaml.createYamlInput(seq.toString()).readYamlSequence(),
+            Matchers.equalTo(seq)
+        );
+    }
+}
@@ -0,0 +1,195 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+import javax.json.Json;
+import javax.json.JsonObject;
+import javax.json.stream.JsonGenerator;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+
+/**
+ * Unit tests for {@link YamlToJson}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 6.0.2
+ */
+public final class YamlToJsonTest {
+
+    /**
+     * Plain scalars read from YAML are typed as per the Core Schema,
+     * quoted ones stay Strings.
+     * @throws IOException If something goes wrong.
+     */
+    @Test
+    public void typesReadScalars() throws IOException {
+        final String yaml = new StringBuilder()
+            .append("name: eo-yaml").append(System.lineSeparator())
+            .append("version: 7").append(System.lineSeparator())
+            .append("quoted: \"7\"").append(System.lineSeparator())
+            .append("ratio: 0.75").append(System.lineSeparator())
+            .append("hex: 0x1F").append(System.lineSeparator())
+            .append("released: true").append(System.lineSeparator())
+            .append("license: null").append(System.lineSeparator())
+            .append("infinite: .inf").append(System.lineSeparator())
+            .append("tags:").append(System.lineSeparator())
+            .append("  - java").append(System.lineSeparator())
+            .append("  - 'false'").append(System.lineSeparator())
+            .append("owner:").append(System.lineSeparator())
+            .append("  id: -42").append(System.lineSeparator())
+            .append("  login: amihaiemil")
+            .toString();
+        MatcherAssert.assertThat(
+            this.convert(Yaml.createYamlInput(yaml).readYamlMapping()),
+            Matchers.equalTo(
+                "{\"name\":\"eo-yaml\",\"version\":7,\"quoted\":\"7\","
+                + "\"ratio\":0.75,\"hex\":31,\"released\":true,"
+                + "\"license\":null,\"infinite\":\".inf\","
+                + "\"tags\":[\"java\",\"false\"],"
+                + "\"owner\":{\"id\":-42,\"login\":\"amihaiemil\"}}"
+            )
+        );
+    }
+
+    /**
+     * Built YAML is converted, with empty nodes and block scalars.
+     */
+    @Test
+    public void convertsBuiltYaml() {
+        final YamlMapping yaml = Yaml.createYamlMappingBuilder()
+            .add("empty", Yaml.createYamlSequenceBuilder().build())
+            .add("nothing", Yaml.createYamlMappingBuilder().build())
+            .add(
+                "text",
+                Yaml.createYamlScalarBuilder()
+                    .addLine("123").addLine("line")
+                    .buildLiteralBlockScalar()
+            )
+            .add("True", "TRUE")
+            .build();
+        MatcherAssert.assertThat(
+            this.convert(yaml),
+            Matchers.equalTo(
+                "{\"empty\":[],\"nothing\":{},"
+                + "\"text\":\"123\\nline\",\"True\":true}"
+            )
+        );
+    }
+
+    /**
+     * Streams are converted to arrays of documents and a null node
+     * becomes JSON null.
+     */
+    @Test
+    public void convertsStreamsAndNull() {
+        MatcherAssert.assertThat(
+            this.convert(
+                Yaml.createYamlStreamBuilder()
+                    .add(Yaml.createYamlSequenceBuilder().add("1").build())
+                    .add(Yaml.createYamlMappingBuilder().add("a", "b").build())
+                    .build()
+            ),
+            Matchers.equalTo("[[1],{\"a\":\"b\"}]")
+        );
+        MatcherAssert.assertThat(
+            this.convert(Yaml.createYamlSequenceBuilder()
+                .add((YamlNode) null).build()),
+            Matchers.equalTo("[null]")
+        );
+    }
+
+    /**
+     * A big read mapping is converted, with its keys in order.
+     * @throws IOException If something goes wrong.
+     */
+    @Test
+    public void convertsBigReadMapping() throws IOException {
+        final StringBuilder yaml = new StringBuilder();
+        for (int idx = 0; idx < 4000; ++idx) {
+            yaml.append("key").append(idx).append(":\n  size: ")
+                .append(idx).append('\n');
+        }
+        final JsonObject json = Json.createReader(
+            new StringReader(
+                this.convert(
+                    Yaml.createYamlInput(yaml.toString()).readYamlMapping()
+                )
+            )
+        ).readObject();
+        MatcherAssert.assertThat(json.size(), Matchers.equalTo(4000));
+        MatcherAssert.assertThat(
+            json.keySet().iterator().next(), Matchers.equalTo("key0")
+        );
+        MatcherAssert.assertThat(
+            json.getJsonObject("key3999").getInt("size"),
+            Matchers.equalTo(3999)
+        );
+    }
+
+    /**
+     * JSON converted to YAML and back again is the same JSON.
+     * @throws IOException If something goes wrong.
+     */
+    @Test
+    public void roundTripsJson() throws IOException {
+        final String json = "{\"name\":\"eo-yaml\",\"stars\":1200,"
+            + "\"version\":\"7.0\",\"archived\":false,"
+            + "\"topics\":[\"yaml\",\"java\",\"true\"],"
+            + "\"owner\":{\"login\":\"amihaiemil\",\"site\":null}}";
+        final StringWriter yaml = new StringWriter();
+        Yaml.fromJson(Json.createParser(new StringReader(json)), yaml);
+        final String converted = this.convert(
+            Yaml.createYamlInput(yaml.toString()).readYamlMapping()
+        );
+        final JsonObject expected = Json.createReader(
+            new StringReader(json)
+        ).readObject();
+        MatcherAssert.assertThat(
+            Json.createReader(new StringReader(converted)).readObject(),
+            Matchers.equalTo(expected)
+        );
+    }
+
+    /**
+     * Convert the YAML to JSON.
+     * @param yaml YamlNode.
+     * @return JSON String.
+     */
+    private String convert(final YamlNode yaml) {
+        final StringWriter json = new StringWriter();
+        try (JsonGenerator generator = Json.createGenerator(json)) {
+            Yaml.toJson(yaml, generator);
+        }
+        return json.toString();
+    }
+}
@@ -0,0 +1,102 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml.extensions;
+
+import com.amihaiemil.eoyaml.Yaml;
+import com.amihaiemil.eoyaml.YamlMapping;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link HashedNode}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 6.0.2
+ */
+public final class HashedNodeTest {
+
+    /**
+     * Mappings with the same pairs in another order and with other
+     * comments have the same hash.
+     */
+    @Test
+    public void ignoresKeyOrderAndComments() {
+        final YamlMapping first = Yaml.createYamlMappingBuilder()
+            .add("a", "1").add("b", "2").build("some comment");
+        final YamlMapping second = Yaml.createYamlMappingBuilder()
+            .add("b", "2").add("a", "1").build();
+        MatcherAssert.assertThat(
+            new HashedNode(first).hash(),
+            Matchers.equalTo(new HashedNode(second).hash())
+        );
+    }
+
+    /**
+     * Sequences with the same elements in another order have different
+     * hashes, and so do a scalar and a sequence holding it.
+     */
+    @Test
+    public void tellsApartDifferentNodes() {
+        final HashedNode first = new HashedNode(
+            Yaml.createYamlSequenceBuilder().add("a").add("b").build()
+        );
+        final HashedNode second = new HashedNode(
+            Yaml.createYamlSequenceBuilder().add("b").add("a").build()
+        );
+        final HashedNode single = new HashedNode(
+            Yaml.createYamlSequenceBuilder().add("a").build()
+        );
+        final HashedNode scalar = new HashedNode(
+            Yaml.createYamlScalarBuilder().addLine("a").buildPlainScalar()
+        );
+        MatcherAssert.assertThat(
+            first.hash(), Matchers.not(Matchers.equalTo(second.hash()))
+        );
+        MatcherAssert.assertThat(
+            single.hash(), Matchers.not(Matchers.equalTo(scalar.hash()))
+        );
+        MatcherAssert.assertThat(first.elements(), Matchers.hasSize(2));
+    }
+
+    /**
+     * HashedNode indexes the children of a mapping by key.
+     */
+    @Test
+    public void indexesEntries() {
+        final YamlMapping map = Yaml.createYamlMappingBuilder()
+            .add("a", "1").add("b", "2").build();
+        final HashedNode hashed = new HashedNode(map);
+        MatcherAssert.assertThat(
+            hashed.entries().get(
+                Yaml.createYamlScalarBuilder().addLine("b").buildPlainScalar()
+            ).node(),
+            Matchers.is(map.value("b"))
+        );
+    }
+}
@@ -660,4 +660,82 @@ public final class MergedYamlMappingTest {
             Matchers.equalTo("Old Comment")
         );
     }
+
+    /**
+     * When overriding conflicts, the elements of a changed sequence are
+     * appended only if the original sequence does not already contain
+     * them, mappings included.
+     */
+    @Test
+    public void mergesSequencesWithoutDuplicates() {
+        final YamlMapping original = Yaml.createYamlMappingBuilder()
+            .add(
+                "ports",
+                Yaml.createYamlSequenceBuilder()
+                    .add("80")
+                    .add(
+                        Yaml.createYamlMappingBuilder()
+                            .add("port", "443").add("tls", "true").build()
+                    )
+                    .build()
+            )
+            .build();
+        final YamlMapping changed = Yaml.createYamlMappingBuilder()
+            .add(
+                "ports",
+                Yaml.createYamlSequenceBuilder()
+                    .add(
+                        Yaml.createYamlMappingBuilder()
+                            .add("port", "443").add("tls", "true").build()
+                    )
+                    .add("80")
+                    .add("8080")
+                    .build()
+            )
+            .build();
+        final YamlMapping merged = new MergedYamlMapping(
+            original, changed, true
+        );
+        MatcherAssert.assertThat(
+            merged.yamlSequence("ports").size(), Matchers.equalTo(3)
+        );
+        MatcherAssert.assertThat(
+            merged.yamlSequence("ports").string(2), Matchers.equalTo("8080")
+        );
+    }
+
+    /**
+     * MergedYamlMapping can merge two big read mappings, which share half
+     * of their keys.
+     * @throws IOException If something goes wrong.
+     */
+    @Test
+    public void mergesReadMappings() throws IOException {
+        final StringBuilder original = new StringBuilder();
+        final StringBuilder changed = new StringBuilder();
+        for (int idx = 0; idx < 2000; ++idx) {
+            original.append("key").append(idx).append(":\n  name: old")
+                .append(idx).append('\n');
+            changed.append("key").append(idx + 1000).append(":\n  size: ")
+                .append(idx).append('\n');
+        }
+        final YamlMapping merged = new MergedYamlMapping(
+            Yaml.createYamlInput(original.toString()).readYamlMapping(),
+            Yaml.createYamlInput(changed.toString()).readYamlMapping(),
+            true
+        );
+        MatcherAssert.assertThat(merged.keys(), Matchers.hasSize(3000));
+        MatcherAssert.assertThat(
+            merged.yamlMapping("key1500").string("name"),
+            Matchers.equalTo("old1500")
+        );
+        MatcherAssert.assertThat(
+            merged.yamlMapping("key1500").string("size"),
+            Matchers.equalTo("500")
+        );
+        MatcherAssert.assertThat(
+            merged.yamlMapping("key2999").string("size"),
+            Matchers.equalTo("1999")
+        );
+    }
 }
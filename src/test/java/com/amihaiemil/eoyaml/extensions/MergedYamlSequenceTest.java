@@ -28,7 +28,9 @@
 package com.amihaiemil.eoyaml.extensions;
 
 import com.amihaiemil.eoyaml.Yaml;
+import com.amihaiemil.eoyaml.YamlMapping;
 import com.amihaiemil.eoyaml.YamlSequence;
+import java.io.IOException;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.Test;
@@ -196,4 +198,60 @@ public final class MergedYamlSequenceTest {
         );
     }
 
+    /**
+     * Merges mappings by identity key, recursively, keeping the original
+     * order and appending the new elements.
+     * @throws IOException If something goes wrong.
+     */
+    @Test
+    public void mergesByIdentityKey() throws IOException {
+        final YamlSequence original = Yaml.createYamlInput(
+            "- name: web\n"
+            + "  image: web:1\n"
+            + "  env:\n"
+            + "    LOG: info\n"
+            + "- name: sidecar\n"
+            + "  image: proxy:1\n"
+            + "- plain\n"
+        ).readYamlSequence();
+        final YamlSequence changed = Yaml.createYamlInput(
+            "- name: cache\n"
+            + "  image: redis:7\n"
+            + "- name: web\n"
+            + "  image: web:2\n"
+            + "  env:\n"
+            + "    DEBUG: 'true'\n"
+        ).readYamlSequence();
+        final YamlSequence merged = new MergedYamlSequence(
+            original, changed, "name"
+        );
+        MatcherAssert.assertThat(merged.size(), Matchers.equalTo(4));
+        final YamlMapping web = merged.yamlMapping(0);
+        MatcherAssert.assertThat(web.string("image"), Matchers.is("web:2"));
+        MatcherAssert.assertThat(
+            web.yamlMapping("env").string("LOG"), Matchers.is("info")
+        );
+        MatcherAssert.assertThat(
+            web.yamlMapping("env").string("DEBUG"), Matchers.is("true")
+        );
+        MatcherAssert.assertThat(
+            merged.yamlMapping(1).string("name"), Matchers.is("sidecar")
+        );
+        MatcherAssert.assertThat(merged.string(2), Matchers.is("plain"));
+        MatcherAssert.assertThat(
+            merged.yamlMapping(3).string("image"), Matchers.is("redis:7")
+        );
+    }
+
+    /**
+     * The keyed merge complains about an empty identity key.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void complainsOnEmptyIdentityKey() {
+        new MergedYamlSequence(
+            Yaml.createYamlSequenceBuilder().add("a").build(),
+            Yaml.createYamlSequenceBuilder().add("b").build(),
+            ""
+        );
+    }
 }
@@ -0,0 +1,178 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml.extensions;
+
+import com.amihaiemil.eoyaml.Yaml;
+import com.amihaiemil.eoyaml.YamlMapping;
+import com.amihaiemil.eoyaml.YamlNode;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+/**
+ * Unit tests for {@link OverlaidYamlMapping}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 6.0.2
+ */
+public final class OverlaidYamlMappingTest {
+
+    /**
+     * It should complain when there is no layer.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void complainsOnNoLayers() {
+        new OverlaidYamlMapping((YamlMapping) null);
+    }
+
+    /**
+     * Higher layers override the lower ones, nested mappings are overlaid
+     * and the keys are the union of all layers, in order.
+     * @throws IOException If something goes wrong.
+     */
+    @Test
+    public void overlaysLayers() throws IOException {
+        final YamlMapping defaults = Yaml.createYamlInput(
+            "name: app\n"
+            + "replicas: 1\n"
+            + "resources:\n"
+            + "  cpu: 100m\n"
+            + "  memory: 128Mi\n"
+            + "ports:\n"
+            + "  - 80\n"
+        ).readYamlMapping();
+        final YamlMapping cluster = Yaml.createYamlInput(
+            "replicas: 3\n"
+            + "resources:\n"
+            + "  memory: 256Mi\n"
+            + "ports:\n"
+            + "  - 8080\n"
+        ).readYamlMapping();
+        final YamlMapping overrides = Yaml.createYamlInput(
+            "resources:\n"
+            + "  cpu: 500m\n"
+            + "debug: true\n"
+        ).readYamlMapping();
+        final YamlMapping config = new OverlaidYamlMapping(
+            defaults, null, cluster, overrides
+        );
+        MatcherAssert.assertThat(config.string("name"), Matchers.is("app"));
+        MatcherAssert.assertThat(config.integer("replicas"), Matchers.is(3));
+        MatcherAssert.assertThat(config.string("debug"), Matchers.is("true"));
+        final YamlMapping resources = config.yamlMapping("resources");
+        MatcherAssert.assertThat(
+            resources.string("cpu"), Matchers.is("500m")
+        );
+        MatcherAssert.assertThat(
+            resources.string("memory"), Matchers.is("256Mi")
+        );
+        MatcherAssert.assertThat(
+            config.yamlSequence("ports").string(0), Matchers.is("8080")
+        );
+        MatcherAssert.assertThat(config.value("missing"), Matchers.nullValue());
+        MatcherAssert.assertThat(
+            config.keys(),
+            Matchers.contains(
+                Yaml.createYamlScalarBuilder().addLine("name")
+                    .buildPlainScalar(),
+                Yaml.createYamlScalarBuilder().addLine("replicas")
+                    .buildPlainScalar(),
+                Yaml.createYamlScalarBuilder().addLine("resources")
+                    .buildPlainScalar(),
+                Yaml.createYamlScalarBuilder().addLine("ports")
+                    .buildPlainScalar(),
+                Yaml.createYamlScalarBuilder().addLine("debug")
+                    .buildPlainScalar()
+            )
+        );
+    }
+
+    /**
+     * A scalar in a higher layer hides the mappings below it.
+     */
+    @Test
+    public void scalarHidesLowerMappings() {
+        final YamlMapping low = Yaml.createYamlMappingBuilder()
+            .add(
+                "db",
+                Yaml.createYamlMappingBuilder().add("host", "low").build()
+            ).build();
+        final YamlMapping middle = Yaml.createYamlMappingBuilder()
+            .add("db", "disabled").build();
+        final YamlMapping high = Yaml.createYamlMappingBuilder()
+            .add(
+                "db",
+                Yaml.createYamlMappingBuilder().add("port", "5432").build()
+            ).build();
+        final YamlMapping db = new OverlaidYamlMapping(low, middle, high)
+            .yamlMapping("db");
+        MatcherAssert.assertThat(db.string("port"), Matchers.is("5432"));
+        MatcherAssert.assertThat(db.value("host"), Matchers.nullValue());
+    }
+
+    /**
+     * Each key is looked up in the layers only once.
+     */
+    @Test
+    public void cachesResolvedKeys() {
+        final YamlMapping layer = Mockito.mock(YamlMapping.class);
+        final AtomicInteger lookups = new AtomicInteger();
+        Mockito.when(layer.value(Mockito.any(YamlNode.class))).thenAnswer(
+            invocation -> {
+                lookups.incrementAndGet();
+                return Yaml.createYamlScalarBuilder().addLine("value")
+                    .buildPlainScalar();
+            }
+        );
+        final YamlMapping overlaid = new OverlaidYamlMapping(layer, layer);
+        overlaid.string("key");
+        overlaid.string("key");
+        overlaid.string("key");
+        MatcherAssert.assertThat(lookups.get(), Matchers.is(1));
+    }
+
+    /**
+     * The comment is the top-most non-empty one.
+     */
+    @Test
+    public void returnsTopMostComment() {
+        final YamlMapping low = Yaml.createYamlMappingBuilder()
+            .add("key", "value").build("low comment");
+        final YamlMapping middle = Yaml.createYamlMappingBuilder()
+            .add("key", "value").build("middle comment");
+        final YamlMapping high = Yaml.createYamlMappingBuilder()
+            .add("key", "value").build();
+        MatcherAssert.assertThat(
+            new OverlaidYamlMapping(low, middle, high).comment().value(),
+            Matchers.is("middle comment")
+        );
+    }
+}
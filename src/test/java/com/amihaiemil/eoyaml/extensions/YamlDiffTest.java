@@ -0,0 +1,177 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml.extensions;
+
+import com.amihaiemil.eoyaml.Yaml;
+import com.amihaiemil.eoyaml.YamlMapping;
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link YamlDiff}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 6.0.2
+ */
+public final class YamlDiffTest {
+
+    /**
+     * Equal documents have no changes, regardless of comments and
+     * the order of the keys.
+     * @throws IOException If something goes wrong.
+     */
+    @Test
+    public void findsNoChanges() throws IOException {
+        final YamlMapping first = Yaml.createYamlInput(
+            "name: eo-yaml # the name\nversion: 1\nlist:\n  - a\n  - b\n"
+        ).readYamlMapping();
+        final YamlMapping second = Yaml.createYamlInput(
+            "version: 1\nlist:\n  - a\n  - b\nname: eo-yaml\n"
+        ).readYamlMapping();
+        MatcherAssert.assertThat(
+            new YamlDiff(first, second).changes(), Matchers.empty()
+        );
+    }
+
+    /**
+     * YamlDiff finds added, removed and modified nodes and reports their
+     * paths.
+     * @throws IOException If something goes wrong.
+     */
+    @Test
+    public void findsChangedPaths() throws IOException {
+        final YamlMapping first = Yaml.createYamlInput(
+            "spec:\n"
+            + "  image: app:1.0\n"
+            + "  replicas: 2\n"
+            + "  ports:\n"
+            + "    - 80\n"
+            + "    - 443\n"
+            + "metadata:\n"
+            + "  name: app\n"
+            + "  old/label: x\n"
+        ).readYamlMapping();
+        final YamlMapping second = Yaml.createYamlInput(
+            "spec:\n"
+            + "  image: app:1.1\n"
+            + "  replicas: 2\n"
+            + "  ports:\n"
+            + "    - 8080\n"
+            + "    - 443\n"
+            + "    - 9000\n"
+            + "metadata:\n"
+            + "  name: app\n"
+            + "extra: true\n"
+        ).readYamlMapping();
+        final List<String> changes = new YamlDiff(first, second).changes()
+            .stream().map(Object::toString).collect(Collectors.toList());
+        MatcherAssert.assertThat(
+            changes,
+            Matchers.contains(
+                "MODIFIED /spec/image",
+                "MODIFIED /spec/ports/0",
+                "ADDED /spec/ports/2",
+                "REMOVED /metadata/old~1label",
+                "ADDED /extra"
+            )
+        );
+    }
+
+    /**
+     * YamlDiff finds the changes between two big read documents.
+     * @throws IOException If something goes wrong.
+     */
+    @Test
+    public void findsChangesInReadDocuments() throws IOException {
+        final StringBuilder first = new StringBuilder();
+        final StringBuilder second = new StringBuilder();
+        for (int idx = 0; idx < 2000; ++idx) {
+            first.append("key").append(idx).append(":\n  value: ")
+                .append(idx).append('\n');
+            second.append("key").append(idx).append(":\n  value: ");
+            if (idx == 1500) {
+                second.append("changed");
+            } else {
+                second.append(idx);
+            }
+            second.append('\n');
+        }
+        second.append("extra: true\n");
+        final List<String> changes = new YamlDiff(
+            Yaml.createYamlInput(first.toString()).readYamlMapping(),
+            Yaml.createYamlInput(second.toString()).readYamlMapping()
+        ).changes().stream().map(Object::toString)
+            .collect(Collectors.toList());
+        MatcherAssert.assertThat(
+            changes,
+            Matchers.contains("MODIFIED /key1500/value", "ADDED /extra")
+        );
+    }
+
+    /**
+     * YamlDiff gives access to the nodes before and after the change.
+     */
+    @Test
+    public void returnsChangedNodes() {
+        final YamlMapping first = Yaml.createYamlMappingBuilder()
+            .add("key", "old").build();
+        final YamlMapping second = first.with(
+            "key", Yaml.createYamlSequenceBuilder().add("new").build()
+        );
+        final YamlChange change = new YamlDiff(first, second).changes().get(0);
+        MatcherAssert.assertThat(
+            change.type(), Matchers.is(YamlChange.Type.MODIFIED)
+        );
+        MatcherAssert.assertThat(change.path(), Matchers.equalTo("/key"));
+        MatcherAssert.assertThat(
+            change.before(), Matchers.is(first.value("key"))
+        );
+        MatcherAssert.assertThat(
+            change.after(), Matchers.is(second.value("key"))
+        );
+    }
+
+    /**
+     * YamlDiff reports a different root as modified.
+     */
+    @Test
+    public void findsModifiedRoot() {
+        final YamlMapping first = Yaml.createYamlMappingBuilder()
+            .add("key", "value").build();
+        final List<YamlChange> changes = new YamlDiff(
+            first,
+            Yaml.createYamlScalarBuilder().addLine("value").buildPlainScalar()
+        ).changes();
+        MatcherAssert.assertThat(changes, Matchers.hasSize(1));
+        MatcherAssert.assertThat(changes.get(0).path(), Matchers.equalTo(""));
+    }
+}
@@ -0,0 +1,209 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Tests for the events committed by {@link JfrYamlMetrics}. They are
+ * compiled and run only on Java 11+, by the "jdk11" profile, against the
+ * Java 11 version of JfrYamlMetrics, within a real Flight Recording.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 6.0.2
+ */
+public final class JfrYamlMetricsEventsTest {
+
+    /**
+     * Name of the Read event.
+     */
+    private static final String READ = "com.amihaiemil.eoyaml.Read";
+
+    /**
+     * Name of the SlowLookup event.
+     */
+    private static final String SLOW = "com.amihaiemil.eoyaml.SlowLookup";
+
+    /**
+     * Name of the Print event.
+     */
+    private static final String PRINT = "com.amihaiemil.eoyaml.Print";
+
+    /**
+     * A read input is recorded as a Read event.
+     * @throws IOException If something goes wrong.
+     */
+    @Test
+    public void recordsReadInputs() throws IOException {
+        final YamlMetrics metrics = new JfrYamlMetrics();
+        final List<RecordedEvent> events = JfrYamlMetricsEventsTest.record(
+            () -> metrics.inputRead(20L, 3, 1_500L)
+        );
+        MatcherAssert.assertThat(events, Matchers.hasSize(1));
+        final RecordedEvent read = events.get(0);
+        MatcherAssert.assertThat(
+            read.getEventType().getName(), Matchers.equalTo(READ)
+        );
+        MatcherAssert.assertThat(read.getLong("bytes"), Matchers.is(20L));
+        MatcherAssert.assertThat(read.getInt("lines"), Matchers.is(3));
+        MatcherAssert.assertThat(
+            read.getDuration("elapsed"),
+            Matchers.equalTo(Duration.ofNanos(1_500L))
+        );
+    }
+
+    /**
+     * A printed node is recorded as a Print event.
+     * @throws IOException If something goes wrong.
+     */
+    @Test
+    public void recordsPrintedNodes() throws IOException {
+        final YamlMetrics metrics = new JfrYamlMetrics();
+        final List<RecordedEvent> events = JfrYamlMetricsEventsTest.record(
+            () -> metrics.nodePrinted(5, 42L, 2_000L)
+        );
+        MatcherAssert.assertThat(events, Matchers.hasSize(1));
+        final RecordedEvent print = events.get(0);
+        MatcherAssert.assertThat(
+            print.getEventType().getName(), Matchers.equalTo(PRINT)
+        );
+        MatcherAssert.assertThat(print.getInt("nodes"), Matchers.is(5));
+        MatcherAssert.assertThat(print.getLong("chars"), Matchers.is(42L));
+        MatcherAssert.assertThat(
+            print.getDuration("elapsed"),
+            Matchers.equalTo(Duration.ofNanos(2_000L))
+        );
+    }
+
+    /**
+     * Only the lookups taking at least 10 milliseconds, by default, are
+     * recorded as SlowLookup events.
+     * @throws IOException If something goes wrong.
+     */
+    @Test
+    public void recordsSlowLookupsOnly() throws IOException {
+        final YamlMetrics metrics = new JfrYamlMetrics();
+        final List<RecordedEvent> events = JfrYamlMetricsEventsTest.record(
+            () -> {
+                metrics.keyLookedUp(
+                    new PlainStringScalar("fast"), 2, true,
+                    Duration.ofMillis(9).toNanos()
+                );
+                metrics.keyLookedUp(
+                    new PlainStringScalar("slow"), 7, false,
+                    Duration.ofMillis(10).toNanos()
+                );
+            }
+        );
+        MatcherAssert.assertThat(events, Matchers.hasSize(1));
+        final RecordedEvent slow = events.get(0);
+        MatcherAssert.assertThat(
+            slow.getEventType().getName(), Matchers.equalTo(SLOW)
+        );
+        MatcherAssert.assertThat(
+            slow.getString("key"), Matchers.equalTo("slow")
+        );
+        MatcherAssert.assertThat(slow.getInt("scanned"), Matchers.is(7));
+        MatcherAssert.assertThat(slow.getBoolean("found"), Matchers.is(false));
+        MatcherAssert.assertThat(
+            slow.getDuration("elapsed"),
+            Matchers.equalTo(Duration.ofMillis(10))
+        );
+    }
+
+    /**
+     * The slow lookup threshold is read from the system property when
+     * the metrics are created.
+     * @throws IOException If something goes wrong.
+     */
+    @Test
+    public void readsSlowLookupThreshold() throws IOException {
+        final YamlMetrics metrics;
+        System.setProperty(JfrYamlMetrics.SLOW_LOOKUP, "2");
+        try {
+            metrics = new JfrYamlMetrics();
+        } finally {
+            System.clearProperty(JfrYamlMetrics.SLOW_LOOKUP);
+        }
+        final List<RecordedEvent> events = JfrYamlMetricsEventsTest.record(
+            () -> {
+                metrics.keyLookedUp(
+                    new PlainStringScalar("fast"), 1, true,
+                    Duration.ofMillis(1).toNanos()
+                );
+                metrics.keyLookedUp(
+                    new PlainStringScalar("slower"), 3, true,
+                    Duration.ofMillis(3).toNanos()
+                );
+            }
+        );
+        MatcherAssert.assertThat(
+            events.stream().map(event -> event.getString("key"))
+                .collect(Collectors.toList()),
+            Matchers.contains("slower")
+        );
+    }
+
+    /**
+     * Record the eo-yaml events committed by the given action.
+     * @param action Action committing events.
+     * @return Recorded eo-yaml events.
+     * @throws IOException If the recording cannot be read.
+     */
+    private static List<RecordedEvent> record(final Runnable action)
+        throws IOException {
+        final Path file = Files.createTempFile("eo-yaml", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(READ).withoutThreshold();
+            recording.enable(SLOW).withoutThreshold();
+            recording.enable(PRINT).withoutThreshold();
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file).stream()
+                .filter(
+                    event -> event.getEventType().getName()
+                        .startsWith("com.amihaiemil.eoyaml.")
+                ).collect(Collectors.toList());
+        } finally {
+            Files.delete(file);
+        }
+    }
+}
@@ -0,0 +1,172 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Tests for dumping and binding actual Java records. They are compiled
+ * and run only on Java 16+, by the "jdk16" profile, against the Java 16
+ * version of {@link Records}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 6.0.2
+ */
+public final class JavaRecordsTest {
+
+    /**
+     * A record is dumped as a mapping of its components, in order.
+     * @throws IOException If something goes wrong.
+     */
+    @Test
+    public void dumpsRecords() throws IOException {
+        final Server server = new Server(
+            "localhost", 8080, true, List.of("web", "api"), new Point(1, 2)
+        );
+        final YamlMapping dumped = Yaml.createYamlDump(server).dumpMapping();
+        MatcherAssert.assertThat(
+            dumped.keys().stream().map(key -> key.asScalar().value())
+                .collect(Collectors.toList()),
+            Matchers.contains("host", "port", "secure", "tags", "origin")
+        );
+        MatcherAssert.assertThat(
+            dumped.string("host"), Matchers.equalTo("localhost")
+        );
+        MatcherAssert.assertThat(
+            dumped.integer("port"), Matchers.equalTo(8080)
+        );
+        MatcherAssert.assertThat(
+            dumped.yamlSequence("tags").string(1), Matchers.equalTo("api")
+        );
+        MatcherAssert.assertThat(
+            dumped.yamlMapping("origin").integer("y"), Matchers.equalTo(2)
+        );
+        final StringWriter written = new StringWriter();
+        Yaml.createYamlDump(server).dump(written);
+        MatcherAssert.assertThat(
+            written.toString(),
+            Matchers.allOf(
+                Matchers.containsString("port: 8080"),
+                Matchers.containsString("secure: true"),
+                Matchers.containsString("x: 1")
+            )
+        );
+    }
+
+    /**
+     * A record is bound through its canonical constructor, with nested
+     * records, primitives and collections.
+     * @throws IOException If something goes wrong.
+     */
+    @Test
+    public void bindsRecords() throws IOException {
+        MatcherAssert.assertThat(
+            Yaml.createYamlInput(
+                "host: localhost\n"
+                + "port: 8080\n"
+                + "secure: true\n"
+                + "tags:\n"
+                + "  - web\n"
+                + "  - api\n"
+                + "origin:\n"
+                + "  x: 1\n"
+                + "  y: 2\n"
+                + "unknown: ignored\n"
+            ).readYamlMapping().bindTo(Server.class),
+            Matchers.equalTo(
+                new Server(
+                    "localhost", 8080, true, List.of("web", "api"),
+                    new Point(1, 2)
+                )
+            )
+        );
+    }
+
+    /**
+     * The components missing from the mapping are null, or 0 and false
+     * if they are primitive.
+     * @throws IOException If something goes wrong.
+     */
+    @Test
+    public void bindsMissingKeysToDefaults() throws IOException {
+        MatcherAssert.assertThat(
+            Yaml.createYamlInput("host: localhost\n")
+                .readYamlMapping().bindTo(Server.class),
+            Matchers.equalTo(new Server("localhost", 0, false, null, null))
+        );
+        MatcherAssert.assertThat(
+            Yaml.createYamlMappingBuilder().build().bindTo(Point.class),
+            Matchers.equalTo(new Point(0, 0))
+        );
+    }
+
+    /**
+     * A dumped record, printed and read again, binds to an equal record.
+     * @throws IOException If something goes wrong.
+     */
+    @Test
+    public void roundTripsRecords() throws IOException {
+        final Server server = new Server(
+            "example.com", 443, false, List.of("tls"), new Point(-3, 7)
+        );
+        MatcherAssert.assertThat(
+            Yaml.createYamlInput(
+                Yaml.createYamlDump(server).dumpMapping().toString()
+            ).readYamlMapping().bindTo(Server.class),
+            Matchers.equalTo(server)
+        );
+    }
+
+    /**
+     * A point.
+     * @param x Abscissa.
+     * @param y Ordinate.
+     */
+    record Point(int x, int y) {
+    }
+
+    /**
+     * Server configuration.
+     * @param host Host.
+     * @param port Port.
+     * @param secure Secure or not.
+     * @param tags Tags.
+     * @param origin Origin.
+     * @checkstyle ParameterNumber (5 lines)
+     */
+    record Server(
+        String host, int port, boolean secure, List<String> tags, Point origin
+    ) {
+    }
+}